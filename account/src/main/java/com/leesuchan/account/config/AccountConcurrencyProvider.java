@@ -0,0 +1,46 @@
+package com.leesuchan.account.config;
+
+/**
+ * 계좌 동시성 제어 설정 제공자
+ *
+ * <p>AccountProperties에서 설정을 받아 정적으로 제공합니다.
+ * AccountLimitProvider와 마찬가지로 AccountConfig에서 초기화됩니다.
+ */
+public class AccountConcurrencyProvider {
+
+    /**
+     * 이체 락 모드
+     */
+    private static TransferLockMode transferLockMode = TransferLockMode.OPTIMISTIC;
+
+    /**
+     * 입금 처리 방식
+     */
+    private static DepositMode depositMode = DepositMode.ENTITY;
+
+    /**
+     * 출금 처리 방식
+     */
+    private static WithdrawMode withdrawMode = WithdrawMode.ENTITY;
+
+    /**
+     * 설정을 초기화합니다. (AccountConfig에서 호출)
+     */
+    public static void initialize(TransferLockMode transferLockMode, DepositMode depositMode, WithdrawMode withdrawMode) {
+        AccountConcurrencyProvider.transferLockMode = transferLockMode;
+        AccountConcurrencyProvider.depositMode = depositMode;
+        AccountConcurrencyProvider.withdrawMode = withdrawMode;
+    }
+
+    public static TransferLockMode getTransferLockMode() {
+        return transferLockMode;
+    }
+
+    public static DepositMode getDepositMode() {
+        return depositMode;
+    }
+
+    public static WithdrawMode getWithdrawMode() {
+        return withdrawMode;
+    }
+}
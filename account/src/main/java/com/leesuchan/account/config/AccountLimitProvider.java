@@ -1,46 +1,50 @@
 package com.leesuchan.account.config;
 
+import com.leesuchan.account.domain.model.vo.FeeSchedule;
+
+import java.util.Map;
+
 /**
  * 계좌 한도 설정 제공자
  *
- * <p>AccountProperties에서 설정을 받아 정적으로 제공합니다.
- * JPA Embeddable 클래스에서 설정에 접근하기 위해 사용합니다.
+ * <p>AccountProperties와 한도 등급 테이블로 만든 AccountLimitSnapshot을 volatile 참조 하나로 제공합니다.
+ * JPA Embeddable 클래스에서 설정에 접근하기 위해 사용하며,
+ * AccountConfig가 시작 시와 주기적으로 새 스냅샷을 발행합니다. (재시작 없이 반영)
  */
 public class AccountLimitProvider {
 
-    /**
-     * 일일 출금 한도 (원 단위)
-     */
-    private static Long dailyWithdrawLimit = 1_000_000L;
+    private static volatile AccountLimitSnapshot snapshot = AccountLimitSnapshot.DEFAULTS;
 
     /**
-     * 일일 이체 한도 (원 단위)
+     * 등급 없이 기본 한도/수수료표로 초기화합니다.
      */
-    private static Long dailyTransferLimit = 3_000_000L;
+    public static void initialize(Long dailyWithdrawLimit, Long dailyTransferLimit, FeeSchedule transferFeeSchedule) {
+        publish(AccountLimitSnapshot.of(dailyWithdrawLimit, dailyTransferLimit, Map.of(), transferFeeSchedule));
+    }
 
     /**
-     * 이체 수수료율 (0.01 = 1%)
+     * 새 스냅샷으로 교체합니다. (AccountConfig에서 호출)
      */
-    private static Double transferFeeRate = 0.01;
+    public static void publish(AccountLimitSnapshot snapshot) {
+        AccountLimitProvider.snapshot = snapshot;
+    }
 
     /**
-     * 설정을 초기화합니다. (AccountConfig에서 호출)
+     * 현재 스냅샷 (한 번의 검사/계산 안에서는 한 번만 읽어 같은 설정을 사용)
      */
-    public static void initialize(Long dailyWithdrawLimit, Long dailyTransferLimit, Double transferFeeRate) {
-        AccountLimitProvider.dailyWithdrawLimit = dailyWithdrawLimit;
-        AccountLimitProvider.dailyTransferLimit = dailyTransferLimit;
-        AccountLimitProvider.transferFeeRate = transferFeeRate;
+    public static AccountLimitSnapshot snapshot() {
+        return snapshot;
     }
 
-    public static Long getDailyWithdrawLimit() {
-        return dailyWithdrawLimit;
+    public static long getDailyWithdrawLimit() {
+        return snapshot.dailyWithdrawLimit(null);
     }
 
-    public static Long getDailyTransferLimit() {
-        return dailyTransferLimit;
+    public static long getDailyTransferLimit() {
+        return snapshot.dailyTransferLimit(null);
     }
 
-    public static Double getTransferFeeRate() {
-        return transferFeeRate;
+    public static FeeSchedule getTransferFeeSchedule() {
+        return snapshot.transferFeeSchedule();
     }
 }
@@ -0,0 +1,89 @@
+package com.leesuchan.account.config;
+
+import com.leesuchan.account.domain.model.vo.FeeSchedule;
+
+import java.util.Map;
+
+/**
+ * 한도/수수료 설정 스냅샷 (불변)
+ *
+ * <p>AccountLimitProvider가 volatile 참조 하나로 통째로 교체하므로,
+ * 읽는 쪽은 락 없이 항상 한 시점의 일관된 설정을 봅니다.
+ * 한도 조회는 primitive long을 반환합니다. (박싱 없음)
+ */
+public final class AccountLimitSnapshot {
+
+    /**
+     * 한도 등급 코드가 없는 계좌에 적용할 기본 등급 코드 (테이블에 있으면 설정 파일 값을 덮어씀)
+     */
+    public static final String DEFAULT_TIER = "DEFAULT";
+
+    /**
+     * 기본값 (일일 출금 100만 원, 일일 이체 300만 원, 수수료 1%)
+     */
+    static final AccountLimitSnapshot DEFAULTS =
+            new AccountLimitSnapshot(new TierLimits(1_000_000L, 3_000_000L), Map.of(), FeeSchedule.flat(100));
+
+    private final TierLimits defaultLimits;
+    private final Map<String, TierLimits> tiers;
+    private final FeeSchedule transferFeeSchedule;
+
+    private AccountLimitSnapshot(TierLimits defaultLimits, Map<String, TierLimits> tiers, FeeSchedule transferFeeSchedule) {
+        this.defaultLimits = defaultLimits;
+        this.tiers = tiers;
+        this.transferFeeSchedule = transferFeeSchedule;
+    }
+
+    /**
+     * 스냅샷을 만듭니다.
+     *
+     * @param dailyWithdrawLimit 기본 일일 출금 한도
+     * @param dailyTransferLimit 기본 일일 이체 한도
+     * @param tiers 등급 코드별 한도 (DEFAULT가 있으면 기본 한도 대신 사용)
+     * @param transferFeeSchedule 이체 수수료표
+     */
+    public static AccountLimitSnapshot of(long dailyWithdrawLimit, long dailyTransferLimit,
+                                          Map<String, TierLimits> tiers, FeeSchedule transferFeeSchedule) {
+        TierLimits defaultLimits = tiers.getOrDefault(DEFAULT_TIER, new TierLimits(dailyWithdrawLimit, dailyTransferLimit));
+        return new AccountLimitSnapshot(defaultLimits, Map.copyOf(tiers), transferFeeSchedule);
+    }
+
+    /**
+     * 등급의 일일 출금 한도 (등급이 없거나 모르는 등급이면 기본 한도)
+     */
+    public long dailyWithdrawLimit(String tier) {
+        return limitsOf(tier).dailyWithdrawLimit();
+    }
+
+    /**
+     * 등급의 일일 이체 한도 (등급이 없거나 모르는 등급이면 기본 한도)
+     */
+    public long dailyTransferLimit(String tier) {
+        return limitsOf(tier).dailyTransferLimit();
+    }
+
+    public FeeSchedule transferFeeSchedule() {
+        return transferFeeSchedule;
+    }
+
+    /**
+     * 등록된 등급 수 (DEFAULT 포함)
+     */
+    public int tierCount() {
+        return tiers.size();
+    }
+
+    private TierLimits limitsOf(String tier) {
+        if (tier == null) {
+            return defaultLimits;
+        }
+        TierLimits limits = tiers.get(tier);
+        return limits != null ? limits : defaultLimits;
+    }
+
+    /**
+     * 등급별 한도 (원 단위)
+     */
+    public record TierLimits(long dailyWithdrawLimit, long dailyTransferLimit) {
+    }
+}
@@ -0,0 +1,45 @@
+package com.leesuchan.account.config;
+
+import java.util.Set;
+
+/**
+ * 스트라이프 계좌 설정 제공자
+ *
+ * <p>AccountProperties에서 설정을 받아 정적으로 제공합니다.
+ * AccountLimitProvider와 마찬가지로 AccountConfig에서 초기화됩니다.
+ */
+public class AccountStripingProvider {
+
+    /**
+     * 계좌당 잔액 슬롯 수
+     */
+    private static int slotCount = 8;
+
+    /**
+     * 입금액을 슬롯에 나눠 적립할 계좌번호 목록
+     */
+    private static Set<String> stripedAccountNumbers = Set.of();
+
+    /**
+     * 설정을 초기화합니다. (AccountConfig에서 호출)
+     */
+    public static void initialize(int slotCount, Set<String> stripedAccountNumbers) {
+        if (slotCount <= 0) {
+            throw new IllegalArgumentException("잔액 슬롯 수는 0보다 커야 합니다.");
+        }
+        AccountStripingProvider.slotCount = slotCount;
+        AccountStripingProvider.stripedAccountNumbers = Set.copyOf(stripedAccountNumbers);
+    }
+
+    public static int getSlotCount() {
+        return slotCount;
+    }
+
+    public static Set<String> getStripedAccountNumbers() {
+        return stripedAccountNumbers;
+    }
+
+    public static boolean isStriped(String accountNumber) {
+        return stripedAccountNumbers.contains(accountNumber);
+    }
+}
@@ -0,0 +1,22 @@
+package com.leesuchan.account.config;
+
+/**
+ * 입금 처리 방식
+ */
+public enum DepositMode {
+
+    /**
+     * 엔티티 조회 → Account.deposit → 저장 (@Version 충돌 시 재시도)
+     */
+    ENTITY,
+
+    /**
+     * 단일 UPDATE 문으로 잔액 원자적 증가 (balance = balance + ?)
+     */
+    ATOMIC,
+
+    /**
+     * 같은 계좌로 동시에 들어온 입금을 모아 UPDATE 1회 + 거래내역 배치 INSERT 1회로 반영 (그룹 커밋)
+     */
+    COALESCED
+}
@@ -0,0 +1,17 @@
+package com.leesuchan.account.config;
+
+/**
+ * 구간별 수수료 적용 방식
+ */
+public enum FeeMode {
+
+    /**
+     * 이체 금액이 속한 구간의 요율을 금액 전체에 적용
+     */
+    BRACKET,
+
+    /**
+     * 구간마다 해당 구간에 속한 금액에만 그 구간의 요율을 적용해 합산 (누진)
+     */
+    MARGINAL
+}
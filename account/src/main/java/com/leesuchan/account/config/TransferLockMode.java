@@ -0,0 +1,17 @@
+package com.leesuchan.account.config;
+
+/**
+ * 이체 시 계좌 동시성 제어 방식
+ */
+public enum TransferLockMode {
+
+    /**
+     * 낙관적 락 (@Version 충돌 시 @Retryable로 재시도)
+     */
+    OPTIMISTIC,
+
+    /**
+     * 비관적 락 (SELECT ... FOR UPDATE, 계좌 ID 오름차순으로 락 획득)
+     */
+    PESSIMISTIC
+}
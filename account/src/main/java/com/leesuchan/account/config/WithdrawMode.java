@@ -0,0 +1,17 @@
+package com.leesuchan.account.config;
+
+/**
+ * 출금 처리 방식
+ */
+public enum WithdrawMode {
+
+    /**
+     * 엔티티 조회 → Account.withdraw → 저장 (@Version 충돌 시 재시도)
+     */
+    ENTITY,
+
+    /**
+     * 잔액/일일 한도 조건을 WHERE 절에 건 단일 UPDATE 문 (락 없이 한 번에 검증 + 차감)
+     */
+    CONDITIONAL
+}
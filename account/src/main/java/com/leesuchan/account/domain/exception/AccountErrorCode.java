@@ -11,9 +11,13 @@ public interface AccountErrorCode extends ErrorCode {
     ErrorCode DUPLICATE = of("ACCOUNT_002", "이미 존재하는 계좌번호입니다.");
     ErrorCode INVALID_NAME = of("ACCOUNT_003", "계좌명이 유효하지 않습니다.");
     ErrorCode INSUFFICIENT_BALANCE = of("ACCOUNT_004", "잔액이 부족합니다.");
-    ErrorCode DAILY_WITHDRAW_LIMIT_EXCEEDED = of("ACCOUNT_005", "일일 출금 한도를 초과했습니다. (1,000,000원)");
-    ErrorCode DAILY_TRANSFER_LIMIT_EXCEEDED = of("ACCOUNT_006", "일일 이체 한도를 초과했습니다. (3,000,000원)");
+    ErrorCode DAILY_WITHDRAW_LIMIT_EXCEEDED = of("ACCOUNT_005", "일일 출금 한도를 초과했습니다.");
+    ErrorCode DAILY_TRANSFER_LIMIT_EXCEEDED = of("ACCOUNT_006", "일일 이체 한도를 초과했습니다.");
     ErrorCode SAME_ACCOUNT_TRANSFER = of("ACCOUNT_007", "동일 계좌로 이체할 수 없습니다.");
+    ErrorCode IDEMPOTENCY_KEY_REUSED = of("ACCOUNT_008", "이미 다른 요청에 사용된 멱등성 키입니다.");
+    ErrorCode DEPOSIT_BATCH_ROLLED_BACK = of("ACCOUNT_009", "묶음 입금이 반영되지 않았습니다. 다시 시도해주세요.");
+    ErrorCode DEPOSIT_BATCH_TIMED_OUT = of("ACCOUNT_010", "입금 처리 결과를 확인하지 못했습니다. 거래내역 확인 후 다시 시도해주세요.");
+    ErrorCode BALANCE_AT_UNSUPPORTED = of("ACCOUNT_011", "스트라이프 계좌는 특정 시점 잔액을 조회할 수 없습니다.");
 
     static ErrorCode of(String code, String message) {
         return new ErrorCode() {
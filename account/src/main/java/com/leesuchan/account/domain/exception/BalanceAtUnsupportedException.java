@@ -0,0 +1,13 @@
+package com.leesuchan.account.domain.exception;
+
+import com.leesuchan.common.domain.error.DomainException;
+
+/**
+ * 특정 시점 잔액을 조회할 수 없는 계좌(스트라이프 계좌)일 때 발생하는 예외
+ */
+public class BalanceAtUnsupportedException extends DomainException {
+
+    public BalanceAtUnsupportedException() {
+        super(AccountErrorCode.BALANCE_AT_UNSUPPORTED);
+    }
+}
@@ -0,0 +1,30 @@
+package com.leesuchan.account.domain.exception;
+
+import com.leesuchan.common.domain.error.DomainException;
+import com.leesuchan.common.domain.error.ErrorCode;
+
+/**
+ * 묶음 입금이 반영되지 않았거나, 대기 시간 안에 결과를 받지 못했을 때 발생하는 예외
+ *
+ * <p>롤백은 다시 시도할 수 있지만, 시간 초과는 리더가 뒤늦게 커밋할 수 있어 반영 여부를 알 수 없습니다.
+ */
+public class DepositBatchFailedException extends DomainException {
+
+    private DepositBatchFailedException(ErrorCode errorCode) {
+        super(errorCode);
+    }
+
+    /**
+     * 리더 트랜잭션이 롤백되어 묶음 전체가 반영되지 않음
+     */
+    public static DepositBatchFailedException rolledBack() {
+        return new DepositBatchFailedException(AccountErrorCode.DEPOSIT_BATCH_ROLLED_BACK);
+    }
+
+    /**
+     * 리더 트랜잭션의 결과를 기다리다 시간 초과 (반영 여부 미확인, 그대로 다시 시도하면 중복 입금 가능)
+     */
+    public static DepositBatchFailedException timedOut() {
+        return new DepositBatchFailedException(AccountErrorCode.DEPOSIT_BATCH_TIMED_OUT);
+    }
+}
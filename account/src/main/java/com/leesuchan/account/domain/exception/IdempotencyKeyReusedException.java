@@ -0,0 +1,13 @@
+package com.leesuchan.account.domain.exception;
+
+import com.leesuchan.common.domain.error.DomainException;
+
+/**
+ * 이미 사용한 멱등성 키로 다른 요청을 보냈을 때 발생하는 예외
+ */
+public class IdempotencyKeyReusedException extends DomainException {
+
+    public IdempotencyKeyReusedException() {
+        super(AccountErrorCode.IDEMPOTENCY_KEY_REUSED);
+    }
+}
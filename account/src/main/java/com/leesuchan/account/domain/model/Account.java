@@ -52,6 +52,12 @@ public class Account {
     @Embedded
     private TransferLimitTracker transferLimitTracker;
 
+    /**
+     * 한도 등급 코드 (account_limit_tier.code, null이면 기본 한도)
+     */
+    @Column(name = "limit_tier", length = 20)
+    private String limitTier;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
@@ -64,6 +70,12 @@ public class Account {
     @Version
     private Long version;
 
+    /**
+     * 잔액 슬롯 적립액 (스트라이프 계좌 조회 시에만 채워짐)
+     */
+    @Transient
+    private long pendingCredits;
+
     // 생성자 (패키지 private)
     Account(String accountNumber, String accountName, Long balance) {
         validateAccountNumber(accountNumber);
@@ -103,12 +115,19 @@ public class Account {
     }
 
     /**
-     * 입금
+     * 거래 금액 유효성 검증
      */
-    public void deposit(long amount) {
+    public static void validateAmount(long amount) {
         if (amount <= 0) {
             throw new IllegalArgumentException("금액은 0보다 커야 합니다.");
         }
+    }
+
+    /**
+     * 입금
+     */
+    public void deposit(long amount) {
+        validateAmount(amount);
         this.balance += amount;
         this.updatedAt = LocalDateTime.now();
     }
@@ -117,9 +136,7 @@ public class Account {
      * 출금
      */
     public void withdraw(long amount) {
-        if (amount <= 0) {
-            throw new IllegalArgumentException("금액은 0보다 커야 합니다.");
-        }
+        validateAmount(amount);
         checkSufficientBalance(amount);
 
         // 일일 한도 체크 및 추적
@@ -135,7 +152,7 @@ public class Account {
      */
     private void checkDailyWithdrawLimit(long amount) {
         withdrawLimitTracker.resetIfNeeded();
-        long dailyLimit = AccountLimitProvider.getDailyWithdrawLimit();
+        long dailyLimit = AccountLimitProvider.snapshot().dailyWithdrawLimit(limitTier);
         long newAccumulated = withdrawLimitTracker.getAccumulatedAmount() + amount;
 
         if (newAccumulated > dailyLimit) {
@@ -144,10 +161,10 @@ public class Account {
     }
 
     /**
-     * 잔액 확인
+     * 잔액 확인 (잔액 슬롯 적립액 포함)
      */
     private void checkSufficientBalance(long amount) {
-        if (this.balance < amount) {
+        if (getTotalBalance() < amount) {
             throw new InsufficientBalanceException();
         }
     }
@@ -165,9 +182,21 @@ public class Account {
      * @return 계산된 수수료
      */
     public long transfer(Account to, long amount) {
-        if (amount <= 0) {
-            throw new IllegalArgumentException("금액은 0보다 커야 합니다.");
-        }
+        long fee = transferOut(amount);
+
+        // 입금 (수수료 없음)
+        to.balance += amount;
+        to.updatedAt = LocalDateTime.now();
+
+        return fee;
+    }
+
+    /**
+     * 이체 출금 (입금 계좌 잔액은 변경하지 않음, 스트라이프 계좌로의 이체에 사용)
+     * @return 계산된 수수료
+     */
+    public long transferOut(long amount) {
+        validateAmount(amount);
 
         long fee = calculateFee(amount);
         long totalAmount = amount + fee;
@@ -179,14 +208,33 @@ public class Account {
 
         // 출금 (수수료 포함)
         this.balance -= totalAmount;
+        this.updatedAt = LocalDateTime.now();
 
-        // 입금 (수수료 없음)
-        to.balance += amount;
+        return fee;
+    }
 
+    /**
+     * 한도 등급을 변경합니다. (null이면 기본 한도)
+     */
+    public void changeLimitTier(String limitTier) {
+        this.limitTier = limitTier;
         this.updatedAt = LocalDateTime.now();
-        to.updatedAt = LocalDateTime.now();
+    }
 
-        return fee;
+    /**
+     * 잔액 슬롯에 적립되어 아직 balance에 합쳐지지 않은 금액을 설정합니다. (저장되지 않음)
+     *
+     * <p>스트라이프 계좌는 출금 시 balance가 음수가 될 수 있으며, balance + 슬롯 적립액이 실제 잔액입니다.
+     */
+    public void showPendingCredits(long pendingCredits) {
+        this.pendingCredits = pendingCredits;
+    }
+
+    /**
+     * balance + 잔액 슬롯 적립액
+     */
+    public long getTotalBalance() {
+        return balance + pendingCredits;
     }
 
     /**
@@ -194,7 +242,7 @@ public class Account {
      */
     private void checkDailyTransferLimit(long amount) {
         transferLimitTracker.resetIfNeeded();
-        long dailyLimit = AccountLimitProvider.getDailyTransferLimit();
+        long dailyLimit = AccountLimitProvider.snapshot().dailyTransferLimit(limitTier);
         long newAccumulated = transferLimitTracker.getAccumulatedAmount() + amount;
 
         if (newAccumulated > dailyLimit) {
@@ -203,11 +251,10 @@ public class Account {
     }
 
     /**
-     * 수수료 계산 (설정된 비율 적용)
+     * 수수료 계산 (설정된 수수료표 적용)
      */
     private long calculateFee(long amount) {
-        double rate = AccountLimitProvider.getTransferFeeRate();
-        return (long) (amount * rate);
+        return AccountLimitProvider.getTransferFeeSchedule().calculate(amount);
     }
 
     public boolean isDeleted() {
@@ -0,0 +1,84 @@
+package com.leesuchan.account.domain.model;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * 계좌 잔액 슬롯 Entity (JPA)
+ *
+ * <p>스트라이프 계좌로 들어오는 입금/이체 입금액을 N개의 슬롯 행에 나눠 적립하여
+ * account 행 하나에 몰리는 락 경합을 분산합니다.
+ * 스트라이프 계좌의 출금/이체 출금은 슬롯 합계를 잔액 확인에만 포함하고, account.balance로는
+ * 스트라이핑이 켜져 있을 때의 주기 압축과 기동 시 스트라이프 대상이 아닌 계좌의 잔여 적립액 압축으로 합칩니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "account_balance_slot", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_account_balance_slot", columnNames = {"account_id", "slot_no"})
+})
+public class AccountBalanceSlot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "account_id", nullable = false)
+    private Long accountId;
+
+    @Column(name = "slot_no", nullable = false)
+    private Integer slotNo;
+
+    /**
+     * 아직 account.balance에 합쳐지지 않은 적립액
+     */
+    @Column(name = "amount", nullable = false)
+    private Long amount;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    private AccountBalanceSlot(Long accountId, Integer slotNo) {
+        this.accountId = accountId;
+        this.slotNo = slotNo;
+        this.amount = 0L;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 팩토리 메서드: 빈 슬롯 생성
+     */
+    public static AccountBalanceSlot empty(Long accountId, int slotNo) {
+        return new AccountBalanceSlot(accountId, slotNo);
+    }
+
+    /**
+     * 적립액을 비우고 비우기 전 금액을 반환합니다.
+     */
+    public long drain() {
+        long drained = this.amount;
+        if (drained != 0) {
+            this.amount = 0L;
+            this.updatedAt = LocalDateTime.now();
+        }
+        return drained;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        AccountBalanceSlot that = (AccountBalanceSlot) o;
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+}
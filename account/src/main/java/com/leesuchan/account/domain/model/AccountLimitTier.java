@@ -0,0 +1,69 @@
+package com.leesuchan.account.domain.model;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * 계좌 한도 등급 Entity (JPA)
+ *
+ * <p>account.limit_tier가 가리키는 등급별 일일 출금/이체 한도입니다.
+ * 잔액 변경 시마다 조회하지 않고, AccountConfig가 주기적으로 전체를 읽어 한도 스냅샷으로 발행합니다.
+ * code가 DEFAULT인 행은 등급이 없는 계좌의 한도로 사용됩니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "account_limit_tier")
+public class AccountLimitTier {
+
+    @Id
+    @Column(name = "code", length = 20)
+    private String code;
+
+    @Column(name = "daily_withdraw_limit", nullable = false)
+    private Long dailyWithdrawLimit;
+
+    @Column(name = "daily_transfer_limit", nullable = false)
+    private Long dailyTransferLimit;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    private AccountLimitTier(String code, Long dailyWithdrawLimit, Long dailyTransferLimit) {
+        this.code = code;
+        this.dailyWithdrawLimit = dailyWithdrawLimit;
+        this.dailyTransferLimit = dailyTransferLimit;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 팩토리 메서드: 한도 등급 생성
+     */
+    public static AccountLimitTier of(String code, long dailyWithdrawLimit, long dailyTransferLimit) {
+        if (code == null || code.isBlank() || code.length() > 20) {
+            throw new IllegalArgumentException("한도 등급 코드는 1~20자여야 합니다.");
+        }
+        if (dailyWithdrawLimit < 0 || dailyTransferLimit < 0) {
+            throw new IllegalArgumentException("한도는 0 이상이어야 합니다.");
+        }
+        return new AccountLimitTier(code, dailyWithdrawLimit, dailyTransferLimit);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        AccountLimitTier that = (AccountLimitTier) o;
+        return Objects.equals(code, that.code);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(code);
+    }
+}
@@ -0,0 +1,20 @@
+package com.leesuchan.account.domain.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * 계좌 조회용 읽기 모델 (프로젝션)
+ *
+ * <p>응답에 필요한 컬럼만 조회하며, 영속성 컨텍스트에 올라가지 않으므로
+ * 한도 추적기/버전 로딩과 변경 감지 스냅샷 비용이 없습니다.
+ * balance는 아직 합쳐지지 않은 잔액 슬롯 적립액을 포함합니다.
+ */
+public record AccountSummary(
+        Long id,
+        String accountNumber,
+        String accountName,
+        Long balance,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+}
@@ -0,0 +1,121 @@
+package com.leesuchan.account.domain.model;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * 멱등성 키 Entity (JPA)
+ *
+ * <p>Idempotency-Key 헤더로 들어온 입금/출금/이체의 요청 해시와 응답을
+ * 잔액 변경과 같은 트랜잭션에 저장합니다. 같은 키로 다시 요청하면 저장된 응답을 그대로 돌려줍니다.
+ * 키를 직접 지정하므로 Persistable로 신규 여부를 알려 save가 merge(SELECT) 없이 INSERT 하도록 합니다.
+ * (동시에 같은 키를 저장하면 PK 제약으로 DataIntegrityViolationException)
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "idempotency_key", indexes = {
+        @Index(name = "idx_idempotency_key_expires_at", columnList = "expires_at")
+})
+public class IdempotencyRecord implements Persistable<String> {
+
+    @Id
+    @Column(name = "idempotency_key", length = 100)
+    private String idempotencyKey;
+
+    /**
+     * 요청 종류 (DEPOSIT, WITHDRAW, TRANSFER)
+     */
+    @Column(name = "operation", nullable = false, length = 20)
+    private String operation;
+
+    /**
+     * 요청 본문 SHA-256 해시 (같은 키로 다른 요청을 보냈는지 확인)
+     */
+    @Column(name = "request_hash", nullable = false, length = 64)
+    private String requestHash;
+
+    /**
+     * 최초 요청의 응답 본문 (JSON)
+     */
+    @Column(name = "response_body", nullable = false, columnDefinition = "TEXT")
+    private String responseBody;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Transient
+    private boolean isNew = true;
+
+    private IdempotencyRecord(String idempotencyKey, String operation, String requestHash, String responseBody,
+                              LocalDateTime createdAt, LocalDateTime expiresAt) {
+        this.idempotencyKey = idempotencyKey;
+        this.operation = operation;
+        this.requestHash = requestHash;
+        this.responseBody = responseBody;
+        this.createdAt = createdAt;
+        this.expiresAt = expiresAt;
+    }
+
+    /**
+     * 팩토리 메서드: 멱등성 키 기록 생성
+     */
+    public static IdempotencyRecord create(String idempotencyKey, String operation, String requestHash,
+                                           String responseBody, Duration ttl) {
+        LocalDateTime now = LocalDateTime.now();
+        return new IdempotencyRecord(idempotencyKey, operation, requestHash, responseBody, now, now.plus(ttl));
+    }
+
+    /**
+     * 만료 여부
+     */
+    public boolean isExpired(LocalDateTime now) {
+        return !expiresAt.isAfter(now);
+    }
+
+    /**
+     * 같은 종류, 같은 본문의 요청인지 확인합니다.
+     */
+    public boolean matches(String operation, String requestHash) {
+        return this.operation.equals(operation) && this.requestHash.equals(requestHash);
+    }
+
+    @Override
+    public String getId() {
+        return idempotencyKey;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostPersist
+    @PostLoad
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        IdempotencyRecord that = (IdempotencyRecord) o;
+        return Objects.equals(idempotencyKey, that.idempotencyKey);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(idempotencyKey);
+    }
+}
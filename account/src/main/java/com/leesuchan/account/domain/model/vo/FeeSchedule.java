@@ -0,0 +1,153 @@
+package com.leesuchan.account.domain.model.vo;
+
+import com.leesuchan.account.config.FeeMode;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 이체 수수료표 (구간별 요율 + 최소/최대 수수료)
+ *
+ * <p>설정의 구간 목록을 생성 시점에 정수 배열(구간 시작 금액, bp 요율, 누진 누적액)로 컴파일하고,
+ * 계산은 배열 이진 탐색과 정수 연산만 사용합니다. (double 반올림 오차/객체 할당 없음)
+ * 수수료는 원 미만 절사합니다.
+ */
+public final class FeeSchedule {
+
+    /**
+     * 1 = 10,000bp
+     */
+    public static final int BASIS_POINTS_SCALE = 10_000;
+
+    private final FeeMode mode;
+
+    /**
+     * 구간 시작 금액 (오름차순, 첫 구간은 0)
+     */
+    private final long[] fromAmounts;
+
+    /**
+     * 구간별 요율 (bp)
+     */
+    private final int[] basisPoints;
+
+    /**
+     * MARGINAL: 구간 시작 금액까지의 누적 수수료 (원 × 10,000 단위, 절사 전)
+     */
+    private final long[] cumulativeScaledFees;
+
+    private final long minFee;
+    private final long maxFee;
+
+    private FeeSchedule(FeeMode mode, long[] fromAmounts, int[] basisPoints, long minFee, long maxFee) {
+        this.mode = mode;
+        this.fromAmounts = fromAmounts;
+        this.basisPoints = basisPoints;
+        this.minFee = minFee;
+        this.maxFee = maxFee;
+        this.cumulativeScaledFees = new long[fromAmounts.length];
+        for (int i = 1; i < fromAmounts.length; i++) {
+            long width = fromAmounts[i] - fromAmounts[i - 1];
+            cumulativeScaledFees[i] = Math.addExact(
+                    cumulativeScaledFees[i - 1], Math.multiplyExact(width, (long) basisPoints[i - 1]));
+        }
+    }
+
+    /**
+     * 수수료표를 컴파일합니다.
+     *
+     * @param mode 구간 적용 방식
+     * @param tiers 수수료 구간 (순서 무관, 0원 구간 필수)
+     * @param minFee 최소 수수료 (원)
+     * @param maxFee 최대 수수료 (원, null이면 제한 없음)
+     * @throws IllegalArgumentException 구간/요율/한도가 잘못된 경우
+     */
+    public static FeeSchedule compile(FeeMode mode, List<FeeTier> tiers, long minFee, Long maxFee) {
+        if (mode == null) {
+            throw new IllegalArgumentException("수수료 적용 방식이 필요합니다.");
+        }
+        if (tiers == null || tiers.isEmpty()) {
+            throw new IllegalArgumentException("수수료 구간이 하나 이상 필요합니다.");
+        }
+        FeeTier[] sorted = tiers.toArray(FeeTier[]::new);
+        Arrays.sort(sorted, Comparator.comparingLong(FeeTier::fromAmount));
+        if (sorted[0].fromAmount() != 0) {
+            throw new IllegalArgumentException("첫 수수료 구간은 0원부터 시작해야 합니다.");
+        }
+
+        long[] fromAmounts = new long[sorted.length];
+        int[] basisPoints = new int[sorted.length];
+        for (int i = 0; i < sorted.length; i++) {
+            FeeTier tier = sorted[i];
+            if (i > 0 && tier.fromAmount() == sorted[i - 1].fromAmount()) {
+                throw new IllegalArgumentException("수수료 구간 시작 금액이 중복되었습니다: " + tier.fromAmount());
+            }
+            if (tier.basisPoints() < 0 || tier.basisPoints() > BASIS_POINTS_SCALE) {
+                throw new IllegalArgumentException("수수료 요율은 0 ~ 10,000bp 사이여야 합니다: " + tier.basisPoints());
+            }
+            fromAmounts[i] = tier.fromAmount();
+            basisPoints[i] = tier.basisPoints();
+        }
+
+        long max = maxFee != null ? maxFee : Long.MAX_VALUE;
+        if (minFee < 0 || max < minFee) {
+            throw new IllegalArgumentException("최소/최대 수수료가 올바르지 않습니다.");
+        }
+        return new FeeSchedule(mode, fromAmounts, basisPoints, minFee, max);
+    }
+
+    /**
+     * 단일 요율 수수료표 (최소/최대 없음)
+     */
+    public static FeeSchedule flat(int basisPoints) {
+        return compile(FeeMode.BRACKET, List.of(new FeeTier(0, basisPoints)), 0, null);
+    }
+
+    /**
+     * 이체 금액에 대한 수수료를 계산합니다.
+     *
+     * @param amount 이체 금액 (0 이상)
+     * @return 수수료 (원 미만 절사 후 최소/최대 적용)
+     */
+    public long calculate(long amount) {
+        int tier = tierIndexOf(amount);
+        long fee;
+        if (mode == FeeMode.BRACKET) {
+            fee = applyRate(amount, basisPoints[tier], 0);
+        } else {
+            fee = applyRate(amount - fromAmounts[tier], basisPoints[tier], cumulativeScaledFees[tier]);
+        }
+        return Math.min(Math.max(fee, minFee), maxFee);
+    }
+
+    /**
+     * floor((scaledBase + amount × bp) / 10,000)
+     *
+     * <p>amount를 10,000으로 나눈 몫/나머지로 나눠 곱하므로 amount가 커도 오버플로가 나지 않습니다.
+     */
+    private static long applyRate(long amount, int basisPoints, long scaledBase) {
+        long quotient = amount / BASIS_POINTS_SCALE;
+        long remainder = amount % BASIS_POINTS_SCALE;
+        return scaledBase / BASIS_POINTS_SCALE
+                + quotient * basisPoints
+                + (scaledBase % BASIS_POINTS_SCALE + remainder * basisPoints) / BASIS_POINTS_SCALE;
+    }
+
+    /**
+     * amount가 속한 구간 (fromAmount <= amount 인 마지막 구간)
+     */
+    private int tierIndexOf(long amount) {
+        int low = 0;
+        int high = fromAmounts.length - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (fromAmounts[mid] <= amount) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,10 @@
+package com.leesuchan.account.domain.model.vo;
+
+/**
+ * 수수료 구간
+ *
+ * @param fromAmount 구간 시작 금액 (이상, 원 단위)
+ * @param basisPoints 요율 (1bp = 0.01%, 100bp = 1%)
+ */
+public record FeeTier(long fromAmount, int basisPoints) {
+}
@@ -0,0 +1,46 @@
+package com.leesuchan.account.domain.repository;
+
+import com.leesuchan.account.domain.model.AccountBalanceSlot;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * AccountBalanceSlot Repository Port 인터페이스
+ */
+public interface AccountBalanceSlotRepository {
+
+    /**
+     * 슬롯 적립액 원자적 증가 (UPDATE account_balance_slot SET amount = amount + ? ...)
+     *
+     * @return 갱신된 행 수 (0이면 슬롯 행 없음)
+     */
+    int addToSlot(Long accountId, int slotNo, long amount, LocalDateTime updatedAt);
+
+    /**
+     * 0 ~ slotCount-1 번 슬롯 중 없는 슬롯 행을 별도 트랜잭션으로 생성합니다.
+     *
+     * @throws org.springframework.dao.DataIntegrityViolationException 다른 요청이 동시에 생성한 경우
+     */
+    void createSlotsIfAbsent(Long accountId, int slotCount);
+
+    /**
+     * 계좌의 슬롯 중 다른 트랜잭션이 잠그지 않은 슬롯만 잠그고 조회합니다. (SELECT ... FOR UPDATE SKIP LOCKED)
+     */
+    List<AccountBalanceSlot> findUnlockedByAccountIdForUpdate(Long accountId);
+
+    /**
+     * 적립액이 0이 아닌 슬롯이 있는 계좌 ID 목록
+     */
+    List<Long> findAccountIdsWithPendingCredits();
+
+    /**
+     * 계좌의 슬롯 적립액 합계 (슬롯이 없으면 0)
+     */
+    long sumByAccountId(Long accountId);
+
+    /**
+     * 계좌의 슬롯을 공유 잠금으로 읽은 적립액 합계 (SELECT ... FOR SHARE, 적립 중인 슬롯은 커밋을 기다림)
+     */
+    long sumByAccountIdForShare(Long accountId);
+}
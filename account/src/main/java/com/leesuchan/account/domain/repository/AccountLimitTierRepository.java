@@ -0,0 +1,18 @@
+package com.leesuchan.account.domain.repository;
+
+import com.leesuchan.account.domain.model.AccountLimitTier;
+
+import java.util.List;
+
+/**
+ * AccountLimitTier Repository Port 인터페이스
+ */
+public interface AccountLimitTierRepository {
+
+    /**
+     * 전체 한도 등급 조회 (스냅샷 발행용)
+     */
+    List<AccountLimitTier> findAll();
+
+    AccountLimitTier save(AccountLimitTier tier);
+}
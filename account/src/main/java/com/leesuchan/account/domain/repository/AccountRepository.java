@@ -1,10 +1,17 @@
 package com.leesuchan.account.domain.repository;
 
 import com.leesuchan.account.domain.model.Account;
+import com.leesuchan.account.domain.model.AccountSummary;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * 계좌 Repository Port
@@ -16,6 +23,15 @@ public interface AccountRepository {
      */
     Account save(Account account);
 
+    /**
+     * 계좌 일괄 등록 (INSERT IGNORE, JDBC 배치)
+     *
+     * <p>계좌번호 유니크 제약에 걸린 행은 건너뛰며, 사전 존재 여부 조회 없이 한 번의 배치로 처리합니다.
+     *
+     * @return 실제로 등록된 계좌번호 (나머지는 이미 존재하는 계좌번호)
+     */
+    Set<String> insertIgnoringDuplicates(List<Account> accounts);
+
     /**
      * 계좌번호로 계좌 조회
      */
@@ -26,6 +42,55 @@ public interface AccountRepository {
      */
     Optional<Account> findById(Long id);
 
+    /**
+     * 계좌번호로 계좌 ID만 조회 (엔티티를 영속성 컨텍스트에 올리지 않음)
+     */
+    Optional<Long> findIdByAccountNumber(String accountNumber);
+
+    /**
+     * ID로 계좌 조회 (비관적 쓰기 락, SELECT ... FOR UPDATE)
+     *
+     * <p>여러 계좌를 잠글 때는 데드락 방지를 위해 항상 ID 오름차순으로 호출해야 합니다.
+     */
+    Optional<Account> findByIdForUpdate(Long id);
+
+    /**
+     * 계좌번호 목록으로 계좌 ID 목록 조회 (IN 쿼리 1회, 락 없음, 없는 계좌는 제외)
+     */
+    List<Long> findIdsByAccountNumberIn(Collection<String> accountNumbers);
+
+    /**
+     * ID 목록으로 계좌 일괄 조회 (비관적 쓰기 락, ID 오름차순으로 잠금)
+     */
+    List<Account> findAllByIdInForUpdate(Collection<Long> ids);
+
+    /**
+     * 잔액 원자적 증가 (UPDATE account SET balance = balance + ? ...)
+     *
+     * <p>엔티티를 조회하지 않고 단일 UPDATE 문으로 처리하며, 버전도 함께 증가시켜
+     * 엔티티 기반 갱신과 섞여도 갱신 손실이 생기지 않습니다.
+     *
+     * @return 갱신된 행 수 (0이면 계좌 없음)
+     */
+    int increaseBalance(String accountNumber, long amount, LocalDateTime updatedAt);
+
+    /**
+     * 조건부 잔액 차감 (잔액 및 일일 출금 한도를 WHERE 절에서 검증하는 단일 UPDATE)
+     *
+     * <p>마지막 출금일이 오늘이 아니면 일일 누적 출금액을 이번 출금액으로 새로 시작합니다.
+     * 계좌에 한도 등급이 있으면 dailyLimit 대신 등급 테이블의 한도를 같은 문장 안에서 조회해 적용합니다.
+     *
+     * @param dailyLimit 한도 등급이 없는 계좌의 일일 출금 한도
+     * @return 갱신된 행 수 (0이면 계좌 없음, 잔액 부족 또는 한도 초과)
+     */
+    int decreaseBalanceWithinDailyWithdrawLimit(
+            String accountNumber,
+            long amount,
+            long dailyLimit,
+            LocalDate today,
+            LocalDateTime updatedAt
+    );
+
     /**
      * 계좌번호 존재 여부 확인
      */
@@ -40,4 +105,19 @@ public interface AccountRepository {
      * 계좌 목록 조회 (페이지네이션)
      */
     Page<Account> findAll(Pageable pageable);
+
+    /**
+     * 계좌번호로 계좌 조회용 프로젝션 조회 (엔티티 미적재)
+     */
+    Optional<AccountSummary> findSummaryByAccountNumber(String accountNumber);
+
+    /**
+     * 계좌 목록 프로젝션 조회 (페이지네이션, 전체 건수 COUNT 포함)
+     */
+    Page<AccountSummary> findAllSummaries(Pageable pageable);
+
+    /**
+     * 계좌 목록 프로젝션 조회 (COUNT 없이 size + 1건으로 다음 페이지 여부만 확인)
+     */
+    Slice<AccountSummary> findSummarySlice(Pageable pageable);
 }
@@ -0,0 +1,30 @@
+package com.leesuchan.account.domain.repository;
+
+import com.leesuchan.account.domain.model.IdempotencyRecord;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * IdempotencyRecord Repository Port 인터페이스
+ */
+public interface IdempotencyRecordRepository {
+
+    Optional<IdempotencyRecord> findByKey(String idempotencyKey);
+
+    /**
+     * 멱등성 키 기록을 INSERT 하고 바로 flush 합니다.
+     *
+     * @throws org.springframework.dao.DataIntegrityViolationException 같은 키가 이미 저장된 경우
+     */
+    IdempotencyRecord save(IdempotencyRecord record);
+
+    void deleteByKey(String idempotencyKey);
+
+    /**
+     * 만료된 키를 최대 limit건 삭제합니다.
+     *
+     * @return 삭제된 건수 (limit보다 적으면 더 삭제할 키 없음)
+     */
+    int deleteExpired(LocalDateTime now, int limit);
+}
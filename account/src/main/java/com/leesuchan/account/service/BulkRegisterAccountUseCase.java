@@ -0,0 +1,93 @@
+package com.leesuchan.account.service;
+
+import com.leesuchan.account.domain.exception.AccountErrorCode;
+import com.leesuchan.account.domain.model.Account;
+import com.leesuchan.account.domain.repository.AccountRepository;
+import com.leesuchan.account.service.dto.BulkRegisterItemResult;
+import com.leesuchan.account.service.dto.RegisterAccountRequest;
+import com.leesuchan.common.domain.error.DomainException;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 계좌 일괄 등록 유스케이스 (제휴사 계좌 이관 등)
+ *
+ * <p>계좌번호/계좌명 검증과 요청 내 중복 제거는 메모리에서 처리하고,
+ * 남은 계좌는 CHUNK_SIZE건씩 INSERT IGNORE 배치로 등록합니다.
+ * 이미 존재하는 계좌번호는 미리 조회하지 않고 유니크 제약으로 건너뛴 행을 중복으로 응답합니다.
+ * 청크마다 별도 트랜잭션이므로 중간에 실패해도 앞 청크의 등록은 유지됩니다.
+ */
+@Service
+public class BulkRegisterAccountUseCase {
+
+    /**
+     * 청크당 등록 건수 (MySQL max_error_count 기본값 1024 이하, 중복 경고를 모두 받기 위함)
+     */
+    static final int CHUNK_SIZE = 1_000;
+
+    private final AccountRepository accountRepository;
+
+    public BulkRegisterAccountUseCase(AccountRepository accountRepository) {
+        this.accountRepository = accountRepository;
+    }
+
+    /**
+     * 계좌를 일괄 등록합니다.
+     *
+     * @param requests 등록 요청 목록
+     * @return 등록 건수와 실패 항목 (요청 순서)
+     */
+    public BulkRegisterResult execute(List<RegisterAccountRequest> requests) {
+        List<BulkRegisterItemResult> failures = new ArrayList<>();
+        List<Account> accounts = new ArrayList<>(requests.size());
+        List<Integer> indexes = new ArrayList<>(requests.size());
+        Set<String> seen = new HashSet<>();
+
+        // 1. 메모리 검증 및 요청 내 중복 제거 (먼저 나온 항목만 등록)
+        for (int i = 0; i < requests.size(); i++) {
+            RegisterAccountRequest request = requests.get(i);
+            try {
+                Account account = Account.create(request.accountNumber(), request.accountName());
+                if (!seen.add(account.getAccountNumber())) {
+                    failures.add(BulkRegisterItemResult.failed(i, request.accountNumber(), AccountErrorCode.DUPLICATE));
+                    continue;
+                }
+                accounts.add(account);
+                indexes.add(i);
+            } catch (DomainException e) {
+                failures.add(BulkRegisterItemResult.failed(i, request.accountNumber(), e.getErrorCode()));
+            } catch (IllegalArgumentException e) {
+                failures.add(BulkRegisterItemResult.failed(i, request.accountNumber(), "INVALID_ARGUMENT", e.getMessage()));
+            }
+        }
+
+        // 2. 청크 단위 INSERT IGNORE
+        int registered = 0;
+        for (int offset = 0; offset < accounts.size(); offset += CHUNK_SIZE) {
+            List<Account> chunk = accounts.subList(offset, Math.min(offset + CHUNK_SIZE, accounts.size()));
+            Set<String> inserted = accountRepository.insertIgnoringDuplicates(chunk);
+            registered += inserted.size();
+
+            for (int i = 0; i < chunk.size(); i++) {
+                String accountNumber = chunk.get(i).getAccountNumber();
+                if (!inserted.contains(accountNumber)) {
+                    failures.add(BulkRegisterItemResult.failed(indexes.get(offset + i), accountNumber, AccountErrorCode.DUPLICATE));
+                }
+            }
+        }
+
+        failures.sort(Comparator.comparingInt(BulkRegisterItemResult::index));
+        return new BulkRegisterResult(requests.size(), registered, failures);
+    }
+
+    /**
+     * 일괄 등록 결과
+     */
+    public record BulkRegisterResult(int requested, int registered, List<BulkRegisterItemResult> failures) {
+    }
+}
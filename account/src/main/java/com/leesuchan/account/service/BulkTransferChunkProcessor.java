@@ -0,0 +1,139 @@
+package com.leesuchan.account.service;
+
+import com.leesuchan.account.domain.exception.AccountNotFoundException;
+import com.leesuchan.account.domain.exception.SameAccountTransferException;
+import com.leesuchan.account.domain.model.Account;
+import com.leesuchan.account.domain.repository.AccountRepository;
+import com.leesuchan.account.service.dto.BulkTransferItemResult;
+import com.leesuchan.account.service.dto.TransferRequest;
+import com.leesuchan.activity.config.TransactionIdProvider;
+import com.leesuchan.activity.domain.model.Activity;
+import com.leesuchan.activity.service.ActivityRecordService;
+import com.leesuchan.common.domain.error.DomainException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 다건 이체 청크 처리기
+ *
+ * <p>청크 하나를 하나의 트랜잭션으로 처리합니다.
+ * 청크에 등장하는 모든 계좌를 IN 쿼리로 ID 오름차순 잠금한 뒤 메모리에서 순서대로 이체하고,
+ * 거래내역은 청크 단위로 한 번에 배치 INSERT 합니다.
+ * 항목별 검증 실패(잔액 부족, 한도 초과 등)는 잔액을 변경하기 전에 발생하므로 해당 항목만 실패로 기록합니다.
+ */
+@Service
+public class BulkTransferChunkProcessor {
+
+    private final AccountRepository accountRepository;
+    private final ActivityRecordService activityRecordService;
+    private final StripedBalanceService stripedBalanceService;
+
+    public BulkTransferChunkProcessor(
+            AccountRepository accountRepository,
+            ActivityRecordService activityRecordService,
+            StripedBalanceService stripedBalanceService
+    ) {
+        this.accountRepository = accountRepository;
+        this.activityRecordService = activityRecordService;
+        this.stripedBalanceService = stripedBalanceService;
+    }
+
+    /**
+     * 청크를 처리합니다.
+     *
+     * <p>스트라이프 계좌도 청크 안에서는 행이 잠겨 있으므로 입금액을 잔액 슬롯이 아닌 balance에 바로 반영합니다.
+     *
+     * @param transfers 청크에 포함된 이체 요청
+     * @param offset 청크 첫 항목의 전체 요청 목록 내 순번
+     * @return 항목별 처리 결과 (요청 순서)
+     */
+    @Transactional
+    public List<BulkTransferItemResult> process(List<TransferRequest> transfers, int offset) {
+        Map<String, Account> accounts = lockAccounts(transfers);
+
+        List<BulkTransferItemResult> results = new ArrayList<>(transfers.size());
+        List<Activity> activities = new ArrayList<>(transfers.size() * 2);
+        Set<Account> touched = new LinkedHashSet<>();
+
+        for (int i = 0; i < transfers.size(); i++) {
+            int index = offset + i;
+            TransferRequest request = transfers.get(i);
+            try {
+                if (request.amount() == null) {
+                    throw new IllegalArgumentException("금액은 0보다 커야 합니다.");
+                }
+                Account from = find(accounts, request.fromAccountNumber());
+                Account to = find(accounts, request.toAccountNumber());
+                if (from.getId().equals(to.getId())) {
+                    throw new SameAccountTransferException();
+                }
+
+                long fee = from.transfer(to, request.amount());
+                touched.add(from);
+                touched.add(to);
+
+                long transactionId = TransactionIdProvider.nextId();
+                activities.add(Activity.transferOut(
+                        from.getId(), to.getId(), to.getAccountNumber(),
+                        request.amount(), fee, from.getTotalBalance(), transactionId
+                ));
+                activities.add(Activity.transferIn(
+                        to.getId(), from.getId(), from.getAccountNumber(),
+                        request.amount(), to.getTotalBalance(), transactionId
+                ));
+                results.add(BulkTransferItemResult.succeeded(index, fee));
+            } catch (DomainException e) {
+                results.add(BulkTransferItemResult.failed(index, e.getErrorCode()));
+            } catch (IllegalArgumentException e) {
+                results.add(BulkTransferItemResult.failed(index, "INVALID_ARGUMENT", e.getMessage()));
+            }
+        }
+
+        touched.forEach(accountRepository::save);
+        activityRecordService.recordAll(activities);
+
+        return results;
+    }
+
+    /**
+     * 청크에 등장하는 계좌를 ID 오름차순으로 한 번에 잠급니다.
+     *
+     * <p>모든 청크와 단건 비관적 락 이체가 같은 순서로 잠그므로 서로 데드락이 생기지 않습니다.
+     */
+    private Map<String, Account> lockAccounts(List<TransferRequest> transfers) {
+        Set<String> accountNumbers = new LinkedHashSet<>();
+        for (TransferRequest request : transfers) {
+            accountNumbers.add(request.fromAccountNumber());
+            accountNumbers.add(request.toAccountNumber());
+        }
+
+        List<Long> ids = accountRepository.findIdsByAccountNumberIn(accountNumbers);
+        Map<String, Account> accounts = new HashMap<>();
+        if (ids.isEmpty()) {
+            return accounts;
+        }
+
+        for (Account account : accountRepository.findAllByIdInForUpdate(ids)) {
+            if (stripedBalanceService.isStriped(account.getAccountNumber())) {
+                stripedBalanceService.showPendingCreditsLocked(account);
+            }
+            accounts.put(account.getAccountNumber(), account);
+        }
+        return accounts;
+    }
+
+    private Account find(Map<String, Account> accounts, String accountNumber) {
+        Account account = accounts.get(accountNumber);
+        if (account == null) {
+            throw new AccountNotFoundException();
+        }
+        return account;
+    }
+}
@@ -0,0 +1,59 @@
+package com.leesuchan.account.service;
+
+import com.leesuchan.account.service.dto.BulkTransferItemResult;
+import com.leesuchan.account.service.dto.TransferRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 다건 이체 유스케이스 (급여 이체 등)
+ *
+ * <p>요청을 CHUNK_SIZE건씩 나눠 청크마다 별도 트랜잭션으로 처리합니다.
+ * 청크 트랜잭션이 실패(DB 오류 등)하면 해당 청크의 항목만 모두 실패로 응답하고 다음 청크를 계속 처리합니다.
+ */
+@Slf4j
+@Service
+public class BulkTransferUseCase {
+
+    /**
+     * 청크당 이체 건수 (트랜잭션 하나가 잠그는 계좌 수와 락 유지 시간의 상한)
+     */
+    static final int CHUNK_SIZE = 500;
+
+    private final BulkTransferChunkProcessor bulkTransferChunkProcessor;
+
+    public BulkTransferUseCase(BulkTransferChunkProcessor bulkTransferChunkProcessor) {
+        this.bulkTransferChunkProcessor = bulkTransferChunkProcessor;
+    }
+
+    /**
+     * 다건 이체를 실행합니다.
+     *
+     * @param transfers 이체 요청 목록
+     * @return 항목별 처리 결과 (요청 순서)
+     */
+    public List<BulkTransferItemResult> execute(List<TransferRequest> transfers) {
+        List<BulkTransferItemResult> results = new ArrayList<>(transfers.size());
+        for (int offset = 0; offset < transfers.size(); offset += CHUNK_SIZE) {
+            List<TransferRequest> chunk = transfers.subList(offset, Math.min(offset + CHUNK_SIZE, transfers.size()));
+            results.addAll(processChunk(chunk, offset));
+        }
+        return results;
+    }
+
+    private List<BulkTransferItemResult> processChunk(List<TransferRequest> chunk, int offset) {
+        try {
+            return bulkTransferChunkProcessor.process(chunk, offset);
+        } catch (RuntimeException e) {
+            log.error("다건 이체 청크 처리 실패: offset={}, size={}", offset, chunk.size(), e);
+            List<BulkTransferItemResult> failed = new ArrayList<>(chunk.size());
+            for (int i = 0; i < chunk.size(); i++) {
+                failed.add(BulkTransferItemResult.failed(offset + i, "INTERNAL_ERROR", "처리 중 오류가 발생하여 반영되지 않았습니다."));
+            }
+            return failed;
+        }
+    }
+}
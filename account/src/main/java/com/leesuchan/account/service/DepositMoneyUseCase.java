@@ -1,14 +1,21 @@
 package com.leesuchan.account.service;
 
+import com.leesuchan.account.config.AccountConcurrencyProvider;
+import com.leesuchan.account.config.DepositMode;
 import com.leesuchan.account.domain.exception.AccountNotFoundException;
 import com.leesuchan.account.domain.model.Account;
 import com.leesuchan.account.domain.repository.AccountRepository;
+import com.leesuchan.account.service.coalesce.DepositCoalescer;
 import com.leesuchan.account.service.dto.DepositRequest;
 import com.leesuchan.activity.service.ActivityRecordService;
 import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
 
 /**
  * 입금 유스케이스
@@ -18,26 +25,78 @@ public class DepositMoneyUseCase {
 
     private final AccountRepository accountRepository;
     private final ActivityRecordService activityRecordService;
+    private final StripedBalanceService stripedBalanceService;
+    private final DepositCoalescer depositCoalescer;
+    private final TransactionTemplate transactionTemplate;
 
     public DepositMoneyUseCase(
             AccountRepository accountRepository,
-            ActivityRecordService activityRecordService
+            ActivityRecordService activityRecordService,
+            StripedBalanceService stripedBalanceService,
+            DepositCoalescer depositCoalescer,
+            PlatformTransactionManager transactionManager
     ) {
         this.accountRepository = accountRepository;
         this.activityRecordService = activityRecordService;
+        this.stripedBalanceService = stripedBalanceService;
+        this.depositCoalescer = depositCoalescer;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
     /**
      * 계좌에 금액을 입금합니다.
      *
+     * <p>입금 방식은 AccountConcurrencyProvider 설정을 따릅니다.
+     * 스트라이프 계좌는 설정과 관계없이 잔액 슬롯에 적립합니다.
+     * 묶음 입금은 트랜잭션을 열지 않고 DepositCoalescer에 넘기며(리더만 트랜잭션을 엶),
+     * 그 밖의 방식은 이 메서드가 연 트랜잭션에서 반영합니다.
+     *
      * @param accountNumber 계좌번호
      * @param amount 입금액
      * @return 입금된 계좌
      * @throws AccountNotFoundException 계좌 미조회 시
      */
-    @Transactional
     @Retryable(retryFor = OptimisticLockingFailureException.class, maxAttempts = 3)
     public Account execute(String accountNumber, Long amount) {
+        if (AccountConcurrencyProvider.getDepositMode() == DepositMode.COALESCED
+                && !stripedBalanceService.isStriped(accountNumber)) {
+            return depositCoalescer.deposit(accountNumber, amount);
+        }
+        return transactionTemplate.execute(status -> deposit(accountNumber, amount));
+    }
+
+    /**
+     * 호출한 트랜잭션 안에서만 반영되는 입금 (멱등성 키 요청용)
+     *
+     * <p>묶음 입금은 리더의 트랜잭션에서 커밋되므로, 호출 측 트랜잭션이 롤백되어도(키 기록 충돌 등) 입금이 남습니다.
+     * COALESCED 모드여도 묶음에 넣지 않고 단일 UPDATE 문으로 반영하여 호출 측 트랜잭션과 함께 커밋/롤백되도록 합니다.
+     */
+    @Transactional
+    @Retryable(retryFor = OptimisticLockingFailureException.class, maxAttempts = 3)
+    public Account executeInCallerTransaction(String accountNumber, Long amount) {
+        return deposit(accountNumber, amount);
+    }
+
+    /**
+     * DTO를 사용한 입금
+     */
+    @Retryable(retryFor = OptimisticLockingFailureException.class, maxAttempts = 3)
+    public Account execute(DepositRequest request) {
+        return execute(request.accountNumber(), request.amount());
+    }
+
+    /**
+     * 트랜잭션 안에서 묶지 않고 입금 (COALESCED 모드는 단일 UPDATE 문으로 반영)
+     */
+    private Account deposit(String accountNumber, Long amount) {
+        if (stripedBalanceService.isStriped(accountNumber)) {
+            return depositToSlot(accountNumber, amount);
+        }
+        DepositMode depositMode = AccountConcurrencyProvider.getDepositMode();
+        if (depositMode == DepositMode.ATOMIC || depositMode == DepositMode.COALESCED) {
+            return depositAtomically(accountNumber, amount);
+        }
+
         Account account = accountRepository.findByAccountNumber(accountNumber)
                 .orElseThrow(AccountNotFoundException::new);
 
@@ -54,11 +113,51 @@ public class DepositMoneyUseCase {
     }
 
     /**
-     * DTO를 사용한 입금
+     * 단일 UPDATE 문으로 입금 (잔액 검증이 필요 없으므로 엔티티를 먼저 조회하지 않음)
+     *
+     * <p>UPDATE가 행 락을 잡은 뒤 같은 트랜잭션에서 갱신된 행을 다시 읽으므로
+     * 거래내역의 balance_after는 이 입금이 반영된 잔액입니다.
      */
-    @Transactional
-    @Retryable(retryFor = OptimisticLockingFailureException.class, maxAttempts = 3)
-    public Account execute(DepositRequest request) {
-        return execute(request.accountNumber(), request.amount());
+    private Account depositAtomically(String accountNumber, Long amount) {
+        Account.validateAmount(amount);
+
+        int updated = accountRepository.increaseBalance(accountNumber, amount, LocalDateTime.now());
+        if (updated == 0) {
+            throw new AccountNotFoundException();
+        }
+
+        Account account = accountRepository.findByAccountNumber(accountNumber)
+                .orElseThrow(AccountNotFoundException::new);
+
+        activityRecordService.recordDeposit(
+                account.getId(),
+                amount,
+                account.getBalance()
+        );
+
+        return account;
+    }
+
+    /**
+     * 스트라이프 계좌 입금: account 행을 갱신하지 않고 잔액 슬롯 하나에만 적립
+     *
+     * <p>거래내역의 balance_after는 적립 시점에 읽은 balance + 슬롯 합계입니다.
+     */
+    private Account depositToSlot(String accountNumber, Long amount) {
+        Account.validateAmount(amount);
+
+        Account account = accountRepository.findByAccountNumber(accountNumber)
+                .orElseThrow(AccountNotFoundException::new);
+
+        stripedBalanceService.credit(account.getId(), amount);
+        account.showPendingCredits(stripedBalanceService.pendingCredits(account.getId()));
+
+        activityRecordService.recordDeposit(
+                account.getId(),
+                amount,
+                account.getTotalBalance()
+        );
+
+        return account;
     }
 }
@@ -0,0 +1,169 @@
+package com.leesuchan.account.service;
+
+import com.leesuchan.account.config.AccountStripingProvider;
+import com.leesuchan.account.domain.exception.AccountNotFoundException;
+import com.leesuchan.account.domain.model.Account;
+import com.leesuchan.account.domain.model.AccountBalanceSlot;
+import com.leesuchan.account.domain.repository.AccountBalanceSlotRepository;
+import com.leesuchan.account.domain.repository.AccountRepository;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 스트라이프 계좌 잔액 슬롯 서비스
+ *
+ * <p>스트라이프 계좌의 입금액은 account.balance 대신 스레드별로 고른 슬롯 행에 적립되므로,
+ * 동시 입금이 account 행 하나의 락/버전을 두고 경합하지 않습니다.
+ * 계좌의 실제 잔액은 balance + 슬롯 합계이며, 출금은 이 합계로 잔액을 확인합니다.
+ * 백그라운드 압축(fold)이 주기적으로 슬롯 적립액을 balance로 옮깁니다.
+ * 스트라이프 목록에서 빠진 계좌는 잔액 확인 시 슬롯을 보지 않으므로, 남은 적립액을 기동 시(와 압축 주기마다) 모두 옮깁니다.
+ */
+@Service
+public class StripedBalanceService {
+
+    private final AccountRepository accountRepository;
+    private final AccountBalanceSlotRepository accountBalanceSlotRepository;
+
+    public StripedBalanceService(
+            AccountRepository accountRepository,
+            AccountBalanceSlotRepository accountBalanceSlotRepository
+    ) {
+        this.accountRepository = accountRepository;
+        this.accountBalanceSlotRepository = accountBalanceSlotRepository;
+    }
+
+    /**
+     * 스트라이프 계좌 여부
+     */
+    public boolean isStriped(String accountNumber) {
+        return AccountStripingProvider.isStriped(accountNumber);
+    }
+
+    /**
+     * 호출 스레드의 슬롯에 금액을 적립합니다. (호출한 트랜잭션에 참여)
+     *
+     * <p>슬롯 행이 아직 없으면(압축 스케줄러가 만들기 전) 별도 트랜잭션으로 생성한 뒤 다시 적립합니다.
+     */
+    @Transactional
+    public void credit(Long accountId, long amount) {
+        int slotNo = slotOf(Thread.currentThread());
+        if (accountBalanceSlotRepository.addToSlot(accountId, slotNo, amount, LocalDateTime.now()) > 0) {
+            return;
+        }
+
+        provision(accountId);
+        if (accountBalanceSlotRepository.addToSlot(accountId, slotNo, amount, LocalDateTime.now()) == 0) {
+            throw new IllegalStateException("잔액 슬롯을 생성하지 못했습니다.");
+        }
+    }
+
+    /**
+     * 아직 account.balance에 합쳐지지 않은 슬롯 적립액 합계
+     */
+    @Transactional(readOnly = true)
+    public long pendingCredits(Long accountId) {
+        return accountBalanceSlotRepository.sumByAccountId(accountId);
+    }
+
+    /**
+     * 출금 전 계좌에 슬롯 적립액을 반영합니다. (잔액 확인과 거래내역 잔액에 사용, 저장되지 않음)
+     */
+    @Transactional(readOnly = true)
+    public void showPendingCredits(Account account) {
+        account.showPendingCredits(accountBalanceSlotRepository.sumByAccountId(account.getId()));
+    }
+
+    /**
+     * FOR UPDATE로 잠근 계좌에 슬롯 적립액을 반영합니다. (비관적 락 이체용, 저장되지 않음)
+     *
+     * <p>계좌 행은 잠금 읽기로 최신 잔액을 읽으므로, 슬롯도 잠금 읽기(FOR SHARE)로 같은 시점의 합계를 읽습니다.
+     * 스냅샷으로 읽으면 그 사이 커밋된 압축(슬롯 → balance)이 balance와 슬롯 양쪽에 잡혀 잔액이 크게 보입니다.
+     */
+    @Transactional
+    public void showPendingCreditsLocked(Account account) {
+        account.showPendingCredits(accountBalanceSlotRepository.sumByAccountIdForShare(account.getId()));
+    }
+
+    /**
+     * 슬롯 적립액을 account.balance로 옮깁니다. (백그라운드 압축)
+     *
+     * <p>계좌 행을 먼저 잠근 뒤, 적립 중(다른 트랜잭션이 잠금)인 슬롯은 건너뛰고 나머지 슬롯만 비웁니다.
+     * 슬롯을 기다리지 않으므로 입금/이체 트랜잭션과 교착되지 않습니다.
+     *
+     * @return 옮긴 금액
+     */
+    @Transactional
+    public long fold(String accountNumber) {
+        Long accountId = accountRepository.findIdByAccountNumber(accountNumber)
+                .orElseThrow(AccountNotFoundException::new);
+        Account account = accountRepository.findByIdForUpdate(accountId)
+                .orElseThrow(AccountNotFoundException::new);
+        return fold(account);
+    }
+
+    /**
+     * 슬롯 적립액이 남아 있는 계좌 ID 목록
+     */
+    @Transactional(readOnly = true)
+    public List<Long> accountIdsWithPendingCredits() {
+        return accountBalanceSlotRepository.findAccountIdsWithPendingCredits();
+    }
+
+    /**
+     * 스트라이프 대상이 아닌 계좌의 슬롯 적립액을 모두 account.balance로 옮깁니다.
+     *
+     * <p>스트라이프 목록에서 빠졌거나 스트라이핑이 꺼진 계좌는 출금/이체 잔액 확인에 슬롯을 포함하지 않으므로,
+     * 남은 적립액을 옮기지 않으면 잔액이 적게 보입니다. 스트라이프 계좌는 주기 압축이 처리하므로 건너뜁니다.
+     *
+     * @return 옮긴 금액 (스트라이프 계좌이거나 삭제된 계좌면 0)
+     */
+    @Transactional
+    public long foldIfNotStriped(Long accountId) {
+        Account account = accountRepository.findByIdForUpdate(accountId).orElse(null);
+        if (account == null || isStriped(account.getAccountNumber())) {
+            return 0L;
+        }
+        return fold(account);
+    }
+
+    /**
+     * 계좌 행을 잠근 상태에서 잠기지 않은 슬롯을 비우고 balance에 더합니다.
+     */
+    private long fold(Account account) {
+        long folded = 0L;
+        for (AccountBalanceSlot slot : accountBalanceSlotRepository.findUnlockedByAccountIdForUpdate(account.getId())) {
+            folded += slot.drain();
+        }
+
+        if (folded > 0) {
+            account.deposit(folded);
+            accountRepository.save(account);
+        }
+        return folded;
+    }
+
+    /**
+     * 계좌의 잔액 슬롯 행을 미리 생성합니다. (이미 있으면 무시)
+     */
+    public void provision(String accountNumber) {
+        Long accountId = accountRepository.findIdByAccountNumber(accountNumber)
+                .orElseThrow(AccountNotFoundException::new);
+        provision(accountId);
+    }
+
+    private void provision(Long accountId) {
+        try {
+            accountBalanceSlotRepository.createSlotsIfAbsent(accountId, AccountStripingProvider.getSlotCount());
+        } catch (DataIntegrityViolationException e) {
+            // 다른 요청이 동시에 슬롯을 생성함
+        }
+    }
+
+    private int slotOf(Thread thread) {
+        return Math.floorMod(Long.hashCode(thread.threadId()), AccountStripingProvider.getSlotCount());
+    }
+}
@@ -1,12 +1,16 @@
 package com.leesuchan.account.service;
 
+import com.leesuchan.account.config.AccountConcurrencyProvider;
+import com.leesuchan.account.config.TransferLockMode;
 import com.leesuchan.account.domain.exception.AccountNotFoundException;
 import com.leesuchan.account.domain.exception.SameAccountTransferException;
 import com.leesuchan.account.domain.model.Account;
 import com.leesuchan.account.domain.repository.AccountRepository;
 import com.leesuchan.account.service.dto.TransferRequest;
+import com.leesuchan.activity.config.TransactionIdProvider;
 import com.leesuchan.activity.service.ActivityRecordService;
 import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.dao.PessimisticLockingFailureException;
 import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -19,26 +23,54 @@ public class TransferMoneyUseCase {
 
     private final AccountRepository accountRepository;
     private final ActivityRecordService activityRecordService;
+    private final StripedBalanceService stripedBalanceService;
 
     public TransferMoneyUseCase(
             AccountRepository accountRepository,
-            ActivityRecordService activityRecordService
+            ActivityRecordService activityRecordService,
+            StripedBalanceService stripedBalanceService
     ) {
         this.accountRepository = accountRepository;
         this.activityRecordService = activityRecordService;
+        this.stripedBalanceService = stripedBalanceService;
     }
 
     /**
      * 계좌 간 이체를 실행합니다.
      *
+     * <p>락 모드는 AccountConcurrencyProvider 설정을 따릅니다.
+     * 출금 계좌가 스트라이프 계좌면 잔액 슬롯 적립액을 포함한 잔액으로 확인하고,
+     * 입금 계좌가 스트라이프 계좌면 입금 계좌 행은 갱신하지 않고 잔액 슬롯에 적립합니다.
+     * 스트라이프 계좌끼리 반대 방향으로 동시에 이체하면 슬롯 잠금 읽기와 적립이 교착될 수 있어,
+     * 교착으로 롤백된 요청(PessimisticLockingFailureException)도 다시 시도합니다.
+     *
      * @param fromAccountNumber 출금 계좌번호
      * @param toAccountNumber 입금 계좌번호
      * @param amount 이체 금액
      * @return TransferResult (from 계좌, to 계좌, 수수료)
      */
     @Transactional
-    @Retryable(retryFor = OptimisticLockingFailureException.class, maxAttempts = 3)
+    @Retryable(retryFor = {OptimisticLockingFailureException.class, PessimisticLockingFailureException.class}, maxAttempts = 3)
     public TransferResult execute(String fromAccountNumber, String toAccountNumber, Long amount) {
+        if (AccountConcurrencyProvider.getTransferLockMode() == TransferLockMode.PESSIMISTIC) {
+            return executeWithPessimisticLock(fromAccountNumber, toAccountNumber, amount);
+        }
+        return executeWithOptimisticLock(fromAccountNumber, toAccountNumber, amount);
+    }
+
+    /**
+     * DTO를 사용한 이체
+     */
+    @Transactional
+    @Retryable(retryFor = {OptimisticLockingFailureException.class, PessimisticLockingFailureException.class}, maxAttempts = 3)
+    public TransferResult execute(TransferRequest request) {
+        return execute(request.fromAccountNumber(), request.toAccountNumber(), request.amount());
+    }
+
+    /**
+     * 낙관적 락 이체 (@Version 충돌 시 재시도)
+     */
+    private TransferResult executeWithOptimisticLock(String fromAccountNumber, String toAccountNumber, Long amount) {
         // 1. 두 계좌 조회
         Account from = accountRepository.findByAccountNumber(fromAccountNumber)
                 .orElseThrow(AccountNotFoundException::new);
@@ -50,52 +82,94 @@ public class TransferMoneyUseCase {
             throw new SameAccountTransferException();
         }
 
-        // 3. 이체 수행 및 수수료 수신
-        long fee = from.transfer(to, amount);
+        return transfer(from, to, amount, false);
+    }
+
+    /**
+     * 비관적 락 이체 (SELECT ... FOR UPDATE)
+     *
+     * <p>ID만 먼저 조회한 뒤 항상 ID 오름차순으로 락을 획득하므로,
+     * A→B / B→A 이체가 동시에 들어와도 데드락 없이 대기열로 처리됩니다.
+     */
+    private TransferResult executeWithPessimisticLock(String fromAccountNumber, String toAccountNumber, Long amount) {
+        // 1. 두 계좌 ID 조회 (락 없음)
+        Long fromId = accountRepository.findIdByAccountNumber(fromAccountNumber)
+                .orElseThrow(AccountNotFoundException::new);
+        Long toId = accountRepository.findIdByAccountNumber(toAccountNumber)
+                .orElseThrow(AccountNotFoundException::new);
+
+        // 2. 동일 계좌 체크
+        if (fromId.equals(toId)) {
+            throw new SameAccountTransferException();
+        }
+
+        // 3. 스트라이프 입금 계좌는 행을 갱신하지 않으므로 출금 계좌만 잠금
+        if (stripedBalanceService.isStriped(toAccountNumber)) {
+            Account from = accountRepository.findByIdForUpdate(fromId)
+                    .orElseThrow(AccountNotFoundException::new);
+            Account to = accountRepository.findById(toId)
+                    .orElseThrow(AccountNotFoundException::new);
+            return transfer(from, to, amount, true);
+        }
+
+        // 4. ID 오름차순으로 락 획득
+        Account first = accountRepository.findByIdForUpdate(Math.min(fromId, toId))
+                .orElseThrow(AccountNotFoundException::new);
+        Account second = accountRepository.findByIdForUpdate(Math.max(fromId, toId))
+                .orElseThrow(AccountNotFoundException::new);
+
+        Account from = fromId < toId ? first : second;
+        Account to = fromId < toId ? second : first;
+
+        return transfer(from, to, amount, true);
+    }
+
+    /**
+     * 이체 수행, 저장 및 거래내역 기록
+     *
+     * @param locked 출금 계좌를 FOR UPDATE로 잠갔는지 여부 (잠갔으면 슬롯 합계도 잠금 읽기)
+     */
+    private TransferResult transfer(Account from, Account to, Long amount, boolean locked) {
+        if (stripedBalanceService.isStriped(from.getAccountNumber())) {
+            if (locked) {
+                stripedBalanceService.showPendingCreditsLocked(from);
+            } else {
+                stripedBalanceService.showPendingCredits(from);
+            }
+        }
+
+        long fee;
+        if (stripedBalanceService.isStriped(to.getAccountNumber())) {
+            // 출금만 수행하고 입금액은 입금 계좌의 잔액 슬롯에 적립
+            fee = from.transferOut(amount);
+            accountRepository.save(from);
+            stripedBalanceService.credit(to.getId(), amount);
+            to.showPendingCredits(stripedBalanceService.pendingCredits(to.getId()));
+        } else {
+            // 이체 수행 및 수수료 수신
+            fee = from.transfer(to, amount);
 
-        // 4. 저장
-        accountRepository.save(from);
-        accountRepository.save(to);
+            // 저장
+            accountRepository.save(from);
+            accountRepository.save(to);
+        }
 
-        // 5. Activity 기록 (2개)
-        String transactionId = generateTransactionId();
-        activityRecordService.recordTransferOut(
+        // Activity 기록 (출금/입금 쌍을 하나의 배치로)
+        activityRecordService.recordTransfer(
                 from.getId(),
                 to.getId(),
+                from.getAccountNumber(),
                 to.getAccountNumber(),
                 amount,
                 fee,
-                from.getBalance(),
-                transactionId
-        );
-        activityRecordService.recordTransferIn(
-                to.getId(),
-                from.getId(),
-                from.getAccountNumber(),
-                amount,
-                to.getBalance(),
-                transactionId
+                from.getTotalBalance(),
+                to.getTotalBalance(),
+                TransactionIdProvider.nextId()
         );
 
         return new TransferResult(from, to, fee);
     }
 
-    /**
-     * DTO를 사용한 이체
-     */
-    @Transactional
-    @Retryable(retryFor = OptimisticLockingFailureException.class, maxAttempts = 3)
-    public TransferResult execute(TransferRequest request) {
-        return execute(request.fromAccountNumber(), request.toAccountNumber(), request.amount());
-    }
-
-    /**
-     * 트랜잭션 ID 생성
-     */
-    private String generateTransactionId() {
-        return "TX_" + System.currentTimeMillis();
-    }
-
     /**
      * 이체 결과
      */
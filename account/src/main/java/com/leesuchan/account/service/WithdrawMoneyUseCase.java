@@ -1,6 +1,11 @@
 package com.leesuchan.account.service;
 
+import com.leesuchan.account.config.AccountConcurrencyProvider;
+import com.leesuchan.account.config.AccountLimitProvider;
+import com.leesuchan.account.config.WithdrawMode;
 import com.leesuchan.account.domain.exception.AccountNotFoundException;
+import com.leesuchan.account.domain.exception.DailyWithdrawLimitExceededException;
+import com.leesuchan.account.domain.exception.InsufficientBalanceException;
 import com.leesuchan.account.domain.model.Account;
 import com.leesuchan.account.domain.repository.AccountRepository;
 import com.leesuchan.account.service.dto.WithdrawRequest;
@@ -10,6 +15,9 @@ import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
 /**
  * 출금 유스케이스
  */
@@ -18,18 +26,24 @@ public class WithdrawMoneyUseCase {
 
     private final AccountRepository accountRepository;
     private final ActivityRecordService activityRecordService;
+    private final StripedBalanceService stripedBalanceService;
 
     public WithdrawMoneyUseCase(
             AccountRepository accountRepository,
-            ActivityRecordService activityRecordService
+            ActivityRecordService activityRecordService,
+            StripedBalanceService stripedBalanceService
     ) {
         this.accountRepository = accountRepository;
         this.activityRecordService = activityRecordService;
+        this.stripedBalanceService = stripedBalanceService;
     }
 
     /**
      * 계좌에서 금액을 출금합니다.
      *
+     * <p>출금 방식은 AccountConcurrencyProvider 설정을 따릅니다.
+     * 스트라이프 계좌는 잔액 슬롯 적립액을 포함한 잔액으로 확인해야 하므로 항상 엔티티 방식으로 출금합니다.
+     *
      * @param accountNumber 계좌번호
      * @param amount 출금액
      * @return 출금된 계좌
@@ -38,8 +52,16 @@ public class WithdrawMoneyUseCase {
     @Transactional
     @Retryable(retryFor = OptimisticLockingFailureException.class, maxAttempts = 3)
     public Account execute(String accountNumber, Long amount) {
+        boolean striped = stripedBalanceService.isStriped(accountNumber);
+        if (!striped && AccountConcurrencyProvider.getWithdrawMode() == WithdrawMode.CONDITIONAL) {
+            return withdrawConditionally(accountNumber, amount);
+        }
+
         Account account = accountRepository.findByAccountNumber(accountNumber)
                 .orElseThrow(AccountNotFoundException::new);
+        if (striped) {
+            stripedBalanceService.showPendingCredits(account);
+        }
 
         account.withdraw(amount);
         accountRepository.save(account);
@@ -47,7 +69,7 @@ public class WithdrawMoneyUseCase {
         activityRecordService.recordWithdraw(
                 account.getId(),
                 amount,
-                account.getBalance()
+                account.getTotalBalance()
         );
 
         return account;
@@ -61,4 +83,39 @@ public class WithdrawMoneyUseCase {
     public Account execute(WithdrawRequest request) {
         return execute(request.accountNumber(), request.amount());
     }
+
+    /**
+     * 잔액/일일 한도 조건부 UPDATE 한 번으로 출금
+     *
+     * <p>갱신된 행이 없으면 계좌를 다시 읽어 실패 원인(계좌 없음, 잔액 부족, 한도 초과)을
+     * 엔티티 방식과 같은 순서로 판별합니다.
+     */
+    private Account withdrawConditionally(String accountNumber, Long amount) {
+        Account.validateAmount(amount);
+
+        int updated = accountRepository.decreaseBalanceWithinDailyWithdrawLimit(
+                accountNumber,
+                amount,
+                AccountLimitProvider.getDailyWithdrawLimit(),
+                LocalDate.now(),
+                LocalDateTime.now()
+        );
+
+        Account account = accountRepository.findByAccountNumber(accountNumber)
+                .orElseThrow(AccountNotFoundException::new);
+        if (updated == 0) {
+            if (account.getBalance() < amount) {
+                throw new InsufficientBalanceException();
+            }
+            throw new DailyWithdrawLimitExceededException();
+        }
+
+        activityRecordService.recordWithdraw(
+                account.getId(),
+                amount,
+                account.getBalance()
+        );
+
+        return account;
+    }
 }
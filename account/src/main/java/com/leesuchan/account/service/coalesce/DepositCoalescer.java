@@ -0,0 +1,255 @@
+package com.leesuchan.account.service.coalesce;
+
+import com.leesuchan.account.domain.exception.AccountNotFoundException;
+import com.leesuchan.account.domain.exception.DepositBatchFailedException;
+import com.leesuchan.account.domain.model.Account;
+import com.leesuchan.account.domain.repository.AccountRepository;
+import com.leesuchan.activity.domain.model.Activity;
+import com.leesuchan.activity.service.ActivityRecordService;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 같은 계좌로 동시에 들어온 입금을 묶어 한 번에 반영하는 그룹 커밋 처리기
+ *
+ * <p>계좌별로 처음 도착한 요청(리더)이 짧은 대기 시간(window) 동안, 또는 최대 건수가 찰 때까지
+ * 뒤이어 도착한 입금(팔로워)을 모은 뒤 리더만 트랜잭션을 열어
+ * 잔액 UPDATE 1회 + 거래내역 배치 INSERT 1회로 반영합니다.
+ * 팔로워는 트랜잭션 없이(커넥션을 잡지 않고) 기다렸다가 리더의 트랜잭션이 커밋된 뒤에 응답합니다.
+ * 리더가 반영 중 예외를 던지면 같은 예외로, 리더 트랜잭션이 롤백되면 다시 시도할 수 있는
+ * {@link DepositBatchFailedException#rolledBack()}으로 실패하며, followerTimeout 안에 결과를 받지 못하면
+ * 반영 여부를 알 수 없는 {@link DepositBatchFailedException#timedOut()}으로 실패합니다.
+ *
+ * <p>거래내역의 balance_after는 묶음 안의 도착 순서대로 누적한 잔액이므로 요청마다 다릅니다.
+ * 호출 측은 트랜잭션 밖에서 호출해야 합니다. (호출 측 트랜잭션 안에서 호출하면 팔로워가 커넥션을 점유한 채 대기)
+ *
+ * <p>묶음 상태는 synchronized 대신 ReentrantLock으로 보호하여 가상 스레드에서도 캐리어 스레드를 고정(pinning)하지 않습니다.
+ */
+public class DepositCoalescer {
+
+    private final AccountRepository accountRepository;
+    private final ActivityRecordService activityRecordService;
+    private final TransactionTemplate transactionTemplate;
+    private final long windowNanos;
+    private final int maxBatchSize;
+    private final long followerTimeoutNanos;
+
+    private final ConcurrentMap<String, Batch> openBatches = new ConcurrentHashMap<>();
+
+    public DepositCoalescer(
+            AccountRepository accountRepository,
+            ActivityRecordService activityRecordService,
+            PlatformTransactionManager transactionManager,
+            long windowMicros,
+            int maxBatchSize,
+            long followerTimeoutMillis
+    ) {
+        if (windowMicros < 0 || maxBatchSize < 1 || followerTimeoutMillis < 1) {
+            throw new IllegalArgumentException("대기 시간은 0 이상, 최대 묶음 건수와 팔로워 대기 시간은 1 이상이어야 합니다.");
+        }
+        this.accountRepository = accountRepository;
+        this.activityRecordService = activityRecordService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.windowNanos = TimeUnit.MICROSECONDS.toNanos(windowMicros);
+        this.maxBatchSize = maxBatchSize;
+        this.followerTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(followerTimeoutMillis);
+    }
+
+    /**
+     * 입금을 묶음에 넣고, 묶음이 커밋될 때까지 기다립니다. 리더만 트랜잭션을 엽니다.
+     *
+     * @return 입금된 계좌 (같은 묶음의 요청은 묶음 반영 후 잔액을 가진 같은 계좌를 받음)
+     * @throws AccountNotFoundException     계좌 미조회 시 (같은 묶음의 요청 모두)
+     * @throws DepositBatchFailedException 리더 트랜잭션 롤백 또는 팔로워 대기 시간 초과 시
+     */
+    public Account deposit(String accountNumber, long amount) {
+        Account.validateAmount(amount);
+
+        Batch batch = join(accountNumber, amount);
+        if (batch.leader != Thread.currentThread()) {
+            return batch.await(followerTimeoutNanos);
+        }
+
+        batch.awaitFollowers(windowNanos);
+        openBatches.remove(accountNumber, batch);
+
+        try {
+            return transactionTemplate.execute(status -> {
+                Account account = apply(accountNumber, batch.amounts());
+                completeAfterCommit(batch, account);
+                return account;
+            });
+        } catch (RuntimeException e) {
+            batch.fail(e);
+            throw e;
+        }
+    }
+
+    /**
+     * 열린 묶음에 입금을 추가합니다. 열린 묶음이 없거나 가득 찼으면 호출 스레드가 리더인 새 묶음을 엽니다.
+     */
+    private Batch join(String accountNumber, long amount) {
+        Batch[] joined = new Batch[1];
+        openBatches.compute(accountNumber, (key, open) -> {
+            if (open != null && open.add(amount)) {
+                joined[0] = open;
+                return open;
+            }
+            joined[0] = new Batch(Thread.currentThread(), amount, maxBatchSize);
+            return joined[0];
+        });
+        return joined[0];
+    }
+
+    /**
+     * 잔액 UPDATE 1회 후 갱신된 잔액에서 거꾸로 계산해 요청별 balance_after를 기록합니다.
+     *
+     * <p>UPDATE가 행 락을 잡고 있으므로 (갱신 후 잔액 - 묶음 합계)는 묶음 반영 직전 잔액입니다.
+     */
+    private Account apply(String accountNumber, List<Long> amounts) {
+        long total = amounts.stream().mapToLong(Long::longValue).sum();
+
+        int updated = accountRepository.increaseBalance(accountNumber, total, LocalDateTime.now());
+        if (updated == 0) {
+            throw new AccountNotFoundException();
+        }
+
+        Account account = accountRepository.findByAccountNumber(accountNumber)
+                .orElseThrow(AccountNotFoundException::new);
+
+        long balance = account.getBalance() - total;
+        List<Activity> activities = new ArrayList<>(amounts.size());
+        for (Long amount : amounts) {
+            balance += amount;
+            activities.add(Activity.deposit(account.getId(), amount, balance));
+        }
+        activityRecordService.recordAll(activities);
+
+        return account;
+    }
+
+    private void completeAfterCommit(Batch batch, Account account) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            batch.complete(account);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    batch.complete(account);
+                } else {
+                    batch.fail(DepositBatchFailedException.rolledBack());
+                }
+            }
+        });
+    }
+
+    /**
+     * 한 계좌의 입금 묶음
+     */
+    private static final class Batch {
+
+        private final Thread leader;
+        private final int maxSize;
+        private final ReentrantLock lock = new ReentrantLock();
+        private final List<Long> amounts = new ArrayList<>();
+        private final CompletableFuture<Account> result = new CompletableFuture<>();
+
+        private Batch(Thread leader, long leaderAmount, int maxSize) {
+            this.leader = leader;
+            this.maxSize = maxSize;
+            this.amounts.add(leaderAmount);
+        }
+
+        /**
+         * @return 가득 차서 추가하지 못하면 false
+         */
+        private boolean add(long amount) {
+            lock.lock();
+            try {
+                if (amounts.size() >= maxSize) {
+                    return false;
+                }
+                amounts.add(amount);
+                if (amounts.size() == maxSize) {
+                    LockSupport.unpark(leader);
+                }
+                return true;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private boolean isFull() {
+            lock.lock();
+            try {
+                return amounts.size() >= maxSize;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private List<Long> amounts() {
+            lock.lock();
+            try {
+                return List.copyOf(amounts);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * 대기 시간이 지나거나 묶음이 가득 찰 때까지 리더를 멈춥니다.
+         */
+        private void awaitFollowers(long windowNanos) {
+            long deadline = System.nanoTime() + windowNanos;
+            long remaining = windowNanos;
+            while (remaining > 0 && !isFull()) {
+                LockSupport.parkNanos(this, remaining);
+                remaining = deadline - System.nanoTime();
+            }
+        }
+
+        /**
+         * 리더 트랜잭션의 결과를 기다립니다. 시간 초과 시 이 요청의 반영 여부는 리더 트랜잭션 결과에 따릅니다.
+         */
+        private Account await(long timeoutNanos) {
+            try {
+                return result.get(timeoutNanos, TimeUnit.NANOSECONDS);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw new IllegalStateException(e.getCause());
+            } catch (TimeoutException e) {
+                throw DepositBatchFailedException.timedOut();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw DepositBatchFailedException.timedOut();
+            }
+        }
+
+        private void complete(Account account) {
+            result.complete(account);
+        }
+
+        private void fail(RuntimeException e) {
+            result.completeExceptionally(e);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.leesuchan.account.service.dispatch;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * 계좌 잔액 변경 작업 디스패처
+ *
+ * <p>입금/출금/이체 유스케이스 호출을 어느 스레드에서 실행할지 결정합니다.
+ * 작업 결과(또는 예외)는 CompletableFuture로 전달됩니다.
+ */
+public interface AccountOperationDispatcher {
+
+    /**
+     * 한 계좌에 대한 작업을 실행합니다. (입금/출금)
+     *
+     * @param accountNumber 대상 계좌번호
+     * @param operation 실행할 작업
+     * @return 작업 결과
+     */
+    <T> CompletableFuture<T> dispatch(String accountNumber, Supplier<T> operation);
+
+    /**
+     * 두 계좌에 걸친 작업을 실행합니다. (이체)
+     *
+     * @param fromAccountNumber 출금 계좌번호
+     * @param toAccountNumber 입금 계좌번호
+     * @param operation 실행할 작업
+     * @return 작업 결과
+     */
+    <T> CompletableFuture<T> dispatch(String fromAccountNumber, String toAccountNumber, Supplier<T> operation);
+}
@@ -0,0 +1,30 @@
+package com.leesuchan.account.service.dispatch;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * 호출 스레드에서 바로 실행하는 디스패처 (기본값)
+ *
+ * <p>동시 요청 간 충돌은 유스케이스의 락 모드와 @Retryable 재시도로 처리됩니다.
+ */
+public class DirectAccountOperationDispatcher implements AccountOperationDispatcher {
+
+    @Override
+    public <T> CompletableFuture<T> dispatch(String accountNumber, Supplier<T> operation) {
+        return run(operation);
+    }
+
+    @Override
+    public <T> CompletableFuture<T> dispatch(String fromAccountNumber, String toAccountNumber, Supplier<T> operation) {
+        return run(operation);
+    }
+
+    private <T> CompletableFuture<T> run(Supplier<T> operation) {
+        try {
+            return CompletableFuture.completedFuture(operation.get());
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+}
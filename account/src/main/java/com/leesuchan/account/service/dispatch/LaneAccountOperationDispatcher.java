@@ -0,0 +1,178 @@
+package com.leesuchan.account.service.dispatch;
+
+import com.leesuchan.account.domain.exception.AccountNotFoundException;
+import com.leesuchan.account.domain.repository.AccountRepository;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 계좌별 단일 작성자(single-writer) 레인 디스패처
+ *
+ * <p>계좌 ID를 고정된 개수의 단일 스레드 레인에 해시하여, 같은 계좌에 대한 작업은 항상 같은 레인에서
+ * 순서대로 실행됩니다. 같은 계좌의 트랜잭션이 동시에 실행되지 않으므로 낙관적 락 충돌과 재시도가 발생하지 않습니다.
+ *
+ * <p>두 계좌가 서로 다른 레인에 있는 이체는 레인 번호가 작은 레인에서 실행하며,
+ * 실행 전 번호가 큰 레인을 대기(park)시킵니다. 항상 번호 오름차순으로 레인을 점유하므로 레인 간 교착이 없습니다.
+ *
+ * <p>한 인스턴스 안에서만 직렬화되므로, 여러 인스턴스를 띄우는 경우 DB 수준의 락 모드는 그대로 유지됩니다.
+ *
+ * <p>가상 스레드 레인을 사용하면 레인이 JDBC 응답을 기다리는 동안 캐리어 스레드를 다른 요청에 양보합니다.
+ * (레인당 실행 스레드는 여전히 1개이므로 계좌별 직렬 실행은 같음)
+ */
+public class LaneAccountOperationDispatcher implements AccountOperationDispatcher {
+
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 30L;
+
+    private final AccountRepository accountRepository;
+    private final ThreadPoolExecutor[] lanes;
+
+    /**
+     * @param accountRepository 계좌번호 → ID 조회용 (캐시 데코레이터 권장)
+     * @param laneCount 레인 수
+     * @param queueCapacity 레인별 최대 대기 작업 수 (초과 시 RejectedExecutionException)
+     */
+    public LaneAccountOperationDispatcher(AccountRepository accountRepository, int laneCount, int queueCapacity) {
+        this(accountRepository, laneCount, queueCapacity, false);
+    }
+
+    /**
+     * @param accountRepository 계좌번호 → ID 조회용 (캐시 데코레이터 권장)
+     * @param laneCount 레인 수
+     * @param queueCapacity 레인별 최대 대기 작업 수 (초과 시 RejectedExecutionException)
+     * @param virtualThreads 레인 스레드를 가상 스레드로 만들지 여부
+     */
+    public LaneAccountOperationDispatcher(
+            AccountRepository accountRepository,
+            int laneCount,
+            int queueCapacity,
+            boolean virtualThreads
+    ) {
+        if (laneCount <= 0) {
+            throw new IllegalArgumentException("레인 수는 0보다 커야 합니다.");
+        }
+        if (queueCapacity <= 0) {
+            throw new IllegalArgumentException("레인 대기열 크기는 0보다 커야 합니다.");
+        }
+
+        this.accountRepository = accountRepository;
+        this.lanes = new ThreadPoolExecutor[laneCount];
+        for (int i = 0; i < laneCount; i++) {
+            this.lanes[i] = newLane(i, queueCapacity, virtualThreads);
+        }
+    }
+
+    @Override
+    public <T> CompletableFuture<T> dispatch(String accountNumber, Supplier<T> operation) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        try {
+            submit(laneOf(accountNumber), result, operation);
+        } catch (RuntimeException e) {
+            result.completeExceptionally(e);
+        }
+        return result;
+    }
+
+    @Override
+    public <T> CompletableFuture<T> dispatch(String fromAccountNumber, String toAccountNumber, Supplier<T> operation) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        try {
+            int fromLane = laneOf(fromAccountNumber);
+            int toLane = laneOf(toAccountNumber);
+
+            if (fromLane == toLane) {
+                submit(fromLane, result, operation);
+            } else {
+                submitAcrossLanes(Math.min(fromLane, toLane), Math.max(fromLane, toLane), result, operation);
+            }
+        } catch (RuntimeException e) {
+            result.completeExceptionally(e);
+        }
+        return result;
+    }
+
+    /**
+     * 레인 수
+     */
+    public int getLaneCount() {
+        return lanes.length;
+    }
+
+    /**
+     * 대기 중인 작업을 모두 처리한 뒤 레인 스레드를 종료합니다.
+     */
+    public void shutdown() {
+        for (ThreadPoolExecutor lane : lanes) {
+            lane.shutdown();
+        }
+        for (ThreadPoolExecutor lane : lanes) {
+            try {
+                lane.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * 계좌번호가 속한 레인 번호
+     */
+    int laneOf(String accountNumber) {
+        Long accountId = accountRepository.findIdByAccountNumber(accountNumber)
+                .orElseThrow(AccountNotFoundException::new);
+        return Math.floorMod(Long.hashCode(accountId), lanes.length);
+    }
+
+    private <T> void submit(int lane, CompletableFuture<T> result, Supplier<T> operation) {
+        lanes[lane].execute(() -> complete(result, operation));
+    }
+
+    /**
+     * 두 레인에 걸친 작업: 번호가 작은 레인(lower)에서 번호가 큰 레인(upper)을 대기시킨 뒤 실행
+     */
+    private <T> void submitAcrossLanes(int lower, int upper, CompletableFuture<T> result, Supplier<T> operation) {
+        lanes[lower].execute(() -> {
+            CompletableFuture<Void> parked = new CompletableFuture<>();
+            CompletableFuture<Void> released = new CompletableFuture<>();
+            try {
+                lanes[upper].execute(() -> {
+                    parked.complete(null);
+                    released.join();
+                });
+            } catch (RejectedExecutionException e) {
+                result.completeExceptionally(e);
+                return;
+            }
+
+            try {
+                parked.join();
+                complete(result, operation);
+            } finally {
+                released.complete(null);
+            }
+        });
+    }
+
+    private <T> void complete(CompletableFuture<T> result, Supplier<T> operation) {
+        try {
+            result.complete(operation.get());
+        } catch (Throwable t) {
+            result.completeExceptionally(t);
+        }
+    }
+
+    private ThreadPoolExecutor newLane(int index, int queueCapacity, boolean virtualThreads) {
+        Thread.Builder builder = virtualThreads ? Thread.ofVirtual() : Thread.ofPlatform().daemon(true);
+        return new ThreadPoolExecutor(
+                1, 1,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                builder.name("account-lane-" + index + "-", 1).factory()
+        );
+    }
+}
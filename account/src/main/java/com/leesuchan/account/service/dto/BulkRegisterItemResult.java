@@ -0,0 +1,27 @@
+package com.leesuchan.account.service.dto;
+
+import com.leesuchan.common.domain.error.ErrorCode;
+
+/**
+ * 계좌 일괄 등록 실패 항목
+ *
+ * @param index 요청 목록에서의 순번 (0부터)
+ * @param accountNumber 계좌번호
+ * @param errorCode 실패 코드
+ * @param message 실패 메시지
+ */
+public record BulkRegisterItemResult(
+        int index,
+        String accountNumber,
+        String errorCode,
+        String message
+) {
+
+    public static BulkRegisterItemResult failed(int index, String accountNumber, ErrorCode errorCode) {
+        return new BulkRegisterItemResult(index, accountNumber, errorCode.getCode(), errorCode.getMessage());
+    }
+
+    public static BulkRegisterItemResult failed(int index, String accountNumber, String errorCode, String message) {
+        return new BulkRegisterItemResult(index, accountNumber, errorCode, message);
+    }
+}
@@ -0,0 +1,33 @@
+package com.leesuchan.account.service.dto;
+
+import com.leesuchan.common.domain.error.ErrorCode;
+
+/**
+ * 다건 이체 항목별 처리 결과
+ *
+ * @param index 요청 목록에서의 순번 (0부터)
+ * @param success 성공 여부
+ * @param fee 수수료 (실패 시 null)
+ * @param errorCode 실패 코드 (성공 시 null)
+ * @param message 실패 메시지 (성공 시 null)
+ */
+public record BulkTransferItemResult(
+        int index,
+        boolean success,
+        Long fee,
+        String errorCode,
+        String message
+) {
+
+    public static BulkTransferItemResult succeeded(int index, long fee) {
+        return new BulkTransferItemResult(index, true, fee, null, null);
+    }
+
+    public static BulkTransferItemResult failed(int index, ErrorCode errorCode) {
+        return new BulkTransferItemResult(index, false, null, errorCode.getCode(), errorCode.getMessage());
+    }
+
+    public static BulkTransferItemResult failed(int index, String errorCode, String message) {
+        return new BulkTransferItemResult(index, false, null, errorCode, message);
+    }
+}
@@ -1,13 +1,18 @@
 package com.leesuchan.account.domain.model;
 
+import com.leesuchan.account.config.AccountLimitProvider;
+import com.leesuchan.account.config.AccountLimitSnapshot;
 import com.leesuchan.account.domain.exception.DailyTransferLimitExceededException;
 import com.leesuchan.account.domain.exception.DailyWithdrawLimitExceededException;
 import com.leesuchan.account.domain.exception.InvalidAccountNameException;
 import com.leesuchan.account.domain.exception.InsufficientBalanceException;
+import com.leesuchan.account.domain.model.vo.FeeSchedule;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.Map;
+
 import static org.assertj.core.api.Assertions.*;
 
 @DisplayName("Account 엔티티 테스트")
@@ -204,4 +209,52 @@ class AccountTest {
         assertThat(from.getBalance()).isEqualTo(899_000L); // 1,000,000 - 100,000 - 1,000(수수료)
         assertThat(to.getBalance()).isEqualTo(100_000L);
     }
+
+    @Test
+    @DisplayName("한도 등급이 있는 계좌는 발행된 스냅샷의 등급 한도를 적용한다")
+    void limit_tier_from_snapshot() {
+        // given
+        AccountLimitProvider.publish(AccountLimitSnapshot.of(
+                1_000_000L, 3_000_000L,
+                Map.of("VIP", new AccountLimitSnapshot.TierLimits(5_000_000L, 10_000_000L)),
+                FeeSchedule.flat(100)
+        ));
+        Account vip = Account.create(accountNumber, "VIP 계좌");
+        vip.changeLimitTier("VIP");
+        vip.deposit(10_000_000L);
+        Account normal = Account.create("0987654321", "일반 계좌");
+        normal.deposit(10_000_000L);
+
+        try {
+            // when
+            vip.withdraw(4_000_000L);
+
+            // then
+            assertThat(vip.getBalance()).isEqualTo(6_000_000L);
+            assertThatThrownBy(() -> vip.withdraw(1_000_001L))
+                    .isInstanceOf(DailyWithdrawLimitExceededException.class);
+            assertThatThrownBy(() -> normal.withdraw(1_000_001L))
+                    .isInstanceOf(DailyWithdrawLimitExceededException.class);
+        } finally {
+            AccountLimitProvider.initialize(1_000_000L, 3_000_000L, FeeSchedule.flat(100));
+        }
+    }
+
+    @Test
+    @DisplayName("모르는 등급이나 DEFAULT 등급이 없는 스냅샷은 기본 한도를 적용하고, DEFAULT 등급은 기본 한도를 덮어쓴다")
+    void default_tier_overrides_configured_limits() {
+        // given
+        AccountLimitSnapshot withoutDefault = AccountLimitSnapshot.of(1_000_000L, 3_000_000L, Map.of(), FeeSchedule.flat(100));
+        AccountLimitSnapshot withDefault = AccountLimitSnapshot.of(
+                1_000_000L, 3_000_000L,
+                Map.of(AccountLimitSnapshot.DEFAULT_TIER, new AccountLimitSnapshot.TierLimits(2_000_000L, 4_000_000L)),
+                FeeSchedule.flat(100)
+        );
+
+        // then
+        assertThat(withoutDefault.dailyWithdrawLimit("UNKNOWN")).isEqualTo(1_000_000L);
+        assertThat(withoutDefault.dailyTransferLimit(null)).isEqualTo(3_000_000L);
+        assertThat(withDefault.dailyWithdrawLimit(null)).isEqualTo(2_000_000L);
+        assertThat(withDefault.dailyTransferLimit("UNKNOWN")).isEqualTo(4_000_000L);
+    }
 }
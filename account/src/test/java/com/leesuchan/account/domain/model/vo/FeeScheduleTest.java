@@ -0,0 +1,157 @@
+package com.leesuchan.account.domain.model.vo;
+
+import com.leesuchan.account.config.FeeMode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("FeeSchedule 테스트")
+class FeeScheduleTest {
+
+    private static final BigInteger SCALE = BigInteger.valueOf(FeeSchedule.BASIS_POINTS_SCALE);
+
+    /**
+     * 0원~: 1%, 100만 원~: 0.5%, 1,000만 원~: 0.25%
+     */
+    private static final List<FeeTier> TIERS = List.of(
+            new FeeTier(0, 100),
+            new FeeTier(1_000_000, 50),
+            new FeeTier(10_000_000, 25)
+    );
+
+    @Test
+    @DisplayName("단일 요율은 정수 연산으로 원 미만을 절사한다 (1% = amount / 100)")
+    void flat_rate_truncates() {
+        FeeSchedule schedule = FeeSchedule.flat(100);
+
+        assertThat(schedule.calculate(0)).isZero();
+        assertThat(schedule.calculate(99)).isZero();
+        assertThat(schedule.calculate(100)).isEqualTo(1);
+        assertThat(schedule.calculate(10_000)).isEqualTo(100);
+        assertThat(schedule.calculate(10_099)).isEqualTo(100);
+        LongStream.rangeClosed(0, 200_000).forEach(amount ->
+                assertThat(schedule.calculate(amount)).isEqualTo(amount / 100));
+    }
+
+    @Test
+    @DisplayName("double 곱셈이 어긋나는 큰 금액도 정확히 계산한다")
+    void flat_rate_exact_on_large_amounts() {
+        FeeSchedule schedule = FeeSchedule.flat(100);
+        long amount = 9_007_199_254_740_993L;  // 2^53 + 1, double로 표현 불가
+
+        assertThat(schedule.calculate(amount)).isEqualTo(amount / 100);
+        assertThat(schedule.calculate(Long.MAX_VALUE)).isEqualTo(Long.MAX_VALUE / 100);
+    }
+
+    @Test
+    @DisplayName("BRACKET: 구간 경계 전후 금액은 속한 구간의 요율을 금액 전체에 적용한다")
+    void bracket_boundaries() {
+        FeeSchedule schedule = FeeSchedule.compile(FeeMode.BRACKET, TIERS, 0, null);
+
+        assertThat(schedule.calculate(999_999)).isEqualTo(9_999);
+        assertThat(schedule.calculate(1_000_000)).isEqualTo(5_000);
+        assertThat(schedule.calculate(1_000_001)).isEqualTo(5_000);
+        assertThat(schedule.calculate(9_999_999)).isEqualTo(49_999);
+        assertThat(schedule.calculate(10_000_000)).isEqualTo(25_000);
+        assertThat(schedule.calculate(10_000_001)).isEqualTo(25_000);
+    }
+
+    @Test
+    @DisplayName("MARGINAL: 구간 경계 전후 금액은 구간별 금액에 각 요율을 적용해 합산한다")
+    void marginal_boundaries() {
+        FeeSchedule schedule = FeeSchedule.compile(FeeMode.MARGINAL, TIERS, 0, null);
+
+        assertThat(schedule.calculate(999_999)).isEqualTo(9_999);
+        assertThat(schedule.calculate(1_000_000)).isEqualTo(10_000);
+        assertThat(schedule.calculate(1_000_001)).isEqualTo(10_000);
+        assertThat(schedule.calculate(1_000_200)).isEqualTo(10_001);
+        assertThat(schedule.calculate(10_000_000)).isEqualTo(10_000 + 45_000);
+        assertThat(schedule.calculate(10_000_400)).isEqualTo(10_000 + 45_000 + 1);
+    }
+
+    @Test
+    @DisplayName("모든 구간 경계 ±2원과 구간 내부 금액이 정수 기준 계산과 일치한다")
+    void matches_reference_around_every_boundary() {
+        List<FeeTier> tiers = List.of(
+                new FeeTier(0, 37),
+                new FeeTier(12_345, 1),
+                new FeeTier(50_000, 9_999),
+                new FeeTier(50_001, 0),
+                new FeeTier(1_000_003, 10_000)
+        );
+        for (FeeMode mode : FeeMode.values()) {
+            FeeSchedule schedule = FeeSchedule.compile(mode, tiers, 0, null);
+            for (FeeTier tier : tiers) {
+                for (long amount = Math.max(0, tier.fromAmount() - 2); amount <= tier.fromAmount() + 2; amount++) {
+                    assertThat(schedule.calculate(amount)).as("%s %d", mode, amount).isEqualTo(reference(mode, tiers, amount));
+                }
+            }
+            for (long amount = 0; amount <= 1_100_000; amount += 7) {
+                assertThat(schedule.calculate(amount)).as("%s %d", mode, amount).isEqualTo(reference(mode, tiers, amount));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("최소/최대 수수료를 적용한다")
+    void min_max_caps() {
+        FeeSchedule schedule = FeeSchedule.compile(FeeMode.BRACKET, List.of(new FeeTier(0, 100)), 500, 10_000L);
+
+        assertThat(schedule.calculate(1)).isEqualTo(500);
+        assertThat(schedule.calculate(49_999)).isEqualTo(500);
+        assertThat(schedule.calculate(50_000)).isEqualTo(500);
+        assertThat(schedule.calculate(50_100)).isEqualTo(501);
+        assertThat(schedule.calculate(1_000_000)).isEqualTo(10_000);
+        assertThat(schedule.calculate(1_000_100)).isEqualTo(10_000);
+    }
+
+    @Test
+    @DisplayName("구간 입력 순서와 관계없이 시작 금액 순으로 컴파일한다")
+    void tiers_sorted_on_compile() {
+        FeeSchedule schedule = FeeSchedule.compile(FeeMode.BRACKET, List.of(TIERS.get(2), TIERS.get(0), TIERS.get(1)), 0, null);
+
+        assertThat(schedule.calculate(2_000_000)).isEqualTo(10_000);
+    }
+
+    @Test
+    @DisplayName("잘못된 수수료표는 컴파일 시 예외가 발생한다")
+    void invalid_schedule_throws_exception() {
+        assertThatThrownBy(() -> FeeSchedule.compile(FeeMode.BRACKET, List.of(), 0, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> FeeSchedule.compile(FeeMode.BRACKET, List.of(new FeeTier(100, 10)), 0, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> FeeSchedule.compile(FeeMode.BRACKET, List.of(new FeeTier(0, 10), new FeeTier(0, 20)), 0, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> FeeSchedule.compile(FeeMode.BRACKET, List.of(new FeeTier(0, 10_001)), 0, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> FeeSchedule.compile(FeeMode.BRACKET, List.of(new FeeTier(0, -1)), 0, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> FeeSchedule.compile(FeeMode.BRACKET, List.of(new FeeTier(0, 10)), 100, 99L))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /**
+     * BigInteger 기준 계산 (절사)
+     */
+    private static long reference(FeeMode mode, List<FeeTier> tiers, long amount) {
+        BigInteger scaled = BigInteger.ZERO;
+        for (int i = 0; i < tiers.size(); i++) {
+            long from = tiers.get(i).fromAmount();
+            long to = i + 1 < tiers.size() ? tiers.get(i + 1).fromAmount() : Long.MAX_VALUE;
+            BigInteger rate = BigInteger.valueOf(tiers.get(i).basisPoints());
+            if (mode == FeeMode.BRACKET) {
+                if (amount >= from && amount < to) {
+                    scaled = BigInteger.valueOf(amount).multiply(rate);
+                }
+            } else if (amount > from) {
+                scaled = scaled.add(BigInteger.valueOf(Math.min(amount, to) - from).multiply(rate));
+            }
+        }
+        return scaled.divide(SCALE).longValueExact();
+    }
+}
@@ -0,0 +1,91 @@
+package com.leesuchan.account.service;
+
+import com.leesuchan.account.domain.model.Account;
+import com.leesuchan.account.domain.repository.AccountRepository;
+import com.leesuchan.account.service.BulkRegisterAccountUseCase.BulkRegisterResult;
+import com.leesuchan.account.service.dto.BulkRegisterItemResult;
+import com.leesuchan.account.service.dto.RegisterAccountRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BulkRegisterAccountUseCase 테스트")
+class BulkRegisterAccountUseCaseTest {
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    private BulkRegisterAccountUseCase bulkRegisterAccountUseCase;
+
+    @BeforeEach
+    void setUp() {
+        bulkRegisterAccountUseCase = new BulkRegisterAccountUseCase(accountRepository);
+    }
+
+    @Test
+    @DisplayName("검증 실패와 요청 내 중복은 메모리에서 걸러내고, 유니크 제약에 걸린 계좌번호는 행 단위 중복으로 응답한다")
+    void register_batch_reports_failures_per_row() {
+        // given
+        List<RegisterAccountRequest> requests = List.of(
+                new RegisterAccountRequest("1000000001", "홍길동"),
+                new RegisterAccountRequest("1000000002", ""),          // 계좌명 없음
+                new RegisterAccountRequest("1000000001", "홍길동 중복"), // 요청 내 중복
+                new RegisterAccountRequest("12", "짧은 계좌번호"),       // 계좌번호 길이 오류
+                new RegisterAccountRequest("1000000003", "이미 있는 계좌"),
+                new RegisterAccountRequest("1000000004", "김철수")
+        );
+        when(accountRepository.insertIgnoringDuplicates(anyList())).thenReturn(Set.of("1000000001", "1000000004"));
+
+        // when
+        BulkRegisterResult result = bulkRegisterAccountUseCase.execute(requests);
+
+        // then
+        assertThat(result.requested()).isEqualTo(6);
+        assertThat(result.registered()).isEqualTo(2);
+        assertThat(result.failures()).extracting(BulkRegisterItemResult::index).containsExactly(1, 2, 3, 4);
+        assertThat(result.failures()).extracting(BulkRegisterItemResult::errorCode)
+                .containsExactly("ACCOUNT_003", "ACCOUNT_002", "INVALID_ARGUMENT", "ACCOUNT_002");
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Account>> captor = ArgumentCaptor.forClass(List.class);
+        verify(accountRepository).insertIgnoringDuplicates(captor.capture());
+        assertThat(captor.getValue()).extracting(Account::getAccountNumber)
+                .containsExactly("1000000001", "1000000003", "1000000004");
+        verify(accountRepository, never()).existsByAccountNumber(any());
+    }
+
+    @Test
+    @DisplayName("청크 크기를 넘으면 청크마다 한 번씩 일괄 INSERT 한다")
+    void register_batch_in_chunks() {
+        // given
+        int count = BulkRegisterAccountUseCase.CHUNK_SIZE * 2 + 1;
+        List<RegisterAccountRequest> requests = IntStream.range(0, count)
+                .mapToObj(i -> new RegisterAccountRequest("A" + (1_000_000 + i), "계좌 " + i))
+                .toList();
+        when(accountRepository.insertIgnoringDuplicates(anyList())).thenAnswer(invocation -> {
+            List<Account> chunk = invocation.getArgument(0);
+            return Set.copyOf(chunk.stream().map(Account::getAccountNumber).toList());
+        });
+
+        // when
+        BulkRegisterResult result = bulkRegisterAccountUseCase.execute(requests);
+
+        // then
+        assertThat(result.registered()).isEqualTo(count);
+        assertThat(result.failures()).isEmpty();
+        verify(accountRepository, times(3)).insertIgnoringDuplicates(anyList());
+    }
+}
@@ -0,0 +1,119 @@
+package com.leesuchan.account.service;
+
+import com.leesuchan.account.domain.model.Account;
+import com.leesuchan.account.domain.repository.AccountRepository;
+import com.leesuchan.account.service.dto.BulkTransferItemResult;
+import com.leesuchan.account.service.dto.TransferRequest;
+import com.leesuchan.activity.domain.model.Activity;
+import com.leesuchan.activity.service.ActivityRecordService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.lang.reflect.Field;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BulkTransferChunkProcessor 테스트")
+class BulkTransferChunkProcessorTest {
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private ActivityRecordService activityRecordService;
+
+    @Mock
+    private StripedBalanceService stripedBalanceService;
+
+    /**
+     * 테스트용 Account ID 설정
+     */
+    private void setAccountId(Account account, Long id) {
+        try {
+            Field field = Account.class.getDeclaredField("id");
+            field.setAccessible(true);
+            field.set(account, id);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private Account account(Long id, String accountNumber, long balance) {
+        Account account = Account.create(accountNumber, "다건 이체 계좌");
+        if (balance > 0) {
+            account.deposit(balance);
+        }
+        setAccountId(account, id);
+        return account;
+    }
+
+    @Test
+    @DisplayName("청크의 계좌를 한 번에 잠그고, 실패 항목은 건너뛰며 성공 항목의 거래내역만 한 번에 기록한다")
+    void process_chunk_with_per_item_results() {
+        // given
+        BulkTransferChunkProcessor processor =
+                new BulkTransferChunkProcessor(accountRepository, activityRecordService, stripedBalanceService);
+        Account payroll = account(1L, "1000000001", 25_000L);
+        Account alice = account(2L, "1000000002", 0L);
+        Account bob = account(3L, "1000000003", 0L);
+
+        when(accountRepository.findIdsByAccountNumberIn(any())).thenReturn(List.of(1L, 2L, 3L));
+        when(accountRepository.findAllByIdInForUpdate(List.of(1L, 2L, 3L))).thenReturn(List.of(payroll, alice, bob));
+
+        List<TransferRequest> transfers = List.of(
+                new TransferRequest("1000000001", "1000000002", 10_000L),
+                new TransferRequest("1000000001", "9999999999", 10_000L),  // 없는 계좌
+                new TransferRequest("1000000001", "1000000003", 20_000L),  // 잔액 부족 (남은 잔액 14,900)
+                new TransferRequest("1000000001", "1000000001", 1_000L),   // 동일 계좌
+                new TransferRequest("1000000001", "1000000003", 10_000L)
+        );
+
+        // when
+        List<BulkTransferItemResult> results = processor.process(transfers, 500);
+
+        // then
+        assertThat(results).extracting(BulkTransferItemResult::index).containsExactly(500, 501, 502, 503, 504);
+        assertThat(results).extracting(BulkTransferItemResult::success).containsExactly(true, false, false, false, true);
+        assertThat(results).extracting(BulkTransferItemResult::errorCode)
+                .containsExactly(null, "ACCOUNT_001", "ACCOUNT_004", "ACCOUNT_007", null);
+        assertThat(results.get(0).fee()).isEqualTo(100L);
+
+        assertThat(payroll.getBalance()).isEqualTo(25_000L - 2 * 10_100L);
+        assertThat(alice.getBalance()).isEqualTo(10_000L);
+        assertThat(bob.getBalance()).isEqualTo(10_000L);
+        verify(accountRepository, times(1)).findAllByIdInForUpdate(any());
+        verify(accountRepository, times(3)).save(any(Account.class));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Activity>> captor = ArgumentCaptor.forClass(List.class);
+        verify(activityRecordService, times(1)).recordAll(captor.capture());
+        assertThat(captor.getValue()).hasSize(4);
+        assertThat(captor.getValue().get(2).getBalanceAfter()).isEqualTo(4_800L);
+    }
+
+    @Test
+    @DisplayName("청크의 계좌가 하나도 없으면 잠금 쿼리 없이 모든 항목이 계좌 미조회로 실패한다")
+    void process_chunk_without_accounts() {
+        // given
+        BulkTransferChunkProcessor processor =
+                new BulkTransferChunkProcessor(accountRepository, activityRecordService, stripedBalanceService);
+        when(accountRepository.findIdsByAccountNumberIn(any())).thenReturn(List.of());
+
+        // when
+        List<BulkTransferItemResult> results = processor.process(
+                List.of(new TransferRequest("9999999998", "9999999999", 1_000L)), 0);
+
+        // then
+        assertThat(results).extracting(BulkTransferItemResult::errorCode).containsExactly("ACCOUNT_001");
+        verify(accountRepository, never()).findAllByIdInForUpdate(any());
+        verify(activityRecordService).recordAll(List.of());
+    }
+}
@@ -1,16 +1,23 @@
 package com.leesuchan.account.service;
 
+import com.leesuchan.account.config.AccountConcurrencyProvider;
+import com.leesuchan.account.config.DepositMode;
+import com.leesuchan.account.config.TransferLockMode;
+import com.leesuchan.account.config.WithdrawMode;
 import com.leesuchan.account.domain.exception.AccountNotFoundException;
 import com.leesuchan.account.domain.model.Account;
 import com.leesuchan.account.domain.repository.AccountRepository;
+import com.leesuchan.account.service.coalesce.DepositCoalescer;
 import com.leesuchan.account.service.dto.DepositRequest;
 import com.leesuchan.activity.service.ActivityRecordService;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -26,11 +33,25 @@ class DepositMoneyUseCaseTest {
     @Mock
     private ActivityRecordService activityRecordService;
 
+    @Mock
+    private StripedBalanceService stripedBalanceService;
+
+    @Mock
+    private DepositCoalescer depositCoalescer;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     private DepositMoneyUseCase depositMoneyUseCase;
 
     @BeforeEach
     void setUp() {
-        depositMoneyUseCase = new DepositMoneyUseCase(accountRepository, activityRecordService);
+        depositMoneyUseCase = new DepositMoneyUseCase(accountRepository, activityRecordService, stripedBalanceService, depositCoalescer, transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        AccountConcurrencyProvider.initialize(TransferLockMode.OPTIMISTIC, DepositMode.ENTITY, WithdrawMode.ENTITY);
     }
 
     @Test
@@ -113,4 +134,121 @@ class DepositMoneyUseCaseTest {
         assertThat(account.getBalance()).isEqualTo(15000L);
         verify(activityRecordService, times(2)).recordDeposit(any(), any(), any());
     }
+
+    @Test
+    @DisplayName("원자적 입금 모드에서는 단일 UPDATE 후 갱신된 잔액으로 거래내역을 기록한다")
+    void deposit_atomically() {
+        // given
+        AccountConcurrencyProvider.initialize(TransferLockMode.OPTIMISTIC, DepositMode.ATOMIC, WithdrawMode.ENTITY);
+        String accountNumber = "1234567890";
+        Long amount = 10000L;
+        Account updated = Account.create(accountNumber, "테스트 계좌");
+        updated.deposit(30000L); // UPDATE 이후 DB에서 다시 읽은 상태
+
+        when(accountRepository.increaseBalance(eq(accountNumber), eq(amount), any())).thenReturn(1);
+        when(accountRepository.findByAccountNumber(accountNumber)).thenReturn(java.util.Optional.of(updated));
+
+        // when
+        Account result = depositMoneyUseCase.execute(accountNumber, amount);
+
+        // then
+        assertThat(result.getBalance()).isEqualTo(30000L);
+        verify(accountRepository).increaseBalance(eq(accountNumber), eq(amount), any());
+        verify(accountRepository, never()).save(any());
+        verify(activityRecordService).recordDeposit(updated.getId(), amount, 30000L);
+    }
+
+    @Test
+    @DisplayName("원자적 입금 모드에서 갱신된 행이 없으면 계좌 미조회 예외가 발생한다")
+    void deposit_atomically_not_exist_account_throws_exception() {
+        // given
+        AccountConcurrencyProvider.initialize(TransferLockMode.OPTIMISTIC, DepositMode.ATOMIC, WithdrawMode.ENTITY);
+        String accountNumber = "1234567890";
+
+        when(accountRepository.increaseBalance(eq(accountNumber), eq(10000L), any())).thenReturn(0);
+
+        // when & then
+        assertThatThrownBy(() -> depositMoneyUseCase.execute(accountNumber, 10000L))
+                .isInstanceOf(AccountNotFoundException.class);
+        verify(accountRepository, never()).findByAccountNumber(any());
+        verify(activityRecordService, never()).recordDeposit(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("원자적 입금 모드에서도 0 이하 금액은 UPDATE 전에 거부한다")
+    void deposit_atomically_invalid_amount_throws_exception() {
+        // given
+        AccountConcurrencyProvider.initialize(TransferLockMode.OPTIMISTIC, DepositMode.ATOMIC, WithdrawMode.ENTITY);
+
+        // when & then
+        assertThatThrownBy(() -> depositMoneyUseCase.execute("1234567890", 0L))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(accountRepository, never()).increaseBalance(any(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("스트라이프 계좌 입금은 계좌 행을 저장하지 않고 잔액 슬롯에 적립한다")
+    void striped_account_deposit_credits_slot() {
+        // given
+        String accountNumber = "1234567890";
+        Account account = Account.create(accountNumber, "가맹점 계좌");
+        account.deposit(5000L);
+
+        when(stripedBalanceService.isStriped(accountNumber)).thenReturn(true);
+        when(accountRepository.findByAccountNumber(accountNumber)).thenReturn(java.util.Optional.of(account));
+        when(stripedBalanceService.pendingCredits(account.getId())).thenReturn(3000L);
+
+        // when
+        Account result = depositMoneyUseCase.execute(accountNumber, 1000L);
+
+        // then
+        assertThat(result.getBalance()).isEqualTo(5000L);
+        assertThat(result.getTotalBalance()).isEqualTo(8000L);
+        verify(stripedBalanceService).credit(account.getId(), 1000L);
+        verify(accountRepository, never()).save(any());
+        verify(accountRepository, never()).increaseBalance(any(), anyLong(), any());
+        verify(activityRecordService).recordDeposit(account.getId(), 1000L, 8000L);
+    }
+
+    @Test
+    @DisplayName("묶음 입금 모드에서는 입금을 DepositCoalescer에 맡긴다")
+    void deposit_coalesced() {
+        // given
+        AccountConcurrencyProvider.initialize(TransferLockMode.OPTIMISTIC, DepositMode.COALESCED, WithdrawMode.ENTITY);
+        String accountNumber = "1234567890";
+        Account account = Account.create(accountNumber, "테스트 계좌");
+        account.deposit(10000L);
+
+        when(depositCoalescer.deposit(accountNumber, 10000L)).thenReturn(account);
+
+        // when
+        Account result = depositMoneyUseCase.execute(accountNumber, 10000L);
+
+        // then: 트랜잭션은 DepositCoalescer의 리더만 열므로 유스케이스는 트랜잭션을 시작하지 않음
+        assertThat(result).isSameAs(account);
+        verify(transactionManager, never()).getTransaction(any());
+        verify(accountRepository, never()).save(any());
+        verify(activityRecordService, never()).recordDeposit(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("묶음 입금 모드여도 호출 트랜잭션 입금은 묶지 않고 단일 UPDATE로 반영한다")
+    void deposit_in_caller_transaction_skips_coalescer() {
+        // given
+        AccountConcurrencyProvider.initialize(TransferLockMode.OPTIMISTIC, DepositMode.COALESCED, WithdrawMode.ENTITY);
+        String accountNumber = "1234567890";
+        Account account = Account.create(accountNumber, "테스트 계좌");
+        account.deposit(10000L);
+
+        when(accountRepository.increaseBalance(eq(accountNumber), eq(10000L), any())).thenReturn(1);
+        when(accountRepository.findByAccountNumber(accountNumber)).thenReturn(java.util.Optional.of(account));
+
+        // when
+        Account result = depositMoneyUseCase.executeInCallerTransaction(accountNumber, 10000L);
+
+        // then
+        assertThat(result.getBalance()).isEqualTo(10000L);
+        verify(depositCoalescer, never()).deposit(any(), anyLong());
+        verify(activityRecordService).recordDeposit(account.getId(), 10000L, 10000L);
+    }
 }
@@ -1,5 +1,9 @@
 package com.leesuchan.account.service;
 
+import com.leesuchan.account.config.AccountConcurrencyProvider;
+import com.leesuchan.account.config.DepositMode;
+import com.leesuchan.account.config.TransferLockMode;
+import com.leesuchan.account.config.WithdrawMode;
 import com.leesuchan.account.domain.exception.AccountNotFoundException;
 import com.leesuchan.account.domain.exception.DailyTransferLimitExceededException;
 import com.leesuchan.account.domain.exception.InsufficientBalanceException;
@@ -8,10 +12,12 @@ import com.leesuchan.account.domain.model.Account;
 import com.leesuchan.account.domain.repository.AccountRepository;
 import com.leesuchan.account.service.dto.TransferRequest;
 import com.leesuchan.activity.service.ActivityRecordService;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -31,11 +37,19 @@ class TransferMoneyUseCaseTest {
     @Mock
     private ActivityRecordService activityRecordService;
 
+    @Mock
+    private StripedBalanceService stripedBalanceService;
+
     private TransferMoneyUseCase transferMoneyUseCase;
 
     @BeforeEach
     void setUp() {
-        transferMoneyUseCase = new TransferMoneyUseCase(accountRepository, activityRecordService);
+        transferMoneyUseCase = new TransferMoneyUseCase(accountRepository, activityRecordService, stripedBalanceService);
+    }
+
+    @AfterEach
+    void tearDown() {
+        AccountConcurrencyProvider.initialize(TransferLockMode.OPTIMISTIC, DepositMode.ENTITY, WithdrawMode.ENTITY);
     }
 
     /**
@@ -68,8 +82,7 @@ class TransferMoneyUseCaseTest {
         when(accountRepository.findByAccountNumber(fromAccountNumber)).thenReturn(java.util.Optional.of(from));
         when(accountRepository.findByAccountNumber(toAccountNumber)).thenReturn(java.util.Optional.of(to));
         when(accountRepository.save(any(Account.class))).thenAnswer(invocation -> invocation.getArgument(0));
-        doNothing().when(activityRecordService).recordTransferOut(any(), any(), any(), any(), any(), any(), any());
-        doNothing().when(activityRecordService).recordTransferIn(any(), any(), any(), any(), any(), any());
+        doNothing().when(activityRecordService).recordTransfer(any(), any(), any(), any(), any(), any(), any(), any(), any());
 
         // when
         TransferMoneyUseCase.TransferResult result = transferMoneyUseCase.execute(fromAccountNumber, toAccountNumber, amount);
@@ -80,8 +93,10 @@ class TransferMoneyUseCaseTest {
         assertThat(result.fee()).isEqualTo(100L); // 1% 수수료
 
         verify(accountRepository, times(2)).save(any(Account.class));
-        verify(activityRecordService).recordTransferOut(any(), eq(to.getId()), eq(toAccountNumber), eq(amount), eq(100L), eq(39900L), any());
-        verify(activityRecordService).recordTransferIn(eq(to.getId()), eq(from.getId()), eq(fromAccountNumber), eq(amount), eq(10000L), any());
+        verify(activityRecordService).recordTransfer(
+                eq(from.getId()), eq(to.getId()), eq(fromAccountNumber), eq(toAccountNumber),
+                eq(amount), eq(100L), eq(39900L), eq(10000L), any()
+        );
     }
 
     @Test
@@ -98,8 +113,7 @@ class TransferMoneyUseCaseTest {
         assertThatThrownBy(() -> transferMoneyUseCase.execute(fromAccountNumber, toAccountNumber, amount))
                 .isInstanceOf(AccountNotFoundException.class);
         verify(accountRepository, never()).save(any(Account.class));
-        verify(activityRecordService, never()).recordTransferOut(any(), any(), any(), any(), any(), any(), any());
-        verify(activityRecordService, never()).recordTransferIn(any(), any(), any(), any(), any(), any());
+        verify(activityRecordService, never()).recordTransfer(any(), any(), any(), any(), any(), any(), any(), any(), any());
     }
 
     @Test
@@ -207,8 +221,7 @@ class TransferMoneyUseCaseTest {
         when(accountRepository.findByAccountNumber(fromAccountNumber)).thenReturn(java.util.Optional.of(from));
         when(accountRepository.findByAccountNumber(toAccountNumber)).thenReturn(java.util.Optional.of(to));
         when(accountRepository.save(any(Account.class))).thenAnswer(invocation -> invocation.getArgument(0));
-        doNothing().when(activityRecordService).recordTransferOut(any(), any(), any(), any(), any(), any(), any());
-        doNothing().when(activityRecordService).recordTransferIn(any(), any(), any(), any(), any(), any());
+        doNothing().when(activityRecordService).recordTransfer(any(), any(), any(), any(), any(), any(), any(), any(), any());
 
         // when
         TransferMoneyUseCase.TransferResult result = transferMoneyUseCase.execute(request);
@@ -218,4 +231,152 @@ class TransferMoneyUseCaseTest {
         assertThat(result.to().getBalance()).isEqualTo(5000L);
         assertThat(result.fee()).isEqualTo(50L);
     }
+
+    @Test
+    @DisplayName("비관적 락 모드에서는 계좌 ID 오름차순으로 락을 획득한다")
+    void transfer_with_pessimistic_lock_acquires_locks_in_ascending_id_order() {
+        // given
+        AccountConcurrencyProvider.initialize(TransferLockMode.PESSIMISTIC, DepositMode.ENTITY, WithdrawMode.ENTITY);
+        String fromAccountNumber = "1234567890";
+        String toAccountNumber = "0987654321";
+        Long amount = 10000L;
+
+        Account from = Account.create(fromAccountNumber, "출금 계좌");
+        from.deposit(50000L);
+        setAccountId(from, 2L);
+        Account to = Account.create(toAccountNumber, "입금 계좌");
+        setAccountId(to, 1L);
+
+        when(accountRepository.findIdByAccountNumber(fromAccountNumber)).thenReturn(java.util.Optional.of(2L));
+        when(accountRepository.findIdByAccountNumber(toAccountNumber)).thenReturn(java.util.Optional.of(1L));
+        when(accountRepository.findByIdForUpdate(1L)).thenReturn(java.util.Optional.of(to));
+        when(accountRepository.findByIdForUpdate(2L)).thenReturn(java.util.Optional.of(from));
+        when(accountRepository.save(any(Account.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        TransferMoneyUseCase.TransferResult result = transferMoneyUseCase.execute(fromAccountNumber, toAccountNumber, amount);
+
+        // then
+        assertThat(result.from()).isSameAs(from);
+        assertThat(result.to()).isSameAs(to);
+        assertThat(result.from().getBalance()).isEqualTo(39900L);
+        assertThat(result.to().getBalance()).isEqualTo(10000L);
+
+        InOrder inOrder = inOrder(accountRepository);
+        inOrder.verify(accountRepository).findByIdForUpdate(1L);
+        inOrder.verify(accountRepository).findByIdForUpdate(2L);
+        verify(accountRepository, never()).findByAccountNumber(any());
+    }
+
+    @Test
+    @DisplayName("비관적 락 모드에서 동일 계좌로 이체하면 락을 잡기 전에 예외가 발생한다")
+    void transfer_with_pessimistic_lock_to_same_account_throws_exception() {
+        // given
+        AccountConcurrencyProvider.initialize(TransferLockMode.PESSIMISTIC, DepositMode.ENTITY, WithdrawMode.ENTITY);
+        String accountNumber = "1234567890";
+
+        when(accountRepository.findIdByAccountNumber(accountNumber)).thenReturn(java.util.Optional.of(1L));
+
+        // when & then
+        assertThatThrownBy(() -> transferMoneyUseCase.execute(accountNumber, accountNumber, 10000L))
+                .isInstanceOf(SameAccountTransferException.class);
+        verify(accountRepository, never()).findByIdForUpdate(any());
+        verify(accountRepository, never()).save(any(Account.class));
+    }
+
+    @Test
+    @DisplayName("비관적 락 모드에서 입금 계좌가 없으면 예외가 발생한다")
+    void transfer_with_pessimistic_lock_to_account_not_found_throws_exception() {
+        // given
+        AccountConcurrencyProvider.initialize(TransferLockMode.PESSIMISTIC, DepositMode.ENTITY, WithdrawMode.ENTITY);
+        String fromAccountNumber = "1234567890";
+        String toAccountNumber = "0987654321";
+
+        when(accountRepository.findIdByAccountNumber(fromAccountNumber)).thenReturn(java.util.Optional.of(1L));
+        when(accountRepository.findIdByAccountNumber(toAccountNumber)).thenReturn(java.util.Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> transferMoneyUseCase.execute(fromAccountNumber, toAccountNumber, 10000L))
+                .isInstanceOf(AccountNotFoundException.class);
+        verify(accountRepository, never()).findByIdForUpdate(any());
+    }
+
+    @Test
+    @DisplayName("스트라이프 계좌 간 이체는 슬롯 적립액을 포함한 잔액으로 출금하고, 입금액은 입금 계좌 슬롯에 적립한다")
+    void striped_accounts_transfer_uses_pending_credits_and_credits_slot() {
+        // given
+        String fromAccountNumber = "1234567890";
+        String toAccountNumber = "0987654321";
+
+        Account from = Account.create(fromAccountNumber, "급여 재원 계좌");
+        from.deposit(5000L);
+        setAccountId(from, 1L);
+        Account to = Account.create(toAccountNumber, "가맹점 계좌");
+        to.deposit(2000L);
+        setAccountId(to, 2L);
+
+        when(stripedBalanceService.isStriped(fromAccountNumber)).thenReturn(true);
+        when(stripedBalanceService.isStriped(toAccountNumber)).thenReturn(true);
+        when(accountRepository.findByAccountNumber(fromAccountNumber)).thenReturn(java.util.Optional.of(from));
+        when(accountRepository.findByAccountNumber(toAccountNumber)).thenReturn(java.util.Optional.of(to));
+        when(accountRepository.save(any(Account.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        doAnswer(invocation -> {
+            invocation.<Account>getArgument(0).showPendingCredits(50000L);
+            return null;
+        }).when(stripedBalanceService).showPendingCredits(from);
+        when(stripedBalanceService.pendingCredits(2L)).thenReturn(10000L);
+
+        // when
+        TransferMoneyUseCase.TransferResult result = transferMoneyUseCase.execute(fromAccountNumber, toAccountNumber, 10000L);
+
+        // then
+        assertThat(result.from().getBalance()).isEqualTo(-5100L); // 5000 - 10000 - 100(수수료), 슬롯 50000원은 압축 시 합쳐짐
+        assertThat(result.from().getTotalBalance()).isEqualTo(44900L);
+        assertThat(result.to().getBalance()).isEqualTo(2000L);
+        assertThat(result.to().getTotalBalance()).isEqualTo(12000L);
+
+        verify(stripedBalanceService).credit(2L, 10000L);
+        verify(accountRepository).save(from);
+        verify(accountRepository, never()).save(to);
+        verify(activityRecordService).recordTransfer(
+                eq(1L), eq(2L), eq(fromAccountNumber), eq(toAccountNumber),
+                eq(10000L), eq(100L), eq(44900L), eq(12000L), any()
+        );
+    }
+
+    @Test
+    @DisplayName("비관적 락 모드에서 스트라이프 출금 계좌는 계좌를 잠근 뒤 슬롯 합계도 잠금 읽기로 반영한다")
+    void striped_from_account_with_pessimistic_lock_reads_slots_with_lock() {
+        // given
+        AccountConcurrencyProvider.initialize(TransferLockMode.PESSIMISTIC, DepositMode.ENTITY, WithdrawMode.ENTITY);
+        String fromAccountNumber = "1234567890";
+        String toAccountNumber = "0987654321";
+
+        Account from = Account.create(fromAccountNumber, "가맹점 계좌");
+        from.deposit(5000L);
+        setAccountId(from, 1L);
+        Account to = Account.create(toAccountNumber, "입금 계좌");
+        setAccountId(to, 2L);
+
+        when(stripedBalanceService.isStriped(fromAccountNumber)).thenReturn(true);
+        when(accountRepository.findIdByAccountNumber(fromAccountNumber)).thenReturn(java.util.Optional.of(1L));
+        when(accountRepository.findIdByAccountNumber(toAccountNumber)).thenReturn(java.util.Optional.of(2L));
+        when(accountRepository.findByIdForUpdate(1L)).thenReturn(java.util.Optional.of(from));
+        when(accountRepository.findByIdForUpdate(2L)).thenReturn(java.util.Optional.of(to));
+        when(accountRepository.save(any(Account.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        doAnswer(invocation -> {
+            invocation.<Account>getArgument(0).showPendingCredits(20000L);
+            return null;
+        }).when(stripedBalanceService).showPendingCreditsLocked(from);
+
+        // when
+        TransferMoneyUseCase.TransferResult result = transferMoneyUseCase.execute(fromAccountNumber, toAccountNumber, 10000L);
+
+        // then
+        assertThat(result.from().getTotalBalance()).isEqualTo(14900L); // 5000 + 20000 - 10000 - 100(수수료)
+        InOrder inOrder = inOrder(accountRepository, stripedBalanceService);
+        inOrder.verify(accountRepository).findByIdForUpdate(1L);
+        inOrder.verify(stripedBalanceService).showPendingCreditsLocked(from);
+        verify(stripedBalanceService, never()).showPendingCredits(any());
+    }
 }
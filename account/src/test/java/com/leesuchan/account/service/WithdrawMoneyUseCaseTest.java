@@ -1,5 +1,9 @@
 package com.leesuchan.account.service;
 
+import com.leesuchan.account.config.AccountConcurrencyProvider;
+import com.leesuchan.account.config.DepositMode;
+import com.leesuchan.account.config.TransferLockMode;
+import com.leesuchan.account.config.WithdrawMode;
 import com.leesuchan.account.domain.exception.AccountNotFoundException;
 import com.leesuchan.account.domain.exception.DailyWithdrawLimitExceededException;
 import com.leesuchan.account.domain.exception.InsufficientBalanceException;
@@ -7,6 +11,7 @@ import com.leesuchan.account.domain.model.Account;
 import com.leesuchan.account.domain.repository.AccountRepository;
 import com.leesuchan.account.service.dto.WithdrawRequest;
 import com.leesuchan.activity.service.ActivityRecordService;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -28,11 +33,19 @@ class WithdrawMoneyUseCaseTest {
     @Mock
     private ActivityRecordService activityRecordService;
 
+    @Mock
+    private StripedBalanceService stripedBalanceService;
+
     private WithdrawMoneyUseCase withdrawMoneyUseCase;
 
     @BeforeEach
     void setUp() {
-        withdrawMoneyUseCase = new WithdrawMoneyUseCase(accountRepository, activityRecordService);
+        withdrawMoneyUseCase = new WithdrawMoneyUseCase(accountRepository, activityRecordService, stripedBalanceService);
+    }
+
+    @AfterEach
+    void tearDown() {
+        AccountConcurrencyProvider.initialize(TransferLockMode.OPTIMISTIC, DepositMode.ENTITY, WithdrawMode.ENTITY);
     }
 
     @Test
@@ -154,4 +167,94 @@ class WithdrawMoneyUseCaseTest {
         // then - 누적 출금액 확인
         assertThat(account.getWithdrawLimitTracker().getAccumulatedAmount()).isEqualTo(1_000_000L);
     }
+
+    @Test
+    @DisplayName("조건부 출금 모드: 조건부 UPDATE 한 번으로 출금하고 거래 내역을 기록한다")
+    void conditional_withdraw_uses_single_update() {
+        // given
+        AccountConcurrencyProvider.initialize(TransferLockMode.OPTIMISTIC, DepositMode.ENTITY, WithdrawMode.CONDITIONAL);
+        String accountNumber = "1234567890";
+        Long amount = 5000L;
+        Account withdrawn = Account.create(accountNumber, "테스트 계좌");
+        withdrawn.deposit(5000L); // 출금 후 잔액 5000원
+
+        when(accountRepository.decreaseBalanceWithinDailyWithdrawLimit(eq(accountNumber), eq(amount), anyLong(), any(), any()))
+                .thenReturn(1);
+        when(accountRepository.findByAccountNumber(accountNumber)).thenReturn(java.util.Optional.of(withdrawn));
+
+        // when
+        Account result = withdrawMoneyUseCase.execute(accountNumber, amount);
+
+        // then
+        assertThat(result.getBalance()).isEqualTo(5000L);
+        verify(accountRepository, never()).save(any());
+        verify(activityRecordService).recordWithdraw(withdrawn.getId(), amount, 5000L);
+    }
+
+    @Test
+    @DisplayName("조건부 출금 모드: 갱신된 행이 없고 계좌가 없으면 예외가 발생한다")
+    void conditional_withdraw_not_exist_account_throws_exception() {
+        // given
+        AccountConcurrencyProvider.initialize(TransferLockMode.OPTIMISTIC, DepositMode.ENTITY, WithdrawMode.CONDITIONAL);
+        String accountNumber = "1234567890";
+
+        when(accountRepository.decreaseBalanceWithinDailyWithdrawLimit(eq(accountNumber), eq(5000L), anyLong(), any(), any()))
+                .thenReturn(0);
+        when(accountRepository.findByAccountNumber(accountNumber)).thenReturn(java.util.Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> withdrawMoneyUseCase.execute(accountNumber, 5000L))
+                .isInstanceOf(AccountNotFoundException.class);
+        verify(activityRecordService, never()).recordWithdraw(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("조건부 출금 모드: 잔액이 부족해 갱신되지 않으면 예외가 발생한다")
+    void conditional_withdraw_insufficient_balance_throws_exception() {
+        // given
+        AccountConcurrencyProvider.initialize(TransferLockMode.OPTIMISTIC, DepositMode.ENTITY, WithdrawMode.CONDITIONAL);
+        String accountNumber = "1234567890";
+        Account account = Account.create(accountNumber, "테스트 계좌");
+        account.deposit(5000L);
+
+        when(accountRepository.decreaseBalanceWithinDailyWithdrawLimit(eq(accountNumber), eq(10000L), anyLong(), any(), any()))
+                .thenReturn(0);
+        when(accountRepository.findByAccountNumber(accountNumber)).thenReturn(java.util.Optional.of(account));
+
+        // when & then
+        assertThatThrownBy(() -> withdrawMoneyUseCase.execute(accountNumber, 10000L))
+                .isInstanceOf(InsufficientBalanceException.class);
+        verify(activityRecordService, never()).recordWithdraw(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("조건부 출금 모드: 잔액은 충분하지만 갱신되지 않으면 일일 한도 초과 예외가 발생한다")
+    void conditional_withdraw_exceeds_daily_limit_throws_exception() {
+        // given
+        AccountConcurrencyProvider.initialize(TransferLockMode.OPTIMISTIC, DepositMode.ENTITY, WithdrawMode.CONDITIONAL);
+        String accountNumber = "1234567890";
+        Account account = Account.create(accountNumber, "테스트 계좌");
+        account.deposit(2_000_000L);
+
+        when(accountRepository.decreaseBalanceWithinDailyWithdrawLimit(eq(accountNumber), eq(1L), anyLong(), any(), any()))
+                .thenReturn(0);
+        when(accountRepository.findByAccountNumber(accountNumber)).thenReturn(java.util.Optional.of(account));
+
+        // when & then
+        assertThatThrownBy(() -> withdrawMoneyUseCase.execute(accountNumber, 1L))
+                .isInstanceOf(DailyWithdrawLimitExceededException.class);
+        verify(activityRecordService, never()).recordWithdraw(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("조건부 출금 모드: 0 이하 금액은 UPDATE 전에 거부된다")
+    void conditional_withdraw_invalid_amount_throws_exception() {
+        // given
+        AccountConcurrencyProvider.initialize(TransferLockMode.OPTIMISTIC, DepositMode.ENTITY, WithdrawMode.CONDITIONAL);
+
+        // when & then
+        assertThatThrownBy(() -> withdrawMoneyUseCase.execute("1234567890", 0L))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(accountRepository, never()).decreaseBalanceWithinDailyWithdrawLimit(any(), anyLong(), anyLong(), any(), any());
+    }
 }
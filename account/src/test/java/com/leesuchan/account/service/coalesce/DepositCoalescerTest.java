@@ -0,0 +1,239 @@
+package com.leesuchan.account.service.coalesce;
+
+import com.leesuchan.account.domain.exception.AccountErrorCode;
+import com.leesuchan.account.domain.exception.AccountNotFoundException;
+import com.leesuchan.account.domain.exception.DepositBatchFailedException;
+import com.leesuchan.account.domain.model.Account;
+import com.leesuchan.account.domain.repository.AccountRepository;
+import com.leesuchan.activity.domain.model.Activity;
+import com.leesuchan.activity.service.ActivityRecordService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DepositCoalescer 테스트")
+class DepositCoalescerTest {
+
+    private static final long ONE_SECOND_MICROS = 1_000_000L;
+    private static final long FOLLOWER_TIMEOUT_MILLIS = 5_000L;
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private ActivityRecordService activityRecordService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("동시에 들어온 입금을 UPDATE 1회로 반영하고, 요청별 balance_after를 누적해 기록한다")
+    void concurrent_deposits_are_applied_as_one_update() throws Exception {
+        // given
+        DepositCoalescer coalescer = new DepositCoalescer(accountRepository, activityRecordService, transactionManager, ONE_SECOND_MICROS, 2, FOLLOWER_TIMEOUT_MILLIS);
+        Account updated = Account.create("1234567890", "가맹점 계좌");
+        updated.deposit(13000L); // 기존 잔액 10000 + 묶음 합계 3000
+
+        when(accountRepository.increaseBalance(eq("1234567890"), eq(3000L), any())).thenReturn(1);
+        when(accountRepository.findByAccountNumber("1234567890")).thenReturn(Optional.of(updated));
+
+        // when
+        CompletableFuture<Account> first = CompletableFuture.supplyAsync(() -> coalescer.deposit("1234567890", 1000L));
+        CompletableFuture<Account> second = CompletableFuture.supplyAsync(() -> coalescer.deposit("1234567890", 2000L));
+
+        // then
+        assertThat(first.get(5, TimeUnit.SECONDS)).isSameAs(updated);
+        assertThat(second.get(5, TimeUnit.SECONDS)).isSameAs(updated);
+        verify(accountRepository, times(1)).increaseBalance(any(), anyLong(), any());
+        verify(transactionManager, times(1)).getTransaction(any()); // 리더만 트랜잭션을 엶
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Activity>> captor = ArgumentCaptor.forClass(List.class);
+        verify(activityRecordService, times(1)).recordAll(captor.capture());
+        List<Activity> activities = captor.getValue();
+        assertThat(activities).hasSize(2);
+        assertThat(activities.get(activities.size() - 1).getBalanceAfter()).isEqualTo(13000L);
+        assertThat(activities.get(0).getBalanceAfter())
+                .isEqualTo(10000L + activities.get(0).getAmount());
+    }
+
+    @Test
+    @DisplayName("가상 스레드에서 동시에 들어온 입금도 한 묶음으로 반영된다")
+    void concurrent_deposits_on_virtual_threads_are_coalesced() throws Exception {
+        // given
+        DepositCoalescer coalescer = new DepositCoalescer(accountRepository, activityRecordService, transactionManager, ONE_SECOND_MICROS, 8, FOLLOWER_TIMEOUT_MILLIS);
+        Account updated = Account.create("1234567890", "가맹점 계좌");
+        updated.deposit(8000L);
+
+        when(accountRepository.increaseBalance(eq("1234567890"), eq(8000L), any())).thenReturn(1);
+        when(accountRepository.findByAccountNumber("1234567890")).thenReturn(Optional.of(updated));
+
+        // when
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<Account>> futures = IntStream.range(0, 8)
+                    .mapToObj(i -> executor.submit(() -> coalescer.deposit("1234567890", 1000L)))
+                    .toList();
+
+            // then
+            for (Future<Account> future : futures) {
+                assertThat(future.get(5, TimeUnit.SECONDS)).isSameAs(updated);
+            }
+        }
+        verify(accountRepository, times(1)).increaseBalance(any(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("혼자 도착한 입금은 대기 시간이 지나면 단건으로 반영된다")
+    void single_deposit_is_applied_after_window() {
+        // given
+        DepositCoalescer coalescer = new DepositCoalescer(accountRepository, activityRecordService, transactionManager, 0L, 64, FOLLOWER_TIMEOUT_MILLIS);
+        Account updated = Account.create("1234567890", "테스트 계좌");
+        updated.deposit(1000L);
+
+        when(accountRepository.increaseBalance(eq("1234567890"), eq(1000L), any())).thenReturn(1);
+        when(accountRepository.findByAccountNumber("1234567890")).thenReturn(Optional.of(updated));
+
+        // when
+        Account result = coalescer.deposit("1234567890", 1000L);
+
+        // then
+        assertThat(result.getBalance()).isEqualTo(1000L);
+        verify(activityRecordService).recordAll(argThat(activities ->
+                activities.size() == 1 && activities.get(0).getBalanceAfter() == 1000L));
+    }
+
+    @Test
+    @DisplayName("계좌가 없으면 같은 묶음의 모든 요청이 계좌 미조회 예외로 실패한다")
+    void missing_account_fails_whole_batch() {
+        // given
+        DepositCoalescer coalescer = new DepositCoalescer(accountRepository, activityRecordService, transactionManager, ONE_SECOND_MICROS, 2, FOLLOWER_TIMEOUT_MILLIS);
+        when(accountRepository.increaseBalance(eq("9999999999"), eq(3000L), any())).thenReturn(0);
+
+        // when
+        CompletableFuture<Account> first = CompletableFuture.supplyAsync(() -> coalescer.deposit("9999999999", 1000L));
+        CompletableFuture<Account> second = CompletableFuture.supplyAsync(() -> coalescer.deposit("9999999999", 2000L));
+
+        // then
+        assertThatThrownBy(() -> first.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(AccountNotFoundException.class);
+        assertThatThrownBy(() -> second.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(AccountNotFoundException.class);
+        verify(activityRecordService, never()).recordAll(any());
+    }
+
+    @Test
+    @DisplayName("리더 트랜잭션이 롤백되면 팔로워는 다시 시도할 수 있는 예외로 실패한다")
+    void rolled_back_batch_fails_followers_with_retryable_exception() {
+        // given
+        DepositCoalescer coalescer = new DepositCoalescer(accountRepository, activityRecordService, transactionManager, ONE_SECOND_MICROS, 2, FOLLOWER_TIMEOUT_MILLIS);
+        Account updated = Account.create("1234567890", "가맹점 계좌");
+        updated.deposit(3000L);
+
+        when(accountRepository.increaseBalance(eq("1234567890"), eq(3000L), any())).thenReturn(1);
+        when(accountRepository.findByAccountNumber("1234567890")).thenReturn(Optional.of(updated));
+
+        // when
+        List<CompletableFuture<Account>> futures = List.of(
+                CompletableFuture.supplyAsync(() -> depositAndRollBack(coalescer, 1000L)),
+                CompletableFuture.supplyAsync(() -> depositAndRollBack(coalescer, 2000L))
+        );
+
+        // then: 리더는 자신의 트랜잭션 롤백으로, 팔로워는 재시도 가능 예외로 실패
+        assertThat(futures).filteredOn(future -> failedWith(future, AccountErrorCode.DEPOSIT_BATCH_ROLLED_BACK.getCode()))
+                .hasSize(1);
+    }
+
+    @Test
+    @DisplayName("팔로워는 대기 시간 안에 리더의 결과를 받지 못하면 시간 초과 예외로 실패한다")
+    void follower_times_out_waiting_for_leader() throws Exception {
+        // given: 리더의 잔액 UPDATE가 풀려날 때까지 멈춤
+        DepositCoalescer coalescer = new DepositCoalescer(accountRepository, activityRecordService, transactionManager, ONE_SECOND_MICROS, 2, 100L);
+        Account updated = Account.create("1234567890", "가맹점 계좌");
+        updated.deposit(3000L);
+        CountDownLatch release = new CountDownLatch(1);
+
+        when(accountRepository.increaseBalance(eq("1234567890"), eq(3000L), any())).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return 1;
+        });
+        when(accountRepository.findByAccountNumber("1234567890")).thenReturn(Optional.of(updated));
+
+        // when
+        List<CompletableFuture<Account>> futures = List.of(
+                CompletableFuture.supplyAsync(() -> coalescer.deposit("1234567890", 1000L)),
+                CompletableFuture.supplyAsync(() -> coalescer.deposit("1234567890", 2000L))
+        );
+
+        // then
+        CompletableFuture<Object> first = CompletableFuture.anyOf(futures.toArray(CompletableFuture[]::new));
+        assertThatThrownBy(() -> first.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(DepositBatchFailedException.class);
+        release.countDown();
+        assertThat(futures).filteredOn(future -> failedWith(future, AccountErrorCode.DEPOSIT_BATCH_TIMED_OUT.getCode()))
+                .hasSize(1);
+    }
+
+    @Test
+    @DisplayName("0 이하 금액은 묶음에 넣기 전에 거부한다")
+    void invalid_amount_is_rejected_before_joining() {
+        // given
+        DepositCoalescer coalescer = new DepositCoalescer(accountRepository, activityRecordService, transactionManager, 0L, 64, FOLLOWER_TIMEOUT_MILLIS);
+
+        // when & then
+        assertThatThrownBy(() -> coalescer.deposit("1234567890", 0L))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(accountRepository, never()).increaseBalance(any(), anyLong(), any());
+    }
+
+    /**
+     * 트랜잭션 동기화를 켠 채 입금한 뒤 롤백을 알립니다. (리더 스레드만 입금 후 반환)
+     */
+    private static Account depositAndRollBack(DepositCoalescer coalescer, long amount) {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            Account account = coalescer.deposit("1234567890", amount);
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+            return account;
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private static boolean failedWith(CompletableFuture<Account> future, String errorCode) {
+        try {
+            future.get(5, TimeUnit.SECONDS);
+            return false;
+        } catch (ExecutionException e) {
+            return e.getCause() instanceof DepositBatchFailedException failed
+                    && failed.getErrorCode().getCode().equals(errorCode);
+        } catch (Exception e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,225 @@
+package com.leesuchan.account.service.dispatch;
+
+import com.leesuchan.account.domain.exception.AccountNotFoundException;
+import com.leesuchan.account.domain.exception.InsufficientBalanceException;
+import com.leesuchan.account.domain.repository.AccountRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LaneAccountOperationDispatcher 테스트")
+class LaneAccountOperationDispatcherTest {
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    private LaneAccountOperationDispatcher dispatcher;
+
+    @AfterEach
+    void tearDown() {
+        if (dispatcher != null) {
+            dispatcher.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("같은 계좌의 작업은 동시에 실행되지 않고 요청 순서대로 실행된다")
+    void same_account_operations_are_serialized_in_order() throws Exception {
+        // given
+        dispatcher = new LaneAccountOperationDispatcher(accountRepository, 4, 1000);
+        when(accountRepository.findIdByAccountNumber("A")).thenReturn(Optional.of(1L));
+        AtomicInteger running = new AtomicInteger();
+        AtomicBoolean overlapped = new AtomicBoolean(false);
+        List<Integer> executionOrder = new ArrayList<>();
+
+        // when
+        List<CompletableFuture<Integer>> futures = IntStream.range(0, 200)
+                .mapToObj(i -> dispatcher.dispatch("A", () -> {
+                    if (running.incrementAndGet() > 1) {
+                        overlapped.set(true);
+                    }
+                    executionOrder.add(i);
+                    running.decrementAndGet();
+                    return i;
+                }))
+                .toList();
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(10, TimeUnit.SECONDS);
+
+        // then
+        assertThat(overlapped).isFalse();
+        assertThat(executionOrder).containsExactlyElementsOf(IntStream.range(0, 200).boxed().toList());
+    }
+
+    @Test
+    @DisplayName("서로 다른 레인의 양방향 이체가 교착 없이 처리되고, 이체 중에는 두 계좌의 다른 작업이 실행되지 않는다")
+    void cross_lane_transfers_complete_without_deadlock() throws Exception {
+        // given
+        dispatcher = new LaneAccountOperationDispatcher(accountRepository, 2, 1000);
+        when(accountRepository.findIdByAccountNumber("A")).thenReturn(Optional.of(1L));
+        when(accountRepository.findIdByAccountNumber("B")).thenReturn(Optional.of(2L));
+        AtomicInteger busyA = new AtomicInteger();
+        AtomicInteger busyB = new AtomicInteger();
+        AtomicBoolean overlapped = new AtomicBoolean(false);
+
+        // when
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            switch (i % 4) {
+                case 0 -> futures.add(dispatcher.dispatch("A", "B", () -> touch(overlapped, busyA, busyB)));
+                case 1 -> futures.add(dispatcher.dispatch("B", "A", () -> touch(overlapped, busyB, busyA)));
+                case 2 -> futures.add(dispatcher.dispatch("A", () -> touch(overlapped, busyA)));
+                default -> futures.add(dispatcher.dispatch("B", () -> touch(overlapped, busyB)));
+            }
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(10, TimeUnit.SECONDS);
+
+        // then
+        assertThat(overlapped).isFalse();
+        assertThat(futures).allMatch(future -> future.isDone() && !future.isCompletedExceptionally());
+    }
+
+    @Test
+    @DisplayName("가상 스레드 레인에서도 서로 다른 레인의 양방향 이체가 교착 없이 처리된다")
+    void virtual_thread_lanes_complete_cross_lane_transfers() throws Exception {
+        // given
+        dispatcher = new LaneAccountOperationDispatcher(accountRepository, 2, 1000, true);
+        when(accountRepository.findIdByAccountNumber("A")).thenReturn(Optional.of(1L));
+        when(accountRepository.findIdByAccountNumber("B")).thenReturn(Optional.of(2L));
+        AtomicInteger busyA = new AtomicInteger();
+        AtomicInteger busyB = new AtomicInteger();
+        AtomicBoolean overlapped = new AtomicBoolean(false);
+        AtomicBoolean platformThread = new AtomicBoolean(false);
+
+        // when
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            boolean forward = i % 2 == 0;
+            futures.add(dispatcher.dispatch(forward ? "A" : "B", forward ? "B" : "A", () -> {
+                if (!Thread.currentThread().isVirtual()) {
+                    platformThread.set(true);
+                }
+                return touch(overlapped, busyA, busyB);
+            }));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(10, TimeUnit.SECONDS);
+
+        // then
+        assertThat(overlapped).isFalse();
+        assertThat(platformThread).isFalse();
+    }
+
+    @Test
+    @DisplayName("계좌가 없으면 작업을 실행하지 않고 AccountNotFoundException으로 완료된다")
+    void unknown_account_fails_without_running_operation() {
+        // given
+        dispatcher = new LaneAccountOperationDispatcher(accountRepository, 2, 10);
+        when(accountRepository.findIdByAccountNumber("UNKNOWN")).thenReturn(Optional.empty());
+        AtomicBoolean executed = new AtomicBoolean(false);
+
+        // when
+        CompletableFuture<Boolean> future = dispatcher.dispatch("UNKNOWN", () -> executed.getAndSet(true));
+
+        // then
+        assertThatThrownBy(future::get)
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(AccountNotFoundException.class);
+        assertThat(executed).isFalse();
+    }
+
+    @Test
+    @DisplayName("작업에서 발생한 예외가 그대로 전달된다")
+    void operation_exception_is_propagated() {
+        // given
+        dispatcher = new LaneAccountOperationDispatcher(accountRepository, 2, 10);
+        when(accountRepository.findIdByAccountNumber("A")).thenReturn(Optional.of(1L));
+
+        // when
+        CompletableFuture<Object> future = dispatcher.dispatch("A", () -> {
+            throw new InsufficientBalanceException();
+        });
+
+        // then
+        assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(InsufficientBalanceException.class);
+    }
+
+    @Test
+    @DisplayName("레인 대기열이 가득 차면 RejectedExecutionException으로 완료된다")
+    void full_lane_rejects_operation() throws Exception {
+        // given
+        dispatcher = new LaneAccountOperationDispatcher(accountRepository, 1, 1);
+        when(accountRepository.findIdByAccountNumber("A")).thenReturn(Optional.of(1L));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<Boolean> running = dispatcher.dispatch("A", () -> {
+            started.countDown();
+            return await(release);
+        });
+        started.await(5, TimeUnit.SECONDS);
+        CompletableFuture<Boolean> queued = dispatcher.dispatch("A", () -> true);
+
+        // when
+        CompletableFuture<Boolean> rejected = dispatcher.dispatch("A", () -> true);
+        release.countDown();
+
+        // then
+        assertThatThrownBy(rejected::get)
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(RejectedExecutionException.class);
+        assertThat(running.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("레인 수가 0 이하이면 예외가 발생한다")
+    void invalid_lane_count_throws_exception() {
+        assertThatThrownBy(() -> new LaneAccountOperationDispatcher(accountRepository, 0, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /**
+     * 계좌들을 점유 표시한 뒤 해제 (이미 점유 중이면 겹침으로 기록)
+     */
+    private Void touch(AtomicBoolean overlapped, AtomicInteger... accounts) {
+        for (AtomicInteger account : accounts) {
+            if (account.incrementAndGet() > 1) {
+                overlapped.set(true);
+            }
+        }
+        Thread.onSpinWait();
+        for (AtomicInteger account : accounts) {
+            account.decrementAndGet();
+        }
+        return null;
+    }
+
+    private boolean await(CountDownLatch latch) {
+        try {
+            return latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
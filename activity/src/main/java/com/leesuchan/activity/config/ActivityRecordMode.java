@@ -0,0 +1,17 @@
+package com.leesuchan.activity.config;
+
+/**
+ * 거래내역 기록 방식
+ */
+public enum ActivityRecordMode {
+
+    /**
+     * 잔액 트랜잭션 안에서 activity 테이블에 바로 INSERT
+     */
+    SYNC,
+
+    /**
+     * 잔액 트랜잭션 안에서 activity_outbox에 기록하고, 백그라운드 작성기가 activity로 배치 이관
+     */
+    OUTBOX
+}
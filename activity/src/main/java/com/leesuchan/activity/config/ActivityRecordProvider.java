@@ -0,0 +1,26 @@
+package com.leesuchan.activity.config;
+
+/**
+ * 거래내역 기록 설정 제공자
+ *
+ * <p>ActivityProperties에서 설정을 받아 정적으로 제공합니다.
+ * ActivityConfig에서 초기화됩니다.
+ */
+public class ActivityRecordProvider {
+
+    /**
+     * 거래내역 기록 방식
+     */
+    private static ActivityRecordMode mode = ActivityRecordMode.SYNC;
+
+    /**
+     * 설정을 초기화합니다. (ActivityConfig에서 호출)
+     */
+    public static void initialize(ActivityRecordMode mode) {
+        ActivityRecordProvider.mode = mode;
+    }
+
+    public static ActivityRecordMode getMode() {
+        return mode;
+    }
+}
@@ -0,0 +1,31 @@
+package com.leesuchan.activity.config;
+
+import com.leesuchan.activity.service.TransactionIdGenerator;
+
+/**
+ * 트랜잭션 ID 제공자
+ *
+ * <p>ActivityProperties의 노드 ID로 만든 TransactionIdGenerator를 정적으로 제공합니다.
+ * ActivityConfig에서 초기화됩니다.
+ */
+public class TransactionIdProvider {
+
+    /**
+     * 트랜잭션 ID 생성기 (초기화 전에는 노드 0)
+     */
+    private static volatile TransactionIdGenerator generator = new TransactionIdGenerator(0);
+
+    /**
+     * 설정을 초기화합니다. (ActivityConfig에서 호출)
+     */
+    public static void initialize(int nodeId) {
+        TransactionIdProvider.generator = new TransactionIdGenerator(nodeId);
+    }
+
+    /**
+     * 이체 출금/입금 쌍을 묶을 새 트랜잭션 ID를 발급합니다.
+     */
+    public static long nextId() {
+        return generator.nextId();
+    }
+}
@@ -18,8 +18,16 @@ import java.util.Objects;
 @Table(name = "activity")
 public class Activity {
 
+    /**
+     * 시퀀스(pooled optimizer) 기반 ID
+     *
+     * <p>IDENTITY는 INSERT 즉시 실행이 필요해 JDBC 배치가 비활성화되므로,
+     * 50개 단위로 ID를 미리 할당받아 INSERT를 배치로 묶습니다.
+     * (MySQL에서는 activity_seq 테이블로 시퀀스를 대체)
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "activity_seq_generator")
+    @SequenceGenerator(name = "activity_seq_generator", sequenceName = "activity_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "account_id", nullable = false)
@@ -47,8 +55,8 @@ public class Activity {
     @Column(name = "description", length = 200)
     private String description;
 
-    @Column(name = "transaction_id", length = 50)
-    private String transactionId;
+    @Column(name = "transaction_id")
+    private Long transactionId;
 
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -62,7 +70,32 @@ public class Activity {
             Long balanceAfter,
             TransactionReference transactionReference,
             String description,
-            String transactionId
+            Long transactionId
+    ) {
+        this(
+                accountId,
+                activityType,
+                amount,
+                fee,
+                balanceAfter,
+                transactionReference,
+                description,
+                transactionId,
+                LocalDateTime.now()
+        );
+    }
+
+    // 생성자 (패키지 private, Outbox 이관 시 원래 거래 시각 유지)
+    Activity(
+            Long accountId,
+            ActivityType activityType,
+            Long amount,
+            Long fee,
+            Long balanceAfter,
+            TransactionReference transactionReference,
+            String description,
+            Long transactionId,
+            LocalDateTime createdAt
     ) {
         this.accountId = accountId;
         this.activityType = activityType;
@@ -72,7 +105,7 @@ public class Activity {
         this.transactionReference = transactionReference;
         this.description = description;
         this.transactionId = transactionId;
-        this.createdAt = LocalDateTime.now();
+        this.createdAt = createdAt;
     }
 
     /**
@@ -117,7 +150,7 @@ public class Activity {
             Long amount,
             Long fee,
             Long balanceAfter,
-            String transactionId
+            Long transactionId
     ) {
         return new Activity(
                 accountId,
@@ -140,7 +173,7 @@ public class Activity {
             String referenceAccountNumber,
             Long amount,
             Long balanceAfter,
-            String transactionId
+            Long transactionId
     ) {
         return new Activity(
                 accountId,
@@ -154,6 +187,39 @@ public class Activity {
         );
     }
 
+    /**
+     * 보관(아카이브)된 거래내역 복원 팩토리 메서드 (ID와 거래 시각 유지)
+     *
+     * <p>영속성 컨텍스트에 올리지 않는 읽기 전용 객체로 사용합니다.
+     */
+    public static Activity restore(
+            Long id,
+            Long accountId,
+            ActivityType activityType,
+            Long amount,
+            Long fee,
+            Long balanceAfter,
+            Long referenceAccountId,
+            String referenceAccountNumber,
+            String description,
+            Long transactionId,
+            LocalDateTime createdAt
+    ) {
+        Activity activity = new Activity(
+                accountId,
+                activityType,
+                amount,
+                fee,
+                balanceAfter,
+                referenceAccountId == null ? null : TransactionReference.of(referenceAccountId, referenceAccountNumber),
+                description,
+                transactionId,
+                createdAt
+        );
+        activity.id = id;
+        return activity;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
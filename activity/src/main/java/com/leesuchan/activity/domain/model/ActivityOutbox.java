@@ -0,0 +1,119 @@
+package com.leesuchan.activity.domain.model;
+
+import com.leesuchan.activity.domain.model.vo.TransactionReference;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * 거래내역 Outbox Entity (JPA)
+ *
+ * <p>OUTBOX 모드에서 잔액 트랜잭션과 함께 기록되는 미이관 거래내역입니다.
+ * 보조 인덱스 없이 PK(+ account_id)만 두어 쓰기 비용을 줄이고,
+ * ActivityOutboxRelay가 activity 테이블로 배치 이관한 뒤 삭제합니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "activity_outbox")
+public class ActivityOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "activity_outbox_seq_generator")
+    @SequenceGenerator(name = "activity_outbox_seq_generator", sequenceName = "activity_outbox_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "account_id", nullable = false)
+    private Long accountId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "activity_type", nullable = false)
+    private ActivityType activityType;
+
+    @Column(name = "amount", nullable = false)
+    private Long amount;
+
+    @Column(name = "fee", nullable = false)
+    private Long fee;
+
+    @Column(name = "balance_after", nullable = false)
+    private Long balanceAfter;
+
+    @Embedded
+    private TransactionReference transactionReference;
+
+    @Column(name = "description", length = 200)
+    private String description;
+
+    @Column(name = "transaction_id")
+    private Long transactionId;
+
+    /**
+     * 원래 거래 시각 (이관 후 activity.created_at으로 그대로 사용)
+     */
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    private ActivityOutbox(Activity activity) {
+        this.accountId = activity.getAccountId();
+        this.activityType = activity.getActivityType();
+        this.amount = activity.getAmount();
+        this.fee = activity.getFee();
+        this.balanceAfter = activity.getBalanceAfter();
+        this.transactionReference = copyOf(activity.getTransactionReference());
+        this.description = activity.getDescription();
+        this.transactionId = activity.getTransactionId();
+        this.createdAt = activity.getCreatedAt();
+    }
+
+    /**
+     * Activity로부터 Outbox 행 생성
+     */
+    public static ActivityOutbox from(Activity activity) {
+        return new ActivityOutbox(activity);
+    }
+
+    /**
+     * activity 테이블에 저장할 Activity로 변환 (거래 시각 유지)
+     */
+    public Activity toActivity() {
+        return new Activity(
+                accountId,
+                activityType,
+                amount,
+                fee,
+                balanceAfter,
+                copyOf(transactionReference),
+                description,
+                transactionId,
+                createdAt
+        );
+    }
+
+    /**
+     * 임베디드 값 객체는 엔티티 간에 공유하지 않고 복사해서 사용
+     */
+    private static TransactionReference copyOf(TransactionReference reference) {
+        if (reference == null) {
+            return null;
+        }
+        return TransactionReference.of(reference.getAccountId(), reference.getAccountNumber());
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ActivityOutbox that = (ActivityOutbox) o;
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+}
@@ -0,0 +1,67 @@
+package com.leesuchan.activity.domain.model;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 계좌 잔액 체크포인트 Entity (JPA)
+ *
+ * <p>checkpointAt 시점에 계좌의 마지막 거래내역과 그 balance_after를 기록합니다.
+ * 특정 시점 잔액 조회는 체크포인트 이후의 거래내역만 탐색하면 되므로 탐색 범위가 체크포인트 주기로 제한됩니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "account_balance_checkpoint", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_account_balance_checkpoint", columnNames = {"account_id", "checkpoint_at"})
+})
+public class BalanceCheckpoint {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "account_id", nullable = false)
+    private Long accountId;
+
+    @Column(name = "checkpoint_at", nullable = false)
+    private LocalDateTime checkpointAt;
+
+    /**
+     * checkpointAt 이전(포함) 마지막 거래내역
+     */
+    @Column(name = "activity_id", nullable = false)
+    private Long activityId;
+
+    @Column(name = "activity_created_at", nullable = false)
+    private LocalDateTime activityCreatedAt;
+
+    @Column(name = "balance_after", nullable = false)
+    private Long balanceAfter;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    private BalanceCheckpoint(LocalDateTime checkpointAt, Activity activity) {
+        this.accountId = activity.getAccountId();
+        this.checkpointAt = checkpointAt;
+        this.activityId = activity.getId();
+        this.activityCreatedAt = activity.getCreatedAt();
+        this.balanceAfter = activity.getBalanceAfter();
+        this.createdAt = LocalDateTime.now();
+    }
+
+    /**
+     * 팩토리 메서드: checkpointAt 이전(포함) 마지막 거래내역으로 체크포인트 생성
+     */
+    public static BalanceCheckpoint of(LocalDateTime checkpointAt, Activity activity) {
+        if (activity.getCreatedAt().isAfter(checkpointAt)) {
+            throw new IllegalArgumentException("체크포인트 시각 이후의 거래내역으로 체크포인트를 만들 수 없습니다.");
+        }
+        return new BalanceCheckpoint(checkpointAt, activity);
+    }
+}
@@ -0,0 +1,46 @@
+package com.leesuchan.activity.domain.model.vo;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 거래내역 키셋 커서
+ *
+ * <p>마지막으로 내려준 거래내역의 (createdAt, id)를 Base64 URL-safe 문자열로 감싼 불투명 커서입니다.
+ * MVC 조회 API와 리액티브 조회 API가 같은 커서 형식을 사용합니다.
+ */
+public record ActivityCursor(LocalDateTime createdAt, Long id) {
+
+    private static final String DELIMITER = "|";
+
+    /**
+     * 커서 문자열로 인코딩합니다.
+     */
+    public String encode() {
+        String raw = createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열을 디코딩합니다.
+     *
+     * @throws IllegalArgumentException 형식이 잘못된 커서
+     */
+    public static ActivityCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int delimiterIndex = raw.lastIndexOf(DELIMITER);
+            if (delimiterIndex < 0) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+            return new ActivityCursor(
+                    LocalDateTime.parse(raw.substring(0, delimiterIndex)),
+                    Long.parseLong(raw.substring(delimiterIndex + 1))
+            );
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+}
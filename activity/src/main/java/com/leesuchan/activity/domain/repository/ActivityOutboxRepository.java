@@ -0,0 +1,36 @@
+package com.leesuchan.activity.domain.repository;
+
+import com.leesuchan.activity.domain.model.ActivityOutbox;
+
+import java.util.List;
+
+/**
+ * ActivityOutbox Repository Port 인터페이스
+ */
+public interface ActivityOutboxRepository {
+
+    /**
+     * Outbox 행을 저장합니다.
+     */
+    ActivityOutbox save(ActivityOutbox outbox);
+
+    /**
+     * 여러 Outbox 행을 한 번에 저장합니다 (JDBC 배치 INSERT).
+     */
+    List<ActivityOutbox> saveAll(List<ActivityOutbox> outboxes);
+
+    /**
+     * 오래된 순으로 미이관 행을 잠그고 조회합니다. (다른 작성기가 잠근 행은 건너뜀)
+     */
+    List<ActivityOutbox> findPendingForUpdate(int limit);
+
+    /**
+     * 특정 계좌의 미이관 행을 모두 잠그고 조회합니다. (다른 작성기가 잠근 행은 이관이 끝날 때까지 대기)
+     */
+    List<ActivityOutbox> findPendingByAccountIdForUpdate(Long accountId);
+
+    /**
+     * 이관이 끝난 행을 삭제합니다.
+     */
+    void deleteAll(List<ActivityOutbox> outboxes);
+}
@@ -2,7 +2,10 @@ package com.leesuchan.activity.domain.repository;
 
 import com.leesuchan.activity.domain.model.Activity;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * Activity Repository Port 인터페이스
@@ -15,12 +18,36 @@ public interface ActivityRepository {
     Activity save(Activity activity);
 
     /**
-     * 특정 계좌의 모든 거래내역을 조회합니다.
+     * 여러 Activity를 한 번에 저장합니다 (JDBC 배치 INSERT).
      */
-    List<Activity> findByAccountId(Long accountId);
+    List<Activity> saveAll(List<Activity> activities);
 
     /**
-     * 특정 계좌의 거래내역을 최신순으로 조회합니다.
+     * 특정 계좌의 거래내역을 (createdAt, id) 내림차순 키셋으로 조회합니다.
+     *
+     * <p>beforeCreatedAt/beforeId가 null이면 첫 페이지를,
+     * 아니면 해당 위치보다 오래된 거래내역을 최대 limit건 조회합니다.
      */
-    List<Activity> findByAccountIdOrderByCreatedAtDesc(Long accountId);
+    List<Activity> findByAccountIdBefore(Long accountId, LocalDateTime beforeCreatedAt, Long beforeId, int limit);
+
+    /**
+     * 특정 계좌의 [from, to) 구간 거래내역을 오래된 순으로 한 건씩 consumer에 전달합니다.
+     *
+     * <p>JDBC로 한 행씩 스트리밍하고 엔티티를 영속성 컨텍스트에 올리지 않으므로, 건수와 관계없이 힙 사용량이 일정합니다.
+     */
+    void forEachByAccountIdBetween(Long accountId, LocalDateTime from, LocalDateTime to, Consumer<Activity> consumer);
+
+    /**
+     * 특정 계좌의 (after, atOrBefore] 구간에서 (createdAt, id)가 가장 큰 거래내역을 조회합니다.
+     *
+     * <p>(account_id, created_at, id) 인덱스를 역순으로 한 번 탐색합니다. after가 null이면 하한 없이 조회합니다.
+     */
+    Optional<Activity> findLatestBetween(Long accountId, LocalDateTime after, LocalDateTime atOrBefore);
+
+    /**
+     * (after, atOrBefore] 구간에 거래내역이 있는 계좌 ID를 afterAccountId 다음부터 오름차순으로 최대 limit개 조회합니다.
+     *
+     * <p>after가 null이면 하한 없이 조회하고, afterAccountId가 null이면 처음부터 조회합니다.
+     */
+    List<Long> findAccountIdsWithActivityBetween(LocalDateTime after, LocalDateTime atOrBefore, Long afterAccountId, int limit);
 }
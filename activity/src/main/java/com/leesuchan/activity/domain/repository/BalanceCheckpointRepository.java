@@ -0,0 +1,28 @@
+package com.leesuchan.activity.domain.repository;
+
+import com.leesuchan.activity.domain.model.BalanceCheckpoint;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * BalanceCheckpoint Repository Port 인터페이스
+ */
+public interface BalanceCheckpointRepository {
+
+    /**
+     * 여러 체크포인트를 한 번에 저장합니다.
+     */
+    List<BalanceCheckpoint> saveAll(List<BalanceCheckpoint> checkpoints);
+
+    /**
+     * 계좌의 at 이전(포함) 가장 최근 체크포인트를 조회합니다.
+     */
+    Optional<BalanceCheckpoint> findLatestAtOrBefore(Long accountId, LocalDateTime at);
+
+    /**
+     * 전체 계좌 중 가장 최근 체크포인트 시각을 조회합니다.
+     */
+    Optional<LocalDateTime> findLatestCheckpointAt();
+}
@@ -0,0 +1,70 @@
+package com.leesuchan.activity.service;
+
+import com.leesuchan.activity.config.ActivityRecordMode;
+import com.leesuchan.activity.config.ActivityRecordProvider;
+import com.leesuchan.activity.domain.model.Activity;
+import com.leesuchan.activity.domain.model.ActivityOutbox;
+import com.leesuchan.activity.domain.repository.ActivityOutboxRepository;
+import com.leesuchan.activity.domain.repository.ActivityRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 거래내역 Outbox 이관 서비스
+ *
+ * <p>activity_outbox의 미이관 행을 activity 테이블로 배치 INSERT 하고 삭제합니다.
+ * 이관과 삭제는 한 트랜잭션에서 처리되므로, 같은 행이 두 번 이관되지 않습니다.
+ */
+@Service
+public class ActivityOutboxRelay {
+
+    private final ActivityOutboxRepository activityOutboxRepository;
+    private final ActivityRepository activityRepository;
+
+    public ActivityOutboxRelay(
+            ActivityOutboxRepository activityOutboxRepository,
+            ActivityRepository activityRepository
+    ) {
+        this.activityOutboxRepository = activityOutboxRepository;
+        this.activityRepository = activityRepository;
+    }
+
+    /**
+     * 오래된 순으로 최대 batchSize건을 이관합니다. (백그라운드 작성기에서 호출)
+     *
+     * @return 이관한 건수
+     */
+    @Transactional
+    public int drain(int batchSize) {
+        return relay(activityOutboxRepository.findPendingForUpdate(batchSize));
+    }
+
+    /**
+     * 특정 계좌의 미이관 행을 모두 이관합니다. (조회 전 read-your-writes 보장용)
+     *
+     * <p>SYNC 모드에서는 아무것도 하지 않습니다.
+     *
+     * @return 이관한 건수
+     */
+    @Transactional
+    public int drainAccount(Long accountId) {
+        if (ActivityRecordProvider.getMode() != ActivityRecordMode.OUTBOX) {
+            return 0;
+        }
+        return relay(activityOutboxRepository.findPendingByAccountIdForUpdate(accountId));
+    }
+
+    private int relay(List<ActivityOutbox> pending) {
+        if (pending.isEmpty()) {
+            return 0;
+        }
+        List<Activity> activities = pending.stream()
+                .map(ActivityOutbox::toActivity)
+                .toList();
+        activityRepository.saveAll(activities);
+        activityOutboxRepository.deleteAll(pending);
+        return pending.size();
+    }
+}
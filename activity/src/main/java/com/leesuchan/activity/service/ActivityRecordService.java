@@ -1,20 +1,33 @@
 package com.leesuchan.activity.service;
 
+import com.leesuchan.activity.config.ActivityRecordMode;
+import com.leesuchan.activity.config.ActivityRecordProvider;
 import com.leesuchan.activity.domain.model.Activity;
+import com.leesuchan.activity.domain.model.ActivityOutbox;
+import com.leesuchan.activity.domain.repository.ActivityOutboxRepository;
 import com.leesuchan.activity.domain.repository.ActivityRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 /**
  * 거래내역 기록 서비스
+ *
+ * <p>OUTBOX 모드에서는 activity_outbox에 기록하고, ActivityOutboxRelay가 activity로 이관합니다.
  */
 @Service
 public class ActivityRecordService {
 
     private final ActivityRepository activityRepository;
+    private final ActivityOutboxRepository activityOutboxRepository;
 
-    public ActivityRecordService(ActivityRepository activityRepository) {
+    public ActivityRecordService(
+            ActivityRepository activityRepository,
+            ActivityOutboxRepository activityOutboxRepository
+    ) {
         this.activityRepository = activityRepository;
+        this.activityOutboxRepository = activityOutboxRepository;
     }
 
     /**
@@ -23,7 +36,7 @@ public class ActivityRecordService {
     @Transactional
     public void recordDeposit(Long accountId, Long amount, Long balanceAfter) {
         Activity activity = Activity.deposit(accountId, amount, balanceAfter);
-        activityRepository.save(activity);
+        write(activity);
     }
 
     /**
@@ -32,7 +45,7 @@ public class ActivityRecordService {
     @Transactional
     public void recordWithdraw(Long accountId, Long amount, Long balanceAfter) {
         Activity activity = Activity.withdraw(accountId, amount, balanceAfter);
-        activityRepository.save(activity);
+        write(activity);
     }
 
     /**
@@ -46,7 +59,7 @@ public class ActivityRecordService {
             Long amount,
             Long fee,
             Long balanceAfter,
-            String transactionId
+            Long transactionId
     ) {
         Activity activity = Activity.transferOut(
                 fromAccountId,
@@ -57,7 +70,7 @@ public class ActivityRecordService {
                 balanceAfter,
                 transactionId
         );
-        activityRepository.save(activity);
+        write(activity);
     }
 
     /**
@@ -70,7 +83,7 @@ public class ActivityRecordService {
             String fromAccountNumber,
             Long amount,
             Long balanceAfter,
-            String transactionId
+            Long transactionId
     ) {
         Activity activity = Activity.transferIn(
                 toAccountId,
@@ -80,25 +93,27 @@ public class ActivityRecordService {
                 balanceAfter,
                 transactionId
         );
-        activityRepository.save(activity);
+        write(activity);
     }
 
     /**
      * 이체 거래내역을 기록합니다 (출금/입금 쌍).
+     *
+     * <p>두 건을 한 번에 저장하여 하나의 JDBC 배치로 INSERT 합니다.
      */
     @Transactional
     public void recordTransfer(
             Long fromAccountId,
             Long toAccountId,
+            String fromAccountNumber,
             String toAccountNumber,
             Long amount,
             Long fee,
             Long fromBalanceAfter,
             Long toBalanceAfter,
-            String transactionId
+            Long transactionId
     ) {
-        // 출금 Activity
-        recordTransferOut(
+        Activity transferOut = Activity.transferOut(
                 fromAccountId,
                 toAccountId,
                 toAccountNumber,
@@ -107,17 +122,42 @@ public class ActivityRecordService {
                 fromBalanceAfter,
                 transactionId
         );
-
-        // 입금 Activity
-        // 입금자에게도 상대방 계좌 정보를 표시하도록 수정
-        recordTransferIn(
+        // 입금자에게는 상대방(출금자) 계좌 정보를 표시
+        Activity transferIn = Activity.transferIn(
                 toAccountId,
                 fromAccountId,
-                toAccountNumber,  // 출금자의 계좌번호
+                fromAccountNumber,
                 amount,
                 toBalanceAfter,
                 transactionId
         );
+        writeAll(List.of(transferOut, transferIn));
     }
-}
 
+    /**
+     * 여러 건의 거래내역을 하나의 JDBC 배치로 기록합니다 (다건 거래용).
+     */
+    @Transactional
+    public void recordAll(List<Activity> activities) {
+        if (activities.isEmpty()) {
+            return;
+        }
+        writeAll(activities);
+    }
+
+    private void write(Activity activity) {
+        if (ActivityRecordProvider.getMode() == ActivityRecordMode.OUTBOX) {
+            activityOutboxRepository.save(ActivityOutbox.from(activity));
+            return;
+        }
+        activityRepository.save(activity);
+    }
+
+    private void writeAll(List<Activity> activities) {
+        if (ActivityRecordProvider.getMode() == ActivityRecordMode.OUTBOX) {
+            activityOutboxRepository.saveAll(activities.stream().map(ActivityOutbox::from).toList());
+            return;
+        }
+        activityRepository.saveAll(activities);
+    }
+}
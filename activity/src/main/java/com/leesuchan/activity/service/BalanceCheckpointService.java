@@ -0,0 +1,68 @@
+package com.leesuchan.activity.service;
+
+import com.leesuchan.activity.domain.model.BalanceCheckpoint;
+import com.leesuchan.activity.domain.repository.ActivityRepository;
+import com.leesuchan.activity.domain.repository.BalanceCheckpointRepository;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 계좌 잔액 체크포인트 생성 서비스
+ *
+ * <p>직전 체크포인트 이후 거래가 있었던 계좌만 골라 checkpointAt 시점의 마지막 거래내역을 기록합니다.
+ * 거래가 없던 계좌는 이전 체크포인트가 그대로 유효하므로 기록하지 않습니다.
+ * 배치마다 별도 트랜잭션으로 저장하므로, 중간에 실패해도 체크포인트가 빠진 계좌는 이전 체크포인트부터 탐색할 뿐 조회 결과는 같습니다.
+ */
+@Service
+public class BalanceCheckpointService {
+
+    private final ActivityRepository activityRepository;
+    private final BalanceCheckpointRepository balanceCheckpointRepository;
+
+    public BalanceCheckpointService(
+            ActivityRepository activityRepository,
+            BalanceCheckpointRepository balanceCheckpointRepository
+    ) {
+        this.activityRepository = activityRepository;
+        this.balanceCheckpointRepository = balanceCheckpointRepository;
+    }
+
+    /**
+     * checkpointAt 시점의 체크포인트를 생성합니다.
+     *
+     * <p>이미 checkpointAt 이후(포함)의 체크포인트가 있으면 아무것도 하지 않습니다.
+     *
+     * @param checkpointAt 체크포인트 시각 (이후 거래내역이 더 이관되지 않을 만큼 지난 시각)
+     * @param batchSize    한 번에 처리할 계좌 수
+     * @return 생성한 체크포인트 수
+     */
+    public int createCheckpoints(LocalDateTime checkpointAt, int batchSize) {
+        Optional<LocalDateTime> previous = balanceCheckpointRepository.findLatestCheckpointAt();
+        if (previous.isPresent() && !previous.get().isBefore(checkpointAt)) {
+            return 0;
+        }
+        LocalDateTime after = previous.orElse(null);
+
+        int created = 0;
+        Long afterAccountId = null;
+        List<Long> accountIds;
+        do {
+            accountIds = activityRepository.findAccountIdsWithActivityBetween(after, checkpointAt, afterAccountId, batchSize);
+            List<BalanceCheckpoint> checkpoints = new ArrayList<>(accountIds.size());
+            for (Long accountId : accountIds) {
+                activityRepository.findLatestBetween(accountId, after, checkpointAt)
+                        .ifPresent(activity -> checkpoints.add(BalanceCheckpoint.of(checkpointAt, activity)));
+            }
+            balanceCheckpointRepository.saveAll(checkpoints);
+            created += checkpoints.size();
+            if (!accountIds.isEmpty()) {
+                afterAccountId = accountIds.get(accountIds.size() - 1);
+            }
+        } while (accountIds.size() == batchSize);
+        return created;
+    }
+}
@@ -0,0 +1,46 @@
+package com.leesuchan.activity.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ActivityOutbox 엔티티 테스트")
+class ActivityOutboxTest {
+
+    @Test
+    @DisplayName("Activity로부터 Outbox 행을 만들고 다시 Activity로 변환하면 거래 정보와 거래 시각이 유지된다")
+    void round_trip_keeps_activity_fields() {
+        // given
+        Activity activity = Activity.transferOut(1L, 2L, "0987654321", 10000L, 100L, 39900L, 1L);
+
+        // when
+        Activity restored = ActivityOutbox.from(activity).toActivity();
+
+        // then
+        assertThat(restored.getId()).isNull();
+        assertThat(restored.getAccountId()).isEqualTo(1L);
+        assertThat(restored.getActivityType()).isEqualTo(ActivityType.TRANSFER_OUT);
+        assertThat(restored.getAmount()).isEqualTo(10000L);
+        assertThat(restored.getFee()).isEqualTo(100L);
+        assertThat(restored.getBalanceAfter()).isEqualTo(39900L);
+        assertThat(restored.getTransactionReference()).isEqualTo(activity.getTransactionReference());
+        assertThat(restored.getTransactionId()).isEqualTo(1L);
+        assertThat(restored.getCreatedAt()).isEqualTo(activity.getCreatedAt());
+    }
+
+    @Test
+    @DisplayName("참조 정보가 없는 입금 Activity도 변환된다")
+    void round_trip_without_reference() {
+        // given
+        Activity activity = Activity.deposit(1L, 10000L, 10000L);
+
+        // when
+        Activity restored = ActivityOutbox.from(activity).toActivity();
+
+        // then
+        assertThat(restored.getActivityType()).isEqualTo(ActivityType.DEPOSIT);
+        assertThat(restored.getTransactionReference()).isNull();
+        assertThat(restored.getCreatedAt()).isEqualTo(activity.getCreatedAt());
+    }
+}
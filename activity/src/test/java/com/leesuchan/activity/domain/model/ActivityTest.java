@@ -64,7 +64,7 @@ class ActivityTest {
         Long amount = 10000L;
         Long fee = 100L;
         Long balanceAfter = 39900L;
-        String transactionId = "tx-12345";
+        Long transactionId = 12345L;
 
         // when
         Activity activity = Activity.transferOut(
@@ -99,7 +99,7 @@ class ActivityTest {
         String referenceAccountNumber = "1234567890";
         Long amount = 10000L;
         Long balanceAfter = 20000L;
-        String transactionId = "tx-12345";
+        Long transactionId = 12345L;
 
         // when
         Activity activity = Activity.transferIn(
@@ -148,7 +148,7 @@ class ActivityTest {
     @DisplayName("이체 Activity는 참조 정보가 있다")
     void transfer_activity_has_reference() {
         // given & when
-        Activity activity = Activity.transferOut(1L, 2L, "0987654321", 10000L, 100L, 39900L, "tx-12345");
+        Activity activity = Activity.transferOut(1L, 2L, "0987654321", 10000L, 100L, 39900L, 12345L);
 
         // then
         assertThat(activity.getTransactionReference()).isNotNull();
@@ -0,0 +1,111 @@
+package com.leesuchan.activity.service;
+
+import com.leesuchan.activity.config.ActivityRecordMode;
+import com.leesuchan.activity.config.ActivityRecordProvider;
+import com.leesuchan.activity.domain.model.Activity;
+import com.leesuchan.activity.domain.model.ActivityOutbox;
+import com.leesuchan.activity.domain.model.ActivityType;
+import com.leesuchan.activity.domain.repository.ActivityOutboxRepository;
+import com.leesuchan.activity.domain.repository.ActivityRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ActivityOutboxRelay 테스트")
+class ActivityOutboxRelayTest {
+
+    @Mock
+    private ActivityOutboxRepository activityOutboxRepository;
+
+    @Mock
+    private ActivityRepository activityRepository;
+
+    private ActivityOutboxRelay activityOutboxRelay;
+
+    @BeforeEach
+    void setUp() {
+        activityOutboxRelay = new ActivityOutboxRelay(activityOutboxRepository, activityRepository);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ActivityRecordProvider.initialize(ActivityRecordMode.SYNC);
+    }
+
+    @Test
+    @DisplayName("미이관 행을 activity로 배치 저장하고 outbox에서 삭제한다")
+    void drain_moves_pending_rows() {
+        // given
+        List<ActivityOutbox> pending = List.of(
+                ActivityOutbox.from(Activity.deposit(1L, 10000L, 10000L)),
+                ActivityOutbox.from(Activity.withdraw(1L, 3000L, 7000L))
+        );
+        when(activityOutboxRepository.findPendingForUpdate(100)).thenReturn(pending);
+
+        // when
+        int drained = activityOutboxRelay.drain(100);
+
+        // then
+        assertThat(drained).isEqualTo(2);
+        verify(activityRepository).saveAll(argThat(activities ->
+                activities.size() == 2 &&
+                        activities.get(0).getActivityType() == ActivityType.DEPOSIT &&
+                        activities.get(1).getActivityType() == ActivityType.WITHDRAW
+        ));
+        verify(activityOutboxRepository).deleteAll(pending);
+    }
+
+    @Test
+    @DisplayName("미이관 행이 없으면 아무것도 저장하지 않는다")
+    void drain_nothing_pending() {
+        // given
+        when(activityOutboxRepository.findPendingForUpdate(100)).thenReturn(List.of());
+
+        // when
+        int drained = activityOutboxRelay.drain(100);
+
+        // then
+        assertThat(drained).isZero();
+        verifyNoInteractions(activityRepository);
+        verify(activityOutboxRepository, never()).deleteAll(any());
+    }
+
+    @Test
+    @DisplayName("Outbox 모드에서 계좌별 미이관 행을 이관한다")
+    void drain_account_in_outbox_mode() {
+        // given
+        ActivityRecordProvider.initialize(ActivityRecordMode.OUTBOX);
+        List<ActivityOutbox> pending = List.of(ActivityOutbox.from(Activity.deposit(1L, 10000L, 10000L)));
+        when(activityOutboxRepository.findPendingByAccountIdForUpdate(1L)).thenReturn(pending);
+
+        // when
+        int drained = activityOutboxRelay.drainAccount(1L);
+
+        // then
+        assertThat(drained).isEqualTo(1);
+        verify(activityRepository).saveAll(anyList());
+        verify(activityOutboxRepository).deleteAll(pending);
+    }
+
+    @Test
+    @DisplayName("SYNC 모드에서는 계좌별 이관을 하지 않는다")
+    void drain_account_in_sync_mode_does_nothing() {
+        // when
+        int drained = activityOutboxRelay.drainAccount(1L);
+
+        // then
+        assertThat(drained).isZero();
+        verifyNoInteractions(activityOutboxRepository, activityRepository);
+    }
+}
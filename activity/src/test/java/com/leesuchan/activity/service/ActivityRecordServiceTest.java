@@ -1,8 +1,13 @@
 package com.leesuchan.activity.service;
 
+import com.leesuchan.activity.config.ActivityRecordMode;
+import com.leesuchan.activity.config.ActivityRecordProvider;
 import com.leesuchan.activity.domain.model.Activity;
+import com.leesuchan.activity.domain.model.ActivityOutbox;
 import com.leesuchan.activity.domain.model.ActivityType;
+import com.leesuchan.activity.domain.repository.ActivityOutboxRepository;
 import com.leesuchan.activity.domain.repository.ActivityRepository;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -10,6 +15,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
@@ -21,11 +28,19 @@ class ActivityRecordServiceTest {
     @Mock
     private ActivityRepository activityRepository;
 
+    @Mock
+    private ActivityOutboxRepository activityOutboxRepository;
+
     private ActivityRecordService activityRecordService;
 
     @BeforeEach
     void setUp() {
-        activityRecordService = new ActivityRecordService(activityRepository);
+        activityRecordService = new ActivityRecordService(activityRepository, activityOutboxRepository);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ActivityRecordProvider.initialize(ActivityRecordMode.SYNC);
     }
 
     @Test
@@ -82,7 +97,7 @@ class ActivityRecordServiceTest {
         Long amount = 10000L;
         Long fee = 100L;
         Long balanceAfter = 39900L;
-        String transactionId = "tx-12345";
+        Long transactionId = 12345L;
         when(activityRepository.save(any(Activity.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         // when
@@ -119,7 +134,7 @@ class ActivityRecordServiceTest {
         String fromAccountNumber = "1234567890";
         Long amount = 10000L;
         Long balanceAfter = 20000L;
-        String transactionId = "tx-12345";
+        Long transactionId = 12345L;
         when(activityRepository.save(any(Activity.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         // when
@@ -147,23 +162,25 @@ class ActivityRecordServiceTest {
     }
 
     @Test
-    @DisplayName("이체 거래내역을 기록한다 (출금/입금 쌍)")
+    @DisplayName("이체 거래내역을 기록한다 (출금/입금 쌍을 한 번에 저장)")
     void record_transfer() {
         // given
         Long fromAccountId = 1L;
         Long toAccountId = 2L;
+        String fromAccountNumber = "1234567890";
         String toAccountNumber = "0987654321";
         Long amount = 10000L;
         Long fee = 100L;
         Long fromBalanceAfter = 39900L;
         Long toBalanceAfter = 20000L;
-        String transactionId = "tx-12345";
-        when(activityRepository.save(any(Activity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        Long transactionId = 12345L;
+        when(activityRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
 
         // when
         activityRecordService.recordTransfer(
                 fromAccountId,
                 toAccountId,
+                fromAccountNumber,
                 toAccountNumber,
                 amount,
                 fee,
@@ -173,21 +190,89 @@ class ActivityRecordServiceTest {
         );
 
         // then
-        verify(activityRepository, times(2)).save(any(Activity.class));
+        verify(activityRepository, never()).save(any(Activity.class));
+        verify(activityRepository).saveAll(argThat(activities -> {
+            if (activities.size() != 2) {
+                return false;
+            }
+            Activity out = activities.get(0);
+            Activity in = activities.get(1);
+            return out.getAccountId().equals(fromAccountId) &&
+                    out.getActivityType() == ActivityType.TRANSFER_OUT &&
+                    out.getFee().equals(fee) &&
+                    out.getTransactionReference().getAccountNumber().equals(toAccountNumber) &&
+                    in.getAccountId().equals(toAccountId) &&
+                    in.getActivityType() == ActivityType.TRANSFER_IN &&
+                    in.getFee() == 0L && // 입금자는 수수료 없음
+                    in.getTransactionReference().getAccountId().equals(fromAccountId) &&
+                    in.getTransactionReference().getAccountNumber().equals(fromAccountNumber) &&
+                    in.getTransactionId().equals(transactionId);
+        }));
+    }
 
-        verify(activityRepository).save(argThat(activity ->
-                activity.getAccountId().equals(fromAccountId) &&
-                        activity.getActivityType() == ActivityType.TRANSFER_OUT &&
-                        activity.getFee().equals(fee)
+    @Test
+    @DisplayName("여러 건의 거래내역을 한 번에 저장한다")
+    void record_all() {
+        // given
+        List<Activity> activities = List.of(
+                Activity.deposit(1L, 1000L, 1000L),
+                Activity.withdraw(1L, 500L, 500L),
+                Activity.deposit(2L, 300L, 300L)
+        );
+        when(activityRepository.saveAll(activities)).thenReturn(activities);
+
+        // when
+        activityRecordService.recordAll(activities);
+
+        // then
+        verify(activityRepository).saveAll(activities);
+    }
+
+    @Test
+    @DisplayName("저장할 거래내역이 없으면 저장소를 호출하지 않는다")
+    void record_all_empty() {
+        // when
+        activityRecordService.recordAll(List.of());
+
+        // then
+        verifyNoInteractions(activityRepository);
+    }
+
+    @Test
+    @DisplayName("Outbox 모드: 입금 거래내역을 activity 대신 outbox에 기록한다")
+    void record_deposit_to_outbox() {
+        // given
+        ActivityRecordProvider.initialize(ActivityRecordMode.OUTBOX);
+        when(activityOutboxRepository.save(any(ActivityOutbox.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        activityRecordService.recordDeposit(1L, 10000L, 10000L);
+
+        // then
+        verify(activityOutboxRepository).save(argThat(outbox ->
+                outbox.getAccountId().equals(1L) &&
+                        outbox.getActivityType() == ActivityType.DEPOSIT &&
+                        outbox.getAmount().equals(10000L)
         ));
+        verifyNoInteractions(activityRepository);
+    }
 
-        verify(activityRepository).save(argThat(activity ->
-                activity.getAccountId().equals(toAccountId) &&
-                        activity.getActivityType() == ActivityType.TRANSFER_IN &&
-                        activity.getFee() == 0L && // 입금자는 수수료 없음
-                        activity.getTransactionReference() != null &&
-                        activity.getTransactionReference().getAccountId().equals(fromAccountId) &&
-                        activity.getTransactionReference().getAccountNumber().equals(toAccountNumber)
+    @Test
+    @DisplayName("Outbox 모드: 이체 거래내역 쌍을 outbox에 한 번에 기록한다")
+    void record_transfer_to_outbox() {
+        // given
+        ActivityRecordProvider.initialize(ActivityRecordMode.OUTBOX);
+        when(activityOutboxRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        activityRecordService.recordTransfer(1L, 2L, "1234567890", "0987654321", 10000L, 100L, 39900L, 20000L, 12345L);
+
+        // then
+        verify(activityOutboxRepository).saveAll(argThat(outboxes ->
+                outboxes.size() == 2 &&
+                        outboxes.get(0).getActivityType() == ActivityType.TRANSFER_OUT &&
+                        outboxes.get(1).getActivityType() == ActivityType.TRANSFER_IN
         ));
+        verifyNoInteractions(activityRepository);
     }
 }
@@ -0,0 +1,85 @@
+package com.leesuchan.activity.service;
+
+import com.leesuchan.activity.domain.model.Activity;
+import com.leesuchan.activity.domain.model.BalanceCheckpoint;
+import com.leesuchan.activity.domain.repository.ActivityRepository;
+import com.leesuchan.activity.domain.repository.BalanceCheckpointRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BalanceCheckpointService 테스트")
+class BalanceCheckpointServiceTest {
+
+    @Mock
+    private ActivityRepository activityRepository;
+
+    @Mock
+    private BalanceCheckpointRepository balanceCheckpointRepository;
+
+    private BalanceCheckpointService balanceCheckpointService;
+
+    @BeforeEach
+    void setUp() {
+        balanceCheckpointService = new BalanceCheckpointService(activityRepository, balanceCheckpointRepository);
+    }
+
+    @Test
+    @DisplayName("직전 체크포인트 이후 거래가 있는 계좌만 배치 단위로 체크포인트를 생성한다")
+    void create_checkpoints_for_accounts_with_activity() {
+        // given
+        LocalDateTime previous = LocalDateTime.now().minusDays(1);
+        LocalDateTime checkpointAt = LocalDateTime.now().plusMinutes(1);
+        when(balanceCheckpointRepository.findLatestCheckpointAt()).thenReturn(Optional.of(previous));
+        when(activityRepository.findAccountIdsWithActivityBetween(previous, checkpointAt, null, 2)).thenReturn(List.of(1L, 2L));
+        when(activityRepository.findAccountIdsWithActivityBetween(previous, checkpointAt, 2L, 2)).thenReturn(List.of(3L));
+        when(activityRepository.findLatestBetween(anyLong(), eq(previous), eq(checkpointAt)))
+                .thenAnswer(invocation -> Optional.of(Activity.deposit(invocation.getArgument(0), 1000L, 5000L)));
+
+        // when
+        int created = balanceCheckpointService.createCheckpoints(checkpointAt, 2);
+
+        // then
+        assertThat(created).isEqualTo(3);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<BalanceCheckpoint>> captor = ArgumentCaptor.forClass(List.class);
+        verify(balanceCheckpointRepository, times(2)).saveAll(captor.capture());
+        assertThat(captor.getAllValues()).flatExtracting(checkpoints -> checkpoints)
+                .extracting(BalanceCheckpoint::getAccountId, BalanceCheckpoint::getCheckpointAt, BalanceCheckpoint::getBalanceAfter)
+                .containsExactly(
+                        tuple(1L, checkpointAt, 5000L),
+                        tuple(2L, checkpointAt, 5000L),
+                        tuple(3L, checkpointAt, 5000L)
+                );
+    }
+
+    @Test
+    @DisplayName("이미 같은 시각 이후의 체크포인트가 있으면 생성하지 않는다")
+    void skip_when_checkpoint_exists() {
+        // given
+        LocalDateTime checkpointAt = LocalDateTime.now();
+        when(balanceCheckpointRepository.findLatestCheckpointAt()).thenReturn(Optional.of(checkpointAt));
+
+        // when
+        int created = balanceCheckpointService.createCheckpoints(checkpointAt, 100);
+
+        // then
+        assertThat(created).isZero();
+        verifyNoInteractions(activityRepository);
+        verify(balanceCheckpointRepository, never()).saveAll(any());
+    }
+}
@@ -0,0 +1,114 @@
+package com.leesuchan.activity.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("TransactionIdGenerator 테스트")
+class TransactionIdGeneratorTest {
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 수백만 개를 발급해도 ID가 겹치지 않고, 스레드마다 증가한다")
+    void unique_across_threads() throws Exception {
+        // given
+        int threads = 8;
+        int perThread = 500_000;
+        TransactionIdGenerator generator = new TransactionIdGenerator(7);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // when
+        List<Future<long[]>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(() -> {
+                long[] ids = new long[perThread];
+                start.await();
+                for (int i = 0; i < perThread; i++) {
+                    ids[i] = generator.nextId();
+                }
+                return ids;
+            }));
+        }
+        start.countDown();
+
+        long[] all = new long[threads * perThread];
+        int offset = 0;
+        for (Future<long[]> future : futures) {
+            long[] ids = future.get(60, TimeUnit.SECONDS);
+            for (int i = 1; i < ids.length; i++) {
+                assertThat(ids[i]).isGreaterThan(ids[i - 1]);
+            }
+            System.arraycopy(ids, 0, all, offset, ids.length);
+            offset += ids.length;
+        }
+        executor.shutdown();
+
+        // then
+        Arrays.sort(all);
+        for (int i = 1; i < all.length; i++) {
+            assertThat(all[i]).isNotEqualTo(all[i - 1]);
+        }
+        assertThat(all[0]).isPositive();
+    }
+
+    @Test
+    @DisplayName("노드 ID가 다르면 같은 밀리초에 발급해도 ID가 다르다")
+    void different_nodes_never_collide() {
+        // given
+        TransactionIdGenerator node1 = new TransactionIdGenerator(1);
+        TransactionIdGenerator node2 = new TransactionIdGenerator(2);
+
+        // when
+        long[] ids1 = new long[10_000];
+        long[] ids2 = new long[10_000];
+        for (int i = 0; i < ids1.length; i++) {
+            ids1[i] = node1.nextId();
+            ids2[i] = node2.nextId();
+        }
+
+        // then
+        assertThat(Arrays.stream(ids1).map(TransactionIdGenerator::nodeIdOf).distinct().toArray()).containsExactly(1);
+        assertThat(Arrays.stream(ids2).map(TransactionIdGenerator::nodeIdOf).distinct().toArray()).containsExactly(2);
+        Arrays.sort(ids2);
+        assertThat(Arrays.stream(ids1).filter(id -> Arrays.binarySearch(ids2, id) >= 0).count()).isZero();
+    }
+
+    @Test
+    @DisplayName("ID에서 발급 시각을 복원할 수 있다")
+    void timestamp_round_trip() {
+        // given
+        TransactionIdGenerator generator = new TransactionIdGenerator(0);
+        long before = System.currentTimeMillis();
+
+        // when
+        long id = generator.nextId();
+
+        // then
+        assertThat(TransactionIdGenerator.timestampOf(id)).isBetween(before, System.currentTimeMillis());
+    }
+
+    @Test
+    @DisplayName("노드 ID가 범위를 벗어나거나 이관 전용 노드 ID(1023)이면 예외가 발생한다")
+    void invalid_node_id_throws_exception() {
+        assertThat(TransactionIdGenerator.MAX_NODE_ID).isEqualTo(1022);
+        assertThat(new TransactionIdGenerator(TransactionIdGenerator.MAX_NODE_ID).nextId())
+                .extracting(TransactionIdGenerator::nodeIdOf)
+                .isEqualTo(1022);
+        assertThatThrownBy(() -> new TransactionIdGenerator(TransactionIdGenerator.MIGRATED_NODE_ID))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new TransactionIdGenerator(1024))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new TransactionIdGenerator(-1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,33 @@
+plugins {
+    id("me.champeau.jmh") version "0.7.2"
+}
+
+dependencies {
+    jmh(project(":account"))
+    jmh(project(":activity"))
+    jmh(project(":common"))
+    jmh(project(":service"))
+
+    jmh("com.fasterxml.jackson.core:jackson-databind")
+    jmh("com.fasterxml.jackson.datatype:jackson-datatype-jsr310")
+}
+
+/**
+ * 커밋별 결과 비교를 위해 JSON 결과를 benchmarks/results/{커밋 해시}.json 에 저장
+ */
+val commitHash = providers.exec {
+    commandLine("git", "rev-parse", "--short", "HEAD")
+    isIgnoreExitValue = true
+}.standardOutput.asText.map { it.trim().ifEmpty { "local" } }
+
+jmh {
+    jmhVersion.set("1.37")
+    resultFormat.set("JSON")
+    resultsFile.set(layout.projectDirectory.file(commitHash.map { "results/$it.json" }))
+    fork.set(1)
+    warmupIterations.set(3)
+    iterations.set(5)
+    timeUnit.set("ns")
+    benchmarkMode.set(listOf("avgt"))
+    includes.set(providers.gradleProperty("jmhIncludes").map { listOf(it) }.orElse(listOf(".*")))
+}
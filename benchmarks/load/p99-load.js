@@ -0,0 +1,82 @@
+// 동시 접속 부하 테스트 (k6)
+//
+// 플랫폼 스레드 모드와 가상 스레드 모드의 p99 응답 시간을 같은 조건에서 비교합니다.
+//   VIRTUAL_THREADS_ENABLED=false ./gradlew :service:bootRun   →  k6 run benchmarks/load/p99-load.js
+//   VIRTUAL_THREADS_ENABLED=true  ./gradlew :service:bootRun   →  k6 run benchmarks/load/p99-load.js
+//
+// 환경 변수: BASE_URL (기본 http://localhost:8080), VUS (동시 접속 수, 기본 1000),
+//           DURATION (기본 2m), ACCOUNTS (사용할 계좌 수, 기본 1000)
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const ACCOUNTS = parseInt(__ENV.ACCOUNTS || '1000', 10);
+const JSON_HEADERS = { headers: { 'Content-Type': 'application/json' } };
+
+export const options = {
+    scenarios: {
+        clients: {
+            executor: 'constant-vus',
+            vus: parseInt(__ENV.VUS || '1000', 10),
+            duration: __ENV.DURATION || '2m',
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+    // 요청 종류별 p99를 요약에 따로 출력하기 위한 (항상 통과하는) 임계값
+    thresholds: {
+        'http_req_duration{op:deposit}': ['p(99)>=0'],
+        'http_req_duration{op:transfer}': ['p(99)>=0'],
+        'http_req_duration{op:account}': ['p(99)>=0'],
+    },
+};
+
+function accountNumber(i) {
+    return String(9_000_000_000 + i);
+}
+
+function randomAccount() {
+    return accountNumber(Math.floor(Math.random() * ACCOUNTS));
+}
+
+// 부하용 계좌를 일괄 등록하고 이체 잔액을 채워 둠 (이미 있는 계좌번호는 건너뜀)
+export function setup() {
+    const accounts = [];
+    for (let i = 0; i < ACCOUNTS; i++) {
+        accounts.push({ accountNumber: accountNumber(i), accountName: `부하 테스트 ${i}` });
+    }
+    http.post(`${BASE_URL}/api/v1/accounts/batch`, JSON.stringify({ accounts }), JSON_HEADERS);
+
+    for (let i = 0; i < ACCOUNTS; i++) {
+        http.post(`${BASE_URL}/api/v1/transactions/deposit`,
+            JSON.stringify({ accountNumber: accountNumber(i), amount: 10_000_000 }), JSON_HEADERS);
+    }
+}
+
+// 입금 50% / 이체 20% / 계좌 조회 30%
+export default function () {
+    const roll = Math.random();
+    let res;
+    if (roll < 0.5) {
+        res = http.post(`${BASE_URL}/api/v1/transactions/deposit`,
+            JSON.stringify({ accountNumber: randomAccount(), amount: 1_000 }),
+            Object.assign({ tags: { op: 'deposit' } }, JSON_HEADERS));
+    } else if (roll < 0.7) {
+        const from = randomAccount();
+        let to = randomAccount();
+        if (to === from) {
+            to = accountNumber((parseInt(from, 10) - 9_000_000_000 + 1) % ACCOUNTS);
+        }
+        res = http.post(`${BASE_URL}/api/v1/transactions/transfer`,
+            JSON.stringify({ fromAccountNumber: from, toAccountNumber: to, amount: 100 }),
+            Object.assign({ tags: { op: 'transfer' } }, JSON_HEADERS));
+    } else {
+        res = http.get(`${BASE_URL}/api/v1/accounts/${randomAccount()}`, { tags: { op: 'account' } });
+    }
+
+    // 409(낙관적 락 충돌)와 503(커넥션 대기 초과)은 부하 상황의 정상 응답으로 따로 집계
+    check(res, {
+        'status 2xx': (r) => r.status >= 200 && r.status < 300,
+        'status 409': (r) => r.status === 409,
+        'status 503': (r) => r.status === 503,
+    });
+}
@@ -0,0 +1,56 @@
+package com.leesuchan.benchmarks;
+
+import com.leesuchan.account.config.AccountLimitProvider;
+import com.leesuchan.account.domain.model.Account;
+import com.leesuchan.account.domain.model.vo.FeeSchedule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * 계좌 도메인 입금/출금/이체 벤치마크
+ *
+ * <p>반복 실행 중 한도/잔액 예외가 나지 않도록 한도를 최대값으로 올리고 충분한 잔액을 넣어 둡니다.
+ * 한도 추적기의 날짜 확인(LocalDate.now())과 수수료 계산 비용이 함께 측정됩니다.
+ */
+@State(Scope.Thread)
+public class AccountBenchmark {
+
+    private static final long AMOUNT = 1_000L;
+    private static final long INITIAL_BALANCE = Long.MAX_VALUE / 4;
+
+    private Account from;
+    private Account to;
+
+    @Setup
+    public void setUp() {
+        AccountLimitProvider.initialize(Long.MAX_VALUE / 2, Long.MAX_VALUE / 2, FeeSchedule.flat(100));
+        from = Account.create("BENCH000001", "벤치마크 출금 계좌");
+        to = Account.create("BENCH000002", "벤치마크 입금 계좌");
+        from.deposit(INITIAL_BALANCE);
+    }
+
+    @TearDown
+    public void tearDown() {
+        AccountLimitProvider.initialize(1_000_000L, 3_000_000L, FeeSchedule.flat(100));
+    }
+
+    @Benchmark
+    public long deposit() {
+        to.deposit(AMOUNT);
+        return to.getBalance();
+    }
+
+    @Benchmark
+    public long withdraw() {
+        from.withdraw(AMOUNT);
+        return from.getBalance();
+    }
+
+    @Benchmark
+    public long transfer() {
+        return from.transfer(to, AMOUNT);
+    }
+}
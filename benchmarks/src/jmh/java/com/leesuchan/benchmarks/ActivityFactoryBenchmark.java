@@ -0,0 +1,40 @@
+package com.leesuchan.benchmarks;
+
+import com.leesuchan.activity.domain.model.Activity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 거래내역 팩토리 메서드 벤치마크
+ */
+@State(Scope.Thread)
+public class ActivityFactoryBenchmark {
+
+    private long accountId = 1L;
+    private long referenceAccountId = 2L;
+    private String referenceAccountNumber = "0000000002";
+    private long amount = 10_000L;
+    private long balanceAfter = 90_000L;
+    private Long transactionId = 1L;
+
+    @Benchmark
+    public Activity deposit() {
+        return Activity.deposit(accountId, amount, balanceAfter);
+    }
+
+    @Benchmark
+    public Activity withdraw() {
+        return Activity.withdraw(accountId, amount, balanceAfter);
+    }
+
+    @Benchmark
+    public Activity transferOut() {
+        return Activity.transferOut(accountId, referenceAccountId, referenceAccountNumber, amount, 100L, balanceAfter, transactionId);
+    }
+
+    @Benchmark
+    public Activity transferIn() {
+        return Activity.transferIn(referenceAccountId, accountId, "0000000001", amount, balanceAfter, transactionId);
+    }
+}
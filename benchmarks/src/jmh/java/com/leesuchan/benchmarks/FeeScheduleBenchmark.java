@@ -0,0 +1,74 @@
+package com.leesuchan.benchmarks;
+
+import com.leesuchan.account.config.FeeMode;
+import com.leesuchan.account.domain.model.vo.FeeSchedule;
+import com.leesuchan.account.domain.model.vo.FeeTier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 이체 수수료 계산 벤치마크
+ *
+ * <p>변경 전 double 곱셈과 컴파일된 수수료표(단일 요율 / 구간 8개 BRACKET / MARGINAL)를 비교합니다.
+ * 금액은 미리 만든 배열을 순환하여 분기 예측이 한 구간에 고정되지 않도록 합니다.
+ */
+@State(Scope.Thread)
+public class FeeScheduleBenchmark {
+
+    private static final int AMOUNT_COUNT = 1_024;
+
+    private final long[] amounts = new long[AMOUNT_COUNT];
+    private int cursor;
+
+    private double legacyRate;
+    private FeeSchedule flat;
+    private FeeSchedule bracket;
+    private FeeSchedule marginal;
+
+    @Setup
+    public void setUp() {
+        for (int i = 0; i < AMOUNT_COUNT; i++) {
+            amounts[i] = ThreadLocalRandom.current().nextLong(1, 20_000_000);
+        }
+        legacyRate = 0.01;
+        flat = FeeSchedule.flat(100);
+        List<FeeTier> tiers = List.of(
+                new FeeTier(0, 100), new FeeTier(100_000, 90), new FeeTier(500_000, 80), new FeeTier(1_000_000, 70),
+                new FeeTier(2_000_000, 60), new FeeTier(5_000_000, 50), new FeeTier(10_000_000, 40), new FeeTier(15_000_000, 30)
+        );
+        bracket = FeeSchedule.compile(FeeMode.BRACKET, tiers, 100, 50_000L);
+        marginal = FeeSchedule.compile(FeeMode.MARGINAL, tiers, 100, 50_000L);
+    }
+
+    private long nextAmount() {
+        return amounts[cursor++ & (AMOUNT_COUNT - 1)];
+    }
+
+    /**
+     * 변경 전: (long) (amount * rate)
+     */
+    @Benchmark
+    public long legacyDouble() {
+        return (long) (nextAmount() * legacyRate);
+    }
+
+    @Benchmark
+    public long flatSchedule() {
+        return flat.calculate(nextAmount());
+    }
+
+    @Benchmark
+    public long bracketSchedule() {
+        return bracket.calculate(nextAmount());
+    }
+
+    @Benchmark
+    public long marginalSchedule() {
+        return marginal.calculate(nextAmount());
+    }
+}
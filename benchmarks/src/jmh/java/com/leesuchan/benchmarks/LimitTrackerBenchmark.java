@@ -0,0 +1,44 @@
+package com.leesuchan.benchmarks;
+
+import com.leesuchan.account.domain.model.vo.TransferLimitTracker;
+import com.leesuchan.account.domain.model.vo.WithdrawLimitTracker;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 일일 한도 추적기 벤치마크
+ *
+ * <p>trackAmount는 호출마다 LocalDate.now()를 여러 번 호출하므로 시계 조회 비용을 분리해 측정합니다.
+ */
+@State(Scope.Thread)
+public class LimitTrackerBenchmark {
+
+    private static final long AMOUNT = 1_000L;
+
+    private TransferLimitTracker transferLimitTracker;
+    private WithdrawLimitTracker withdrawLimitTracker;
+
+    @Setup
+    public void setUp() {
+        transferLimitTracker = TransferLimitTracker.create();
+        withdrawLimitTracker = WithdrawLimitTracker.create();
+    }
+
+    @Benchmark
+    public long transferTrackAmount() {
+        return transferLimitTracker.trackAmount(AMOUNT);
+    }
+
+    @Benchmark
+    public long withdrawTrackAmount() {
+        return withdrawLimitTracker.trackAmount(AMOUNT);
+    }
+
+    @Benchmark
+    public long transferResetIfNeeded() {
+        transferLimitTracker.resetIfNeeded();
+        return transferLimitTracker.getAccumulatedAmount();
+    }
+}
@@ -0,0 +1,86 @@
+package com.leesuchan.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.leesuchan.account.domain.model.Account;
+import com.leesuchan.activity.domain.model.Activity;
+import com.leesuchan.common.response.ApiResponse;
+import com.leesuchan.service.dto.response.AccountResponse;
+import com.leesuchan.service.dto.response.ActivityResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 응답 DTO 매핑 및 Jackson 직렬화 벤치마크
+ *
+ * <p>ObjectMapper는 Spring Boot 기본 설정과 같게 JavaTimeModule 등록, 날짜 타임스탬프 직렬화 비활성화로 구성합니다.
+ */
+@State(Scope.Thread)
+public class ResponseMappingBenchmark {
+
+    @Param({"1", "50"})
+    private int activityCount;
+
+    private ObjectMapper objectMapper;
+    private Account account;
+    private List<Activity> activities;
+    private AccountResponse accountResponse;
+    private List<ActivityResponse> activityResponses;
+
+    @Setup
+    public void setUp() {
+        objectMapper = JsonMapper.builder()
+                .addModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+
+        account = Account.create("BENCH000001", "벤치마크 계좌");
+        account.deposit(100_000L);
+
+        activities = new ArrayList<>(activityCount);
+        for (int i = 0; i < activityCount; i++) {
+            activities.add(i % 2 == 0
+                    ? Activity.transferOut(1L, 2L, "0000000002", 1_000L, 10L, 100_000L - i, (long) i)
+                    : Activity.deposit(1L, 1_000L, 100_000L + i));
+        }
+
+        accountResponse = AccountResponse.from(account);
+        activityResponses = activities.stream().map(ActivityResponse::from).toList();
+    }
+
+    @Benchmark
+    public AccountResponse mapAccountResponse() {
+        return AccountResponse.from(account);
+    }
+
+    @Benchmark
+    public List<ActivityResponse> mapActivityResponses() {
+        return activities.stream().map(ActivityResponse::from).toList();
+    }
+
+    @Benchmark
+    public String serializeAccountResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(ApiResponse.success(accountResponse));
+    }
+
+    @Benchmark
+    public String serializeActivityResponses() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(ApiResponse.success(activityResponses));
+    }
+
+    @Benchmark
+    public String mapAndSerializeActivityResponses() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(ApiResponse.success(
+                activities.stream().map(ActivityResponse::from).toList()
+        ));
+    }
+}
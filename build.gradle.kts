@@ -17,6 +17,12 @@ subprojects {
         imports {
             mavenBom("org.springframework.boot:spring-boot-dependencies:3.2.0")
         }
+        // Boot 3.2.0 관리 버전(Connector/J 8.1.0, HikariCP 5.0.1)은 synchronized 안에서 I/O를 기다려
+        // 가상 스레드가 캐리어 스레드를 고정(pinning)하므로, ReentrantLock으로 바꾼 버전으로 올림
+        dependencies {
+            dependency("com.mysql:mysql-connector-j:9.1.0")
+            dependency("com.zaxxer:HikariCP:5.1.0")
+        }
     }
 
     repositories {
@@ -30,8 +36,8 @@ subprojects {
     }
 
     tasks.withType<JavaCompile> {
-        sourceCompatibility = "17"
-        targetCompatibility = "17"
+        sourceCompatibility = "21"
+        targetCompatibility = "21"
     }
 
     tasks.test {
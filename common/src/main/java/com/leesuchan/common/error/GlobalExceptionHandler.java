@@ -11,9 +11,12 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
+import java.util.concurrent.RejectedExecutionException;
 import java.util.stream.Collectors;
 
 /**
@@ -61,6 +64,28 @@ public class GlobalExceptionHandler {
                 .body(ApiResponse.error("INVALID_ARGUMENT", e.getMessage()));
     }
 
+    /**
+     * 쿼리 파라미터 누락/형식 오류 처리 (@RequestParam)
+     */
+    @ExceptionHandler({MissingServletRequestParameterException.class, MethodArgumentTypeMismatchException.class})
+    public ResponseEntity<ApiResponse<Void>> handleRequestParameterException(Exception e) {
+        log.warn("잘못된 요청 파라미터: {}", e.getMessage());
+        return ResponseEntity
+                .status(HttpStatus.BAD_REQUEST)
+                .body(ApiResponse.error("INVALID_ARGUMENT", "요청 파라미터가 없거나 형식이 올바르지 않습니다."));
+    }
+
+    /**
+     * 작업 대기열 초과 처리 (잠시 후 재시도 가능)
+     */
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ResponseEntity<ApiResponse<Void>> handleRejectedExecutionException(RejectedExecutionException e) {
+        log.warn("작업 대기열 초과: {}", e.getMessage());
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(ApiResponse.error("SERVICE_BUSY", "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."));
+    }
+
     /**
      * 그 외 예외 처리
      */
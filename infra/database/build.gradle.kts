@@ -4,5 +4,7 @@ dependencies {
     implementation(project(":activity"))
 
     implementation("org.springframework.boot:spring-boot-starter-data-jpa")
+    implementation("com.github.ben-manes.caffeine:caffeine")
+    implementation("io.micrometer:micrometer-core")
     runtimeOnly("com.mysql:mysql-connector-j")
 }
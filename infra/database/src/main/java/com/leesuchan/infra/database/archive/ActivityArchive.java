@@ -0,0 +1,254 @@
+package com.leesuchan.infra.database.archive;
+
+import com.leesuchan.activity.domain.model.Activity;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * 거래내역 아카이브 (월별 세그먼트 파일 모음)
+ *
+ * <p>horizon(가장 최근 아카이브 월의 다음 달 1일) 이전의 거래내역은 아카이브에서만 읽습니다.
+ * horizon 이전 행이 MySQL에 남아 있으면(purge 전이거나 삭제 진행 중) 세그먼트와 중복이므로 버리고,
+ * 아카이브 이후 늦게 들어온 행은 작성 인스턴스가 그 달을 다시 seal(replace)한 뒤부터 보입니다.
+ * 세그먼트 목록은 불변 스냅샷을 volatile 참조로 교체하므로 조회는 락 없이 읽습니다.
+ *
+ * <p>디렉터리는 여러 인스턴스가 공유할 수 있습니다. 세그먼트는 작성 인스턴스 하나만 쓰고,
+ * 나머지 인스턴스는 refresh()로 새로 seal되거나 다시 seal된 세그먼트를 반영합니다.
+ */
+@Slf4j
+public class ActivityArchive {
+
+    private final Path directory;
+
+    private volatile NavigableMap<YearMonth, ActivitySegment> segments;
+
+    /**
+     * 작성 인스턴스용 아카이브
+     *
+     * @param directory 세그먼트 디렉터리 (없으면 생성, 남아 있는 임시 파일은 삭제)
+     */
+    public ActivityArchive(Path directory) {
+        this(directory, true);
+    }
+
+    /**
+     * @param directory 세그먼트 디렉터리
+     * @param writer    이 인스턴스가 세그먼트를 작성하는지 여부
+     *                  (작성 인스턴스만 디렉터리를 만들고 seal 전에 중단된 임시 파일을 삭제)
+     */
+    public ActivityArchive(Path directory, boolean writer) {
+        this.directory = directory;
+        if (writer) {
+            deleteTemporaryFiles();
+        }
+        NavigableMap<YearMonth, ActivitySegment> loaded = scan(Collections.emptyNavigableMap());
+        this.segments = Collections.unmodifiableNavigableMap(loaded);
+        log.info("거래내역 아카이브 세그먼트 {}개 로드 ({})", loaded.size(), directory);
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * 이 시각 이전 거래내역은 아카이브에서 읽습니다. (아카이브가 비어 있으면 null)
+     */
+    public LocalDateTime horizon() {
+        NavigableMap<YearMonth, ActivitySegment> current = segments;
+        return current.isEmpty() ? null : current.lastKey().plusMonths(1).atDay(1).atStartOfDay();
+    }
+
+    public Optional<ActivitySegment> segment(YearMonth month) {
+        return Optional.ofNullable(segments.get(month));
+    }
+
+    /**
+     * seal된 세그먼트 파일을 조회 대상에 추가합니다. (horizon이 그 달 다음 달로 이동)
+     */
+    public synchronized ActivitySegment register(Path sealedSegment) {
+        ActivitySegment segment = ActivitySegment.open(sealedSegment);
+        NavigableMap<YearMonth, ActivitySegment> current = segments;
+        if (!current.isEmpty() && !segment.getMonth().isAfter(current.lastKey())) {
+            throw new IllegalStateException("아카이브 세그먼트는 오래된 달부터 순서대로 추가해야 합니다: " + segment.getMonth());
+        }
+        TreeMap<YearMonth, ActivitySegment> next = new TreeMap<>(current);
+        next.put(segment.getMonth(), segment);
+        segments = Collections.unmodifiableNavigableMap(next);
+        return segment;
+    }
+
+    /**
+     * 이미 아카이브한 구간(horizon 이전)의 달을 다시 seal한 세그먼트로 바꿉니다. (세그먼트가 없던 달이면 추가, horizon은 그대로)
+     */
+    public synchronized ActivitySegment replace(Path sealedSegment) {
+        ActivitySegment segment = ActivitySegment.open(sealedSegment);
+        NavigableMap<YearMonth, ActivitySegment> current = segments;
+        if (current.isEmpty() || segment.getMonth().isAfter(current.lastKey())) {
+            throw new IllegalStateException("아카이브 구간 밖의 달은 다시 seal할 수 없습니다: " + segment.getMonth());
+        }
+        TreeMap<YearMonth, ActivitySegment> next = new TreeMap<>(current);
+        next.put(segment.getMonth(), segment);
+        segments = Collections.unmodifiableNavigableMap(next);
+        return segment;
+    }
+
+    /**
+     * 디렉터리를 다시 읽어 다른 인스턴스가 새로 seal했거나 다시 seal한 세그먼트를 조회 대상에 반영합니다.
+     *
+     * @return 새로 연 세그먼트 수
+     */
+    public synchronized int refresh() {
+        NavigableMap<YearMonth, ActivitySegment> current = segments;
+        NavigableMap<YearMonth, ActivitySegment> next = scan(current);
+        int opened = (int) next.entrySet().stream()
+                .filter(entry -> current.get(entry.getKey()) != entry.getValue())
+                .count();
+        if (opened > 0 || next.size() != current.size()) {
+            segments = Collections.unmodifiableNavigableMap(next);
+            log.info("거래내역 아카이브 세그먼트 {}개 반영 ({})", opened, directory);
+        }
+        return opened;
+    }
+
+    /**
+     * 계좌의 [from, to) 구간 보관 거래내역을 오래된 순으로 consumer에 전달합니다. (null이면 제한 없음)
+     */
+    public void forEachByAccountId(Long accountId, LocalDateTime from, LocalDateTime to, Consumer<Activity> consumer) {
+        for (ActivitySegment segment : segmentsBetween(from, to).values()) {
+            segment.forEachByAccountId(accountId, from, to, consumer);
+        }
+    }
+
+    /**
+     * 계좌의 보관 거래내역 중 (createdAt, id)가 (beforeCreatedAt, beforeId)보다 작은 것을 최신순으로 최대 limit건 조회합니다.
+     * (beforeCreatedAt이 null이면 가장 최근부터)
+     */
+    public List<Activity> findByAccountIdBefore(Long accountId, LocalDateTime beforeCreatedAt, Long beforeId, int limit) {
+        List<Activity> page = new ArrayList<>(limit);
+        for (ActivitySegment segment : segmentsBetween(null, beforeCreatedAt == null ? null : beforeCreatedAt.plusNanos(1))
+                .descendingMap().values()) {
+            List<Activity> monthRows = new ArrayList<>();
+            segment.forEachByAccountId(accountId, null, null, activity -> {
+                if (beforeCreatedAt == null || isBefore(activity, beforeCreatedAt, beforeId)) {
+                    monthRows.add(activity);
+                }
+            });
+            for (int i = monthRows.size() - 1; i >= 0 && page.size() < limit; i--) {
+                page.add(monthRows.get(i));
+            }
+            if (page.size() == limit) {
+                break;
+            }
+        }
+        return page;
+    }
+
+    /**
+     * 계좌의 (after, atOrBefore] 구간 보관 거래내역 중 (createdAt, id)가 가장 큰 것을 조회합니다. (after가 null이면 하한 없음)
+     */
+    public Optional<Activity> findLatestBetween(Long accountId, LocalDateTime after, LocalDateTime atOrBefore) {
+        for (ActivitySegment segment : segmentsBetween(after, atOrBefore.plusNanos(1)).descendingMap().values()) {
+            Activity[] latest = {null};
+            segment.forEachByAccountId(accountId, null, null, activity -> {
+                if ((after == null || activity.getCreatedAt().isAfter(after))
+                        && !activity.getCreatedAt().isAfter(atOrBefore)) {
+                    latest[0] = activity;
+                }
+            });
+            if (latest[0] != null) {
+                return Optional.of(latest[0]);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * (after, atOrBefore] 구간에 보관 거래내역이 있는 계좌 ID를 afterAccountId 다음부터 오름차순으로 최대 limit개 조회합니다.
+     */
+    public List<Long> findAccountIdsBetween(LocalDateTime after, LocalDateTime atOrBefore, Long afterAccountId, int limit) {
+        TreeSet<Long> accountIds = new TreeSet<>();
+        long from = afterAccountId == null ? 0L : afterAccountId;
+        for (ActivitySegment segment : segmentsBetween(after, atOrBefore.plusNanos(1)).values()) {
+            segment.collectAccountIds(after, atOrBefore, from, limit, accountIds);
+        }
+        return accountIds.stream().limit(limit).toList();
+    }
+
+    /**
+     * 디렉터리의 seal된 세그먼트 (파일 수정 시각이 그대로인 세그먼트는 current의 것을 재사용)
+     */
+    private NavigableMap<YearMonth, ActivitySegment> scan(NavigableMap<YearMonth, ActivitySegment> current) {
+        TreeMap<YearMonth, ActivitySegment> loaded = new TreeMap<>();
+        if (!Files.isDirectory(directory)) {
+            // 작성 인스턴스가 아직 디렉터리를 만들지 않음
+            return loaded;
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path path : files.toList()) {
+                YearMonth month = ActivitySegmentFormat.monthOf(path);
+                if (month == null) {
+                    continue;
+                }
+                ActivitySegment known = current.get(month);
+                loaded.put(month, known != null && known.getModifiedTime().equals(Files.getLastModifiedTime(path))
+                        ? known
+                        : ActivitySegment.open(path));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return loaded;
+    }
+
+    private void deleteTemporaryFiles() {
+        try {
+            Files.createDirectories(directory);
+            try (Stream<Path> files = Files.list(directory)) {
+                for (Path path : files.toList()) {
+                    if (path.getFileName().toString().endsWith(ActivitySegmentFormat.EXTENSION + ".tmp")) {
+                        // seal 전에 중단된 작성분
+                        Files.delete(path);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * [from, to) 구간과 겹치는 월 세그먼트 (null이면 제한 없음)
+     */
+    private NavigableMap<YearMonth, ActivitySegment> segmentsBetween(LocalDateTime from, LocalDateTime to) {
+        NavigableMap<YearMonth, ActivitySegment> current = segments;
+        if (current.isEmpty()) {
+            return current;
+        }
+        YearMonth first = from == null ? current.firstKey() : YearMonth.from(from);
+        YearMonth last = to == null ? current.lastKey() : YearMonth.from(to.minusNanos(1));
+        if (last.isBefore(first)) {
+            return Collections.emptyNavigableMap();
+        }
+        return current.subMap(first, true, last, true);
+    }
+
+    private static boolean isBefore(Activity activity, LocalDateTime createdAt, Long id) {
+        int byCreatedAt = activity.getCreatedAt().compareTo(createdAt);
+        return byCreatedAt < 0 || (byCreatedAt == 0 && id != null && activity.getId() < id);
+    }
+}
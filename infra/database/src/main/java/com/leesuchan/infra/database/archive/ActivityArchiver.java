@@ -0,0 +1,290 @@
+package com.leesuchan.infra.database.archive;
+
+import com.leesuchan.activity.domain.model.Activity;
+import com.leesuchan.infra.database.repository.ActivityRowMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.UncategorizedSQLException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.nio.file.Path;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 거래내역 아카이브 작성기
+ *
+ * <p>보관 기간(retention)이 지난 달을 가장 오래된 달부터 한 달씩 처리합니다.
+ * <ol>
+ *     <li>그 달 거래내역을 (account_id, created_at, id) 순으로 스트리밍해 세그먼트 파일로 seal</li>
+ *     <li>세그먼트를 아카이브에 등록 (이후 그 달 조회는 아카이브에서 읽음)</li>
+ *     <li>purge가 켜져 있고 seal 후 purgeDelay가 지났으면 세그먼트에 담긴 ID만 deleteBatchSize건씩 MySQL에서 삭제</li>
+ * </ol>
+ * 매 실행마다 먼저 horizon 이전 달 중 MySQL에 행이 남아 있는 달을 정리합니다. 대기 시간이 지난 세그먼트의 행을 삭제하고,
+ * 세그먼트에 없는 행(아카이브 이후 늦게 들어온 거래내역)이 있으면 기존 세그먼트와 병합해 그 달을 다시 seal합니다.
+ * purgeDelay는 다른 인스턴스가 refresh로 새 세그먼트를 읽기 시작할 때까지 MySQL 행을 남겨 두는 시간입니다.
+ *
+ * <p>purge를 끄면 아카이브한 달의 행이 MySQL에 그대로 남으므로, 늦은 행을 찾는 COUNT가 매 실행마다 달 전체를 셉니다.
+ * seal 후 lateRowWindow가 지난 뒤 늦은 행이 없음을 확인한 달은 확정(settled)으로 기록하고 다시 세지 않습니다.
+ * (기록은 메모리에만 있으므로 재기동 후 한 번씩 다시 셈)
+ */
+@Slf4j
+public class ActivityArchiver {
+
+    static final String SELECT_OLDEST = "SELECT MIN(created_at) FROM activity";
+
+    static final String SELECT_OLDEST_FROM = "SELECT MIN(created_at) FROM activity WHERE created_at >= ?";
+
+    static final String SELECT_OLDEST_BETWEEN = "SELECT MIN(created_at) FROM activity WHERE created_at >= ? AND created_at < ?";
+
+    static final String COUNT_MONTH = "SELECT COUNT(*) FROM activity WHERE created_at >= ? AND created_at < ?";
+
+    static final String SELECT_MONTH = "SELECT " + ActivityRowMapper.COLUMNS + " FROM activity "
+            + "WHERE created_at >= ? AND created_at < ? "
+            + "ORDER BY account_id, created_at, id";
+
+    /**
+     * MySQL 이외 DB의 월 조회 fetch size
+     */
+    private static final int FETCH_SIZE = 1_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ActivityArchive archive;
+    private final Duration retention;
+    private final int deleteBatchSize;
+    private final boolean purge;
+    private final Duration purgeDelay;
+    private final Duration lateRowWindow;
+
+    /**
+     * 늦은 행이 더 들어오지 않는다고 확인한 달 (purge가 꺼져 있을 때만 사용)
+     */
+    private final Set<YearMonth> settledMonths = ConcurrentHashMap.newKeySet();
+
+    /**
+     * @param dataSource      primary 풀
+     * @param archive         세그먼트를 등록할 아카이브
+     * @param retention       MySQL에 남겨 둘 기간 (이 기간이 지난 달 전체를 아카이브)
+     * @param deleteBatchSize 한 번에 삭제할 건수
+     * @param purge           아카이브한 행을 MySQL에서 삭제할지 여부
+     * @param purgeDelay      seal 후 삭제까지 기다릴 시간
+     * @param lateRowWindow   seal 후 늦은 행이 들어올 수 있는 기간 (purge를 끈 경우, 지난 뒤 확인한 달은 다시 세지 않음)
+     */
+    public ActivityArchiver(DataSource dataSource, ActivityArchive archive, Duration retention, int deleteBatchSize,
+                            boolean purge, Duration purgeDelay, Duration lateRowWindow) {
+        if (deleteBatchSize < 1) {
+            throw new IllegalArgumentException("삭제 배치 크기는 1 이상이어야 합니다.");
+        }
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.archive = archive;
+        this.retention = retention;
+        this.deleteBatchSize = deleteBatchSize;
+        this.purge = purge;
+        this.purgeDelay = purgeDelay;
+        this.lateRowWindow = lateRowWindow;
+    }
+
+    /**
+     * 아카이브한 달을 정리한 뒤, 보관 기간이 지난 달을 아카이브합니다.
+     *
+     * @param today 기준 날짜 (today - retention이 속한 달의 이전 달까지 아카이브)
+     * @return 새로 아카이브한 달 수
+     */
+    public int archive(LocalDate today) {
+        reconcileArchivedMonths();
+
+        YearMonth cutoff = YearMonth.from(today.minusDays(retention.toDays()));
+        int archived = 0;
+        while (true) {
+            LocalDateTime horizon = archive.horizon();
+            LocalDateTime oldest = horizon == null
+                    ? jdbcTemplate.queryForObject(SELECT_OLDEST, LocalDateTime.class)
+                    : jdbcTemplate.queryForObject(SELECT_OLDEST_FROM, LocalDateTime.class, horizon);
+            if (oldest == null || !YearMonth.from(oldest).isBefore(cutoff)) {
+                return archived;
+            }
+            YearMonth month = YearMonth.from(oldest);
+            ActivitySegment segment = archive.register(writeSegment(month, null));
+            int deleted = purgeable(segment) ? deleteArchivedRows(segment) : 0;
+            log.info("{} 거래내역 {}건 아카이브, MySQL에서 {}건 삭제", month, segment.getRowCount(), deleted);
+            archived++;
+        }
+    }
+
+    /**
+     * horizon 이전 달 중 MySQL에 행이 남아 있는 달을 오래된 달부터 정리합니다. (확정된 달은 건너뜀)
+     */
+    private void reconcileArchivedMonths() {
+        LocalDateTime horizon = archive.horizon();
+        if (horizon == null) {
+            return;
+        }
+        LocalDateTime oldest = jdbcTemplate.queryForObject(SELECT_OLDEST, LocalDateTime.class);
+        while (oldest != null && oldest.isBefore(horizon)) {
+            YearMonth month = YearMonth.from(oldest);
+            if (!settledMonths.contains(month)) {
+                reconcile(month);
+            }
+            oldest = jdbcTemplate.queryForObject(SELECT_OLDEST_BETWEEN, LocalDateTime.class,
+                    month.plusMonths(1).atDay(1).atStartOfDay(), horizon);
+        }
+    }
+
+    /**
+     * 대기 시간이 지난 세그먼트의 행을 삭제하고, 남은 행이 세그먼트보다 많으면 병합해 다시 seal합니다.
+     */
+    private void reconcile(YearMonth month) {
+        Optional<ActivitySegment> archived = archive.segment(month);
+        boolean purged = archived.filter(this::purgeable).isPresent();
+        int deleted = purged ? deleteArchivedRows(archived.get()) : 0;
+
+        // 삭제했으면 남은 행은 모두 세그먼트에 없는 행, 아니면 세그먼트 행 수보다 많은 만큼이 늦게 들어온 행
+        long rows = jdbcTemplate.queryForObject(COUNT_MONTH, Long.class,
+                month.atDay(1).atStartOfDay(), month.plusMonths(1).atDay(1).atStartOfDay());
+        long archivedRows = purged ? 0L : archived.map(ActivitySegment::getRowCount).orElse(0L);
+        if (rows <= archivedRows) {
+            if (deleted > 0) {
+                log.info("{} 아카이브 거래내역 MySQL에서 {}건 삭제", month, deleted);
+            }
+            if (!purge && archived.filter(this::settled).isPresent()) {
+                settledMonths.add(month);
+            }
+            return;
+        }
+
+        ActivitySegment resealed = archive.replace(writeSegment(month, archived.orElse(null)));
+        int lateDeleted = purgeable(resealed) ? deleteArchivedRows(resealed) : 0;
+        log.warn("{} 아카이브 이후 들어온 거래내역을 병합해 다시 seal ({}건 → {}건), MySQL에서 {}건 삭제",
+                month, archived.map(ActivitySegment::getRowCount).orElse(0L), resealed.getRowCount(), deleted + lateDeleted);
+    }
+
+    private boolean settled(ActivitySegment segment) {
+        return !segment.getModifiedTime().toInstant().isAfter(Instant.now().minus(lateRowWindow));
+    }
+
+    private boolean purgeable(ActivitySegment segment) {
+        return purge && !segment.getModifiedTime().toInstant().isAfter(Instant.now().minus(purgeDelay));
+    }
+
+    /**
+     * 그 달의 MySQL 행을 (account_id, created_at, id) 순으로 스트리밍해 seal합니다.
+     * base가 있으면 같은 순서로 병합하고, 양쪽에 모두 있는 행(같은 ID)은 한 번만 씁니다.
+     *
+     * <p>이 문장에서만 MySQL 행 단위 스트리밍(fetch size Integer.MIN_VALUE)을 켜므로 월 건수와 관계없이 힙 사용량이 일정합니다.
+     */
+    private Path writeSegment(YearMonth month, ActivitySegment base) {
+        Timestamp from = Timestamp.valueOf(month.atDay(1).atStartOfDay());
+        Timestamp to = Timestamp.valueOf(month.plusMonths(1).atDay(1).atStartOfDay());
+        try (ActivitySegmentWriter writer = new ActivitySegmentWriter(archive.getDirectory(), month)) {
+            jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+                try (PreparedStatement statement = connection.prepareStatement(SELECT_MONTH)) {
+                    boolean mysql = "MySQL".equals(connection.getMetaData().getDatabaseProductName());
+                    statement.setFetchSize(mysql ? Integer.MIN_VALUE : FETCH_SIZE);
+                    statement.setTimestamp(1, from);
+                    statement.setTimestamp(2, to);
+                    try (ResultSet rs = statement.executeQuery()) {
+                        MonthRows rows = new MonthRows(rs);
+                        if (base != null) {
+                            base.forEach(archived -> {
+                                while (rows.peek() != null && ActivitySegmentWriter.compare(rows.peek(), archived) < 0) {
+                                    writer.append(rows.next());
+                                }
+                                if (rows.peek() != null && rows.peek().getId().equals(archived.getId())) {
+                                    rows.next();
+                                }
+                                writer.append(archived);
+                            });
+                        }
+                        while (rows.peek() != null) {
+                            writer.append(rows.next());
+                        }
+                    }
+                }
+                return null;
+            });
+            return writer.seal();
+        }
+    }
+
+    /**
+     * 세그먼트에 담긴 ID를 배치 단위로 삭제합니다. (created_at 범위로 해당 월 파티션만 탐색)
+     */
+    private int deleteArchivedRows(ActivitySegment segment) {
+        Object[] range = {
+                segment.getMonth().atDay(1).atStartOfDay(),
+                segment.getMonth().plusMonths(1).atDay(1).atStartOfDay()
+        };
+        List<Long> batch = new ArrayList<>(deleteBatchSize);
+        int[] deleted = {0};
+        segment.forEach(activity -> {
+            batch.add(activity.getId());
+            if (batch.size() == deleteBatchSize) {
+                deleted[0] += delete(range, batch);
+                batch.clear();
+            }
+        });
+        if (!batch.isEmpty()) {
+            deleted[0] += delete(range, batch);
+        }
+        return deleted[0];
+    }
+
+    private int delete(Object[] range, List<Long> ids) {
+        String sql = "DELETE FROM activity WHERE created_at >= ? AND created_at < ? AND id IN ("
+                + String.join(",", Collections.nCopies(ids.size(), "?")) + ")";
+        Object[] args = new Object[ids.size() + 2];
+        args[0] = range[0];
+        args[1] = range[1];
+        for (int i = 0; i < ids.size(); i++) {
+            args[i + 2] = ids.get(i);
+        }
+        return jdbcTemplate.update(sql, args);
+    }
+
+    /**
+     * 월 조회 결과를 한 행 앞서 읽어 두는 커서 (병합 시 세그먼트 행과 비교)
+     */
+    private static final class MonthRows {
+
+        private final ResultSet rs;
+        private Activity head;
+        private int rowNum = 0;
+
+        MonthRows(ResultSet rs) {
+            this.rs = rs;
+            advance();
+        }
+
+        Activity peek() {
+            return head;
+        }
+
+        Activity next() {
+            Activity current = head;
+            advance();
+            return current;
+        }
+
+        private void advance() {
+            try {
+                head = rs.next() ? ActivityRowMapper.INSTANCE.mapRow(rs, rowNum++) : null;
+            } catch (SQLException e) {
+                throw new UncategorizedSQLException("거래내역 월 조회", SELECT_MONTH, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package com.leesuchan.infra.database.archive;
+
+import com.leesuchan.activity.domain.model.Activity;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.function.Consumer;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * 거래내역 세그먼트 (읽기 전용)
+ *
+ * <p>파일 전체를 읽기 전용으로 메모리 매핑하고, 블록 인덱스(블록당 첫/마지막 account_id)만 힙에 둡니다.
+ * 계좌 조회는 인덱스 이진 탐색으로 해당 계좌가 들어 있는 블록만 풀어 읽습니다.
+ * 매핑 버퍼는 절대 위치 slice로만 읽으므로 여러 스레드에서 동시에 조회해도 안전합니다.
+ */
+public class ActivitySegment {
+
+    private final Path path;
+    private final FileTime modifiedTime;
+    private final YearMonth month;
+    private final MappedByteBuffer buffer;
+    private final long rowCount;
+
+    private final long[] firstAccountIds;
+    private final long[] lastAccountIds;
+    private final int[] offsets;
+    private final int[] compressedLengths;
+    private final int[] rawLengths;
+
+    private ActivitySegment(Path path, FileTime modifiedTime, MappedByteBuffer buffer) {
+        this.path = path;
+        this.modifiedTime = modifiedTime;
+        this.buffer = buffer;
+
+        int footer = buffer.capacity() - ActivitySegmentFormat.FOOTER_BYTES;
+        if (footer < 0
+                || buffer.getInt(footer + 24) != ActivitySegmentFormat.MAGIC
+                || buffer.getInt(footer + 28) != ActivitySegmentFormat.VERSION) {
+            throw new IllegalStateException("거래내역 세그먼트 파일이 아닙니다: " + path);
+        }
+        int yearMonth = buffer.getInt(footer);
+        this.month = YearMonth.of(yearMonth / 100, yearMonth % 100);
+        int blockCount = buffer.getInt(footer + 4);
+        this.rowCount = buffer.getLong(footer + 8);
+        int indexOffset = (int) buffer.getLong(footer + 16);
+
+        this.firstAccountIds = new long[blockCount];
+        this.lastAccountIds = new long[blockCount];
+        this.offsets = new int[blockCount];
+        this.compressedLengths = new int[blockCount];
+        this.rawLengths = new int[blockCount];
+        for (int i = 0; i < blockCount; i++) {
+            int entry = indexOffset + i * ActivitySegmentFormat.INDEX_ENTRY_BYTES;
+            firstAccountIds[i] = buffer.getLong(entry);
+            lastAccountIds[i] = buffer.getLong(entry + 8);
+            offsets[i] = (int) buffer.getLong(entry + 16);
+            compressedLengths[i] = buffer.getInt(entry + 24);
+            rawLengths[i] = buffer.getInt(entry + 28);
+        }
+    }
+
+    /**
+     * 세그먼트 파일을 엽니다.
+     */
+    public static ActivitySegment open(Path path) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            // 매핑은 채널을 닫은 뒤에도 버퍼가 GC될 때까지 유효
+            FileTime modifiedTime = Files.getLastModifiedTime(path);
+            return new ActivitySegment(path, modifiedTime, channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    /**
+     * 세그먼트를 연 시점의 파일 수정 시각 (같은 달을 다시 seal하면 바뀜)
+     */
+    public FileTime getModifiedTime() {
+        return modifiedTime;
+    }
+
+    public YearMonth getMonth() {
+        return month;
+    }
+
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * 계좌의 [from, to) 구간 거래내역을 (created_at, id) 오름차순으로 consumer에 전달합니다.
+     *
+     * @param from 시작 시각 (포함, null이면 제한 없음)
+     * @param to   종료 시각 (미포함, null이면 제한 없음)
+     */
+    public void forEachByAccountId(long accountId, LocalDateTime from, LocalDateTime to, Consumer<Activity> consumer) {
+        for (int block = firstBlockFor(accountId); block < firstAccountIds.length && firstAccountIds[block] <= accountId; block++) {
+            readBlock(block, activity -> {
+                if (activity.getAccountId() == accountId
+                        && (from == null || !activity.getCreatedAt().isBefore(from))
+                        && (to == null || activity.getCreatedAt().isBefore(to))) {
+                    consumer.accept(activity);
+                }
+            });
+        }
+    }
+
+    /**
+     * (after, atOrBefore] 구간에 거래내역이 있는 계좌 ID를 afterAccountId 다음부터 최대 limit개 sink에 추가합니다.
+     */
+    public void collectAccountIds(LocalDateTime after, LocalDateTime atOrBefore, long afterAccountId, int limit, Collection<Long> sink) {
+        int[] found = {0};
+        long[] previous = {afterAccountId};
+        for (int block = firstBlockFor(afterAccountId + 1); block < firstAccountIds.length && found[0] < limit; block++) {
+            readBlock(block, activity -> {
+                if (found[0] < limit
+                        && activity.getAccountId() > previous[0]
+                        && (after == null || activity.getCreatedAt().isAfter(after))
+                        && !activity.getCreatedAt().isAfter(atOrBefore)) {
+                    sink.add(activity.getAccountId());
+                    previous[0] = activity.getAccountId();
+                    found[0]++;
+                }
+            });
+        }
+    }
+
+    /**
+     * 모든 거래내역을 저장 순서대로 consumer에 전달합니다.
+     */
+    public void forEach(Consumer<Activity> consumer) {
+        for (int block = 0; block < firstAccountIds.length; block++) {
+            readBlock(block, consumer);
+        }
+    }
+
+    /**
+     * accountId가 들어 있을 수 있는 첫 블록 (마지막 account_id가 accountId 이상인 첫 블록)
+     */
+    private int firstBlockFor(long accountId) {
+        int low = 0;
+        int high = lastAccountIds.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (lastAccountIds[mid] < accountId) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private void readBlock(int block, Consumer<Activity> consumer) {
+        ByteBuffer compressed = buffer.slice(offsets[block], compressedLengths[block]);
+        byte[] raw = new byte[rawLengths[block]];
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(compressed);
+            int read = 0;
+            while (read < raw.length) {
+                int length = inflater.inflate(raw, read, raw.length - read);
+                if (length == 0 && (inflater.finished() || inflater.needsInput())) {
+                    throw new IllegalStateException("손상된 세그먼트 블록입니다: " + path + " #" + block);
+                }
+                read += length;
+            }
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("손상된 세그먼트 블록입니다: " + path + " #" + block, e);
+        } finally {
+            inflater.end();
+        }
+
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(raw))) {
+            while (in.available() > 0) {
+                consumer.accept(ActivitySegmentFormat.readRow(in));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
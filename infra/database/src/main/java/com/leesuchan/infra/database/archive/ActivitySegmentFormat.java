@@ -0,0 +1,124 @@
+package com.leesuchan.infra.database.archive;
+
+import com.leesuchan.activity.domain.model.Activity;
+import com.leesuchan.activity.domain.model.ActivityType;
+import com.leesuchan.activity.domain.model.vo.TransactionReference;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 거래내역 세그먼트 파일 형식
+ *
+ * <pre>
+ * [블록 0] ... [블록 n-1]   블록마다 최대 BLOCK_ROWS건을 Deflate 압축 (행은 account_id, created_at, id 오름차순)
+ * [인덱스]                  블록마다 첫/마지막 account_id, 오프셋, 압축/원본 길이, 행 수
+ * [푸터]                    연월, 블록 수, 전체 행 수, 인덱스 오프셋, MAGIC, VERSION (고정 FOOTER_BYTES)
+ * </pre>
+ */
+final class ActivitySegmentFormat {
+
+    static final int MAGIC = 0x41435347; // "ACSG"
+    static final int VERSION = 1;
+
+    /**
+     * 블록당 최대 행 수 (계좌 하나를 찾을 때 풀어야 하는 최소 단위)
+     */
+    static final int BLOCK_ROWS = 256;
+
+    /**
+     * 인덱스 항목 크기: firstAccountId(8) + lastAccountId(8) + offset(8) + compressedLength(4) + rawLength(4) + rowCount(4)
+     */
+    static final int INDEX_ENTRY_BYTES = 36;
+
+    /**
+     * 푸터 크기: yearMonth(4) + blockCount(4) + rowCount(8) + indexOffset(8) + magic(4) + version(4)
+     */
+    static final int FOOTER_BYTES = 32;
+
+    static final String EXTENSION = ".seg";
+
+    private static final DateTimeFormatter MONTH = DateTimeFormatter.ofPattern("yyyyMM");
+    private static final String PREFIX = "activity-";
+
+    private static final int HAS_REFERENCE = 1;
+    private static final int HAS_DESCRIPTION = 1 << 1;
+    private static final int HAS_TRANSACTION_ID = 1 << 2;
+
+    private ActivitySegmentFormat() {
+    }
+
+    static Path segmentPath(Path directory, YearMonth month) {
+        return directory.resolve(PREFIX + month.format(MONTH) + EXTENSION);
+    }
+
+    static Path temporaryPath(Path directory, YearMonth month) {
+        return directory.resolve(PREFIX + month.format(MONTH) + EXTENSION + ".tmp");
+    }
+
+    /**
+     * 세그먼트 파일명의 연월 (세그먼트 파일이 아니면 null)
+     */
+    static YearMonth monthOf(Path path) {
+        String name = path.getFileName().toString();
+        if (!name.startsWith(PREFIX) || !name.endsWith(EXTENSION)) {
+            return null;
+        }
+        return YearMonth.parse(name.substring(PREFIX.length(), name.length() - EXTENSION.length()), MONTH);
+    }
+
+    static void writeRow(DataOutput out, Activity activity) throws IOException {
+        TransactionReference reference = activity.getTransactionReference();
+        int flags = (reference != null ? HAS_REFERENCE : 0)
+                | (activity.getDescription() != null ? HAS_DESCRIPTION : 0)
+                | (activity.getTransactionId() != null ? HAS_TRANSACTION_ID : 0);
+
+        out.writeLong(activity.getId());
+        out.writeLong(activity.getAccountId());
+        out.writeUTF(activity.getActivityType().name());
+        out.writeLong(activity.getAmount());
+        out.writeLong(activity.getFee());
+        out.writeLong(activity.getBalanceAfter());
+        out.writeByte(flags);
+        if (reference != null) {
+            out.writeLong(reference.getAccountId());
+            out.writeUTF(reference.getAccountNumber());
+        }
+        if (activity.getDescription() != null) {
+            out.writeUTF(activity.getDescription());
+        }
+        if (activity.getTransactionId() != null) {
+            out.writeLong(activity.getTransactionId());
+        }
+        out.writeLong(activity.getCreatedAt().toEpochSecond(ZoneOffset.UTC));
+        out.writeInt(activity.getCreatedAt().getNano());
+    }
+
+    static Activity readRow(DataInput in) throws IOException {
+        long id = in.readLong();
+        long accountId = in.readLong();
+        ActivityType activityType = ActivityType.valueOf(in.readUTF());
+        long amount = in.readLong();
+        long fee = in.readLong();
+        long balanceAfter = in.readLong();
+        int flags = in.readByte();
+        Long referenceAccountId = null;
+        String referenceAccountNumber = null;
+        if ((flags & HAS_REFERENCE) != 0) {
+            referenceAccountId = in.readLong();
+            referenceAccountNumber = in.readUTF();
+        }
+        String description = (flags & HAS_DESCRIPTION) != 0 ? in.readUTF() : null;
+        Long transactionId = (flags & HAS_TRANSACTION_ID) != 0 ? in.readLong() : null;
+        LocalDateTime createdAt = LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(), ZoneOffset.UTC);
+
+        return Activity.restore(id, accountId, activityType, amount, fee, balanceAfter,
+                referenceAccountId, referenceAccountNumber, description, transactionId, createdAt);
+    }
+}
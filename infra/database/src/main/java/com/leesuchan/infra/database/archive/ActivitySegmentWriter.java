@@ -0,0 +1,182 @@
+package com.leesuchan.infra.database.archive;
+
+import com.leesuchan.activity.domain.model.Activity;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.Deflater;
+
+/**
+ * 거래내역 세그먼트 작성기
+ *
+ * <p>한 달치 거래내역을 (account_id, created_at, id) 오름차순으로 받아 블록 단위로 압축해 임시 파일에 쓰고,
+ * seal() 시 인덱스/푸터를 붙여 디스크에 동기화한 뒤 최종 파일명으로 원자적으로 바꿉니다.
+ * 최종 파일은 이후 수정하지 않습니다. (seal 전에 닫으면 임시 파일 삭제)
+ */
+public class ActivitySegmentWriter implements Closeable {
+
+    private final YearMonth month;
+    private final Path temporaryPath;
+    private final Path segmentPath;
+    private final FileOutputStream file;
+    private final DataOutputStream out;
+
+    private final ByteArrayOutputStream blockBytes = new ByteArrayOutputStream(64 * 1024);
+    private final DataOutputStream block = new DataOutputStream(blockBytes);
+    private final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+    private final List<long[]> index = new ArrayList<>();
+
+    private long position = 0L;
+    private long rowCount = 0L;
+    private int blockRows = 0;
+    private long blockFirstAccountId;
+    private long lastAccountId = Long.MIN_VALUE;
+    private Activity last;
+    private boolean sealed = false;
+
+    public ActivitySegmentWriter(Path directory, YearMonth month) {
+        this.month = month;
+        this.temporaryPath = ActivitySegmentFormat.temporaryPath(directory, month);
+        this.segmentPath = ActivitySegmentFormat.segmentPath(directory, month);
+        try {
+            this.file = new FileOutputStream(temporaryPath.toFile());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        this.out = new DataOutputStream(new BufferedOutputStream(file, 256 * 1024));
+    }
+
+    /**
+     * 거래내역 한 건을 추가합니다. (해당 월, (account_id, created_at, id) 오름차순이어야 함)
+     */
+    public void append(Activity activity) {
+        if (!YearMonth.from(activity.getCreatedAt()).equals(month)) {
+            throw new IllegalArgumentException("세그먼트 월(" + month + ")이 아닌 거래내역입니다: " + activity.getId());
+        }
+        if (last != null && compare(last, activity) >= 0) {
+            throw new IllegalArgumentException("거래내역은 (account_id, created_at, id) 오름차순으로 추가해야 합니다: " + activity.getId());
+        }
+        try {
+            if (blockRows == 0) {
+                blockFirstAccountId = activity.getAccountId();
+            }
+            ActivitySegmentFormat.writeRow(block, activity);
+            blockRows++;
+            rowCount++;
+            lastAccountId = activity.getAccountId();
+            last = activity;
+            if (blockRows == ActivitySegmentFormat.BLOCK_ROWS) {
+                flushBlock();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 남은 블록과 인덱스/푸터를 쓰고 최종 세그먼트 파일로 바꿉니다.
+     *
+     * @return 최종 세그먼트 파일 경로
+     */
+    public Path seal() {
+        try {
+            flushBlock();
+            long indexOffset = position;
+            if (indexOffset + (long) index.size() * ActivitySegmentFormat.INDEX_ENTRY_BYTES
+                    + ActivitySegmentFormat.FOOTER_BYTES > Integer.MAX_VALUE) {
+                throw new IllegalStateException(month + " 세그먼트가 2GB를 넘습니다.");
+            }
+            for (long[] entry : index) {
+                out.writeLong(entry[0]);
+                out.writeLong(entry[1]);
+                out.writeLong(entry[2]);
+                out.writeInt((int) entry[3]);
+                out.writeInt((int) entry[4]);
+                out.writeInt((int) entry[5]);
+            }
+            out.writeInt(month.getYear() * 100 + month.getMonthValue());
+            out.writeInt(index.size());
+            out.writeLong(rowCount);
+            out.writeLong(indexOffset);
+            out.writeInt(ActivitySegmentFormat.MAGIC);
+            out.writeInt(ActivitySegmentFormat.VERSION);
+            out.flush();
+            file.getFD().sync();
+            out.close();
+            Files.move(temporaryPath, segmentPath, StandardCopyOption.ATOMIC_MOVE);
+            sealed = true;
+            return segmentPath;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    @Override
+    public void close() {
+        deflater.end();
+        if (sealed) {
+            return;
+        }
+        try {
+            out.close();
+            Files.deleteIfExists(temporaryPath);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void flushBlock() throws IOException {
+        if (blockRows == 0) {
+            return;
+        }
+        block.flush();
+        byte[] raw = blockBytes.toByteArray();
+        deflater.reset();
+        deflater.setInput(raw);
+        deflater.finish();
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(raw.length / 2 + 64);
+        byte[] buffer = new byte[8192];
+        while (!deflater.finished()) {
+            int length = deflater.deflate(buffer);
+            compressed.write(buffer, 0, length);
+        }
+
+        // 세그먼트는 메모리 매핑으로 읽으므로 2GB(int 오프셋) 이하여야 함
+        if (position + compressed.size() > Integer.MAX_VALUE) {
+            throw new IllegalStateException(month + " 세그먼트가 2GB를 넘습니다.");
+        }
+        index.add(new long[]{blockFirstAccountId, lastAccountId, position, compressed.size(), raw.length, blockRows});
+        compressed.writeTo(out);
+        position += compressed.size();
+
+        blockBytes.reset();
+        blockRows = 0;
+    }
+
+    /**
+     * 세그먼트 행 순서 (account_id, created_at, id)
+     */
+    static int compare(Activity left, Activity right) {
+        int byAccount = Long.compare(left.getAccountId(), right.getAccountId());
+        if (byAccount != 0) {
+            return byAccount;
+        }
+        int byCreatedAt = left.getCreatedAt().compareTo(right.getCreatedAt());
+        return byCreatedAt != 0 ? byCreatedAt : Long.compare(left.getId(), right.getId());
+    }
+}
@@ -0,0 +1,64 @@
+package com.leesuchan.infra.database.datasource;
+
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * 읽기/쓰기 라우팅 DataSource
+ *
+ * <p>읽기 전용 트랜잭션(@Transactional(readOnly = true))은 복제본 풀로, 그 외에는 primary 풀로 보냅니다.
+ * 복제본 지연이 허용치를 넘었거나 복제본 커넥션을 얻지 못하면 primary로 대신 연결합니다.
+ *
+ * <p>트랜잭션 매니저는 읽기 전용 표시 전에 커넥션을 요청하므로,
+ * LazyConnectionDataSourceProxy로 감싸 첫 SQL 실행 시점에 라우팅해야 합니다.
+ */
+public class ReadReplicaRoutingDataSource extends AbstractDataSource {
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final ReplicaLagMonitor replicaLagMonitor;
+
+    public ReadReplicaRoutingDataSource(DataSource primary, DataSource replica, ReplicaLagMonitor replicaLagMonitor) {
+        this.primary = primary;
+        this.replica = replica;
+        this.replicaLagMonitor = replicaLagMonitor;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!routesToReplica()) {
+            return primary.getConnection();
+        }
+        try {
+            return replica.getConnection();
+        } catch (SQLException e) {
+            replicaLagMonitor.markUnavailable(e);
+            return primary.getConnection();
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        if (!routesToReplica()) {
+            return primary.getConnection(username, password);
+        }
+        try {
+            return replica.getConnection(username, password);
+        } catch (SQLException e) {
+            replicaLagMonitor.markUnavailable(e);
+            return primary.getConnection(username, password);
+        }
+    }
+
+    /**
+     * 현재 트랜잭션이 복제본으로 가는지 여부
+     */
+    boolean routesToReplica() {
+        return TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                && replicaLagMonitor.isReplicaUsable();
+    }
+}
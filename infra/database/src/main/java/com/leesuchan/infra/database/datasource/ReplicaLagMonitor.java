@@ -0,0 +1,111 @@
+package com.leesuchan.infra.database.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * 복제본 지연 감시기 (heartbeat 방식)
+ *
+ * <p>점검마다 복제본의 replica_heartbeat 값을 먼저 읽고, primary에 현재 시각을 새로 기록합니다.
+ * 복제본이 직전 점검에서 기록한 값까지 따라왔으면 지연 0, 아니면 (현재 시각 - 복제본 값)을 지연으로 봅니다.
+ * 같은 애플리케이션 시계로 쓰고 비교하므로 DB 서버 간 시계 차이의 영향을 받지 않습니다.
+ * (측정 해상도는 점검 주기이므로 허용 지연은 점검 주기보다 크게 설정)
+ *
+ * <p>지연이 허용치를 넘거나 복제본을 읽지 못하면 다음 점검까지 읽기 전용 트랜잭션도 primary를 사용합니다.
+ * check()는 스케줄러 스레드 하나에서만 호출합니다.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    static final String READ_HEARTBEAT = "SELECT beat_at_millis FROM replica_heartbeat WHERE id = 1";
+    static final String UPDATE_HEARTBEAT = "UPDATE replica_heartbeat SET beat_at_millis = ? WHERE id = 1";
+    static final String INSERT_HEARTBEAT = "INSERT INTO replica_heartbeat (id, beat_at_millis) VALUES (1, ?)";
+
+    private final JdbcTemplate primary;
+    private final JdbcTemplate replica;
+    private final long maxLagMillis;
+
+    private volatile boolean replicaUsable = false;
+    private volatile long lagMillis = -1L;
+
+    /**
+     * primary에 마지막으로 기록한 heartbeat (스케줄러 스레드 전용)
+     */
+    private long lastBeatMillis = -1L;
+
+    /**
+     * @param primary heartbeat 기록용 primary 풀
+     * @param replica heartbeat 조회용 복제본 풀
+     * @param maxLag 복제본을 사용할 최대 지연
+     */
+    public ReplicaLagMonitor(DataSource primary, DataSource replica, Duration maxLag) {
+        if (maxLag.isNegative()) {
+            throw new IllegalArgumentException("허용 지연은 0 이상이어야 합니다.");
+        }
+        this.primary = new JdbcTemplate(primary);
+        this.replica = new JdbcTemplate(replica);
+        this.maxLagMillis = maxLag.toMillis();
+    }
+
+    /**
+     * 복제본 지연을 측정하고 heartbeat를 새로 기록합니다.
+     */
+    public void check() {
+        long now = System.currentTimeMillis();
+        try {
+            Long replicaBeat = replica.queryForObject(READ_HEARTBEAT, Long.class);
+            long lag = replicaBeat != null && lastBeatMillis > 0 && replicaBeat >= lastBeatMillis
+                    ? 0L
+                    : Math.max(0L, now - (replicaBeat == null ? 0L : replicaBeat));
+            update(lag <= maxLagMillis, lag);
+        } catch (DataAccessException e) {
+            markUnavailable(e);
+        }
+
+        try {
+            if (primary.update(UPDATE_HEARTBEAT, now) == 0) {
+                primary.update(INSERT_HEARTBEAT, now);
+            }
+            lastBeatMillis = now;
+        } catch (DataAccessException e) {
+            log.warn("복제본 heartbeat 기록 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 복제본 커넥션 획득 실패 등으로 다음 점검까지 복제본을 사용하지 않습니다.
+     */
+    public void markUnavailable(Exception cause) {
+        if (replicaUsable) {
+            log.warn("복제본 사용 중지 (primary로 전환): {}", cause.getMessage());
+        }
+        replicaUsable = false;
+        lagMillis = -1L;
+    }
+
+    /**
+     * 읽기 전용 트랜잭션을 복제본으로 보내도 되는지 여부
+     */
+    public boolean isReplicaUsable() {
+        return replicaUsable;
+    }
+
+    /**
+     * 마지막으로 측정한 지연 (밀리초, 측정 실패 시 -1)
+     */
+    public long getLagMillis() {
+        return lagMillis;
+    }
+
+    private void update(boolean usable, long lag) {
+        if (usable != replicaUsable) {
+            log.info("복제본 {} (지연 {}ms, 허용 {}ms)", usable ? "사용" : "사용 중지", lag, maxLagMillis);
+        }
+        lagMillis = lag;
+        replicaUsable = usable;
+    }
+}
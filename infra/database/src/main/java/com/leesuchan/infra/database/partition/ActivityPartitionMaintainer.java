@@ -0,0 +1,102 @@
+package com.leesuchan.infra.database.partition;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * 거래내역 월 파티션 관리자
+ *
+ * <p>activity 테이블은 created_at 기준 RANGE COLUMNS 파티션이며, 마지막 파티션은 항상 pmax(MAXVALUE)입니다.
+ * 이번 달부터 monthsAhead개월 뒤까지의 월 파티션(pYYYYMM)이 없으면 pmax를 나눠(REORGANIZE) 미리 만듭니다.
+ * 미리 만들어 두므로 pmax는 보통 비어 있어, 나누는 작업은 메타데이터 변경만으로 끝납니다.
+ */
+@Slf4j
+public class ActivityPartitionMaintainer {
+
+    static final String MAX_PARTITION = "pmax";
+
+    static final String FIND_PARTITIONS = "SELECT PARTITION_NAME, PARTITION_DESCRIPTION FROM information_schema.PARTITIONS "
+            + "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'activity' AND PARTITION_NAME IS NOT NULL "
+            + "ORDER BY PARTITION_ORDINAL_POSITION";
+
+    private static final DateTimeFormatter PARTITION_NAME = DateTimeFormatter.ofPattern("'p'yyyyMM");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int monthsAhead;
+
+    /**
+     * @param dataSource  DDL을 실행할 primary 풀
+     * @param monthsAhead 이번 달 이후 미리 만들어 둘 개월 수
+     */
+    public ActivityPartitionMaintainer(DataSource dataSource, int monthsAhead) {
+        this(new JdbcTemplate(dataSource), monthsAhead);
+    }
+
+    /**
+     * @param jdbcTemplate DDL을 실행할 primary 풀의 JdbcTemplate
+     * @param monthsAhead  이번 달 이후 미리 만들어 둘 개월 수
+     */
+    public ActivityPartitionMaintainer(JdbcTemplate jdbcTemplate, int monthsAhead) {
+        if (monthsAhead < 0) {
+            throw new IllegalArgumentException("미리 만들 개월 수는 0 이상이어야 합니다.");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.monthsAhead = monthsAhead;
+    }
+
+    /**
+     * today가 속한 달부터 monthsAhead개월 뒤까지의 월 파티션을 보장합니다.
+     *
+     * @return 새로 만든 파티션 수 (파티셔닝되지 않은 테이블이면 0)
+     */
+    public int ensurePartitions(LocalDate today) {
+        List<Partition> partitions = jdbcTemplate.query(FIND_PARTITIONS,
+                (rs, rowNum) -> new Partition(rs.getString("PARTITION_NAME"), rs.getString("PARTITION_DESCRIPTION")));
+        if (partitions.size() < 2 || !MAX_PARTITION.equals(partitions.get(partitions.size() - 1).name())) {
+            log.warn("activity 테이블이 월 파티션 구성이 아니어서 파티션을 만들지 않습니다: {}", partitions);
+            return 0;
+        }
+
+        // pmax 바로 앞 파티션의 상한이 다음에 만들 월의 시작
+        YearMonth from = YearMonth.from(partitions.get(partitions.size() - 2).upperBound());
+        YearMonth to = YearMonth.from(today).plusMonths(monthsAhead);
+        if (from.isAfter(to)) {
+            return 0;
+        }
+
+        jdbcTemplate.execute(reorganizeStatement(from, to));
+        int created = (int) from.until(to, ChronoUnit.MONTHS) + 1;
+        log.info("activity 월 파티션 {}개 생성 ({} ~ {})", created, from, to);
+        return created;
+    }
+
+    /**
+     * pmax를 [from, to] 월 파티션과 새 pmax로 나누는 DDL
+     */
+    public static String reorganizeStatement(YearMonth from, YearMonth to) {
+        StringBuilder ddl = new StringBuilder("ALTER TABLE activity REORGANIZE PARTITION ")
+                .append(MAX_PARTITION).append(" INTO (");
+        for (YearMonth month = from; !month.isAfter(to); month = month.plusMonths(1)) {
+            ddl.append("PARTITION ").append(month.format(PARTITION_NAME))
+                    .append(" VALUES LESS THAN ('").append(month.plusMonths(1).atDay(1)).append("'), ");
+        }
+        return ddl.append("PARTITION ").append(MAX_PARTITION).append(" VALUES LESS THAN (MAXVALUE))").toString();
+    }
+
+    /**
+     * information_schema.PARTITIONS 행 (description 예: '2026-11-01 00:00:00')
+     */
+    record Partition(String name, String description) {
+
+        LocalDate upperBound() {
+            return LocalDate.parse(description.replace("'", "").substring(0, 10));
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.leesuchan.infra.database.repository;
+
+import com.leesuchan.account.domain.model.AccountBalanceSlot;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * AccountBalanceSlot JPA Repository
+ */
+public interface AccountBalanceSlotJpaRepository extends JpaRepository<AccountBalanceSlot, Long> {
+
+    @Modifying
+    @Query("UPDATE AccountBalanceSlot s SET s.amount = s.amount + :amount, s.updatedAt = :updatedAt "
+            + "WHERE s.accountId = :accountId AND s.slotNo = :slotNo")
+    int addToSlot(
+            @Param("accountId") Long accountId,
+            @Param("slotNo") int slotNo,
+            @Param("amount") long amount,
+            @Param("updatedAt") LocalDateTime updatedAt
+    );
+
+    @Query("SELECT s.slotNo FROM AccountBalanceSlot s WHERE s.accountId = :accountId")
+    List<Integer> findSlotNosByAccountId(@Param("accountId") Long accountId);
+
+    /**
+     * SELECT ... FOR UPDATE SKIP LOCKED
+     * (lock timeout -2 = SKIP LOCKED, 적립 중인 슬롯은 기다리지 않고 다음 압축으로 넘김)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT s FROM AccountBalanceSlot s WHERE s.accountId = :accountId ORDER BY s.slotNo")
+    List<AccountBalanceSlot> findUnlockedByAccountIdForUpdate(@Param("accountId") Long accountId);
+
+    /**
+     * SELECT ... FOR SHARE (잠금 읽기이므로 스냅샷이 아닌 최신 커밋 값을 읽음)
+     */
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("SELECT s FROM AccountBalanceSlot s WHERE s.accountId = :accountId ORDER BY s.slotNo")
+    List<AccountBalanceSlot> findByAccountIdForShare(@Param("accountId") Long accountId);
+
+    @Query("SELECT DISTINCT s.accountId FROM AccountBalanceSlot s WHERE s.amount <> 0 ORDER BY s.accountId")
+    List<Long> findAccountIdsWithPendingCredits();
+
+    @Query("SELECT COALESCE(SUM(s.amount), 0L) FROM AccountBalanceSlot s WHERE s.accountId = :accountId")
+    long sumByAccountId(@Param("accountId") Long accountId);
+}
@@ -0,0 +1,66 @@
+package com.leesuchan.infra.database.repository;
+
+import com.leesuchan.account.domain.model.AccountBalanceSlot;
+import com.leesuchan.account.domain.repository.AccountBalanceSlotRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * AccountBalanceSlot Repository 구현체
+ */
+@Repository
+@RequiredArgsConstructor
+public class AccountBalanceSlotRepositoryImpl implements AccountBalanceSlotRepository {
+
+    private final AccountBalanceSlotJpaRepository jpaRepository;
+
+    @Override
+    public int addToSlot(Long accountId, int slotNo, long amount, LocalDateTime updatedAt) {
+        return jpaRepository.addToSlot(accountId, slotNo, amount, updatedAt);
+    }
+
+    /**
+     * 호출한 트랜잭션과 분리된 트랜잭션에서 생성하므로,
+     * 다른 요청과 동시에 생성하다 유니크 제약에 걸려도(DataIntegrityViolationException) 호출한 트랜잭션은 롤백되지 않습니다.
+     */
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void createSlotsIfAbsent(Long accountId, int slotCount) {
+        Set<Integer> existing = new HashSet<>(jpaRepository.findSlotNosByAccountId(accountId));
+        for (int slotNo = 0; slotNo < slotCount; slotNo++) {
+            if (existing.contains(slotNo)) {
+                continue;
+            }
+            jpaRepository.save(AccountBalanceSlot.empty(accountId, slotNo));
+        }
+    }
+
+    @Override
+    public List<AccountBalanceSlot> findUnlockedByAccountIdForUpdate(Long accountId) {
+        return jpaRepository.findUnlockedByAccountIdForUpdate(accountId);
+    }
+
+    @Override
+    public List<Long> findAccountIdsWithPendingCredits() {
+        return jpaRepository.findAccountIdsWithPendingCredits();
+    }
+
+    @Override
+    public long sumByAccountId(Long accountId) {
+        return jpaRepository.sumByAccountId(accountId);
+    }
+
+    @Override
+    public long sumByAccountIdForShare(Long accountId) {
+        return jpaRepository.findByAccountIdForShare(accountId).stream()
+                .mapToLong(AccountBalanceSlot::getAmount)
+                .sum();
+    }
+}
@@ -1,12 +1,21 @@
 package com.leesuchan.infra.database.repository;
 
 import com.leesuchan.account.domain.model.Account;
+import com.leesuchan.account.domain.model.AccountSummary;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -14,6 +23,14 @@ import java.util.Optional;
  */
 public interface AccountJpaRepository extends JpaRepository<Account, Long> {
 
+    /**
+     * 잔액은 balance + 아직 합쳐지지 않은 잔액 슬롯 적립액 (스트라이프 계좌가 아니면 슬롯 행이 없어 0)
+     */
+    String SUMMARY_SELECT = "SELECT new com.leesuchan.account.domain.model.AccountSummary("
+            + "a.id, a.accountNumber, a.accountName, "
+            + "a.balance + COALESCE((SELECT SUM(s.amount) FROM AccountBalanceSlot s WHERE s.accountId = a.id), 0L), "
+            + "a.createdAt, a.updatedAt) FROM Account a ";
+
     Optional<Account> findByAccountNumberAndDeletedAtIsNull(String accountNumber);
 
     boolean existsByAccountNumberAndDeletedAtIsNull(String accountNumber);
@@ -22,4 +39,67 @@ public interface AccountJpaRepository extends JpaRepository<Account, Long> {
     Optional<Account> findByIdAndDeletedAtIsNull(@Param("id") Long id);
 
     Page<Account> findAllByDeletedAtIsNull(Pageable pageable);
+
+    @Query("SELECT a.id FROM Account a WHERE a.accountNumber = :accountNumber AND a.deletedAt IS NULL")
+    Optional<Long> findIdByAccountNumberAndDeletedAtIsNull(@Param("accountNumber") String accountNumber);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM Account a WHERE a.id = :id AND a.deletedAt IS NULL")
+    Optional<Account> findByIdAndDeletedAtIsNullForUpdate(@Param("id") Long id);
+
+    @Query("SELECT a.id FROM Account a WHERE a.accountNumber IN :accountNumbers AND a.deletedAt IS NULL ORDER BY a.id")
+    List<Long> findIdsByAccountNumberInAndDeletedAtIsNull(@Param("accountNumbers") Collection<String> accountNumbers);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM Account a WHERE a.id IN :ids AND a.deletedAt IS NULL ORDER BY a.id")
+    List<Account> findAllByIdInAndDeletedAtIsNullForUpdate(@Param("ids") Collection<Long> ids);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Account a SET a.balance = a.balance + :amount, a.updatedAt = :updatedAt, a.version = a.version + 1 "
+            + "WHERE a.accountNumber = :accountNumber AND a.deletedAt IS NULL")
+    int increaseBalance(
+            @Param("accountNumber") String accountNumber,
+            @Param("amount") long amount,
+            @Param("updatedAt") LocalDateTime updatedAt
+    );
+
+    /**
+     * 일일 누적 출금액 갱신을 마지막 출금일 갱신보다 먼저 두어야 합니다.
+     * (MySQL은 단일 테이블 UPDATE의 SET 절을 왼쪽부터 평가하며, 앞에서 바뀐 값을 뒤에서 참조합니다)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Account a SET "
+            + "a.withdrawLimitTracker.accumulatedAmount = CASE WHEN a.withdrawLimitTracker.lastTransactionDate = :today "
+            + "THEN a.withdrawLimitTracker.accumulatedAmount + :amount ELSE :amount END, "
+            + "a.withdrawLimitTracker.lastTransactionDate = :today, "
+            + "a.balance = a.balance - :amount, "
+            + "a.updatedAt = :updatedAt, "
+            + "a.version = a.version + 1 "
+            + "WHERE a.accountNumber = :accountNumber AND a.deletedAt IS NULL "
+            + "AND a.balance >= :amount "
+            + "AND (CASE WHEN a.withdrawLimitTracker.lastTransactionDate = :today "
+            + "THEN a.withdrawLimitTracker.accumulatedAmount ELSE 0 END) + :amount <= COALESCE("
+            + "(SELECT t.dailyWithdrawLimit FROM AccountLimitTier t WHERE t.code = a.limitTier), :dailyLimit)")
+    int decreaseBalanceWithinDailyWithdrawLimit(
+            @Param("accountNumber") String accountNumber,
+            @Param("amount") long amount,
+            @Param("dailyLimit") long dailyLimit,
+            @Param("today") LocalDate today,
+            @Param("updatedAt") LocalDateTime updatedAt
+    );
+
+    @Query(SUMMARY_SELECT + "WHERE a.accountNumber = :accountNumber AND a.deletedAt IS NULL")
+    Optional<AccountSummary> findSummaryByAccountNumber(@Param("accountNumber") String accountNumber);
+
+    @Query(
+            value = SUMMARY_SELECT + "WHERE a.deletedAt IS NULL",
+            countQuery = "SELECT COUNT(a) FROM Account a WHERE a.deletedAt IS NULL"
+    )
+    Page<AccountSummary> findAllSummaries(Pageable pageable);
+
+    /**
+     * Slice 반환 시 Spring Data가 size + 1건만 조회하고 COUNT 쿼리는 실행하지 않음
+     */
+    @Query(SUMMARY_SELECT + "WHERE a.deletedAt IS NULL")
+    Slice<AccountSummary> findSummarySlice(Pageable pageable);
 }
@@ -0,0 +1,10 @@
+package com.leesuchan.infra.database.repository;
+
+import com.leesuchan.account.domain.model.AccountLimitTier;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/**
+ * AccountLimitTier JPA Repository
+ */
+public interface AccountLimitTierJpaRepository extends JpaRepository<AccountLimitTier, String> {
+}
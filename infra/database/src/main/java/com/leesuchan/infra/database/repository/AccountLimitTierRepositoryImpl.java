@@ -0,0 +1,28 @@
+package com.leesuchan.infra.database.repository;
+
+import com.leesuchan.account.domain.model.AccountLimitTier;
+import com.leesuchan.account.domain.repository.AccountLimitTierRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * AccountLimitTier Repository 구현체
+ */
+@Repository
+@RequiredArgsConstructor
+public class AccountLimitTierRepositoryImpl implements AccountLimitTierRepository {
+
+    private final AccountLimitTierJpaRepository jpaRepository;
+
+    @Override
+    public List<AccountLimitTier> findAll() {
+        return jpaRepository.findAll();
+    }
+
+    @Override
+    public AccountLimitTier save(AccountLimitTier tier) {
+        return jpaRepository.save(tier);
+    }
+}
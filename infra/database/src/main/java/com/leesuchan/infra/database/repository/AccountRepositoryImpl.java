@@ -2,12 +2,28 @@ package com.leesuchan.infra.database.repository;
 
 import com.leesuchan.account.domain.exception.AccountNotFoundException;
 import com.leesuchan.account.domain.model.Account;
+import com.leesuchan.account.domain.model.AccountSummary;
 import com.leesuchan.account.domain.repository.AccountRepository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCallback;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.SQLWarning;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 /**
  * Account Repository 구현체
@@ -15,13 +31,24 @@ import java.util.Optional;
 @Repository
 public class AccountRepositoryImpl implements AccountRepository {
 
+    private static final String INSERT_IGNORE_SQL = "INSERT IGNORE INTO account "
+            + "(account_number, account_name, balance, daily_withdraw_amount, daily_transfer_amount, created_at, updated_at, version) "
+            + "VALUES (?, ?, 0, 0, 0, ?, ?, 0)";
+
+    /**
+     * MySQL INSERT IGNORE가 건너뛴 행마다 남기는 경고 메시지
+     */
+    private static final Pattern DUPLICATE_ENTRY = Pattern.compile("Duplicate entry '(.*)' for key");
+
     private final AccountJpaRepository jpaRepository;
+    private final JdbcTemplate jdbcTemplate;
 
     /**
      * 생성자 주입 (생성자가 하나인 경우 @Autowired 생략 가능)
      */
-    public AccountRepositoryImpl(AccountJpaRepository jpaRepository) {
+    public AccountRepositoryImpl(AccountJpaRepository jpaRepository, JdbcTemplate jdbcTemplate) {
         this.jpaRepository = jpaRepository;
+        this.jdbcTemplate = jdbcTemplate;
     }
 
     @Override
@@ -29,6 +56,53 @@ public class AccountRepositoryImpl implements AccountRepository {
         return jpaRepository.save(account);
     }
 
+    /**
+     * 행별 갱신 건수(1: 등록, 0: 중복)로 결과를 판단합니다.
+     *
+     * <p>rewriteBatchedStatements로 배치가 다중 VALUES INSERT 한 문장으로 바뀌면 드라이버가 행별 건수 대신
+     * SUCCESS_NO_INFO를 돌려주므로, 이때는 건너뛴 행의 Duplicate entry 경고로 중복 계좌번호를 찾습니다.
+     * (경고는 max_error_count(기본 1024)개까지만 남으므로 한 번에 그보다 적은 행만 전달해야 합니다)
+     */
+    @Override
+    @Transactional
+    public Set<String> insertIgnoringDuplicates(List<Account> accounts) {
+        if (accounts.isEmpty()) {
+            return Set.of();
+        }
+        return jdbcTemplate.execute(INSERT_IGNORE_SQL, (PreparedStatementCallback<Set<String>>) ps -> {
+            for (Account account : accounts) {
+                ps.setString(1, account.getAccountNumber());
+                ps.setString(2, account.getAccountName());
+                ps.setTimestamp(3, Timestamp.valueOf(account.getCreatedAt()));
+                ps.setTimestamp(4, Timestamp.valueOf(account.getUpdatedAt()));
+                ps.addBatch();
+            }
+            int[] counts = ps.executeBatch();
+            Set<String> duplicates = duplicateEntries(ps.getWarnings());
+
+            Set<String> inserted = new HashSet<>();
+            for (int i = 0; i < counts.length; i++) {
+                String accountNumber = accounts.get(i).getAccountNumber();
+                boolean unknown = counts[i] == Statement.SUCCESS_NO_INFO;
+                if (counts[i] > 0 || (unknown && !duplicates.contains(accountNumber))) {
+                    inserted.add(accountNumber);
+                }
+            }
+            return inserted;
+        });
+    }
+
+    private Set<String> duplicateEntries(SQLWarning warning) {
+        Set<String> duplicates = new HashSet<>();
+        for (SQLWarning current = warning; current != null; current = current.getNextWarning()) {
+            Matcher matcher = DUPLICATE_ENTRY.matcher(String.valueOf(current.getMessage()));
+            if (matcher.find()) {
+                duplicates.add(matcher.group(1));
+            }
+        }
+        return duplicates;
+    }
+
     @Override
     public Optional<Account> findByAccountNumber(String accountNumber) {
         return jpaRepository.findByAccountNumberAndDeletedAtIsNull(accountNumber);
@@ -39,6 +113,47 @@ public class AccountRepositoryImpl implements AccountRepository {
         return jpaRepository.findByIdAndDeletedAtIsNull(id);
     }
 
+    /**
+     * 레인 배정, ID 캐시, 거래내역 조회처럼 트랜잭션 밖에서도 호출되므로, Spring Data 기본 읽기 전용 트랜잭션 대신
+     * 읽기/쓰기 트랜잭션으로 실행하여 primary에서 읽습니다. (복제 지연으로 방금 개설한 계좌를 못 찾는 일 방지)
+     */
+    @Override
+    @Transactional
+    public Optional<Long> findIdByAccountNumber(String accountNumber) {
+        return jpaRepository.findIdByAccountNumberAndDeletedAtIsNull(accountNumber);
+    }
+
+    @Override
+    public Optional<Account> findByIdForUpdate(Long id) {
+        return jpaRepository.findByIdAndDeletedAtIsNullForUpdate(id);
+    }
+
+    @Override
+    public List<Long> findIdsByAccountNumberIn(Collection<String> accountNumbers) {
+        return jpaRepository.findIdsByAccountNumberInAndDeletedAtIsNull(accountNumbers);
+    }
+
+    @Override
+    public List<Account> findAllByIdInForUpdate(Collection<Long> ids) {
+        return jpaRepository.findAllByIdInAndDeletedAtIsNullForUpdate(ids);
+    }
+
+    @Override
+    public int increaseBalance(String accountNumber, long amount, LocalDateTime updatedAt) {
+        return jpaRepository.increaseBalance(accountNumber, amount, updatedAt);
+    }
+
+    @Override
+    public int decreaseBalanceWithinDailyWithdrawLimit(
+            String accountNumber,
+            long amount,
+            long dailyLimit,
+            LocalDate today,
+            LocalDateTime updatedAt
+    ) {
+        return jpaRepository.decreaseBalanceWithinDailyWithdrawLimit(accountNumber, amount, dailyLimit, today, updatedAt);
+    }
+
     @Override
     public boolean existsByAccountNumber(String accountNumber) {
         return jpaRepository.existsByAccountNumberAndDeletedAtIsNull(accountNumber);
@@ -56,4 +171,19 @@ public class AccountRepositoryImpl implements AccountRepository {
     public Page<Account> findAll(Pageable pageable) {
         return jpaRepository.findAllByDeletedAtIsNull(pageable);
     }
+
+    @Override
+    public Optional<AccountSummary> findSummaryByAccountNumber(String accountNumber) {
+        return jpaRepository.findSummaryByAccountNumber(accountNumber);
+    }
+
+    @Override
+    public Page<AccountSummary> findAllSummaries(Pageable pageable) {
+        return jpaRepository.findAllSummaries(pageable);
+    }
+
+    @Override
+    public Slice<AccountSummary> findSummarySlice(Pageable pageable) {
+        return jpaRepository.findSummarySlice(pageable);
+    }
 }
@@ -1,10 +1,12 @@
 package com.leesuchan.infra.database.repository;
 
 import com.leesuchan.activity.domain.model.Activity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -12,8 +14,71 @@ import java.util.List;
  */
 public interface ActivityJpaRepository extends JpaRepository<Activity, Long> {
 
-    @Query("SELECT a FROM Activity a WHERE a.accountId = :accountId ORDER BY a.createdAt DESC")
-    List<Activity> findByAccountId(@Param("accountId") Long accountId);
+    /**
+     * 키셋 첫 페이지 (idx_activity_account_created_id 인덱스 역순 스캔)
+     */
+    @Query("SELECT a FROM Activity a WHERE a.accountId = :accountId ORDER BY a.createdAt DESC, a.id DESC")
+    List<Activity> findFirstPage(@Param("accountId") Long accountId, Pageable pageable);
 
-    List<Activity> findByAccountIdOrderByCreatedAtDesc(Long accountId);
+    /**
+     * 키셋 다음 페이지: (createdAt, id) < (:createdAt, :id)
+     *
+     * <p>OR 조건과 별도로 createdAt 상한을 AND로 두어 커서 이후 월 파티션을 프루닝합니다.
+     */
+    @Query("SELECT a FROM Activity a WHERE a.accountId = :accountId AND a.createdAt <= :createdAt "
+            + "AND (a.createdAt < :createdAt OR (a.createdAt = :createdAt AND a.id < :id)) "
+            + "ORDER BY a.createdAt DESC, a.id DESC")
+    List<Activity> findPageBefore(
+            @Param("accountId") Long accountId,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            Pageable pageable
+    );
+
+    /**
+     * 특정 시점 이전(포함) 마지막 거래내역 (idx_activity_account_created_id 인덱스 역순 탐색, 1건)
+     */
+    @Query("SELECT a FROM Activity a WHERE a.accountId = :accountId AND a.createdAt <= :at "
+            + "ORDER BY a.createdAt DESC, a.id DESC")
+    List<Activity> findLatestAtOrBefore(
+            @Param("accountId") Long accountId,
+            @Param("at") LocalDateTime at,
+            Pageable pageable
+    );
+
+    /**
+     * (after, at] 구간의 마지막 거래내역 (체크포인트 이후만 탐색)
+     */
+    @Query("SELECT a FROM Activity a WHERE a.accountId = :accountId "
+            + "AND a.createdAt > :after AND a.createdAt <= :at "
+            + "ORDER BY a.createdAt DESC, a.id DESC")
+    List<Activity> findLatestBetween(
+            @Param("accountId") Long accountId,
+            @Param("after") LocalDateTime after,
+            @Param("at") LocalDateTime at,
+            Pageable pageable
+    );
+
+    /**
+     * at 이전(포함) 거래내역이 있는 계좌 ID (idx_activity_account_created_id 커버링 인덱스 스캔)
+     */
+    @Query("SELECT DISTINCT a.accountId FROM Activity a WHERE a.accountId > :afterAccountId "
+            + "AND a.createdAt <= :at ORDER BY a.accountId")
+    List<Long> findAccountIdsAtOrBefore(
+            @Param("at") LocalDateTime at,
+            @Param("afterAccountId") Long afterAccountId,
+            Pageable pageable
+    );
+
+    /**
+     * (after, at] 구간에 거래내역이 있는 계좌 ID
+     */
+    @Query("SELECT DISTINCT a.accountId FROM Activity a WHERE a.accountId > :afterAccountId "
+            + "AND a.createdAt > :after AND a.createdAt <= :at ORDER BY a.accountId")
+    List<Long> findAccountIdsBetween(
+            @Param("after") LocalDateTime after,
+            @Param("at") LocalDateTime at,
+            @Param("afterAccountId") Long afterAccountId,
+            Pageable pageable
+    );
 }
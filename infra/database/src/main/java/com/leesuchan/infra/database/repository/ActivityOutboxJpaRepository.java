@@ -0,0 +1,32 @@
+package com.leesuchan.infra.database.repository;
+
+import com.leesuchan.activity.domain.model.ActivityOutbox;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+/**
+ * ActivityOutbox JPA Repository
+ */
+public interface ActivityOutboxJpaRepository extends JpaRepository<ActivityOutbox, Long> {
+
+    /**
+     * SELECT ... ORDER BY id LIMIT ? FOR UPDATE SKIP LOCKED
+     * (lock timeout -2 = SKIP LOCKED, 여러 작성기가 서로 다른 행을 나눠 이관)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT o FROM ActivityOutbox o ORDER BY o.id")
+    List<ActivityOutbox> findPendingForUpdate(Pageable pageable);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT o FROM ActivityOutbox o WHERE o.accountId = :accountId ORDER BY o.id")
+    List<ActivityOutbox> findPendingByAccountIdForUpdate(@Param("accountId") Long accountId);
+}
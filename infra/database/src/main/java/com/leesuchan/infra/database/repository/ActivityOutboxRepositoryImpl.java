@@ -0,0 +1,44 @@
+package com.leesuchan.infra.database.repository;
+
+import com.leesuchan.activity.domain.model.ActivityOutbox;
+import com.leesuchan.activity.domain.repository.ActivityOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * ActivityOutbox Repository 구현체
+ */
+@Repository
+@RequiredArgsConstructor
+public class ActivityOutboxRepositoryImpl implements ActivityOutboxRepository {
+
+    private final ActivityOutboxJpaRepository jpaRepository;
+
+    @Override
+    public ActivityOutbox save(ActivityOutbox outbox) {
+        return jpaRepository.save(outbox);
+    }
+
+    @Override
+    public List<ActivityOutbox> saveAll(List<ActivityOutbox> outboxes) {
+        return jpaRepository.saveAll(outboxes);
+    }
+
+    @Override
+    public List<ActivityOutbox> findPendingForUpdate(int limit) {
+        return jpaRepository.findPendingForUpdate(PageRequest.of(0, limit));
+    }
+
+    @Override
+    public List<ActivityOutbox> findPendingByAccountIdForUpdate(Long accountId) {
+        return jpaRepository.findPendingByAccountIdForUpdate(accountId);
+    }
+
+    @Override
+    public void deleteAll(List<ActivityOutbox> outboxes) {
+        jpaRepository.deleteAllInBatch(outboxes);
+    }
+}
@@ -2,19 +2,41 @@ package com.leesuchan.infra.database.repository;
 
 import com.leesuchan.activity.domain.model.Activity;
 import com.leesuchan.activity.domain.repository.ActivityRepository;
-import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import javax.sql.DataSource;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * Activity Repository 구현체
  */
 @Repository
-@RequiredArgsConstructor
 public class ActivityRepositoryImpl implements ActivityRepository {
 
+    static final String SELECT_BETWEEN = "SELECT " + ActivityRowMapper.COLUMNS + " FROM activity "
+            + "WHERE account_id = ? AND created_at >= ? AND created_at < ? "
+            + "ORDER BY created_at, id";
+
+    /**
+     * MySQL 이외 DB의 내보내기 fetch size
+     */
+    static final int EXPORT_FETCH_SIZE = 1_000;
+
     private final ActivityJpaRepository jpaRepository;
+    private final JdbcTemplate exportJdbcTemplate;
+
+    public ActivityRepositoryImpl(ActivityJpaRepository jpaRepository, DataSource dataSource) {
+        this.jpaRepository = jpaRepository;
+        this.exportJdbcTemplate = new JdbcTemplate(dataSource);
+    }
 
     @Override
     public Activity save(Activity activity) {
@@ -22,12 +44,57 @@ public class ActivityRepositoryImpl implements ActivityRepository {
     }
 
     @Override
-    public List<Activity> findByAccountId(Long accountId) {
-        return jpaRepository.findByAccountId(accountId);
+    public List<Activity> saveAll(List<Activity> activities) {
+        return jpaRepository.saveAll(activities);
+    }
+
+    @Override
+    public List<Activity> findByAccountIdBefore(Long accountId, LocalDateTime beforeCreatedAt, Long beforeId, int limit) {
+        PageRequest pageRequest = PageRequest.of(0, limit);
+        if (beforeCreatedAt == null || beforeId == null) {
+            return jpaRepository.findFirstPage(accountId, pageRequest);
+        }
+        return jpaRepository.findPageBefore(accountId, beforeCreatedAt, beforeId, pageRequest);
+    }
+
+    /**
+     * 이 문장에서만 MySQL 행 단위 스트리밍(fetch size Integer.MIN_VALUE)을 켭니다.
+     * 연결 전체에 useCursorFetch를 켜면 모든 조회가 서버 커서와 fetch 왕복을 쓰게 되므로 사용하지 않습니다.
+     * (H2 등 음수 fetch size를 받지 않는 DB는 EXPORT_FETCH_SIZE)
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachByAccountIdBetween(Long accountId, LocalDateTime from, LocalDateTime to, Consumer<Activity> consumer) {
+        int[] rowNum = {0};
+        exportJdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(SELECT_BETWEEN);
+            boolean mysql = "MySQL".equals(connection.getMetaData().getDatabaseProductName());
+            statement.setFetchSize(mysql ? Integer.MIN_VALUE : EXPORT_FETCH_SIZE);
+            statement.setLong(1, accountId);
+            statement.setTimestamp(2, Timestamp.valueOf(from));
+            statement.setTimestamp(3, Timestamp.valueOf(to));
+            return statement;
+        }, rs -> {
+            consumer.accept(ActivityRowMapper.INSTANCE.mapRow(rs, rowNum[0]++));
+        });
+    }
+
+    @Override
+    public Optional<Activity> findLatestBetween(Long accountId, LocalDateTime after, LocalDateTime atOrBefore) {
+        PageRequest first = PageRequest.of(0, 1);
+        List<Activity> latest = after == null
+                ? jpaRepository.findLatestAtOrBefore(accountId, atOrBefore, first)
+                : jpaRepository.findLatestBetween(accountId, after, atOrBefore, first);
+        return latest.stream().findFirst();
     }
 
     @Override
-    public List<Activity> findByAccountIdOrderByCreatedAtDesc(Long accountId) {
-        return jpaRepository.findByAccountIdOrderByCreatedAtDesc(accountId);
+    public List<Long> findAccountIdsWithActivityBetween(LocalDateTime after, LocalDateTime atOrBefore, Long afterAccountId, int limit) {
+        PageRequest pageRequest = PageRequest.of(0, limit);
+        long fromAccountId = afterAccountId == null ? 0L : afterAccountId;
+        if (after == null) {
+            return jpaRepository.findAccountIdsAtOrBefore(atOrBefore, fromAccountId, pageRequest);
+        }
+        return jpaRepository.findAccountIdsBetween(after, atOrBefore, fromAccountId, pageRequest);
     }
 }
@@ -0,0 +1,40 @@
+package com.leesuchan.infra.database.repository;
+
+import com.leesuchan.activity.domain.model.Activity;
+import com.leesuchan.activity.domain.model.ActivityType;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+
+/**
+ * activity 행 → Activity 매퍼 (JPA를 거치지 않는 JDBC 조회용, 영속성 컨텍스트에 올리지 않음)
+ */
+public class ActivityRowMapper implements RowMapper<Activity> {
+
+    /**
+     * 매퍼가 읽는 컬럼 목록
+     */
+    public static final String COLUMNS = "id, account_id, activity_type, amount, fee, balance_after, "
+            + "reference_account_id, reference_account_number, description, transaction_id, created_at";
+
+    public static final ActivityRowMapper INSTANCE = new ActivityRowMapper();
+
+    @Override
+    public Activity mapRow(ResultSet rs, int rowNum) throws SQLException {
+        return Activity.restore(
+                rs.getLong("id"),
+                rs.getLong("account_id"),
+                ActivityType.valueOf(rs.getString("activity_type")),
+                rs.getLong("amount"),
+                rs.getLong("fee"),
+                rs.getLong("balance_after"),
+                rs.getObject("reference_account_id", Long.class),
+                rs.getString("reference_account_number"),
+                rs.getString("description"),
+                rs.getObject("transaction_id", Long.class),
+                rs.getObject("created_at", LocalDateTime.class)
+        );
+    }
+}
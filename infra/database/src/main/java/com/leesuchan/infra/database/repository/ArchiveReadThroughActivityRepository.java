@@ -0,0 +1,106 @@
+package com.leesuchan.infra.database.repository;
+
+import com.leesuchan.activity.domain.model.Activity;
+import com.leesuchan.activity.domain.repository.ActivityRepository;
+import com.leesuchan.infra.database.archive.ActivityArchive;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.function.Consumer;
+
+/**
+ * 아카이브 세그먼트까지 함께 읽는 Activity Repository 데코레이터
+ *
+ * <p>아카이브 horizon 이전 거래내역은 세그먼트에서, 이후 거래내역은 MySQL에서 읽습니다.
+ * horizon 이전인데 MySQL에 남아 있는 행(purge 전이거나 삭제 진행 중)은 세그먼트와 중복이므로 버리고,
+ * 아카이브 이후 그 달에 늦게 들어온 행은 작성 인스턴스가 그 달을 다시 seal한 뒤부터 보입니다.
+ * 저장은 항상 위임합니다. (새 거래내역은 horizon 이후)
+ */
+public class ArchiveReadThroughActivityRepository implements ActivityRepository {
+
+    private final ActivityRepository delegate;
+    private final ActivityArchive archive;
+
+    public ArchiveReadThroughActivityRepository(ActivityRepository delegate, ActivityArchive archive) {
+        this.delegate = delegate;
+        this.archive = archive;
+    }
+
+    @Override
+    public Activity save(Activity activity) {
+        return delegate.save(activity);
+    }
+
+    @Override
+    public List<Activity> saveAll(List<Activity> activities) {
+        return delegate.saveAll(activities);
+    }
+
+    @Override
+    public List<Activity> findByAccountIdBefore(Long accountId, LocalDateTime beforeCreatedAt, Long beforeId, int limit) {
+        LocalDateTime horizon = archive.horizon();
+        if (horizon == null) {
+            return delegate.findByAccountIdBefore(accountId, beforeCreatedAt, beforeId, limit);
+        }
+        boolean firstPage = beforeCreatedAt == null || beforeId == null;
+        if (!firstPage && beforeCreatedAt.isBefore(horizon)) {
+            return archive.findByAccountIdBefore(accountId, beforeCreatedAt, beforeId, limit);
+        }
+
+        // MySQL 페이지가 모자라면 아카이브 최신분으로 채움 (아카이브 행은 모두 MySQL 행보다 오래됨)
+        List<Activity> page = new ArrayList<>(hotOnly(delegate.findByAccountIdBefore(accountId, beforeCreatedAt, beforeId, limit), horizon));
+        if (page.size() < limit) {
+            page.addAll(archive.findByAccountIdBefore(accountId, null, null, limit - page.size()));
+        }
+        return page;
+    }
+
+    @Override
+    public void forEachByAccountIdBetween(Long accountId, LocalDateTime from, LocalDateTime to, Consumer<Activity> consumer) {
+        LocalDateTime horizon = archive.horizon();
+        if (horizon == null) {
+            delegate.forEachByAccountIdBetween(accountId, from, to, consumer);
+            return;
+        }
+        if (from == null || from.isBefore(horizon)) {
+            archive.forEachByAccountId(accountId, from, to == null || to.isAfter(horizon) ? horizon : to, consumer);
+        }
+        if (to == null || to.isAfter(horizon)) {
+            delegate.forEachByAccountIdBetween(accountId, from == null || from.isBefore(horizon) ? horizon : from, to, consumer);
+        }
+    }
+
+    @Override
+    public Optional<Activity> findLatestBetween(Long accountId, LocalDateTime after, LocalDateTime atOrBefore) {
+        LocalDateTime horizon = archive.horizon();
+        Optional<Activity> latest = delegate.findLatestBetween(accountId, after, atOrBefore);
+        if (horizon == null || latest.filter(activity -> !activity.getCreatedAt().isBefore(horizon)).isPresent()) {
+            return latest;
+        }
+        if (after != null && !after.isBefore(horizon)) {
+            return Optional.empty();
+        }
+        return archive.findLatestBetween(accountId, after, atOrBefore);
+    }
+
+    @Override
+    public List<Long> findAccountIdsWithActivityBetween(LocalDateTime after, LocalDateTime atOrBefore, Long afterAccountId, int limit) {
+        LocalDateTime horizon = archive.horizon();
+        List<Long> accountIds = delegate.findAccountIdsWithActivityBetween(after, atOrBefore, afterAccountId, limit);
+        if (horizon == null || (after != null && !after.isBefore(horizon))) {
+            return accountIds;
+        }
+        TreeSet<Long> merged = new TreeSet<>(accountIds);
+        merged.addAll(archive.findAccountIdsBetween(after, atOrBefore, afterAccountId, limit));
+        return merged.stream().limit(limit).toList();
+    }
+
+    private static List<Activity> hotOnly(List<Activity> activities, LocalDateTime horizon) {
+        return activities.stream()
+                .filter(activity -> !activity.getCreatedAt().isBefore(horizon))
+                .toList();
+    }
+}
@@ -0,0 +1,30 @@
+package com.leesuchan.infra.database.repository;
+
+import com.leesuchan.activity.domain.model.BalanceCheckpoint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * BalanceCheckpoint JPA Repository
+ */
+public interface BalanceCheckpointJpaRepository extends JpaRepository<BalanceCheckpoint, Long> {
+
+    /**
+     * at 이전(포함) 가장 최근 체크포인트 (uk_account_balance_checkpoint 인덱스 역순 탐색, 1건)
+     */
+    @Query("SELECT c FROM BalanceCheckpoint c WHERE c.accountId = :accountId AND c.checkpointAt <= :at "
+            + "ORDER BY c.checkpointAt DESC")
+    List<BalanceCheckpoint> findLatestAtOrBefore(
+            @Param("accountId") Long accountId,
+            @Param("at") LocalDateTime at,
+            Pageable pageable
+    );
+
+    @Query("SELECT MAX(c.checkpointAt) FROM BalanceCheckpoint c")
+    LocalDateTime findLatestCheckpointAt();
+}
@@ -0,0 +1,36 @@
+package com.leesuchan.infra.database.repository;
+
+import com.leesuchan.activity.domain.model.BalanceCheckpoint;
+import com.leesuchan.activity.domain.repository.BalanceCheckpointRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * BalanceCheckpoint Repository 구현체
+ */
+@Repository
+@RequiredArgsConstructor
+public class BalanceCheckpointRepositoryImpl implements BalanceCheckpointRepository {
+
+    private final BalanceCheckpointJpaRepository jpaRepository;
+
+    @Override
+    public List<BalanceCheckpoint> saveAll(List<BalanceCheckpoint> checkpoints) {
+        return jpaRepository.saveAll(checkpoints);
+    }
+
+    @Override
+    public Optional<BalanceCheckpoint> findLatestAtOrBefore(Long accountId, LocalDateTime at) {
+        return jpaRepository.findLatestAtOrBefore(accountId, at, PageRequest.of(0, 1)).stream().findFirst();
+    }
+
+    @Override
+    public Optional<LocalDateTime> findLatestCheckpointAt() {
+        return Optional.ofNullable(jpaRepository.findLatestCheckpointAt());
+    }
+}
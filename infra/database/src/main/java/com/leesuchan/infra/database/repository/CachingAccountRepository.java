@@ -0,0 +1,185 @@
+package com.leesuchan.infra.database.repository;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.leesuchan.account.domain.model.Account;
+import com.leesuchan.account.domain.model.AccountSummary;
+import com.leesuchan.account.domain.repository.AccountRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 계좌번호 → 계좌 ID 캐시를 두는 Account Repository 데코레이터
+ *
+ * <p>계좌번호와 ID는 바뀌지 않으므로 findIdByAccountNumber 결과만 크기/TTL 제한 캐시에 보관합니다.
+ * 잔액 등 자주 바뀌는 상태를 담은 엔티티는 캐시하지 않고 항상 위임합니다.
+ * 등록/삭제 시에만 해당 계좌번호를 즉시, 그리고 커밋 후 한 번 더 무효화합니다.
+ * (커밋 전 다른 트랜잭션이 이전 상태를 다시 캐시하는 것을 방지, 다른 인스턴스는 TTL로 수렴)
+ */
+public class CachingAccountRepository implements AccountRepository {
+
+    /**
+     * 캐시 메트릭 이름 (cache.gets{cache=account.id, result=hit|miss} 등)
+     */
+    public static final String CACHE_NAME = "account.id";
+
+    private final AccountRepository delegate;
+    private final Cache<String, Long> accountIds;
+
+    public CachingAccountRepository(AccountRepository delegate, long maximumSize, Duration ttl) {
+        this.delegate = delegate;
+        this.accountIds = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 히트/미스/제거 메트릭을 등록합니다.
+     */
+    public void bindMetrics(MeterRegistry meterRegistry) {
+        CaffeineCacheMetrics.monitor(meterRegistry, accountIds, CACHE_NAME);
+    }
+
+    @Override
+    public Optional<Long> findIdByAccountNumber(String accountNumber) {
+        Long cached = accountIds.getIfPresent(accountNumber);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        // 없는 계좌는 캐시하지 않음 (등록 직후 조회가 막히지 않도록)
+        Optional<Long> id = delegate.findIdByAccountNumber(accountNumber);
+        id.ifPresent(value -> accountIds.put(accountNumber, value));
+        return id;
+    }
+
+    @Override
+    public boolean existsByAccountNumber(String accountNumber) {
+        if (accountIds.getIfPresent(accountNumber) != null) {
+            return true;
+        }
+        return delegate.existsByAccountNumber(accountNumber);
+    }
+
+    /**
+     * 계좌번호 → ID 매핑은 등록/삭제로만 바뀌므로 잔액 변경 등 기존 계좌 저장은 그대로 위임합니다.
+     * 등록(ID 없는 계좌 저장)일 때만 무효화합니다.
+     */
+    @Override
+    public Account save(Account account) {
+        boolean registering = account.getId() == null;
+        Account saved = delegate.save(account);
+        if (registering) {
+            evict(account.getAccountNumber());
+        }
+        return saved;
+    }
+
+    @Override
+    public void deleteByAccountNumber(String accountNumber) {
+        delegate.deleteByAccountNumber(accountNumber);
+        evict(accountNumber);
+    }
+
+    /**
+     * 없는 계좌는 캐시하지 않으므로 무효화할 항목이 없습니다.
+     */
+    @Override
+    public Set<String> insertIgnoringDuplicates(List<Account> accounts) {
+        return delegate.insertIgnoringDuplicates(accounts);
+    }
+
+    @Override
+    public Optional<Account> findByAccountNumber(String accountNumber) {
+        return delegate.findByAccountNumber(accountNumber);
+    }
+
+    @Override
+    public Optional<Account> findById(Long id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public Optional<Account> findByIdForUpdate(Long id) {
+        return delegate.findByIdForUpdate(id);
+    }
+
+    @Override
+    public List<Long> findIdsByAccountNumberIn(Collection<String> accountNumbers) {
+        return delegate.findIdsByAccountNumberIn(accountNumbers);
+    }
+
+    @Override
+    public List<Account> findAllByIdInForUpdate(Collection<Long> ids) {
+        return delegate.findAllByIdInForUpdate(ids);
+    }
+
+    @Override
+    public int increaseBalance(String accountNumber, long amount, LocalDateTime updatedAt) {
+        return delegate.increaseBalance(accountNumber, amount, updatedAt);
+    }
+
+    @Override
+    public int decreaseBalanceWithinDailyWithdrawLimit(
+            String accountNumber,
+            long amount,
+            long dailyLimit,
+            LocalDate today,
+            LocalDateTime updatedAt
+    ) {
+        return delegate.decreaseBalanceWithinDailyWithdrawLimit(accountNumber, amount, dailyLimit, today, updatedAt);
+    }
+
+    @Override
+    public Page<Account> findAll(Pageable pageable) {
+        return delegate.findAll(pageable);
+    }
+
+    @Override
+    public Optional<AccountSummary> findSummaryByAccountNumber(String accountNumber) {
+        return delegate.findSummaryByAccountNumber(accountNumber);
+    }
+
+    @Override
+    public Page<AccountSummary> findAllSummaries(Pageable pageable) {
+        return delegate.findAllSummaries(pageable);
+    }
+
+    @Override
+    public Slice<AccountSummary> findSummarySlice(Pageable pageable) {
+        return delegate.findSummarySlice(pageable);
+    }
+
+    /**
+     * 현재 캐시된 계좌 수 (근사값)
+     */
+    public long cachedSize() {
+        return accountIds.estimatedSize();
+    }
+
+    private void evict(String accountNumber) {
+        accountIds.invalidate(accountNumber);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    accountIds.invalidate(accountNumber);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.leesuchan.infra.database.repository;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.leesuchan.account.domain.model.IdempotencyRecord;
+import com.leesuchan.account.domain.repository.IdempotencyRecordRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 최근 멱등성 키를 메모리에 두는 IdempotencyRecord Repository 데코레이터
+ *
+ * <p>재요청(클라이언트 재시도)은 대부분 최초 요청 직후에 들어오므로,
+ * 최근 저장한 키를 크기 제한(LRU) 캐시에 두고 DB 조회 없이 응답합니다.
+ * 저장한 기록은 커밋된 뒤에만 캐시에 넣어, 롤백된 요청의 응답을 재응답하지 않습니다.
+ * 다른 인스턴스가 저장한 키는 캐시에 없으면 DB에서 조회합니다.
+ */
+public class CachingIdempotencyRecordRepository implements IdempotencyRecordRepository {
+
+    /**
+     * 캐시 메트릭 이름 (cache.gets{cache=idempotency.key, result=hit|miss} 등)
+     */
+    public static final String CACHE_NAME = "idempotency.key";
+
+    private final IdempotencyRecordRepository delegate;
+    private final Cache<String, IdempotencyRecord> records;
+
+    public CachingIdempotencyRecordRepository(IdempotencyRecordRepository delegate, long maximumSize, Duration ttl) {
+        this.delegate = delegate;
+        this.records = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 히트/미스/제거 메트릭을 등록합니다.
+     */
+    public void bindMetrics(MeterRegistry meterRegistry) {
+        CaffeineCacheMetrics.monitor(meterRegistry, records, CACHE_NAME);
+    }
+
+    @Override
+    public Optional<IdempotencyRecord> findByKey(String idempotencyKey) {
+        IdempotencyRecord cached = records.getIfPresent(idempotencyKey);
+        if (cached != null) {
+            if (!cached.isExpired(LocalDateTime.now())) {
+                return Optional.of(cached);
+            }
+            // 만료된 키는 정리 작업이 이미 삭제했을 수 있으므로 DB에서 다시 확인
+            records.invalidate(idempotencyKey);
+        }
+        // 없는 키는 캐시하지 않음 (곧 저장될 수 있으므로)
+        Optional<IdempotencyRecord> record = delegate.findByKey(idempotencyKey);
+        record.ifPresent(value -> {
+            if (!value.isExpired(LocalDateTime.now())) {
+                records.put(idempotencyKey, value);
+            }
+        });
+        return record;
+    }
+
+    @Override
+    public IdempotencyRecord save(IdempotencyRecord record) {
+        IdempotencyRecord saved = delegate.save(record);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    records.put(saved.getIdempotencyKey(), saved);
+                }
+            });
+        } else {
+            records.put(saved.getIdempotencyKey(), saved);
+        }
+        return saved;
+    }
+
+    @Override
+    public void deleteByKey(String idempotencyKey) {
+        records.invalidate(idempotencyKey);
+        delegate.deleteByKey(idempotencyKey);
+    }
+
+    /**
+     * 캐시 항목은 expireAfterWrite(키 유지 시간)로 함께 만료되므로 DB에서만 삭제합니다.
+     */
+    @Override
+    public int deleteExpired(LocalDateTime now, int limit) {
+        return delegate.deleteExpired(now, limit);
+    }
+}
@@ -0,0 +1,38 @@
+package com.leesuchan.infra.database.repository;
+
+import com.leesuchan.account.domain.model.IdempotencyRecord;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * IdempotencyRecord JPA Repository
+ */
+public interface IdempotencyRecordJpaRepository extends JpaRepository<IdempotencyRecord, String> {
+
+    /**
+     * 기본(읽기 전용) 트랜잭션은 복제본으로 라우팅될 수 있으므로, 방금 커밋된 키도 보이도록 primary에서 조회
+     */
+    @Override
+    @Transactional
+    Optional<IdempotencyRecord> findById(String idempotencyKey);
+
+    @Query("SELECT r.idempotencyKey FROM IdempotencyRecord r WHERE r.expiresAt <= :now ORDER BY r.expiresAt")
+    List<String> findExpiredKeys(@Param("now") LocalDateTime now, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.idempotencyKey IN :keys AND r.expiresAt <= :now")
+    int deleteExpiredByKeyIn(@Param("keys") Collection<String> keys, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.idempotencyKey = :key")
+    int deleteByKey(@Param("key") String key);
+}
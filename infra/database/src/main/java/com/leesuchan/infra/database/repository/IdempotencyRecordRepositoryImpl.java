@@ -0,0 +1,54 @@
+package com.leesuchan.infra.database.repository;
+
+import com.leesuchan.account.domain.model.IdempotencyRecord;
+import com.leesuchan.account.domain.repository.IdempotencyRecordRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * IdempotencyRecord Repository 구현체
+ */
+@Repository
+@RequiredArgsConstructor
+public class IdempotencyRecordRepositoryImpl implements IdempotencyRecordRepository {
+
+    private final IdempotencyRecordJpaRepository jpaRepository;
+
+    @Override
+    public Optional<IdempotencyRecord> findByKey(String idempotencyKey) {
+        return jpaRepository.findById(idempotencyKey);
+    }
+
+    /**
+     * 잔액 변경과 같은 트랜잭션에서 바로 flush 하여, 같은 키의 동시 요청이 커밋 전에 PK 제약으로 실패하도록 합니다.
+     */
+    @Override
+    public IdempotencyRecord save(IdempotencyRecord record) {
+        return jpaRepository.saveAndFlush(record);
+    }
+
+    @Override
+    @Transactional
+    public void deleteByKey(String idempotencyKey) {
+        jpaRepository.deleteByKey(idempotencyKey);
+    }
+
+    /**
+     * 만료 시각 인덱스로 키를 먼저 고른 뒤 PK로 삭제하여, 한 번에 잠그는 행 수를 limit으로 제한합니다.
+     */
+    @Override
+    @Transactional
+    public int deleteExpired(LocalDateTime now, int limit) {
+        List<String> keys = jpaRepository.findExpiredKeys(now, PageRequest.of(0, limit));
+        if (keys.isEmpty()) {
+            return 0;
+        }
+        return jpaRepository.deleteExpiredByKeyIn(keys, now);
+    }
+}
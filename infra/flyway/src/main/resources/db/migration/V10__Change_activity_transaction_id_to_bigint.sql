@@ -0,0 +1,41 @@
+-- 트랜잭션 ID를 VARCHAR(50) "TX_<밀리초>"에서 시간순 64비트 정수(Snowflake)로 변경
+-- 비트 구성: 경과 밀리초 41 (2020-01-01 UTC 기준) | 노드 ID 10 | 시퀀스 12
+-- 기존 값은 노드 1023(이관 전용, 발급에 사용하지 않음)으로 변환합니다.
+-- 같은 기존 ID를 가진 행(이체 출금/입금 쌍)은 그중 가장 작은 행 id(고유)로 변환하여 쌍은 유지하고 다른 거래와는 겹치지 않게 합니다.
+-- (행 id 상위 비트를 밀리초 자리에, 하위 12비트를 시퀀스 자리에 넣으므로 변환된 값의 timestampOf는 발급 시각이 아님)
+-- 같은 밀리초에 생성되어 이미 겹친 기존 ID는 구분할 수 없으므로 하나의 값으로 변환됩니다.
+
+ALTER TABLE activity ADD COLUMN transaction_no BIGINT NULL;
+
+UPDATE activity a
+    JOIN (SELECT transaction_id, MIN(id) AS first_id
+          FROM activity
+          WHERE transaction_id LIKE 'TX\_%'
+          GROUP BY transaction_id) g ON a.transaction_id = g.transaction_id
+SET a.transaction_no = ((g.first_id >> 12) << 22) | (1023 << 12) | (g.first_id & 4095);
+
+-- activity_outbox (인덱스 없음)
+-- 쌍의 한쪽이 이미 activity로 옮겨졌으면 같은 값을 쓰고,
+-- 나머지는 outbox 행 id로 변환하되 activity 변환 값과 겹치지 않도록 밀리초 자리의 최상위 비트(40)를 켭니다.
+ALTER TABLE activity_outbox ADD COLUMN transaction_no BIGINT NULL;
+
+UPDATE activity_outbox o
+    JOIN (SELECT transaction_id, MIN(transaction_no) AS transaction_no
+          FROM activity
+          WHERE transaction_no IS NOT NULL
+          GROUP BY transaction_id) a ON o.transaction_id = a.transaction_id
+SET o.transaction_no = a.transaction_no;
+
+UPDATE activity_outbox o
+    JOIN (SELECT transaction_id, MIN(id) AS first_id
+          FROM activity_outbox
+          WHERE transaction_id LIKE 'TX\_%' AND transaction_no IS NULL
+          GROUP BY transaction_id) g ON o.transaction_id = g.transaction_id
+SET o.transaction_no = (((g.first_id >> 12) | (1 << 40)) << 22) | (1023 << 12) | (g.first_id & 4095);
+
+ALTER TABLE activity DROP INDEX idx_transaction_id, DROP COLUMN transaction_id;
+ALTER TABLE activity RENAME COLUMN transaction_no TO transaction_id;
+CREATE INDEX idx_transaction_id ON activity(transaction_id);
+
+ALTER TABLE activity_outbox DROP COLUMN transaction_id;
+ALTER TABLE activity_outbox RENAME COLUMN transaction_no TO transaction_id;
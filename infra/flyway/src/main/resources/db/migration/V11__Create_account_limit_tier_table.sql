@@ -0,0 +1,11 @@
+-- 계좌 한도 등급 테이블 (등급별 일일 출금/이체 한도, 애플리케이션이 주기적으로 읽어 메모리 스냅샷으로 반영)
+-- code = 'DEFAULT' 행이 있으면 등급이 없는 계좌의 한도로 설정 파일 값 대신 사용
+CREATE TABLE account_limit_tier (
+    code VARCHAR(20) PRIMARY KEY,
+    daily_withdraw_limit BIGINT NOT NULL,
+    daily_transfer_limit BIGINT NOT NULL,
+    updated_at DATETIME(6) NOT NULL
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+-- 계좌별 한도 등급 (NULL이면 기본 한도)
+ALTER TABLE account ADD COLUMN limit_tier VARCHAR(20) NULL;
@@ -0,0 +1,7 @@
+-- 복제 지연 측정용 heartbeat 테이블 (애플리케이션이 primary에 현재 시각을 기록하고 복제본에서 읽어 지연 계산)
+CREATE TABLE replica_heartbeat (
+    id INT PRIMARY KEY,
+    beat_at_millis BIGINT NOT NULL
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+INSERT INTO replica_heartbeat (id, beat_at_millis) VALUES (1, 0);
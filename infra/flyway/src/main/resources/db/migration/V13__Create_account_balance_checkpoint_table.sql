@@ -0,0 +1,13 @@
+-- 계좌 잔액 체크포인트 테이블 (checkpoint_at 시점의 마지막 거래내역과 잔액, 특정 시점 잔액 조회의 탐색 하한)
+-- 해당 구간에 거래가 있었던 계좌만 기록하므로, 계좌별 최신 체크포인트 이후의 거래내역만 탐색하면 됨
+CREATE TABLE account_balance_checkpoint (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    account_id BIGINT NOT NULL,
+    checkpoint_at DATETIME(6) NOT NULL,
+    activity_id BIGINT NOT NULL,
+    activity_created_at DATETIME(6) NOT NULL,
+    balance_after BIGINT NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    CONSTRAINT uk_account_balance_checkpoint UNIQUE (account_id, checkpoint_at),
+    INDEX idx_account_balance_checkpoint_at (checkpoint_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
@@ -0,0 +1,18 @@
+-- 거래내역 테이블 월 단위 RANGE 파티셔닝 (created_at)
+-- 파티션 키는 모든 유니크 키에 포함되어야 하므로 PK를 (id, created_at)으로 확장 (id는 시퀀스로 발급되어 여전히 유일)
+-- 이번 달 이전 거래내역은 p_history 하나에 두고, 이번 달부터의 월 파티션은 ActivityPartitionMaintainer가 pmax를 나눠 미리 생성
+-- (created_at 조건이 있는 조회만 파티션 프루닝 대상)
+
+ALTER TABLE activity MODIFY created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP;
+
+ALTER TABLE activity DROP PRIMARY KEY, ADD PRIMARY KEY (id, created_at);
+
+SET @history_before = DATE_FORMAT(CURRENT_DATE, '%Y-%m-01');
+SET @partition_ddl = CONCAT(
+        'ALTER TABLE activity PARTITION BY RANGE COLUMNS(created_at) (',
+        'PARTITION p_history VALUES LESS THAN (''', @history_before, '''), ',
+        'PARTITION pmax VALUES LESS THAN (MAXVALUE))'
+);
+PREPARE partition_activity FROM @partition_ddl;
+EXECUTE partition_activity;
+DEALLOCATE PREPARE partition_activity;
@@ -0,0 +1,9 @@
+-- activity ID를 시퀀스(pooled optimizer, allocationSize = 50)로 발급하기 위한 시퀀스 테이블
+-- MySQL은 시퀀스를 지원하지 않으므로 Hibernate가 단일 행 테이블로 시퀀스를 대체합니다.
+CREATE TABLE activity_seq (
+    next_val BIGINT
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+-- 기존 AUTO_INCREMENT 값과 겹치지 않도록 현재 최대 ID + allocationSize 이후부터 발급
+INSERT INTO activity_seq (next_val)
+SELECT COALESCE(MAX(id), 0) + 51 FROM activity;
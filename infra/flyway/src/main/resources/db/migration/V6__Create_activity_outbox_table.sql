@@ -0,0 +1,22 @@
+-- 거래내역 Outbox 테이블 (OUTBOX 모드에서 잔액 트랜잭션과 함께 기록, 백그라운드 작성기가 activity로 이관 후 삭제)
+CREATE TABLE activity_outbox (
+    id BIGINT PRIMARY KEY,
+    account_id BIGINT NOT NULL,
+    activity_type ENUM('DEPOSIT', 'WITHDRAW', 'TRANSFER_OUT', 'TRANSFER_IN') NOT NULL,
+    amount BIGINT NOT NULL,
+    fee BIGINT NOT NULL DEFAULT 0,
+    balance_after BIGINT NOT NULL,
+    reference_account_id BIGINT NULL,
+    reference_account_number VARCHAR(20) NULL,
+    description VARCHAR(200) NULL,
+    transaction_id VARCHAR(50) NULL,
+    created_at DATETIME(6) NOT NULL,
+    INDEX idx_activity_outbox_account_id (account_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+-- activity_outbox ID 시퀀스 테이블 (pooled optimizer, allocationSize = 50)
+CREATE TABLE activity_outbox_seq (
+    next_val BIGINT
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+INSERT INTO activity_outbox_seq (next_val) VALUES (1);
@@ -0,0 +1,6 @@
+-- 거래내역 키셋 페이지네이션 인덱스
+-- WHERE account_id = ? AND (created_at, id) < (?, ?) ORDER BY created_at DESC, id DESC 를 인덱스 역순 스캔으로 처리
+CREATE INDEX idx_activity_account_created_id ON activity(account_id, created_at, id);
+
+-- account_id 단일 인덱스는 위 복합 인덱스의 선두 컬럼과 중복되므로 제거
+DROP INDEX idx_account_id ON activity;
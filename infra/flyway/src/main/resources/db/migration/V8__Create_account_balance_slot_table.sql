@@ -0,0 +1,9 @@
+-- 계좌 잔액 슬롯 테이블 (스트라이프 계좌의 입금액을 N개 행에 나눠 적립, 출금 전/백그라운드 압축 시 account.balance로 합침)
+CREATE TABLE account_balance_slot (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    account_id BIGINT NOT NULL,
+    slot_no INT NOT NULL,
+    amount BIGINT NOT NULL DEFAULT 0,
+    updated_at DATETIME(6) NOT NULL,
+    CONSTRAINT uk_account_balance_slot UNIQUE (account_id, slot_no)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
@@ -0,0 +1,10 @@
+-- 멱등성 키 테이블 (Idempotency-Key 헤더로 들어온 입금/출금/이체의 응답을 잔액 변경과 같은 트랜잭션에 저장, 재요청 시 그대로 재응답)
+CREATE TABLE idempotency_key (
+    idempotency_key VARCHAR(100) PRIMARY KEY,
+    operation VARCHAR(20) NOT NULL,
+    request_hash CHAR(64) NOT NULL,
+    response_body TEXT NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    expires_at DATETIME(6) NOT NULL,
+    INDEX idx_idempotency_key_expires_at (expires_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
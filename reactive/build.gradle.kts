@@ -0,0 +1,27 @@
+plugins {
+    id("org.springframework.boot")
+}
+
+// 도메인 모듈이 가져오는 JPA/서블릿 스택을 빼고 WebFlux + R2DBC만으로 기동
+configurations.all {
+    exclude(group = "org.springframework.boot", module = "spring-boot-starter-data-jpa")
+    exclude(group = "org.springframework.boot", module = "spring-boot-starter-web")
+    exclude(group = "org.springdoc", module = "springdoc-openapi-starter-webmvc-ui")
+}
+
+dependencies {
+    implementation(project(":account"))
+    implementation(project(":activity"))
+    implementation(project(":common"))
+    implementation(project(":infra:database")) // 아카이브 세그먼트 읽기 (JPA 저장소는 스캔하지 않음)
+
+    implementation("org.springframework.boot:spring-boot-starter-webflux")
+    implementation("org.springframework.boot:spring-boot-starter-data-r2dbc")
+    implementation("org.springframework.boot:spring-boot-starter-actuator")
+    implementation("org.springdoc:springdoc-openapi-starter-webflux-ui:2.3.0")
+    runtimeOnly("io.asyncer:r2dbc-mysql")
+
+    testImplementation("org.springframework.boot:spring-boot-starter-test")
+    testImplementation("io.projectreactor:reactor-test")
+    testRuntimeOnly("io.r2dbc:r2dbc-h2")
+}
@@ -0,0 +1,19 @@
+package com.leesuchan.reactive;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+/**
+ * 리액티브 조회 애플리케이션 (WebFlux + R2DBC)
+ *
+ * <p>계좌/거래내역 조회만 논블로킹으로 처리하며, 쓰기 API는 service 모듈(MVC + JPA)이 그대로 담당합니다.
+ */
+@SpringBootApplication(scanBasePackages = {
+    "com.leesuchan.reactive",
+    "com.leesuchan.common"
+})
+public class ReactiveQueryApplication {
+    public static void main(String[] args) {
+        SpringApplication.run(ReactiveQueryApplication.class, args);
+    }
+}
@@ -0,0 +1,30 @@
+package com.leesuchan.reactive.application;
+
+import com.leesuchan.account.domain.exception.AccountNotFoundException;
+import com.leesuchan.reactive.dto.response.AccountResponse;
+import com.leesuchan.reactive.repository.AccountReadRepository;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+/**
+ * 계좌 조회 Query Service (리액티브)
+ */
+@Service
+public class ReactiveAccountQueryService {
+
+    private final AccountReadRepository accountReadRepository;
+
+    public ReactiveAccountQueryService(AccountReadRepository accountReadRepository) {
+        this.accountReadRepository = accountReadRepository;
+    }
+
+    /**
+     * 계좌번호로 계좌를 조회합니다.
+     *
+     * @return 계좌 응답 (없으면 AccountNotFoundException)
+     */
+    public Mono<AccountResponse> execute(String accountNumber) {
+        return accountReadRepository.findSummaryByAccountNumber(accountNumber)
+                .switchIfEmpty(Mono.error(AccountNotFoundException::new));
+    }
+}
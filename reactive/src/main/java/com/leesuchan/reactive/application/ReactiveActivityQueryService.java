@@ -0,0 +1,91 @@
+package com.leesuchan.reactive.application;
+
+import com.leesuchan.account.domain.exception.AccountNotFoundException;
+import com.leesuchan.activity.domain.model.vo.ActivityCursor;
+import com.leesuchan.reactive.dto.response.ActivityPageResponse;
+import com.leesuchan.reactive.dto.response.ActivityResponse;
+import com.leesuchan.reactive.repository.AccountReadRepository;
+import com.leesuchan.reactive.repository.ActivityReadRepository;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * 거래내역 조회 Query Service (리액티브)
+ *
+ * <p>Outbox 모드의 미이관 거래내역은 이관하지 않고 읽으므로, 이관 주기만큼 늦게 보일 수 있습니다.
+ * (쓰기 직후 바로 읽어야 하면 service 모듈의 조회 API 사용)
+ */
+@Service
+public class ReactiveActivityQueryService {
+
+    /**
+     * 커서 페이지 최대 크기 (service 모듈과 같음)
+     */
+    public static final int MAX_LIMIT = 100;
+
+    /**
+     * 스트리밍 조회 시 한 번에 읽는 페이지 크기
+     */
+    static final int STREAM_PAGE_SIZE = 200;
+
+    private final AccountReadRepository accountReadRepository;
+    private final ActivityReadRepository activityReadRepository;
+
+    public ReactiveActivityQueryService(
+            AccountReadRepository accountReadRepository,
+            ActivityReadRepository activityReadRepository
+    ) {
+        this.accountReadRepository = accountReadRepository;
+        this.activityReadRepository = activityReadRepository;
+    }
+
+    /**
+     * 계좌의 거래내역을 커서 기반으로 조회합니다.
+     *
+     * @param limit  페이지 크기 (1 ~ MAX_LIMIT)
+     * @param before 이전 응답의 nextCursor (첫 페이지는 null)
+     */
+    public Mono<ActivityPageResponse> execute(String accountNumber, int limit, String before) {
+        return Mono.defer(() -> {
+            if (limit < 1 || limit > MAX_LIMIT) {
+                return Mono.error(new IllegalArgumentException("limit은 1 이상 " + MAX_LIMIT + " 이하여야 합니다."));
+            }
+            ActivityCursor cursor = before == null || before.isBlank() ? null : ActivityCursor.decode(before);
+
+            // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+            return findAccountId(accountNumber)
+                    .flatMap(accountId -> activityReadRepository.findPage(accountId, cursor, limit + 1).collectList())
+                    .map(activities -> toPage(activities, limit));
+        });
+    }
+
+    /**
+     * 계좌의 전체 거래내역을 최신순으로 스트리밍합니다.
+     *
+     * <p>클라이언트가 읽는 속도(demand)에 맞춰 STREAM_PAGE_SIZE건씩 키셋 페이지로 읽으므로,
+     * 느린 클라이언트도 스레드나 커넥션을 점유하지 않고 메모리에는 페이지 하나만 둡니다.
+     */
+    public Flux<ActivityResponse> stream(String accountNumber) {
+        return findAccountId(accountNumber)
+                .flatMapMany(accountId -> activityReadRepository.streamByAccountId(accountId, STREAM_PAGE_SIZE));
+    }
+
+    private Mono<Long> findAccountId(String accountNumber) {
+        return accountReadRepository.findIdByAccountNumber(accountNumber)
+                .switchIfEmpty(Mono.error(AccountNotFoundException::new));
+    }
+
+    private ActivityPageResponse toPage(List<ActivityResponse> activities, int limit) {
+        boolean hasNext = activities.size() > limit;
+        List<ActivityResponse> page = hasNext ? activities.subList(0, limit) : activities;
+        String nextCursor = null;
+        if (hasNext) {
+            ActivityResponse last = page.get(page.size() - 1);
+            nextCursor = new ActivityCursor(last.createdAt(), last.id()).encode();
+        }
+        return new ActivityPageResponse(page, nextCursor, hasNext);
+    }
+}
@@ -0,0 +1,51 @@
+package com.leesuchan.reactive.config;
+
+import com.leesuchan.infra.database.archive.ActivityArchive;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+
+/**
+ * 거래내역 아카이브 읽기 설정 (리액티브)
+ *
+ * <p>activity.archive.enabled=true 일 때만 활성화되며, service 작성 인스턴스가 공유 디렉터리에 seal한 세그먼트를
+ * 읽기 전용으로 열고 check-interval-ms마다 다시 읽습니다. 리액티브 인스턴스는 세그먼트를 작성하지 않습니다.
+ */
+@Slf4j
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(prefix = "activity.archive", name = "enabled", havingValue = "true")
+public class ReactiveArchiveConfig {
+
+    private final ObjectProvider<ActivityArchive> activityArchive;
+
+    public ReactiveArchiveConfig(ObjectProvider<ActivityArchive> activityArchive) {
+        this.activityArchive = activityArchive;
+    }
+
+    @Bean
+    public ActivityArchive activityArchive(@Value("${activity.archive.directory}") String directory) {
+        return new ActivityArchive(Path.of(directory), false);
+    }
+
+    @Scheduled(
+            initialDelayString = "${activity.archive.check-interval-ms:3600000}",
+            fixedDelayString = "${activity.archive.check-interval-ms:3600000}"
+    )
+    public void refresh() {
+        try {
+            activityArchive.getObject().refresh();
+        } catch (UncheckedIOException e) {
+            // 공유 스토리지 일시 장애 등, 지금 스냅샷으로 계속 읽고 다음 주기에 다시 시도
+            log.warn("거래내역 아카이브 세그먼트 refresh 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.leesuchan.reactive.controller;
+
+import com.leesuchan.common.response.ApiResponse;
+import com.leesuchan.reactive.application.ReactiveAccountQueryService;
+import com.leesuchan.reactive.dto.response.AccountResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+/**
+ * 계좌 조회 API (리액티브)
+ */
+@Tag(name = "계좌 조회 (리액티브)", description = "논블로킹 계좌 조회 API")
+@RestController
+@RequestMapping("/api/v1/accounts")
+public class ReactiveAccountController {
+
+    private final ReactiveAccountQueryService reactiveAccountQueryService;
+
+    public ReactiveAccountController(ReactiveAccountQueryService reactiveAccountQueryService) {
+        this.reactiveAccountQueryService = reactiveAccountQueryService;
+    }
+
+    /**
+     * 계좌 조회
+     */
+    @Operation(summary = "계좌 조회", description = "계좌번호로 계좌 정보를 조회합니다.")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "계좌 조회 성공"
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "404",
+                    description = "계좌를 찾을 수 없습니다"
+            )
+    })
+    @GetMapping("/{accountNumber}")
+    public Mono<ApiResponse<AccountResponse>> getAccount(
+            @Parameter(description = "계좌번호", example = "1234567890", required = true)
+            @PathVariable String accountNumber
+    ) {
+        return reactiveAccountQueryService.execute(accountNumber)
+                .map(ApiResponse::success);
+    }
+}
@@ -0,0 +1,92 @@
+package com.leesuchan.reactive.controller;
+
+import com.leesuchan.common.response.ApiResponse;
+import com.leesuchan.reactive.application.ReactiveActivityQueryService;
+import com.leesuchan.reactive.dto.response.ActivityPageResponse;
+import com.leesuchan.reactive.dto.response.ActivityResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 거래내역 조회 API (리액티브)
+ */
+@Tag(name = "거래내역 조회 (리액티브)", description = "논블로킹 거래내역 조회 API")
+@RestController
+@RequestMapping("/api/v1/activities")
+public class ReactiveActivityController {
+
+    private final ReactiveActivityQueryService reactiveActivityQueryService;
+
+    public ReactiveActivityController(ReactiveActivityQueryService reactiveActivityQueryService) {
+        this.reactiveActivityQueryService = reactiveActivityQueryService;
+    }
+
+    /**
+     * 계좌 거래내역 커서 페이지 조회
+     */
+    @Operation(
+            summary = "계좌 거래내역 커서 페이지 조회",
+            description = "계좌의 거래내역을 최신순으로 limit건씩 조회합니다. 다음 페이지는 응답의 nextCursor를 before로 전달합니다."
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "거래내역 조회 성공"
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "400",
+                    description = "잘못된 limit 또는 커서"
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "404",
+                    description = "계좌를 찾을 수 없습니다"
+            )
+    })
+    @GetMapping(value = "/{accountNumber}", params = "limit")
+    public Mono<ApiResponse<ActivityPageResponse>> getActivityPage(
+            @Parameter(description = "계좌번호", example = "1234567890", required = true)
+            @PathVariable String accountNumber,
+            @Parameter(description = "페이지 크기 (1 ~ 100)", example = "50", required = true)
+            @RequestParam int limit,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String before
+    ) {
+        return reactiveActivityQueryService.execute(accountNumber, limit, before)
+                .map(ApiResponse::success);
+    }
+
+    /**
+     * 계좌 거래내역 스트리밍 조회
+     */
+    @Operation(
+            summary = "계좌 거래내역 스트리밍 조회",
+            description = "계좌의 전체 거래내역을 최신순으로 NDJSON 한 줄에 한 건씩 스트리밍합니다. 클라이언트가 읽는 속도에 맞춰 DB에서 읽습니다."
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "거래내역 스트리밍 성공"
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "404",
+                    description = "계좌를 찾을 수 없습니다"
+            )
+    })
+    @GetMapping(value = "/{accountNumber}/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<ActivityResponse> streamActivities(
+            @Parameter(description = "계좌번호", example = "1234567890", required = true)
+            @PathVariable String accountNumber
+    ) {
+        return reactiveActivityQueryService.stream(accountNumber);
+    }
+}
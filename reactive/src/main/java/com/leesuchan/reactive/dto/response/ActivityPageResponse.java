@@ -0,0 +1,21 @@
+package com.leesuchan.reactive.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * 거래내역 커서 페이지 응답 DTO
+ */
+@Schema(description = "거래내역 커서 페이지 응답")
+public record ActivityPageResponse(
+        @Schema(description = "거래내역 목록 (최신순)")
+        List<ActivityResponse> activities,
+
+        @Schema(description = "다음 페이지 커서 (다음 페이지가 없으면 null)", example = "MjAyNi0wMS0wMVQxMjowMDo1MHw0Mg")
+        String nextCursor,
+
+        @Schema(description = "다음 페이지 존재 여부", example = "true")
+        boolean hasNext
+) {
+}
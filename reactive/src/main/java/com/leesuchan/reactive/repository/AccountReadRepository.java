@@ -0,0 +1,58 @@
+package com.leesuchan.reactive.repository;
+
+import com.leesuchan.reactive.dto.response.AccountResponse;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 계좌 조회 R2DBC Repository
+ */
+@Repository
+public class AccountReadRepository {
+
+    /**
+     * 잔액은 balance + 아직 합쳐지지 않은 잔액 슬롯 적립액 (MVC 조회와 같은 계산)
+     * SUM 결과는 DB마다 DECIMAL/NUMERIC이므로 따로 읽어 더합니다.
+     */
+    private static final String SELECT_SUMMARY = """
+            SELECT a.id, a.account_number, a.account_name, a.balance,
+                   COALESCE((SELECT SUM(s.amount) FROM account_balance_slot s WHERE s.account_id = a.id), 0) AS pending_credits,
+                   a.created_at, a.updated_at
+            FROM account a
+            WHERE a.account_number = :accountNumber AND a.deleted_at IS NULL
+            """;
+
+    private static final String SELECT_ID =
+            "SELECT id FROM account WHERE account_number = :accountNumber AND deleted_at IS NULL";
+
+    private final DatabaseClient databaseClient;
+
+    public AccountReadRepository(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    public Mono<AccountResponse> findSummaryByAccountNumber(String accountNumber) {
+        return databaseClient.sql(SELECT_SUMMARY)
+                .bind("accountNumber", accountNumber)
+                .map((row, metadata) -> new AccountResponse(
+                        row.get("id", Long.class),
+                        row.get("account_number", String.class),
+                        row.get("account_name", String.class),
+                        row.get("balance", Long.class) + row.get("pending_credits", BigDecimal.class).longValue(),
+                        row.get("created_at", LocalDateTime.class),
+                        row.get("updated_at", LocalDateTime.class)
+                ))
+                .one();
+    }
+
+    public Mono<Long> findIdByAccountNumber(String accountNumber) {
+        return databaseClient.sql(SELECT_ID)
+                .bind("accountNumber", accountNumber)
+                .map((row, metadata) -> row.get("id", Long.class))
+                .one();
+    }
+}
@@ -0,0 +1,136 @@
+package com.leesuchan.reactive.repository;
+
+import com.leesuchan.activity.domain.model.ActivityType;
+import com.leesuchan.activity.domain.model.vo.ActivityCursor;
+import com.leesuchan.infra.database.archive.ActivityArchive;
+import com.leesuchan.reactive.dto.response.ActivityResponse;
+import io.r2dbc.spi.Readable;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 거래내역 조회 R2DBC Repository
+ *
+ * <p>모든 조회는 idx_activity_account_created_id 인덱스 역순 스캔 (created_at DESC, id DESC)입니다.
+ * 전체 스트리밍도 키셋 페이지 쿼리를 이어 붙이므로, 커넥션은 페이지 하나를 읽는 동안만 점유합니다.
+ * 아카이브를 켜면(activity.archive.enabled) service 모듈과 같이 horizon 이전 거래내역은 세그먼트에서 읽습니다.
+ */
+@Repository
+public class ActivityReadRepository {
+
+    private static final String COLUMNS = "SELECT id, activity_type, amount, fee, balance_after, "
+            + "reference_account_number, description, created_at FROM activity ";
+
+    private static final String SELECT_FIRST_PAGE = COLUMNS
+            + "WHERE account_id = :accountId ORDER BY created_at DESC, id DESC LIMIT :limit";
+
+    private static final String SELECT_PAGE_BEFORE = COLUMNS
+            + "WHERE account_id = :accountId "
+            + "AND created_at <= :createdAt AND (created_at < :createdAt OR (created_at = :createdAt AND id < :id)) "
+            + "ORDER BY created_at DESC, id DESC LIMIT :limit";
+
+    private final DatabaseClient databaseClient;
+    private final ObjectProvider<ActivityArchive> activityArchive;
+
+    public ActivityReadRepository(DatabaseClient databaseClient, ObjectProvider<ActivityArchive> activityArchive) {
+        this.databaseClient = databaseClient;
+        this.activityArchive = activityArchive;
+    }
+
+    /**
+     * 키셋 페이지 조회
+     *
+     * <p>커서가 horizon 이전이면 아카이브에서만 읽고, 아니면 MySQL 페이지가 모자란 만큼 아카이브 최신분으로 채웁니다.
+     * (아카이브 행은 모두 MySQL 행보다 오래됨, horizon 이전인데 MySQL에 남아 있는 행은 세그먼트와 중복이므로 버림)
+     *
+     * @param cursor 이전 페이지 마지막 거래내역 (첫 페이지는 null)
+     */
+    public Flux<ActivityResponse> findPage(Long accountId, ActivityCursor cursor, int limit) {
+        ActivityArchive archive = activityArchive.getIfAvailable();
+        LocalDateTime horizon = archive == null ? null : archive.horizon();
+        if (horizon == null) {
+            return findHotPage(accountId, cursor, limit);
+        }
+        if (cursor != null && cursor.createdAt().isBefore(horizon)) {
+            return findArchivedPage(archive, accountId, cursor, limit);
+        }
+        return findHotPage(accountId, cursor, limit)
+                .filter(activity -> !activity.createdAt().isBefore(horizon))
+                .collectList()
+                .flatMapMany(page -> page.size() < limit
+                        ? Flux.fromIterable(page).concatWith(findArchivedPage(archive, accountId, null, limit - page.size()))
+                        : Flux.fromIterable(page));
+    }
+
+    private Flux<ActivityResponse> findHotPage(Long accountId, ActivityCursor cursor, int limit) {
+        DatabaseClient.GenericExecuteSpec spec = cursor == null
+                ? databaseClient.sql(SELECT_FIRST_PAGE)
+                : databaseClient.sql(SELECT_PAGE_BEFORE)
+                        .bind("createdAt", cursor.createdAt())
+                        .bind("id", cursor.id());
+        return spec.bind("accountId", accountId)
+                .bind("limit", limit)
+                .map(ActivityReadRepository::toResponse)
+                .all();
+    }
+
+    /**
+     * 계좌의 전체 거래내역 (최신순)
+     *
+     * <p>pageSize건씩 키셋 페이지로 읽고, 구독자가 이전 페이지를 모두 받아 간 뒤에만 다음 페이지를 조회합니다.
+     * 느린 구독자는 커넥션 대신 메모리의 페이지 하나만 붙잡고 있으므로, 동시 스트림 수가 커넥션 풀 크기에 묶이지 않습니다.
+     */
+    public Flux<ActivityResponse> streamByAccountId(Long accountId, int pageSize) {
+        return fetchPage(accountId, null, pageSize)
+                .expand(page -> page.size() < pageSize
+                        ? Mono.empty()
+                        : fetchPage(accountId, cursorOf(page.get(page.size() - 1)), pageSize))
+                .concatMapIterable(page -> page, 1);
+    }
+
+    /**
+     * 구독자가 요청할 때 조회하는 페이지 (요청 전에는 커넥션을 얻지 않음)
+     */
+    private Mono<List<ActivityResponse>> fetchPage(Long accountId, ActivityCursor cursor, int pageSize) {
+        return Mono.just(accountId)
+                .flatMap(id -> findPage(id, cursor, pageSize).collectList());
+    }
+
+    /**
+     * 세그먼트 읽기(메모리 매핑 + 블록 압축 해제)는 블로킹이므로 boundedElastic 스레드에서 실행
+     */
+    private static Flux<ActivityResponse> findArchivedPage(ActivityArchive archive, Long accountId, ActivityCursor cursor, int limit) {
+        return Mono.fromCallable(() -> archive.findByAccountIdBefore(
+                        accountId,
+                        cursor == null ? null : cursor.createdAt(),
+                        cursor == null ? null : cursor.id(),
+                        limit))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMapIterable(activities -> activities)
+                .map(ActivityResponse::from);
+    }
+
+    private static ActivityCursor cursorOf(ActivityResponse activity) {
+        return new ActivityCursor(activity.createdAt(), activity.id());
+    }
+
+    private static ActivityResponse toResponse(Readable row) {
+        return new ActivityResponse(
+                row.get("id", Long.class),
+                ActivityType.valueOf(row.get("activity_type", String.class)),
+                row.get("amount", Long.class),
+                row.get("fee", Long.class),
+                row.get("balance_after", Long.class),
+                row.get("reference_account_number", String.class),
+                row.get("description", String.class),
+                row.get("created_at", LocalDateTime.class)
+        );
+    }
+}
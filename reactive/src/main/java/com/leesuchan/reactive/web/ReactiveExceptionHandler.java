@@ -0,0 +1,41 @@
+package com.leesuchan.reactive.web;
+
+import com.leesuchan.account.domain.exception.AccountNotFoundException;
+import com.leesuchan.common.response.ApiResponse;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.server.ServerWebInputException;
+
+/**
+ * 조회 API 예외 처리기 (404/400 응답, 그 외는 공통 GlobalExceptionHandler)
+ */
+@RestControllerAdvice
+@Order(1)
+public class ReactiveExceptionHandler {
+
+    /**
+     * 계좌 미조회 예외 처리 (404)
+     */
+    @ExceptionHandler(AccountNotFoundException.class)
+    public ResponseEntity<ApiResponse<Void>> handleAccountNotFoundException(AccountNotFoundException e) {
+        return ResponseEntity
+                .status(HttpStatus.NOT_FOUND)
+                .body(ApiResponse.error(e.getErrorCode()));
+    }
+
+    /**
+     * 쿼리 파라미터 누락/형식 오류 처리 (400)
+     *
+     * <p>WebFlux는 MissingServletRequestParameterException 등 대신 ServerWebInputException을 던지므로,
+     * 공통 처리기의 그 외 예외(500)로 넘어가지 않도록 여기서 처리합니다.
+     */
+    @ExceptionHandler(ServerWebInputException.class)
+    public ResponseEntity<ApiResponse<Void>> handleServerWebInputException(ServerWebInputException e) {
+        return ResponseEntity
+                .status(HttpStatus.BAD_REQUEST)
+                .body(ApiResponse.error("INVALID_ARGUMENT", "요청 파라미터가 없거나 형식이 올바르지 않습니다."));
+    }
+}
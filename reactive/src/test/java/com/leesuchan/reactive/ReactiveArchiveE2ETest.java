@@ -0,0 +1,137 @@
+package com.leesuchan.reactive;
+
+import com.leesuchan.activity.domain.model.Activity;
+import com.leesuchan.activity.domain.model.ActivityType;
+import com.leesuchan.infra.database.archive.ActivityArchive;
+import com.leesuchan.infra.database.archive.ActivitySegmentWriter;
+import com.leesuchan.reactive.dto.response.ActivityResponse;
+import com.leesuchan.reactive.repository.ActivityReadRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * service 작성 인스턴스가 공유 디렉터리에 seal한 세그먼트를 리액티브 조회 API가 refresh 후 함께 읽는지 확인합니다.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.r2dbc.url=r2dbc:h2:mem:///reactive_archive_testdb?options=DB_CLOSE_DELAY=-1;MODE=MySQL",
+        "activity.archive.enabled=true"
+})
+@AutoConfigureWebTestClient
+@ActiveProfiles("test")
+@DisplayName("리액티브 조회 아카이브 E2E 테스트")
+class ReactiveArchiveE2ETest {
+
+    private static final YearMonth ARCHIVED_MONTH = YearMonth.of(2025, 6);
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+    @TempDir
+    static Path archiveDirectory;
+
+    @DynamicPropertySource
+    static void archiveProperties(DynamicPropertyRegistry registry) {
+        registry.add("activity.archive.directory", () -> archiveDirectory.toString());
+    }
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @Autowired
+    private ActivityReadRepository activityReadRepository;
+
+    @Autowired
+    private ActivityArchive activityArchive;
+
+    @Test
+    @DisplayName("커서 페이지와 스트리밍은 MySQL 최근 거래내역 뒤에 아카이브 거래내역을 이어서 최신순으로 내려준다")
+    void page_and_stream_read_through_archive() {
+        // given: MySQL에 최근 2건, 다른 인스턴스가 seal한 세그먼트에 3건
+        String accountNumber = "Z" + System.nanoTime() % 1_000_000_000L;
+        Long accountId = createAccount(accountNumber);
+        insertActivity(accountId, 4_000L, BASE_TIME.plusSeconds(1));
+        insertActivity(accountId, 5_000L, BASE_TIME.plusSeconds(2));
+        try (ActivitySegmentWriter writer = new ActivitySegmentWriter(archiveDirectory, ARCHIVED_MONTH)) {
+            for (long i = 1; i <= 3; i++) {
+                writer.append(Activity.restore(i, accountId, ActivityType.DEPOSIT, i * 1_000L, 0L, i * 1_000L,
+                        null, null, null, null, ARCHIVED_MONTH.atDay((int) i).atStartOfDay()));
+            }
+            writer.seal();
+        }
+
+        // when
+        int opened = activityArchive.refresh();
+
+        // then: 첫 페이지 (MySQL 2건)
+        assertThat(opened).isEqualTo(1);
+        AtomicReference<String> nextCursor = new AtomicReference<>();
+        webTestClient.get()
+                .uri("/api/v1/activities/{accountNumber}?limit=2", accountNumber)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.data.activities[0].amount").isEqualTo(5_000)
+                .jsonPath("$.data.activities[1].amount").isEqualTo(4_000)
+                .jsonPath("$.data.hasNext").isEqualTo(true)
+                .jsonPath("$.data.nextCursor").value(nextCursor::set);
+
+        // then: 다음 페이지 (MySQL에 더 없으므로 아카이브 최신분)
+        webTestClient.get()
+                .uri("/api/v1/activities/{accountNumber}?limit=2&before={before}", accountNumber, nextCursor.get())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.data.activities[0].amount").isEqualTo(3_000)
+                .jsonPath("$.data.activities[1].amount").isEqualTo(2_000)
+                .jsonPath("$.data.hasNext").isEqualTo(true);
+
+        // then: 스트리밍 (페이지 크기 2로 MySQL → 아카이브 구간을 넘어감)
+        List<Long> amounts = activityReadRepository.streamByAccountId(accountId, 2)
+                .map(ActivityResponse::amount)
+                .collectList()
+                .block();
+        assertThat(amounts).containsExactly(5_000L, 4_000L, 3_000L, 2_000L, 1_000L);
+    }
+
+    private Long createAccount(String accountNumber) {
+        databaseClient.sql("INSERT INTO account (account_number, account_name, balance, created_at, updated_at) "
+                        + "VALUES (:accountNumber, '아카이브 조회 계좌', 0, :now, :now)")
+                .bind("accountNumber", accountNumber)
+                .bind("now", BASE_TIME)
+                .then()
+                .block();
+        return databaseClient.sql("SELECT id FROM account WHERE account_number = :accountNumber")
+                .bind("accountNumber", accountNumber)
+                .map((row, metadata) -> row.get("id", Long.class))
+                .one()
+                .block();
+    }
+
+    private void insertActivity(Long accountId, long amount, LocalDateTime createdAt) {
+        databaseClient.sql("INSERT INTO activity (account_id, activity_type, amount, fee, balance_after, created_at) "
+                        + "VALUES (:accountId, 'DEPOSIT', :amount, 0, :amount, :createdAt)")
+                .bind("accountId", accountId)
+                .bind("amount", amount)
+                .bind("createdAt", createdAt)
+                .then()
+                .block();
+    }
+}
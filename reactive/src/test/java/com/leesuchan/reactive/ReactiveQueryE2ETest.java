@@ -0,0 +1,221 @@
+package com.leesuchan.reactive;
+
+import com.leesuchan.reactive.dto.response.ActivityResponse;
+import com.leesuchan.reactive.repository.ActivityReadRepository;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.spi.ConnectionFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureWebTestClient
+@ActiveProfiles("test")
+@DisplayName("리액티브 조회 API E2E 테스트")
+class ReactiveQueryE2ETest {
+
+    private static final AtomicLong ACCOUNT_SEQUENCE = new AtomicLong(System.currentTimeMillis() % 1_000_000_000L);
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @Autowired
+    private ActivityReadRepository activityReadRepository;
+
+    @Autowired
+    private ConnectionFactory connectionFactory;
+
+    @Test
+    @DisplayName("계좌 조회는 잔액 슬롯 적립액을 더한 잔액을 반환하고, 없는 계좌는 404를 반환한다")
+    void get_account() {
+        // given
+        String accountNumber = newAccountNumber();
+        Long accountId = createAccount(accountNumber, 10_000L);
+        databaseClient.sql("INSERT INTO account_balance_slot (account_id, slot_no, amount, updated_at) VALUES (:accountId, 0, 500, :now)")
+                .bind("accountId", accountId)
+                .bind("now", BASE_TIME)
+                .then()
+                .block();
+
+        // when & then
+        webTestClient.get().uri("/api/v1/accounts/{accountNumber}", accountNumber)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.status.success").isEqualTo(true)
+                .jsonPath("$.data.accountNumber").isEqualTo(accountNumber)
+                .jsonPath("$.data.balance").isEqualTo(10_500);
+
+        webTestClient.get().uri("/api/v1/accounts/{accountNumber}", "NOT_EXISTS")
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.status.code").isEqualTo("ACCOUNT_001");
+    }
+
+    @Test
+    @DisplayName("커서 페이지 조회는 최신순으로 limit건씩 내려주고 nextCursor로 다음 페이지를 이어서 조회한다")
+    void get_activity_page_with_cursor() {
+        // given
+        String accountNumber = newAccountNumber();
+        Long accountId = createAccount(accountNumber, 0L);
+        createActivities(accountId, 3);
+
+        // when
+        AtomicReference<String> nextCursor = new AtomicReference<>();
+        webTestClient.get()
+                .uri("/api/v1/activities/{accountNumber}?limit=2", accountNumber)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.data.activities.length()").isEqualTo(2)
+                .jsonPath("$.data.activities[0].amount").isEqualTo(3_000)
+                .jsonPath("$.data.hasNext").isEqualTo(true)
+                .jsonPath("$.data.nextCursor").value(nextCursor::set);
+
+        // then
+        webTestClient.get()
+                .uri("/api/v1/activities/{accountNumber}?limit=2&before={before}", accountNumber, nextCursor.get())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.data.activities.length()").isEqualTo(1)
+                .jsonPath("$.data.activities[0].amount").isEqualTo(1_000)
+                .jsonPath("$.data.hasNext").isEqualTo(false);
+    }
+
+    @Test
+    @DisplayName("limit이 범위를 벗어나면 400 에러가 발생한다")
+    void get_activity_page_invalid_limit_400() {
+        String accountNumber = newAccountNumber();
+        createAccount(accountNumber, 0L);
+
+        webTestClient.get().uri("/api/v1/activities/{accountNumber}?limit=0", accountNumber)
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.status.success").isEqualTo(false);
+    }
+
+    @Test
+    @DisplayName("limit이 숫자가 아니거나 없으면 400 에러가 발생한다")
+    void get_activity_page_malformed_limit_400() {
+        String accountNumber = newAccountNumber();
+        createAccount(accountNumber, 0L);
+
+        webTestClient.get().uri("/api/v1/activities/{accountNumber}?limit=abc", accountNumber)
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.status.code").isEqualTo("INVALID_ARGUMENT");
+    }
+
+    @Test
+    @DisplayName("스트리밍은 키셋 페이지로 읽어, 구독자가 멈춰 있는 동안 커넥션을 점유하지 않는다")
+    void stream_releases_connection_between_pages() {
+        // given
+        String accountNumber = newAccountNumber();
+        Long accountId = createAccount(accountNumber, 0L);
+        createActivities(accountId, 5);
+        assertThat(connectionFactory).isInstanceOf(ConnectionPool.class);
+        ConnectionPool pool = (ConnectionPool) connectionFactory;
+
+        // when & then: 첫 페이지(2건) 중 1건만 받고 멈춘 동안 커넥션 0개, 이후 나머지 페이지를 이어서 읽음
+        StepVerifier.create(activityReadRepository.streamByAccountId(accountId, 2), 1)
+                .assertNext(first -> assertThat(first.amount()).isEqualTo(5_000L))
+                .then(() -> assertThat(pool.getMetrics().orElseThrow().acquiredSize()).isZero())
+                .thenRequest(4)
+                .expectNextCount(3)
+                .assertNext(last -> assertThat(last.amount()).isEqualTo(1_000L))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("스트리밍 조회는 전체 거래내역을 NDJSON으로 최신순 한 건씩 내려준다")
+    void stream_activities_as_ndjson() {
+        // given
+        String accountNumber = newAccountNumber();
+        Long accountId = createAccount(accountNumber, 0L);
+        createActivities(accountId, 500);
+
+        // when
+        Flux<ActivityResponse> body = webTestClient.get()
+                .uri("/api/v1/activities/{accountNumber}/stream", accountNumber)
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .returnResult(ActivityResponse.class)
+                .getResponseBody();
+
+        // then
+        StepVerifier.create(body, 1)
+                .assertNext(first -> assertThat(first.amount()).isEqualTo(500_000L))
+                .thenRequest(498)
+                .expectNextCount(498)
+                .thenRequest(1)
+                .assertNext(last -> assertThat(last.amount()).isEqualTo(1_000L))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("없는 계좌의 스트리밍 조회는 404를 반환한다")
+    void stream_unknown_account_404() {
+        webTestClient.get().uri("/api/v1/activities/{accountNumber}/stream", "NOT_EXISTS")
+                .accept(MediaType.APPLICATION_NDJSON, MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    private Long createAccount(String accountNumber, long balance) {
+        databaseClient.sql("INSERT INTO account (account_number, account_name, balance, created_at, updated_at) "
+                        + "VALUES (:accountNumber, '리액티브 조회 계좌', :balance, :now, :now)")
+                .bind("accountNumber", accountNumber)
+                .bind("balance", balance)
+                .bind("now", BASE_TIME)
+                .then()
+                .block();
+        return databaseClient.sql("SELECT id FROM account WHERE account_number = :accountNumber")
+                .bind("accountNumber", accountNumber)
+                .map((row, metadata) -> row.get("id", Long.class))
+                .one()
+                .block();
+    }
+
+    /**
+     * i번째(1부터) 거래내역은 금액 i * 1000원, 시각 BASE_TIME + i초
+     */
+    private void createActivities(Long accountId, int count) {
+        Flux.range(1, count)
+                .concatMap(i -> databaseClient.sql("INSERT INTO activity "
+                                + "(account_id, activity_type, amount, fee, balance_after, created_at) "
+                                + "VALUES (:accountId, 'DEPOSIT', :amount, 0, :amount, :createdAt)")
+                        .bind("accountId", accountId)
+                        .bind("amount", i * 1_000L)
+                        .bind("createdAt", BASE_TIME.plusSeconds(i))
+                        .then())
+                .blockLast();
+    }
+
+    private String newAccountNumber() {
+        return "X" + ACCOUNT_SEQUENCE.incrementAndGet();
+    }
+}
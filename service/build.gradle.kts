@@ -16,7 +16,27 @@ dependencies {
 
     implementation("org.springframework.retry:spring-retry")
     implementation("org.springframework.boot:spring-boot-starter-aop")
+    implementation("org.springframework.boot:spring-boot-starter-actuator")
 
     testImplementation("org.springframework.boot:spring-boot-starter-test")
     testImplementation("com.h2database:h2")
 }
+
+/**
+ * @Tag("benchmark") 테스트는 기본 test 태스크에서 제외하고 benchmarkTest로만 실행
+ */
+tasks.test {
+    useJUnitPlatform {
+        excludeTags("benchmark")
+    }
+}
+
+val benchmarkTest by tasks.registering(Test::class) {
+    description = "Runs @Tag(\"benchmark\") tests."
+    group = "verification"
+    testClassesDirs = sourceSets.test.get().output.classesDirs
+    classpath = sourceSets.test.get().runtimeClasspath
+    useJUnitPlatform {
+        includeTags("benchmark")
+    }
+}
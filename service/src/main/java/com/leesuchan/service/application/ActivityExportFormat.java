@@ -0,0 +1,49 @@
+package com.leesuchan.service.application;
+
+import org.springframework.http.MediaType;
+
+import java.util.Arrays;
+
+/**
+ * 거래내역 내보내기 형식
+ */
+public enum ActivityExportFormat {
+
+    /**
+     * 한 줄에 JSON 객체 하나 (application/x-ndjson)
+     */
+    NDJSON(MediaType.APPLICATION_NDJSON, "ndjson"),
+
+    /**
+     * 헤더 + 쉼표 구분 값 (text/csv)
+     */
+    CSV(new MediaType("text", "csv", java.nio.charset.StandardCharsets.UTF_8), "csv");
+
+    private final MediaType mediaType;
+    private final String extension;
+
+    ActivityExportFormat(MediaType mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * 요청 파라미터(대소문자 무관)로 형식을 찾습니다.
+     *
+     * @throws IllegalArgumentException 지원하지 않는 형식
+     */
+    public static ActivityExportFormat from(String value) {
+        return Arrays.stream(values())
+                .filter(format -> format.name().equalsIgnoreCase(value))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("지원하지 않는 내보내기 형식입니다: " + value));
+    }
+}
@@ -0,0 +1,116 @@
+package com.leesuchan.service.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.leesuchan.account.domain.exception.AccountNotFoundException;
+import com.leesuchan.account.domain.repository.AccountRepository;
+import com.leesuchan.activity.domain.repository.ActivityRepository;
+import com.leesuchan.activity.service.ActivityOutboxRelay;
+import com.leesuchan.service.dto.response.ActivityExportRow;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+/**
+ * 거래내역 스트리밍 내보내기 Query Service (CQRS)
+ *
+ * <p>전방향 커서로 한 건씩 읽어 응답 스트림에 바로 쓰므로, 건수와 관계없이 힙 사용량이 일정합니다.
+ */
+@Service
+public class ExportActivitiesQueryService {
+
+    /**
+     * 기간 미지정 시 시작 시각 (MySQL DATETIME 범위 내)
+     */
+    static final LocalDateTime MIN_CREATED_AT = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    /**
+     * 기간 미지정 시 종료 시각 (MySQL DATETIME 범위 내)
+     */
+    static final LocalDateTime MAX_CREATED_AT = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final AccountRepository accountRepository;
+    private final ActivityRepository activityRepository;
+    private final ActivityOutboxRelay activityOutboxRelay;
+    private final ObjectMapper objectMapper;
+
+    public ExportActivitiesQueryService(
+            AccountRepository accountRepository,
+            ActivityRepository activityRepository,
+            ActivityOutboxRelay activityOutboxRelay,
+            ObjectMapper objectMapper
+    ) {
+        this.accountRepository = accountRepository;
+        this.activityRepository = activityRepository;
+        this.activityOutboxRelay = activityOutboxRelay;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 계좌의 [from, to) 구간 거래내역을 오래된 순으로 내보내는 응답 본문을 만듭니다.
+     *
+     * <p>계좌 확인과 outbox 이관은 호출 시점에 수행하고(404를 응답 시작 전에 반환),
+     * 실제 조회/쓰기는 응답 본문이 쓰일 때 수행합니다.
+     *
+     * @param accountNumber 계좌번호
+     * @param from          시작 시각 (포함, null이면 처음부터)
+     * @param to            종료 시각 (미포함, null이면 끝까지)
+     * @param format        내보내기 형식
+     */
+    public StreamingResponseBody execute(String accountNumber, LocalDateTime from, LocalDateTime to, ActivityExportFormat format) {
+        LocalDateTime start = from != null ? from : MIN_CREATED_AT;
+        LocalDateTime end = to != null ? to : MAX_CREATED_AT;
+        if (!start.isBefore(end)) {
+            throw new IllegalArgumentException("from은 to보다 이전이어야 합니다.");
+        }
+
+        // 계좌 존재 확인 (계좌번호 → ID 캐시 사용)
+        Long accountId = accountRepository.findIdByAccountNumber(accountNumber)
+                .orElseThrow(AccountNotFoundException::new);
+
+        // 미이관 거래내역 이관 (OUTBOX 모드)
+        activityOutboxRelay.drainAccount(accountId);
+
+        return outputStream -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), BUFFER_SIZE);
+            if (format == ActivityExportFormat.CSV) {
+                writeCsv(writer, accountId, start, end);
+            } else {
+                writeNdjson(writer, accountId, start, end);
+            }
+            writer.flush();
+        };
+    }
+
+    private void writeNdjson(Writer writer, Long accountId, LocalDateTime start, LocalDateTime end) {
+        activityRepository.forEachByAccountIdBetween(accountId, start, end, activity -> {
+            try {
+                writer.write(objectMapper.writeValueAsString(ActivityExportRow.from(activity)));
+                writer.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private void writeCsv(Writer writer, Long accountId, LocalDateTime start, LocalDateTime end) throws IOException {
+        writer.write(ActivityExportRow.CSV_HEADER);
+        writer.write('\n');
+        activityRepository.forEachByAccountIdBetween(accountId, start, end, activity -> {
+            try {
+                writer.write(ActivityExportRow.from(activity).toCsvLine());
+                writer.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+}
@@ -1,7 +1,6 @@
 package com.leesuchan.service.application;
 
 import com.leesuchan.account.domain.exception.AccountNotFoundException;
-import com.leesuchan.account.domain.model.Account;
 import com.leesuchan.account.domain.repository.AccountRepository;
 import com.leesuchan.service.dto.response.AccountResponse;
 import org.springframework.stereotype.Service;
@@ -21,15 +20,15 @@ public class GetAccountQueryService {
 
     /**
      * 계좌번호로 계좌를 조회합니다.
+     * 엔티티 대신 응답에 필요한 컬럼만 프로젝션으로 조회합니다.
      *
      * @param accountNumber 계좌번호
      * @return 계좌 응답 DTO
      */
     @Transactional(readOnly = true)
     public AccountResponse execute(String accountNumber) {
-        Account account = accountRepository.findByAccountNumber(accountNumber)
+        return accountRepository.findSummaryByAccountNumber(accountNumber)
+                .map(AccountResponse::from)
                 .orElseThrow(AccountNotFoundException::new);
-
-        return AccountResponse.from(account);
     }
 }
@@ -1,10 +1,10 @@
 package com.leesuchan.service.application;
 
-import com.leesuchan.account.domain.model.Account;
 import com.leesuchan.account.domain.repository.AccountRepository;
 import com.leesuchan.service.dto.response.AccountResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,14 +21,25 @@ public class GetAccountsQueryService {
     }
 
     /**
-     * 계좌 목록을 조회합니다.
+     * 계좌 목록을 조회합니다. (전체 건수 COUNT 포함)
      *
      * @param pageable 페이지네이션 정보
      * @return 계좌 응답 DTO 페이지
      */
     @Transactional(readOnly = true)
     public Page<AccountResponse> execute(Pageable pageable) {
-        Page<Account> accounts = accountRepository.findAll(pageable);
-        return accounts.map(AccountResponse::from);
+        return accountRepository.findAllSummaries(pageable).map(AccountResponse::from);
+    }
+
+    /**
+     * 계좌 목록을 COUNT 쿼리 없이 조회합니다.
+     * 전체 건수 대신 다음 페이지 존재 여부(hasNext)만 제공합니다.
+     *
+     * @param pageable 페이지네이션 정보
+     * @return 계좌 응답 DTO 슬라이스
+     */
+    @Transactional(readOnly = true)
+    public Slice<AccountResponse> executeSlice(Pageable pageable) {
+        return accountRepository.findSummarySlice(pageable).map(AccountResponse::from);
     }
 }
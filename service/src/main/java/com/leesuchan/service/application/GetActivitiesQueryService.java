@@ -1,13 +1,16 @@
 package com.leesuchan.service.application;
 
 import com.leesuchan.account.domain.exception.AccountNotFoundException;
-import com.leesuchan.account.domain.model.Account;
 import com.leesuchan.account.domain.repository.AccountRepository;
 import com.leesuchan.activity.domain.model.Activity;
+import com.leesuchan.activity.domain.model.vo.ActivityCursor;
 import com.leesuchan.activity.domain.repository.ActivityRepository;
+import com.leesuchan.activity.service.ActivityOutboxRelay;
+import com.leesuchan.service.dto.response.ActivityPageResponse;
 import com.leesuchan.service.dto.response.ActivityResponse;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
 
@@ -17,36 +20,89 @@ import java.util.List;
 @Service
 public class GetActivitiesQueryService {
 
+    /**
+     * 커서 페이지 최대 크기
+     */
+    public static final int MAX_LIMIT = 100;
+
     private final ActivityRepository activityRepository;
     private final AccountRepository accountRepository;
+    private final ActivityOutboxRelay activityOutboxRelay;
+    private final TransactionTemplate readOnlyTransaction;
 
     public GetActivitiesQueryService(
             ActivityRepository activityRepository,
-            AccountRepository accountRepository
+            AccountRepository accountRepository,
+            ActivityOutboxRelay activityOutboxRelay,
+            PlatformTransactionManager transactionManager
     ) {
         this.activityRepository = activityRepository;
         this.accountRepository = accountRepository;
+        this.activityOutboxRelay = activityOutboxRelay;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
     }
 
     /**
-     * 계좌의 거래내역을 조회합니다.
+     * 계좌의 최신 거래내역 MAX_LIMIT건을 조회합니다.
+     *
+     * <p>이력 길이와 관계없이 첫 페이지만 읽습니다. 이후 거래내역은 응답의 nextCursor로 커서 조회를 이어가고,
+     * 전체 이력은 내보내기(/export)로 받습니다.
      *
      * @param accountNumber 계좌번호
-     * @return 거래내역 목록 (최신순)
+     * @return 거래내역 첫 페이지 (최신순)
      */
-    @Transactional(readOnly = true)
-    public List<ActivityResponse> execute(String accountNumber) {
-        // 계좌 존재 확인
-        Account account = accountRepository.findByAccountNumber(accountNumber)
+    public ActivityPageResponse execute(String accountNumber) {
+        return execute(accountNumber, MAX_LIMIT, null);
+    }
+
+    /**
+     * 계좌의 거래내역을 커서 기반으로 조회합니다.
+     *
+     * <p>(createdAt, id) 키셋으로 탐색하므로 이력 길이와 관계없이 limit + 1건만 읽습니다.
+     *
+     * <p>OUTBOX 모드에서는 조회 전에 해당 계좌의 미이관 거래내역을 먼저 이관합니다 (read-your-writes).
+     * 이관은 자체 쓰기 트랜잭션으로 커밋하고, 거래내역 조회만 이관 이후 시작하는 읽기 전용 트랜잭션에서 실행합니다.
+     * (REPEATABLE READ 스냅샷이 이관 전에 만들어지는 것을 방지, 읽기 전용 라우팅 유지)
+     *
+     * @param accountNumber 계좌번호
+     * @param limit         페이지 크기 (1 ~ MAX_LIMIT)
+     * @param before        이전 응답의 nextCursor (첫 페이지는 null)
+     * @return 거래내역 페이지 (최신순)
+     */
+    public ActivityPageResponse execute(String accountNumber, int limit, String before) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("limit은 1 이상 " + MAX_LIMIT + " 이하여야 합니다.");
+        }
+        ActivityCursor cursor = before == null || before.isBlank() ? null : ActivityCursor.decode(before);
+
+        // 계좌 존재 확인 (계좌번호 → ID 캐시 사용)
+        Long accountId = accountRepository.findIdByAccountNumber(accountNumber)
                 .orElseThrow(AccountNotFoundException::new);
 
-        // 거래내역 조회 (최신순)
-        List<Activity> activities = activityRepository
-                .findByAccountIdOrderByCreatedAtDesc(account.getId());
+        // 미이관 거래내역 이관 (OUTBOX 모드)
+        activityOutboxRelay.drainAccount(accountId);
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        List<Activity> activities = readOnlyTransaction.execute(status -> activityRepository.findByAccountIdBefore(
+                accountId,
+                cursor == null ? null : cursor.createdAt(),
+                cursor == null ? null : cursor.id(),
+                limit + 1
+        ));
+
+        boolean hasNext = activities.size() > limit;
+        List<Activity> page = hasNext ? activities.subList(0, limit) : activities;
+        String nextCursor = null;
+        if (hasNext) {
+            Activity last = page.get(page.size() - 1);
+            nextCursor = new ActivityCursor(last.getCreatedAt(), last.getId()).encode();
+        }
 
-        // Response DTO 변환
-        return activities.stream()
-                .map(ActivityResponse::from)
-                .toList();
+        return new ActivityPageResponse(
+                page.stream().map(ActivityResponse::from).toList(),
+                nextCursor,
+                hasNext
+        );
     }
 }
@@ -0,0 +1,79 @@
+package com.leesuchan.service.application;
+
+import com.leesuchan.account.config.AccountStripingProvider;
+import com.leesuchan.account.domain.exception.AccountNotFoundException;
+import com.leesuchan.account.domain.exception.BalanceAtUnsupportedException;
+import com.leesuchan.account.domain.repository.AccountRepository;
+import com.leesuchan.activity.domain.model.BalanceCheckpoint;
+import com.leesuchan.activity.domain.repository.ActivityRepository;
+import com.leesuchan.activity.domain.repository.BalanceCheckpointRepository;
+import com.leesuchan.activity.service.ActivityOutboxRelay;
+import com.leesuchan.service.dto.response.BalanceAtResponse;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 특정 시점 잔액 조회 Query Service (CQRS)
+ *
+ * <p>거래내역의 balance_after는 그 거래가 반영된 잔액이므로, 시점 이전(포함) 마지막 거래내역 한 건으로 잔액을 알 수 있습니다.
+ * 스트라이프 계좌는 예외입니다. 슬롯 적립 거래내역의 balance_after는 적립 시점에 잠금 없이 읽은 balance + 슬롯 합계라서
+ * 동시 적립끼리 순서가 보장되지 않으므로, 이 계좌는 조회를 거부합니다.
+ * (스트라이프 목록에서 빠진 계좌도 스트라이프 기간의 거래내역 잔액은 근사치입니다)
+ */
+@Service
+public class GetBalanceAtQueryService {
+
+    private final ActivityRepository activityRepository;
+    private final BalanceCheckpointRepository balanceCheckpointRepository;
+    private final AccountRepository accountRepository;
+    private final ActivityOutboxRelay activityOutboxRelay;
+
+    public GetBalanceAtQueryService(
+            ActivityRepository activityRepository,
+            BalanceCheckpointRepository balanceCheckpointRepository,
+            AccountRepository accountRepository,
+            ActivityOutboxRelay activityOutboxRelay
+    ) {
+        this.activityRepository = activityRepository;
+        this.balanceCheckpointRepository = balanceCheckpointRepository;
+        this.accountRepository = accountRepository;
+        this.activityOutboxRelay = activityOutboxRelay;
+    }
+
+    /**
+     * 계좌의 특정 시점 잔액을 조회합니다.
+     *
+     * <p>시점 이전(포함) 가장 최근 체크포인트가 있으면 그 이후 구간만 (account_id, created_at, id) 인덱스로 한 번 탐색하고,
+     * 구간에 거래가 없으면 체크포인트의 잔액을 사용합니다. 시점 이전 거래가 하나도 없으면 잔액은 0원입니다.
+     * 거래내역 조회와 같은 이유로 하나의 읽기 트랜잭션으로 묶지 않습니다. (OUTBOX 모드 이관 결과 조회)
+     *
+     * @param accountNumber 계좌번호
+     * @param at            조회 시점
+     * @return 특정 시점 잔액
+     * @throws BalanceAtUnsupportedException 스트라이프 계좌인 경우
+     */
+    public BalanceAtResponse execute(String accountNumber, LocalDateTime at) {
+        if (AccountStripingProvider.isStriped(accountNumber)) {
+            throw new BalanceAtUnsupportedException();
+        }
+
+        // 계좌 존재 확인 (계좌번호 → ID 캐시 사용)
+        Long accountId = accountRepository.findIdByAccountNumber(accountNumber)
+                .orElseThrow(AccountNotFoundException::new);
+
+        // 미이관 거래내역 이관 (OUTBOX 모드)
+        activityOutboxRelay.drainAccount(accountId);
+
+        Optional<BalanceCheckpoint> checkpoint = balanceCheckpointRepository.findLatestAtOrBefore(accountId, at);
+        LocalDateTime after = checkpoint.map(BalanceCheckpoint::getCheckpointAt).orElse(null);
+
+        return activityRepository.findLatestBetween(accountId, after, at)
+                .map(activity -> new BalanceAtResponse(
+                        accountNumber, at, activity.getBalanceAfter(), activity.getId(), activity.getCreatedAt()))
+                .or(() -> checkpoint.map(found -> new BalanceAtResponse(
+                        accountNumber, at, found.getBalanceAfter(), found.getActivityId(), found.getActivityCreatedAt())))
+                .orElseGet(() -> new BalanceAtResponse(accountNumber, at, 0L, null, null));
+    }
+}
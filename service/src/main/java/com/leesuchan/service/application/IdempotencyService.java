@@ -0,0 +1,135 @@
+package com.leesuchan.service.application;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.leesuchan.account.domain.exception.IdempotencyKeyReusedException;
+import com.leesuchan.account.domain.model.IdempotencyRecord;
+import com.leesuchan.account.domain.repository.IdempotencyRecordRepository;
+import com.leesuchan.service.config.AccountProperties;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.UnexpectedRollbackException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * 멱등성 키(Idempotency-Key) 처리 서비스
+ *
+ * <p>키가 있으면 유스케이스와 키 기록 저장을 한 트랜잭션으로 묶어, 잔액 변경과 응답 저장이 함께 커밋되도록 합니다.
+ * 같은 키로 다시 요청하면 유스케이스를 실행하지 않고 저장된 응답을 돌려주며,
+ * 최근 키는 CachingIdempotencyRecordRepository의 메모리 캐시에서 바로 응답합니다.
+ * 실패한 요청(도메인 예외 등)은 기록하지 않으므로 같은 키로 다시 시도할 수 있습니다.
+ */
+@Service
+public class IdempotencyService {
+
+    /**
+     * 바깥 트랜잭션 재시도 횟수 (유스케이스의 @Retryable은 같은 트랜잭션 안에서는 효과가 없음)
+     */
+    static final int MAX_ATTEMPTS = 3;
+
+    static final int MAX_KEY_LENGTH = 100;
+
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final AccountProperties accountProperties;
+
+    public IdempotencyService(
+            IdempotencyRecordRepository idempotencyRecordRepository,
+            PlatformTransactionManager transactionManager,
+            ObjectMapper objectMapper,
+            AccountProperties accountProperties
+    ) {
+        this.idempotencyRecordRepository = idempotencyRecordRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.accountProperties = accountProperties;
+    }
+
+    /**
+     * 멱등성 키로 요청을 한 번만 실행합니다.
+     *
+     * @param key Idempotency-Key 헤더 값 (없으면 그대로 실행)
+     * @param operation 요청 종류 (DEPOSIT, WITHDRAW, TRANSFER)
+     * @param request 요청 본문 (JSON 직렬화 결과의 해시로 같은 키로 다른 본문을 보냈는지 비교)
+     * @param type 응답 타입 (저장된 응답 역직렬화용)
+     * @param action 실행할 작업 (응답 반환)
+     * @return 최초 실행 결과 또는 저장된 응답
+     * @throws IdempotencyKeyReusedException 같은 키로 다른 요청을 보낸 경우
+     */
+    public <T> T execute(String key, String operation, Object request, Class<T> type, Supplier<T> action) {
+        if (key == null || key.isBlank()) {
+            return action.get();
+        }
+        if (key.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("Idempotency-Key는 " + MAX_KEY_LENGTH + "자 이하여야 합니다.");
+        }
+
+        String requestHash = sha256(operation + ":" + serialize(request));
+        Optional<IdempotencyRecord> existing = idempotencyRecordRepository.findByKey(key);
+        if (existing.isPresent() && !existing.get().isExpired(LocalDateTime.now())) {
+            return replay(existing.get(), operation, requestHash, type);
+        }
+        boolean expired = existing.isPresent();
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> {
+                    if (expired) {
+                        idempotencyRecordRepository.deleteByKey(key);
+                    }
+                    T result = action.get();
+                    idempotencyRecordRepository.save(IdempotencyRecord.create(
+                            key, operation, requestHash, serialize(result), accountProperties.getIdempotency().getTtl()));
+                    return result;
+                });
+            } catch (DataIntegrityViolationException e) {
+                // 같은 키의 동시 요청이 먼저 커밋함 (이 요청의 잔액 변경은 롤백됨)
+                IdempotencyRecord winner = idempotencyRecordRepository.findByKey(key).orElseThrow(() -> e);
+                return replay(winner, operation, requestHash, type);
+            } catch (OptimisticLockingFailureException | UnexpectedRollbackException e) {
+                if (attempt >= MAX_ATTEMPTS) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    private <T> T replay(IdempotencyRecord record, String operation, String requestHash, Class<T> type) {
+        if (!record.matches(operation, requestHash)) {
+            throw new IdempotencyKeyReusedException();
+        }
+        try {
+            return objectMapper.readValue(record.getResponseBody(), type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("저장된 응답을 읽을 수 없습니다.", e);
+        }
+    }
+
+    private String serialize(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("요청/응답을 JSON으로 직렬화할 수 없습니다.", e);
+        }
+    }
+
+    private static String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.leesuchan.service.config;
+
+import com.leesuchan.account.domain.repository.AccountRepository;
+import com.leesuchan.infra.database.repository.AccountRepositoryImpl;
+import com.leesuchan.infra.database.repository.CachingAccountRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * 계좌번호 → ID 캐시 설정
+ *
+ * <p>account.cache.enabled=true(기본값)이면 AccountRepository 주입 지점에
+ * CachingAccountRepository 데코레이터를 우선 주입합니다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "account.cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class AccountCacheConfig {
+
+    @Bean
+    @Primary
+    public AccountRepository cachingAccountRepository(
+            AccountRepositoryImpl accountRepositoryImpl,
+            AccountProperties accountProperties,
+            ObjectProvider<MeterRegistry> meterRegistry
+    ) {
+        CachingAccountRepository repository = new CachingAccountRepository(
+                accountRepositoryImpl,
+                accountProperties.getCache().getMaximumSize(),
+                accountProperties.getCache().getTtl()
+        );
+        meterRegistry.ifAvailable(repository::bindMetrics);
+        return repository;
+    }
+}
@@ -0,0 +1,35 @@
+package com.leesuchan.service.config;
+
+import com.leesuchan.account.domain.repository.AccountRepository;
+import com.leesuchan.account.service.coalesce.DepositCoalescer;
+import com.leesuchan.activity.service.ActivityRecordService;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * 묶음 입금(그룹 커밋) 설정
+ *
+ * <p>account.concurrency.deposit-mode=coalesced 일 때 DepositMoneyUseCase가 사용합니다.
+ */
+@Configuration
+public class AccountCoalesceConfig {
+
+    @Bean
+    public DepositCoalescer depositCoalescer(
+            AccountRepository accountRepository,
+            ActivityRecordService activityRecordService,
+            PlatformTransactionManager transactionManager,
+            AccountProperties accountProperties
+    ) {
+        AccountProperties.Coalesce coalesce = accountProperties.getCoalesce();
+        return new DepositCoalescer(
+                accountRepository,
+                activityRecordService,
+                transactionManager,
+                coalesce.getWindowMicros(),
+                coalesce.getMaxBatchSize(),
+                coalesce.getFollowerTimeoutMs()
+        );
+    }
+}
@@ -1,27 +1,129 @@
 package com.leesuchan.service.config;
 
+import com.leesuchan.account.config.AccountConcurrencyProvider;
 import com.leesuchan.account.config.AccountLimitProvider;
+import com.leesuchan.account.config.AccountLimitSnapshot;
+import com.leesuchan.account.config.AccountLimitSnapshot.TierLimits;
+import com.leesuchan.account.config.AccountStripingProvider;
+import com.leesuchan.account.domain.model.vo.FeeSchedule;
+import com.leesuchan.account.domain.model.AccountLimitTier;
+import com.leesuchan.account.domain.model.vo.FeeTier;
+import com.leesuchan.account.domain.repository.AccountLimitTierRepository;
+import com.leesuchan.account.service.StripedBalanceService;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 /**
  * 계좌 설정 초기화
  *
- * <p>AccountProperties를 읽어 AccountLimitProvider를 초기화합니다.
+ * <p>AccountProperties를 읽어 AccountLimitProvider, AccountConcurrencyProvider, AccountStripingProvider를 초기화합니다.
+ * 한도는 설정 파일 값과 한도 등급 테이블을 합친 스냅샷으로 시작 시와
+ * account.limits.reload-interval-ms 주기마다 다시 발행합니다. (재시작 없이 등급 변경 반영)
+ * 요청을 받기 전에 스트라이프 대상이 아닌 계좌의 잔여 슬롯 적립액을 account.balance로 합칩니다.
  */
+@Slf4j
 @Component
+@EnableScheduling
 @RequiredArgsConstructor
-public class AccountConfig {
+public class AccountConfig implements SmartInitializingSingleton {
 
     private final AccountProperties accountProperties;
+    private final AccountLimitTierRepository accountLimitTierRepository;
+    private final StripedBalanceService stripedBalanceService;
+
+    private FeeSchedule transferFeeSchedule;
+
+    /**
+     * 한도 등급까지 반영한 스냅샷을 한 번이라도 발행했는지 여부
+     */
+    private volatile boolean published;
 
     @PostConstruct
     public void init() {
-        AccountLimitProvider.initialize(
+        transferFeeSchedule = transferFeeSchedule(accountProperties.getFees());
+        reloadLimits();
+        AccountConcurrencyProvider.initialize(
+                accountProperties.getConcurrency().getTransferLockMode(),
+                accountProperties.getConcurrency().getDepositMode(),
+                accountProperties.getConcurrency().getWithdrawMode()
+        );
+        AccountProperties.Striping striping = accountProperties.getStriping();
+        AccountStripingProvider.initialize(
+                striping.getSlotCount(),
+                striping.getEnabled() ? striping.getAccountNumbers() : Set.of()
+        );
+    }
+
+    /**
+     * 스트라이프 목록에서 빠졌거나 스트라이핑을 끈 계좌의 슬롯 적립액을 합칩니다.
+     *
+     * <p>웹 서버가 요청을 받기 전(싱글톤 생성 직후)에 실행되므로, 이런 계좌의 잔액이 적게 보이는 구간이 없습니다.
+     * 실패해도 기동은 계속하며, 스트라이핑이 켜져 있으면 압축 주기마다 다시 시도합니다.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        try {
+            long folded = 0L;
+            for (Long accountId : stripedBalanceService.accountIdsWithPendingCredits()) {
+                folded += stripedBalanceService.foldIfNotStriped(accountId);
+            }
+            if (folded > 0) {
+                log.info("스트라이프 대상이 아닌 계좌의 잔액 슬롯 적립액 {}원을 잔액에 합쳤습니다.", folded);
+            }
+        } catch (RuntimeException e) {
+            log.warn("잔액 슬롯 적립액을 합치지 못했습니다: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 한도 등급 테이블을 읽어 새 한도 스냅샷을 발행합니다.
+     *
+     * <p>테이블을 읽지 못하면 이전 스냅샷을 유지합니다. (최초에는 설정 파일 한도만 적용)
+     */
+    @Scheduled(
+            initialDelayString = "#{@accountProperties.limits.reloadIntervalMs}",
+            fixedDelayString = "#{@accountProperties.limits.reloadIntervalMs}"
+    )
+    public void reloadLimits() {
+        Map<String, TierLimits> tiers = new HashMap<>();
+        try {
+            for (AccountLimitTier tier : accountLimitTierRepository.findAll()) {
+                tiers.put(tier.getCode(), new TierLimits(tier.getDailyWithdrawLimit(), tier.getDailyTransferLimit()));
+            }
+        } catch (RuntimeException e) {
+            if (published) {
+                log.warn("한도 등급을 읽지 못해 이전 한도 설정을 유지합니다: {}", e.getMessage());
+                return;
+            }
+            log.warn("한도 등급을 읽지 못해 설정 파일 한도만 적용합니다: {}", e.getMessage());
+            tiers.clear();
+        }
+        AccountLimitProvider.publish(AccountLimitSnapshot.of(
                 accountProperties.getLimits().getDailyWithdraw(),
                 accountProperties.getLimits().getDailyTransfer(),
-                accountProperties.getFees().getTransferRate()
-        );
+                tiers,
+                transferFeeSchedule
+        ));
+        published = true;
+    }
+
+    /**
+     * 수수료 설정을 수수료표로 컴파일합니다. (구간이 없으면 transfer-rate 단일 구간)
+     */
+    private FeeSchedule transferFeeSchedule(AccountProperties.Fee fee) {
+        List<FeeTier> tiers = fee.getTiers().isEmpty()
+                ? List.of(new FeeTier(0, (int) Math.round(fee.getTransferRate() * FeeSchedule.BASIS_POINTS_SCALE)))
+                : fee.getTiers().stream().map(tier -> new FeeTier(tier.getFromAmount(), tier.getRateBp())).toList();
+        return FeeSchedule.compile(fee.getMode(), tiers, fee.getMinFee(), fee.getMaxFee());
     }
 }
@@ -0,0 +1,39 @@
+package com.leesuchan.service.config;
+
+import com.leesuchan.account.domain.repository.AccountRepository;
+import com.leesuchan.account.service.dispatch.AccountOperationDispatcher;
+import com.leesuchan.account.service.dispatch.DirectAccountOperationDispatcher;
+import com.leesuchan.account.service.dispatch.LaneAccountOperationDispatcher;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * 잔액 변경 작업 디스패처 설정
+ *
+ * <p>account.dispatch.enabled=true이면 계좌별 단일 스레드 레인 디스패처를,
+ * 아니면 호출 스레드에서 바로 실행하는 디스패처를 등록합니다.
+ * spring.threads.virtual.enabled=true이면 레인 스레드도 가상 스레드로 만듭니다.
+ */
+@Configuration
+public class AccountDispatchConfig {
+
+    @Bean
+    public AccountOperationDispatcher accountOperationDispatcher(
+            AccountRepository accountRepository,
+            AccountProperties accountProperties,
+            Environment environment
+    ) {
+        AccountProperties.Dispatch dispatch = accountProperties.getDispatch();
+        if (!dispatch.getEnabled()) {
+            return new DirectAccountOperationDispatcher();
+        }
+        return new LaneAccountOperationDispatcher(
+                accountRepository,
+                dispatch.getLaneCount(),
+                dispatch.getQueueCapacity(),
+                Threading.VIRTUAL.isActive(environment)
+        );
+    }
+}
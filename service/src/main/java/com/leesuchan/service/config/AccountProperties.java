@@ -1,9 +1,19 @@
 package com.leesuchan.service.config;
 
+import com.leesuchan.account.config.DepositMode;
+import com.leesuchan.account.config.FeeMode;
+import com.leesuchan.account.config.TransferLockMode;
+import com.leesuchan.account.config.WithdrawMode;
 import lombok.Getter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
 /**
  * 계좌 관련 설정 Properties
  */
@@ -22,6 +32,36 @@ public class AccountProperties {
      */
     private Fee fees = new Fee();
 
+    /**
+     * 동시성 제어 설정
+     */
+    private Concurrency concurrency = new Concurrency();
+
+    /**
+     * 계좌번호 → ID 캐시 설정
+     */
+    private Cache cache = new Cache();
+
+    /**
+     * 잔액 변경 작업 디스패처 설정
+     */
+    private Dispatch dispatch = new Dispatch();
+
+    /**
+     * 스트라이프 계좌(잔액 슬롯) 설정
+     */
+    private Striping striping = new Striping();
+
+    /**
+     * 묶음 입금(그룹 커밋) 설정
+     */
+    private Coalesce coalesce = new Coalesce();
+
+    /**
+     * 멱등성 키(Idempotency-Key) 설정
+     */
+    private Idempotency idempotency = new Idempotency();
+
     @Getter
     public static class Limit {
         /**
@@ -34,6 +74,11 @@ public class AccountProperties {
          */
         private Long dailyTransfer = 3_000_000L;
 
+        /**
+         * 한도 등급 테이블 다시 읽기 주기 (밀리초)
+         */
+        private Long reloadIntervalMs = 30_000L;
+
         public void setDailyWithdraw(Long dailyWithdraw) {
             this.dailyWithdraw = dailyWithdraw;
         }
@@ -41,17 +86,276 @@ public class AccountProperties {
         public void setDailyTransfer(Long dailyTransfer) {
             this.dailyTransfer = dailyTransfer;
         }
+
+        public void setReloadIntervalMs(Long reloadIntervalMs) {
+            this.reloadIntervalMs = reloadIntervalMs;
+        }
     }
 
     @Getter
     public static class Fee {
         /**
-         * 이체 수수료율 (0.01 = 1%)
+         * 이체 수수료율 (0.01 = 1%, tiers가 비어 있을 때 0원부터 단일 구간으로 적용)
          */
         private Double transferRate = 0.01;
 
+        /**
+         * 구간 적용 방식 (BRACKET: 속한 구간 요율을 전체 금액에, MARGINAL: 구간별 누진)
+         */
+        private FeeMode mode = FeeMode.BRACKET;
+
+        /**
+         * 수수료 구간 목록 (첫 구간은 0원부터)
+         */
+        private List<Tier> tiers = new ArrayList<>();
+
+        /**
+         * 최소 수수료 (원)
+         */
+        private Long minFee = 0L;
+
+        /**
+         * 최대 수수료 (원, 비우면 제한 없음)
+         */
+        private Long maxFee;
+
         public void setTransferRate(Double transferRate) {
             this.transferRate = transferRate;
         }
+
+        public void setMode(FeeMode mode) {
+            this.mode = mode;
+        }
+
+        public void setTiers(List<Tier> tiers) {
+            this.tiers = tiers;
+        }
+
+        public void setMinFee(Long minFee) {
+            this.minFee = minFee;
+        }
+
+        public void setMaxFee(Long maxFee) {
+            this.maxFee = maxFee;
+        }
+
+        @Getter
+        public static class Tier {
+            /**
+             * 구간 시작 금액 (이상, 원)
+             */
+            private Long fromAmount = 0L;
+
+            /**
+             * 요율 (bp, 100 = 1%)
+             */
+            private Integer rateBp = 0;
+
+            public void setFromAmount(Long fromAmount) {
+                this.fromAmount = fromAmount;
+            }
+
+            public void setRateBp(Integer rateBp) {
+                this.rateBp = rateBp;
+            }
+        }
+    }
+
+    @Getter
+    public static class Concurrency {
+        /**
+         * 이체 락 모드 (OPTIMISTIC: @Version + 재시도, PESSIMISTIC: SELECT ... FOR UPDATE)
+         */
+        private TransferLockMode transferLockMode = TransferLockMode.OPTIMISTIC;
+
+        /**
+         * 입금 처리 방식 (ENTITY: 조회 후 저장, ATOMIC: 단일 UPDATE 문, COALESCED: 동시 입금 묶음 반영)
+         */
+        private DepositMode depositMode = DepositMode.ENTITY;
+
+        /**
+         * 출금 처리 방식 (ENTITY: 조회 후 저장, CONDITIONAL: 잔액/한도 조건부 UPDATE 문)
+         */
+        private WithdrawMode withdrawMode = WithdrawMode.ENTITY;
+
+        public void setTransferLockMode(TransferLockMode transferLockMode) {
+            this.transferLockMode = transferLockMode;
+        }
+
+        public void setDepositMode(DepositMode depositMode) {
+            this.depositMode = depositMode;
+        }
+
+        public void setWithdrawMode(WithdrawMode withdrawMode) {
+            this.withdrawMode = withdrawMode;
+        }
+    }
+
+    @Getter
+    public static class Cache {
+        /**
+         * 캐시 사용 여부
+         */
+        private Boolean enabled = true;
+
+        /**
+         * 최대 캐시 항목 수
+         */
+        private Long maximumSize = 100_000L;
+
+        /**
+         * 항목 유지 시간 (다른 인스턴스의 삭제가 반영되는 최대 지연)
+         */
+        private Duration ttl = Duration.ofMinutes(10);
+
+        public void setEnabled(Boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public void setMaximumSize(Long maximumSize) {
+            this.maximumSize = maximumSize;
+        }
+
+        public void setTtl(Duration ttl) {
+            this.ttl = ttl;
+        }
+    }
+
+    @Getter
+    public static class Dispatch {
+        /**
+         * 레인 디스패처 사용 여부 (false: 호출 스레드에서 바로 실행)
+         */
+        private Boolean enabled = false;
+
+        /**
+         * 단일 스레드 레인 수
+         */
+        private Integer laneCount = 8;
+
+        /**
+         * 레인별 최대 대기 작업 수 (초과 시 503)
+         */
+        private Integer queueCapacity = 10_000;
+
+        public void setEnabled(Boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public void setLaneCount(Integer laneCount) {
+            this.laneCount = laneCount;
+        }
+
+        public void setQueueCapacity(Integer queueCapacity) {
+            this.queueCapacity = queueCapacity;
+        }
+    }
+
+    @Getter
+    public static class Striping {
+        /**
+         * 스트라이프 계좌 사용 여부
+         */
+        private Boolean enabled = false;
+
+        /**
+         * 계좌당 잔액 슬롯 수
+         */
+        private Integer slotCount = 8;
+
+        /**
+         * 입금액을 잔액 슬롯에 나눠 적립할 계좌번호 목록 (가맹점 수금, 급여 재원 계좌 등)
+         */
+        private Set<String> accountNumbers = new HashSet<>();
+
+        /**
+         * 백그라운드 압축(슬롯 → balance) 주기 (밀리초)
+         */
+        private Long compactIntervalMs = 1_000L;
+
+        public void setEnabled(Boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public void setSlotCount(Integer slotCount) {
+            this.slotCount = slotCount;
+        }
+
+        public void setAccountNumbers(Set<String> accountNumbers) {
+            this.accountNumbers = accountNumbers;
+        }
+
+        public void setCompactIntervalMs(Long compactIntervalMs) {
+            this.compactIntervalMs = compactIntervalMs;
+        }
+    }
+
+    @Getter
+    public static class Coalesce {
+        /**
+         * 리더가 뒤이어 도착하는 입금을 기다리는 최대 시간 (마이크로초)
+         */
+        private Long windowMicros = 500L;
+
+        /**
+         * 한 묶음의 최대 입금 건수 (차면 대기 시간 전에 반영)
+         */
+        private Integer maxBatchSize = 64;
+
+        /**
+         * 팔로워가 리더 트랜잭션의 결과를 기다리는 최대 시간 (밀리초)
+         */
+        private Long followerTimeoutMs = 5_000L;
+
+        public void setWindowMicros(Long windowMicros) {
+            this.windowMicros = windowMicros;
+        }
+
+        public void setMaxBatchSize(Integer maxBatchSize) {
+            this.maxBatchSize = maxBatchSize;
+        }
+
+        public void setFollowerTimeoutMs(Long followerTimeoutMs) {
+            this.followerTimeoutMs = followerTimeoutMs;
+        }
+    }
+
+    @Getter
+    public static class Idempotency {
+        /**
+         * 키 유지 시간 (이 시간이 지나면 같은 키로 새 요청을 실행)
+         */
+        private Duration ttl = Duration.ofHours(24);
+
+        /**
+         * 메모리에 두는 최근 키 수
+         */
+        private Long cacheSize = 10_000L;
+
+        /**
+         * 만료 키 삭제 주기 (밀리초)
+         */
+        private Long purgeIntervalMs = 60_000L;
+
+        /**
+         * 한 번에 삭제할 만료 키 수
+         */
+        private Integer purgeBatchSize = 1_000;
+
+        public void setTtl(Duration ttl) {
+            this.ttl = ttl;
+        }
+
+        public void setCacheSize(Long cacheSize) {
+            this.cacheSize = cacheSize;
+        }
+
+        public void setPurgeIntervalMs(Long purgeIntervalMs) {
+            this.purgeIntervalMs = purgeIntervalMs;
+        }
+
+        public void setPurgeBatchSize(Integer purgeBatchSize) {
+            this.purgeBatchSize = purgeBatchSize;
+        }
     }
 }
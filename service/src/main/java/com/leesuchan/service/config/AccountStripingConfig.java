@@ -0,0 +1,44 @@
+package com.leesuchan.service.config;
+
+import com.leesuchan.account.config.AccountStripingProvider;
+import com.leesuchan.account.domain.exception.AccountNotFoundException;
+import com.leesuchan.account.service.StripedBalanceService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * 스트라이프 계좌 잔액 슬롯 백그라운드 압축 설정
+ *
+ * <p>account.striping.enabled=true 일 때만 활성화되며,
+ * 스케줄러 스레드가 주기적으로 스트라이프 계좌의 슬롯 적립액을 account.balance로 합칩니다.
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(prefix = "account.striping", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class AccountStripingConfig {
+
+    private final StripedBalanceService stripedBalanceService;
+
+    /**
+     * 계좌마다 별도 트랜잭션으로 합칩니다. 새로 지정된 계좌는 슬롯 행을 먼저 생성합니다.
+     * 롤링 배포 중 이전 설정 인스턴스가 적립한, 스트라이프 대상이 아닌 계좌의 적립액도 함께 합칩니다.
+     */
+    @Scheduled(fixedDelayString = "${account.striping.compact-interval-ms:1000}")
+    public void compact() {
+        for (String accountNumber : AccountStripingProvider.getStripedAccountNumbers()) {
+            try {
+                stripedBalanceService.provision(accountNumber);
+                stripedBalanceService.fold(accountNumber);
+            } catch (AccountNotFoundException e) {
+                // 아직 개설되지 않았거나 삭제된 계좌
+            }
+        }
+        for (Long accountId : stripedBalanceService.accountIdsWithPendingCredits()) {
+            stripedBalanceService.foldIfNotStriped(accountId);
+        }
+    }
+}
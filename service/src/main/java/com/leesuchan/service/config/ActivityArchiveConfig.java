@@ -0,0 +1,93 @@
+package com.leesuchan.service.config;
+
+import com.leesuchan.activity.domain.repository.ActivityRepository;
+import com.leesuchan.infra.database.archive.ActivityArchive;
+import com.leesuchan.infra.database.archive.ActivityArchiver;
+import com.leesuchan.infra.database.repository.ActivityRepositoryImpl;
+import com.leesuchan.infra.database.repository.ArchiveReadThroughActivityRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.LocalDate;
+
+/**
+ * 오래된 거래내역 아카이브 설정
+ *
+ * <p>activity.archive.enabled=true 일 때만 활성화되며, ActivityRepository 주입 지점에 아카이브까지 함께 읽는 데코레이터를 우선 주입합니다.
+ * check-interval-ms마다 작성 인스턴스(writer=true)는 보관 기간이 지난 달을 세그먼트 파일로 옮기고(purge=true면 purge-delay 후 MySQL에서 삭제),
+ * 나머지 인스턴스는 공유 디렉터리의 세그먼트를 다시 읽습니다.
+ */
+@Slf4j
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(prefix = "activity.archive", name = "enabled", havingValue = "true")
+public class ActivityArchiveConfig {
+
+    private final ActivityProperties activityProperties;
+    private final ObjectProvider<ActivityArchive> activityArchive;
+    private final ObjectProvider<ActivityArchiver> activityArchiver;
+
+    public ActivityArchiveConfig(
+            ActivityProperties activityProperties,
+            ObjectProvider<ActivityArchive> activityArchive,
+            ObjectProvider<ActivityArchiver> activityArchiver
+    ) {
+        this.activityProperties = activityProperties;
+        this.activityArchive = activityArchive;
+        this.activityArchiver = activityArchiver;
+    }
+
+    @Bean
+    public ActivityArchive activityArchive() {
+        ActivityProperties.Archive archive = activityProperties.getArchive();
+        return new ActivityArchive(Path.of(archive.getDirectory()), archive.getWriter());
+    }
+
+    /**
+     * 트랜잭션 밖에서 얻는 커넥션이므로 읽기 복제본 라우팅을 켜도 primary로 연결됩니다.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "activity.archive", name = "writer", havingValue = "true")
+    public ActivityArchiver activityArchiver(DataSource dataSource, ActivityArchive activityArchive) {
+        ActivityProperties.Archive archive = activityProperties.getArchive();
+        return new ActivityArchiver(dataSource, activityArchive, archive.getRetention(), archive.getDeleteBatchSize(),
+                archive.getPurge(), archive.getPurgeDelay(), archive.getLateRowWindow());
+    }
+
+    @Bean
+    @Primary
+    public ActivityRepository archiveReadThroughActivityRepository(
+            ActivityRepositoryImpl activityRepositoryImpl,
+            ActivityArchive activityArchive
+    ) {
+        return new ArchiveReadThroughActivityRepository(activityRepositoryImpl, activityArchive);
+    }
+
+    @Scheduled(
+            initialDelayString = "${activity.archive.check-interval-ms:3600000}",
+            fixedDelayString = "${activity.archive.check-interval-ms:3600000}"
+    )
+    public void archive() {
+        ActivityArchiver archiver = activityArchiver.getIfAvailable();
+        try {
+            if (archiver == null) {
+                activityArchive.getObject().refresh();
+                return;
+            }
+            archiver.archive(LocalDate.now());
+        } catch (DataAccessException | UncheckedIOException e) {
+            // 세그먼트는 seal 후에만 등록되고 삭제는 등록된 세그먼트 기준이므로, 다음 주기에 이어서 처리
+            log.warn("거래내역 아카이브 실패: {}", e.getMessage());
+        }
+    }
+}
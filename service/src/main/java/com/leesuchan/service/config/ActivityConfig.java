@@ -0,0 +1,25 @@
+package com.leesuchan.service.config;
+
+import com.leesuchan.activity.config.ActivityRecordProvider;
+import com.leesuchan.activity.config.TransactionIdProvider;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 거래내역 설정 초기화
+ *
+ * <p>ActivityProperties를 읽어 ActivityRecordProvider, TransactionIdProvider를 초기화합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ActivityConfig {
+
+    private final ActivityProperties activityProperties;
+
+    @PostConstruct
+    public void init() {
+        ActivityRecordProvider.initialize(activityProperties.getRecord().getMode());
+        TransactionIdProvider.initialize(activityProperties.getTransactionId().getNodeId());
+    }
+}
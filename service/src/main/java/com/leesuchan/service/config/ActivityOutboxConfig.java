@@ -0,0 +1,35 @@
+package com.leesuchan.service.config;
+
+import com.leesuchan.activity.service.ActivityOutboxRelay;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * 거래내역 Outbox 백그라운드 작성기 설정
+ *
+ * <p>activity.record.mode=outbox 일 때만 활성화되며,
+ * 스케줄러 스레드 하나가 주기적으로 outbox를 activity로 배치 이관합니다.
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(prefix = "activity.record", name = "mode", havingValue = "outbox")
+@RequiredArgsConstructor
+public class ActivityOutboxConfig {
+
+    private final ActivityOutboxRelay activityOutboxRelay;
+    private final ActivityProperties activityProperties;
+
+    /**
+     * 가득 찬 배치가 나오는 동안 연속으로 이관합니다. (주기는 activity.outbox.drain-interval-ms)
+     */
+    @Scheduled(fixedDelayString = "#{@activityProperties.outbox.drainIntervalMs}")
+    public void drain() {
+        int batchSize = activityProperties.getOutbox().getBatchSize();
+        while (activityOutboxRelay.drain(batchSize) == batchSize) {
+            // 남은 행이 batchSize 미만이 될 때까지 반복
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.leesuchan.service.config;
+
+import com.leesuchan.infra.database.partition.ActivityPartitionMaintainer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+
+/**
+ * 거래내역 월 파티션 관리 설정
+ *
+ * <p>activity.partition.enabled=true 일 때만 활성화되며,
+ * 기동 직후와 check-interval-ms마다 months-ahead개월 뒤까지의 월 파티션을 미리 만듭니다.
+ */
+@Slf4j
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(prefix = "activity.partition", name = "enabled", havingValue = "true")
+public class ActivityPartitionConfig {
+
+    private final ActivityProperties activityProperties;
+    private final ObjectProvider<ActivityPartitionMaintainer> activityPartitionMaintainer;
+
+    public ActivityPartitionConfig(
+            ActivityProperties activityProperties,
+            ObjectProvider<ActivityPartitionMaintainer> activityPartitionMaintainer
+    ) {
+        this.activityProperties = activityProperties;
+        this.activityPartitionMaintainer = activityPartitionMaintainer;
+    }
+
+    /**
+     * 트랜잭션 밖에서 얻는 커넥션이므로 읽기 복제본 라우팅을 켜도 primary로 연결됩니다.
+     */
+    @Bean
+    public ActivityPartitionMaintainer activityPartitionMaintainer(DataSource dataSource) {
+        return new ActivityPartitionMaintainer(dataSource, activityProperties.getPartition().getMonthsAhead());
+    }
+
+    @Scheduled(initialDelay = 0, fixedDelayString = "${activity.partition.check-interval-ms:3600000}")
+    public void ensurePartitions() {
+        try {
+            activityPartitionMaintainer.getObject().ensurePartitions(LocalDate.now());
+        } catch (DataAccessException e) {
+            // 다른 인스턴스가 같은 파티션을 먼저 만든 경우 등, 다음 주기에 다시 확인
+            log.warn("activity 월 파티션 생성 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,255 @@
+package com.leesuchan.service.config;
+
+import com.leesuchan.activity.config.ActivityRecordMode;
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 거래내역 관련 설정 Properties
+ */
+@Getter
+@Component
+@ConfigurationProperties(prefix = "activity")
+public class ActivityProperties {
+
+    /**
+     * 기록 방식 설정
+     */
+    private Record record = new Record();
+
+    /**
+     * Outbox 이관 설정
+     */
+    private Outbox outbox = new Outbox();
+
+    /**
+     * 트랜잭션 ID 생성 설정
+     */
+    private TransactionId transactionId = new TransactionId();
+
+    /**
+     * 잔액 체크포인트 설정
+     */
+    private BalanceCheckpoint balanceCheckpoint = new BalanceCheckpoint();
+
+    /**
+     * 월 파티션 관리 설정
+     */
+    private Partition partition = new Partition();
+
+    /**
+     * 오래된 거래내역 아카이브 설정
+     */
+    private Archive archive = new Archive();
+
+    @Getter
+    public static class Record {
+        /**
+         * 거래내역 기록 방식 (SYNC: activity에 바로 기록, OUTBOX: outbox 기록 후 백그라운드 이관)
+         */
+        private ActivityRecordMode mode = ActivityRecordMode.SYNC;
+
+        public void setMode(ActivityRecordMode mode) {
+            this.mode = mode;
+        }
+    }
+
+    @Getter
+    public static class Outbox {
+        /**
+         * 한 번에 이관할 최대 건수
+         */
+        private Integer batchSize = 500;
+
+        /**
+         * 이관 주기 (밀리초, 이전 이관이 끝난 뒤부터)
+         */
+        private Long drainIntervalMs = 200L;
+
+        public void setBatchSize(Integer batchSize) {
+            this.batchSize = batchSize;
+        }
+
+        public void setDrainIntervalMs(Long drainIntervalMs) {
+            this.drainIntervalMs = drainIntervalMs;
+        }
+    }
+
+    @Getter
+    public static class TransactionId {
+        /**
+         * 노드 ID (0 ~ 1022, 인스턴스마다 달라야 인스턴스 간 ID가 겹치지 않음, 1023은 기존 ID 변환 전용)
+         */
+        private Integer nodeId = 0;
+
+        public void setNodeId(Integer nodeId) {
+            this.nodeId = nodeId;
+        }
+    }
+
+    @Getter
+    public static class BalanceCheckpoint {
+        /**
+         * 잔액 체크포인트 생성 여부
+         */
+        private Boolean enabled = false;
+
+        /**
+         * 체크포인트 간격 (체크포인트 시각은 이 간격의 배수로 정렬, 1d면 매일 0시)
+         */
+        private Duration interval = Duration.ofDays(1);
+
+        /**
+         * 체크포인트 시각이 지나고 기다리는 시간 (Outbox 이관 등으로 그 이전 거래내역이 더 들어오지 않을 만큼)
+         */
+        private Duration settleDelay = Duration.ofMinutes(10);
+
+        /**
+         * 생성할 체크포인트가 있는지 확인하는 주기 (밀리초)
+         */
+        private Long checkIntervalMs = 60_000L;
+
+        /**
+         * 한 번에 처리할 계좌 수
+         */
+        private Integer batchSize = 500;
+
+        public void setEnabled(Boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public void setInterval(Duration interval) {
+            this.interval = interval;
+        }
+
+        public void setSettleDelay(Duration settleDelay) {
+            this.settleDelay = settleDelay;
+        }
+
+        public void setCheckIntervalMs(Long checkIntervalMs) {
+            this.checkIntervalMs = checkIntervalMs;
+        }
+
+        public void setBatchSize(Integer batchSize) {
+            this.batchSize = batchSize;
+        }
+    }
+
+    @Getter
+    public static class Partition {
+        /**
+         * 월 파티션 자동 생성 여부 (activity 테이블이 V14 마이그레이션으로 파티셔닝된 MySQL에서만)
+         */
+        private Boolean enabled = false;
+
+        /**
+         * 이번 달 이후 미리 만들어 둘 개월 수
+         */
+        private Integer monthsAhead = 3;
+
+        /**
+         * 파티션 확인 주기 (밀리초)
+         */
+        private Long checkIntervalMs = 3_600_000L;
+
+        public void setEnabled(Boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public void setMonthsAhead(Integer monthsAhead) {
+            this.monthsAhead = monthsAhead;
+        }
+
+        public void setCheckIntervalMs(Long checkIntervalMs) {
+            this.checkIntervalMs = checkIntervalMs;
+        }
+    }
+
+    @Getter
+    public static class Archive {
+        /**
+         * 조회 시 아카이브 세그먼트를 함께 읽을지 여부
+         */
+        private Boolean enabled = false;
+
+        /**
+         * 이 인스턴스가 세그먼트를 작성할지 여부 (디렉터리를 공유하는 인스턴스 중 하나만 켬, 나머지는 주기마다 refresh)
+         */
+        private Boolean writer = false;
+
+        /**
+         * 세그먼트 파일 디렉터리 (여러 인스턴스면 모든 인스턴스가 마운트한 공유 스토리지)
+         */
+        private String directory = "./data/activity-archive";
+
+        /**
+         * MySQL에 남겨 둘 기간 (이 기간이 지난 달 전체를 아카이브)
+         */
+        private Duration retention = Duration.ofDays(365);
+
+        /**
+         * 아카이브한 거래내역을 MySQL에서 삭제할지 여부
+         * (MySQL을 읽는 모든 인스턴스가 같은 디렉터리로 아카이브를 함께 읽을 때만 켬)
+         */
+        private Boolean purge = false;
+
+        /**
+         * seal 후 MySQL에서 삭제하기까지 기다릴 시간 (다른 인스턴스의 refresh 주기보다 길어야 함)
+         */
+        private Duration purgeDelay = Duration.ofHours(2);
+
+        /**
+         * seal 후 늦은 거래내역이 들어올 수 있는 기간 (purge=false일 때, 이 기간이 지난 뒤 확인한 달은 다시 세지 않음)
+         */
+        private Duration lateRowWindow = Duration.ofDays(1);
+
+        /**
+         * 아카이브 후 MySQL에서 한 번에 삭제할 건수
+         */
+        private Integer deleteBatchSize = 1_000;
+
+        /**
+         * 아카이브 대상 확인 주기 (밀리초)
+         */
+        private Long checkIntervalMs = 3_600_000L;
+
+        public void setEnabled(Boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public void setWriter(Boolean writer) {
+            this.writer = writer;
+        }
+
+        public void setDirectory(String directory) {
+            this.directory = directory;
+        }
+
+        public void setRetention(Duration retention) {
+            this.retention = retention;
+        }
+
+        public void setPurge(Boolean purge) {
+            this.purge = purge;
+        }
+
+        public void setPurgeDelay(Duration purgeDelay) {
+            this.purgeDelay = purgeDelay;
+        }
+
+        public void setLateRowWindow(Duration lateRowWindow) {
+            this.lateRowWindow = lateRowWindow;
+        }
+
+        public void setDeleteBatchSize(Integer deleteBatchSize) {
+            this.deleteBatchSize = deleteBatchSize;
+        }
+
+        public void setCheckIntervalMs(Long checkIntervalMs) {
+            this.checkIntervalMs = checkIntervalMs;
+        }
+    }
+}
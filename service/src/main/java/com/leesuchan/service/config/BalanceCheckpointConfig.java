@@ -0,0 +1,64 @@
+package com.leesuchan.service.config;
+
+import com.leesuchan.activity.service.BalanceCheckpointService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * 잔액 체크포인트 생성 설정
+ *
+ * <p>activity.balance-checkpoint.enabled=true 일 때만 활성화되며,
+ * 스케줄러 스레드가 interval 경계 시각이 settle-delay만큼 지나면 그 시각의 체크포인트를 생성합니다.
+ */
+@Slf4j
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(prefix = "activity.balance-checkpoint", name = "enabled", havingValue = "true")
+public class BalanceCheckpointConfig {
+
+    private final BalanceCheckpointService balanceCheckpointService;
+    private final ActivityProperties activityProperties;
+
+    public BalanceCheckpointConfig(
+            BalanceCheckpointService balanceCheckpointService,
+            ActivityProperties activityProperties
+    ) {
+        this.balanceCheckpointService = balanceCheckpointService;
+        this.activityProperties = activityProperties;
+    }
+
+    @Scheduled(fixedDelayString = "${activity.balance-checkpoint.check-interval-ms:60000}")
+    public void createCheckpoints() {
+        ActivityProperties.BalanceCheckpoint properties = activityProperties.getBalanceCheckpoint();
+        LocalDateTime checkpointAt = boundaryAtOrBefore(
+                LocalDateTime.now().minus(properties.getSettleDelay()),
+                properties.getInterval()
+        );
+        try {
+            int created = balanceCheckpointService.createCheckpoints(checkpointAt, properties.getBatchSize());
+            if (created > 0) {
+                log.debug("{} 기준 잔액 체크포인트 {}건 생성", checkpointAt, created);
+            }
+        } catch (DataIntegrityViolationException e) {
+            // 다른 인스턴스가 같은 시각의 체크포인트를 먼저 생성한 경우
+            log.debug("{} 기준 잔액 체크포인트가 이미 생성되어 건너뜀", checkpointAt);
+        }
+    }
+
+    /**
+     * time 이전(포함) 가장 가까운 interval 경계 시각 (로컬 시각 기준 0시부터 정렬)
+     */
+    static LocalDateTime boundaryAtOrBefore(LocalDateTime time, Duration interval) {
+        long intervalSeconds = interval.getSeconds();
+        long epochSecond = time.toEpochSecond(ZoneOffset.UTC);
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(epochSecond, intervalSeconds) * intervalSeconds, 0, ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,68 @@
+package com.leesuchan.service.config;
+
+import com.leesuchan.account.domain.repository.IdempotencyRecordRepository;
+import com.leesuchan.infra.database.repository.CachingIdempotencyRecordRepository;
+import com.leesuchan.infra.database.repository.IdempotencyRecordRepositoryImpl;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.LocalDateTime;
+
+/**
+ * 멱등성 키 설정
+ *
+ * <p>IdempotencyRecordRepository 주입 지점에 최근 키 캐시 데코레이터를 우선 주입하고,
+ * 스케줄러 스레드가 주기적으로 만료된 키를 배치 단위로 삭제합니다.
+ */
+@Slf4j
+@Configuration
+@EnableScheduling
+public class IdempotencyConfig {
+
+    private final IdempotencyRecordRepositoryImpl idempotencyRecordRepositoryImpl;
+    private final AccountProperties accountProperties;
+
+    public IdempotencyConfig(
+            IdempotencyRecordRepositoryImpl idempotencyRecordRepositoryImpl,
+            AccountProperties accountProperties
+    ) {
+        this.idempotencyRecordRepositoryImpl = idempotencyRecordRepositoryImpl;
+        this.accountProperties = accountProperties;
+    }
+
+    @Bean
+    @Primary
+    public IdempotencyRecordRepository cachingIdempotencyRecordRepository(ObjectProvider<MeterRegistry> meterRegistry) {
+        CachingIdempotencyRecordRepository repository = new CachingIdempotencyRecordRepository(
+                idempotencyRecordRepositoryImpl,
+                accountProperties.getIdempotency().getCacheSize(),
+                accountProperties.getIdempotency().getTtl()
+        );
+        meterRegistry.ifAvailable(repository::bindMetrics);
+        return repository;
+    }
+
+    /**
+     * 배치마다 별도 트랜잭션으로 삭제하며, 배치가 가득 찼으면 남은 키가 있으므로 이어서 삭제합니다.
+     */
+    @Scheduled(fixedDelayString = "${account.idempotency.purge-interval-ms:60000}")
+    public void purgeExpired() {
+        int batchSize = accountProperties.getIdempotency().getPurgeBatchSize();
+        LocalDateTime now = LocalDateTime.now();
+        int total = 0;
+        int deleted;
+        do {
+            deleted = idempotencyRecordRepositoryImpl.deleteExpired(now, batchSize);
+            total += deleted;
+        } while (deleted == batchSize);
+        if (total > 0) {
+            log.debug("만료된 멱등성 키 {}건 삭제", total);
+        }
+    }
+}
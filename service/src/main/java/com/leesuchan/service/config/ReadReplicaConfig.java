@@ -0,0 +1,93 @@
+package com.leesuchan.service.config;
+
+import com.leesuchan.infra.database.datasource.ReadReplicaRoutingDataSource;
+import com.leesuchan.infra.database.datasource.ReplicaLagMonitor;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+
+/**
+ * 읽기/쓰기 DataSource 라우팅 설정
+ *
+ * <p>datasource.replica.enabled=true이면 spring.datasource.*로 primary 풀을, datasource.replica.*로
+ * 복제본 풀을 만들고, 읽기 전용 트랜잭션만 복제본으로 보내는 라우팅 DataSource를 기본 DataSource로 등록합니다.
+ * 복제본 풀은 첫 커넥션 요청 때 만들어지므로 복제본이 내려가 있어도 애플리케이션은 primary만으로 기동합니다.
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(prefix = "datasource.replica", name = "enabled", havingValue = "true")
+public class ReadReplicaConfig {
+
+    private final ObjectProvider<ReplicaLagMonitor> replicaLagMonitor;
+
+    public ReadReplicaConfig(ObjectProvider<ReplicaLagMonitor> replicaLagMonitor) {
+        this.replicaLagMonitor = replicaLagMonitor;
+    }
+
+    @Bean
+    @ConfigurationProperties(prefix = "spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public HikariDataSource replicaDataSource(ReplicaProperties replicaProperties) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica");
+        dataSource.setJdbcUrl(replicaProperties.getUrl());
+        dataSource.setUsername(replicaProperties.getUsername());
+        dataSource.setPassword(replicaProperties.getPassword());
+        if (replicaProperties.getDriverClassName() != null) {
+            dataSource.setDriverClassName(replicaProperties.getDriverClassName());
+        }
+        dataSource.setMaximumPoolSize(replicaProperties.getMaximumPoolSize());
+        dataSource.setConnectionTimeout(replicaProperties.getConnectionTimeoutMs());
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(
+            HikariDataSource primaryDataSource,
+            HikariDataSource replicaDataSource,
+            ReplicaProperties replicaProperties
+    ) {
+        return new ReplicaLagMonitor(primaryDataSource, replicaDataSource, replicaProperties.getMaxLag());
+    }
+
+    /**
+     * JPA/Flyway가 사용하는 기본 DataSource (트랜잭션의 읽기 전용 여부가 정해진 뒤 라우팅)
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            HikariDataSource primaryDataSource,
+            HikariDataSource replicaDataSource,
+            ReplicaLagMonitor replicaLagMonitor
+    ) {
+        return new LazyConnectionDataSourceProxy(
+                new ReadReplicaRoutingDataSource(primaryDataSource, replicaDataSource, replicaLagMonitor));
+    }
+
+    @Scheduled(
+            initialDelayString = "${datasource.replica.check-interval-ms:500}",
+            fixedDelayString = "${datasource.replica.check-interval-ms:500}"
+    )
+    public void checkReplicaLag() {
+        replicaLagMonitor.getObject().check();
+    }
+}
@@ -0,0 +1,88 @@
+package com.leesuchan.service.config;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 읽기 전용 복제본 DataSource 설정 Properties
+ */
+@Getter
+@Component
+@ConfigurationProperties(prefix = "datasource.replica")
+public class ReplicaProperties {
+
+    /**
+     * 읽기 전용 트랜잭션을 복제본으로 라우팅할지 여부
+     */
+    private Boolean enabled = false;
+
+    /**
+     * 복제본 JDBC URL
+     */
+    private String url;
+
+    private String username;
+
+    private String password;
+
+    private String driverClassName;
+
+    /**
+     * 복제본 풀 최대 커넥션 수
+     */
+    private Integer maximumPoolSize = 10;
+
+    /**
+     * 복제본 커넥션 대기 상한 (밀리초, 초과 시 primary로 대신 연결)
+     */
+    private Long connectionTimeoutMs = 1_000L;
+
+    /**
+     * 복제본을 사용할 최대 복제 지연 (점검 주기보다 크게)
+     */
+    private Duration maxLag = Duration.ofSeconds(2);
+
+    /**
+     * 복제 지연 점검 주기 (밀리초)
+     */
+    private Long checkIntervalMs = 500L;
+
+    public void setEnabled(Boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public void setUrl(String url) {
+        this.url = url;
+    }
+
+    public void setUsername(String username) {
+        this.username = username;
+    }
+
+    public void setPassword(String password) {
+        this.password = password;
+    }
+
+    public void setDriverClassName(String driverClassName) {
+        this.driverClassName = driverClassName;
+    }
+
+    public void setMaximumPoolSize(Integer maximumPoolSize) {
+        this.maximumPoolSize = maximumPoolSize;
+    }
+
+    public void setConnectionTimeoutMs(Long connectionTimeoutMs) {
+        this.connectionTimeoutMs = connectionTimeoutMs;
+    }
+
+    public void setMaxLag(Duration maxLag) {
+        this.maxLag = maxLag;
+    }
+
+    public void setCheckIntervalMs(Long checkIntervalMs) {
+        this.checkIntervalMs = checkIntervalMs;
+    }
+}
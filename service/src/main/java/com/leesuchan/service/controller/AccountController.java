@@ -1,13 +1,19 @@
 package com.leesuchan.service.controller;
 
 import com.leesuchan.account.domain.model.Account;
+import com.leesuchan.account.service.BulkRegisterAccountUseCase;
 import com.leesuchan.account.service.DeleteAccountUseCase;
 import com.leesuchan.account.service.RegisterAccountUseCase;
 import com.leesuchan.service.application.GetAccountQueryService;
 import com.leesuchan.service.application.GetAccountsQueryService;
+import com.leesuchan.service.application.GetBalanceAtQueryService;
 import com.leesuchan.common.response.ApiResponse;
+import com.leesuchan.account.service.dto.RegisterAccountRequest;
+import com.leesuchan.service.dto.request.BulkRegisterAccountDto;
 import com.leesuchan.service.dto.request.RegisterAccountDto;
 import com.leesuchan.service.dto.response.AccountResponse;
+import com.leesuchan.service.dto.response.BalanceAtResponse;
+import com.leesuchan.service.dto.response.BulkRegisterAccountResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -17,9 +23,14 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 /**
  * 계좌 API Controller
  */
@@ -29,23 +40,29 @@ import org.springframework.web.bind.annotation.*;
 public class AccountController {
 
     private final RegisterAccountUseCase registerAccountUseCase;
+    private final BulkRegisterAccountUseCase bulkRegisterAccountUseCase;
     private final DeleteAccountUseCase deleteAccountUseCase;
     private final GetAccountQueryService getAccountQueryService;
     private final GetAccountsQueryService getAccountsQueryService;
+    private final GetBalanceAtQueryService getBalanceAtQueryService;
 
     /**
      * 생성자 주입 (생성자가 하나인 경우 @Autowired 생략 가능)
      */
     public AccountController(
             RegisterAccountUseCase registerAccountUseCase,
+            BulkRegisterAccountUseCase bulkRegisterAccountUseCase,
             DeleteAccountUseCase deleteAccountUseCase,
             GetAccountQueryService getAccountQueryService,
-            GetAccountsQueryService getAccountsQueryService
+            GetAccountsQueryService getAccountsQueryService,
+            GetBalanceAtQueryService getBalanceAtQueryService
     ) {
         this.registerAccountUseCase = registerAccountUseCase;
+        this.bulkRegisterAccountUseCase = bulkRegisterAccountUseCase;
         this.deleteAccountUseCase = deleteAccountUseCase;
         this.getAccountQueryService = getAccountQueryService;
         this.getAccountsQueryService = getAccountsQueryService;
+        this.getBalanceAtQueryService = getBalanceAtQueryService;
     }
 
     /**
@@ -71,6 +88,22 @@ public class AccountController {
         return ApiResponse.success(accounts);
     }
 
+    /**
+     * 계좌 목록 조회 (COUNT 없는 슬라이스)
+     */
+    @Operation(
+            summary = "계좌 목록 조회 (슬라이스)",
+            description = "전체 건수 COUNT 쿼리 없이 계좌 목록을 조회합니다. 다음 페이지 존재 여부만 제공합니다."
+    )
+    @GetMapping(params = "slice=true")
+    public ApiResponse<Slice<AccountResponse>> getAccountsSlice(
+            @Parameter(description = "페이지 정보", example = "{\"page\": 0, \"size\": 20}")
+            @PageableDefault(size = 20) Pageable pageable
+    ) {
+        Slice<AccountResponse> accounts = getAccountsQueryService.executeSlice(pageable);
+        return ApiResponse.success(accounts);
+    }
+
     /**
      * 계좌 등록
      */
@@ -98,6 +131,35 @@ public class AccountController {
         return ApiResponse.success(AccountResponse.from(account));
     }
 
+    /**
+     * 계좌 일괄 등록
+     */
+    @Operation(
+            summary = "계좌 일괄 등록",
+            description = "여러 계좌를 한 번에 등록합니다. 검증 실패/중복 계좌번호는 요청 전체를 거부하지 않고 행 단위 실패로 응답합니다. (최대 100,000건)"
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "처리 완료 (실패 항목은 failures 참고)",
+                    content = @Content(schema = @Schema(implementation = BulkRegisterAccountResponse.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "400",
+                    description = "요청 파라미터 유효성 검증 실패"
+            )
+    })
+    @PostMapping("/batch")
+    public ApiResponse<BulkRegisterAccountResponse> registerBatch(
+            @Parameter(description = "계좌 일괄 등록 요청", required = true)
+            @Valid @RequestBody BulkRegisterAccountDto request
+    ) {
+        List<RegisterAccountRequest> requests = request.accounts().stream()
+                .map(account -> new RegisterAccountRequest(account.accountNumber(), account.accountName()))
+                .toList();
+        return ApiResponse.success(BulkRegisterAccountResponse.from(bulkRegisterAccountUseCase.execute(requests)));
+    }
+
     /**
      * 계좌 단건 조회
      */
@@ -125,6 +187,39 @@ public class AccountController {
         return ApiResponse.success(response);
     }
 
+    /**
+     * 특정 시점 잔액 조회
+     */
+    @Operation(
+            summary = "특정 시점 잔액 조회",
+            description = "지정한 시각 이전(포함) 마지막 거래내역의 거래 후 잔액을 조회합니다. 그 이전 거래가 없으면 0원입니다."
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "잔액 조회 성공",
+                    content = @Content(schema = @Schema(implementation = BalanceAtResponse.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "404",
+                    description = "계좌를 찾을 수 없습니다"
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "ACCOUNT_011",
+                    description = "스트라이프 계좌는 특정 시점 잔액을 조회할 수 없습니다"
+            )
+    })
+    @GetMapping("/{accountNumber}/balance")
+    public ApiResponse<BalanceAtResponse> getBalanceAt(
+            @Parameter(description = "계좌번호", example = "1234567890", required = true)
+            @PathVariable String accountNumber,
+            @Parameter(description = "조회 시점", example = "2026-01-31T23:59:59", required = true)
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime at
+    ) {
+        BalanceAtResponse response = getBalanceAtQueryService.execute(accountNumber, at);
+        return ApiResponse.success(response);
+    }
+
     /**
      * 계좌 삭제
      */
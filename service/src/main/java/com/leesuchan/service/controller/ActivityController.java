@@ -1,17 +1,23 @@
 package com.leesuchan.service.controller;
 
+import com.leesuchan.service.application.ActivityExportFormat;
+import com.leesuchan.service.application.ExportActivitiesQueryService;
 import com.leesuchan.service.application.GetActivitiesQueryService;
 import com.leesuchan.common.response.ApiResponse;
-import com.leesuchan.service.dto.response.ActivityResponse;
+import com.leesuchan.service.dto.response.ActivityPageResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.List;
+import java.time.LocalDateTime;
 
 /**
  * 거래내역 API Controller
@@ -22,9 +28,14 @@ import java.util.List;
 public class ActivityController {
 
     private final GetActivitiesQueryService getActivitiesQueryService;
+    private final ExportActivitiesQueryService exportActivitiesQueryService;
 
-    public ActivityController(GetActivitiesQueryService getActivitiesQueryService) {
+    public ActivityController(
+            GetActivitiesQueryService getActivitiesQueryService,
+            ExportActivitiesQueryService exportActivitiesQueryService
+    ) {
         this.getActivitiesQueryService = getActivitiesQueryService;
+        this.exportActivitiesQueryService = exportActivitiesQueryService;
     }
 
     /**
@@ -32,7 +43,7 @@ public class ActivityController {
      */
     @Operation(
             summary = "계좌 거래내역 조회",
-            description = "계좌의 거래내역을 조회합니다. 최신순으로 정렬됩니다."
+            description = "계좌의 최신 거래내역을 최대 100건 조회합니다. 최신순으로 정렬되며, 이후 거래내역은 응답의 nextCursor를 before로 전달해 조회합니다. 전체 이력은 /export를 사용합니다."
     )
     @ApiResponses(value = {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(
@@ -45,11 +56,86 @@ public class ActivityController {
             )
     })
     @GetMapping("/{accountNumber}")
-    public ApiResponse<List<ActivityResponse>> getActivities(
+    public ApiResponse<ActivityPageResponse> getActivities(
             @Parameter(description = "계좌번호", example = "1234567890", required = true)
             @PathVariable String accountNumber
     ) {
-        List<ActivityResponse> activities = getActivitiesQueryService.execute(accountNumber);
-        return ApiResponse.success(activities);
+        ActivityPageResponse page = getActivitiesQueryService.execute(accountNumber);
+        return ApiResponse.success(page);
+    }
+
+    /**
+     * 계좌 거래내역 커서 페이지 조회
+     */
+    @Operation(
+            summary = "계좌 거래내역 커서 페이지 조회",
+            description = "계좌의 거래내역을 최신순으로 limit건씩 조회합니다. 다음 페이지는 응답의 nextCursor를 before로 전달합니다."
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "거래내역 조회 성공"
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "400",
+                    description = "잘못된 limit 또는 커서"
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "404",
+                    description = "계좌를 찾을 수 없습니다"
+            )
+    })
+    @GetMapping(value = "/{accountNumber}", params = "limit")
+    public ApiResponse<ActivityPageResponse> getActivityPage(
+            @Parameter(description = "계좌번호", example = "1234567890", required = true)
+            @PathVariable String accountNumber,
+            @Parameter(description = "페이지 크기 (1 ~ 100)", example = "50", required = true)
+            @RequestParam int limit,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String before
+    ) {
+        ActivityPageResponse page = getActivitiesQueryService.execute(accountNumber, limit, before);
+        return ApiResponse.success(page);
+    }
+
+    /**
+     * 계좌 거래내역 스트리밍 내보내기
+     */
+    @Operation(
+            summary = "계좌 거래내역 내보내기",
+            description = "계좌의 거래내역을 오래된 순으로 NDJSON 또는 CSV로 스트리밍합니다. from(포함) ~ to(미포함) 기간으로 필터링할 수 있습니다."
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "거래내역 내보내기 성공"
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "400",
+                    description = "잘못된 형식 또는 기간"
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "404",
+                    description = "계좌를 찾을 수 없습니다"
+            )
+    })
+    @GetMapping("/{accountNumber}/export")
+    public ResponseEntity<StreamingResponseBody> exportActivities(
+            @Parameter(description = "계좌번호", example = "1234567890", required = true)
+            @PathVariable String accountNumber,
+            @Parameter(description = "내보내기 형식 (ndjson / csv)", example = "ndjson")
+            @RequestParam(defaultValue = "ndjson") String format,
+            @Parameter(description = "시작 시각 (포함)", example = "2026-01-01T00:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "종료 시각 (미포함)", example = "2026-02-01T00:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to
+    ) {
+        ActivityExportFormat exportFormat = ActivityExportFormat.from(format);
+        StreamingResponseBody body = exportActivitiesQueryService.execute(accountNumber, from, to, exportFormat);
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"activities-" + accountNumber + "." + exportFormat.getExtension() + "\"")
+                .body(body);
     }
 }
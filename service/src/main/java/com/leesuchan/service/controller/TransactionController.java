@@ -1,14 +1,20 @@
 package com.leesuchan.service.controller;
 
 import com.leesuchan.account.domain.model.Account;
+import com.leesuchan.account.service.BulkTransferUseCase;
 import com.leesuchan.account.service.DepositMoneyUseCase;
 import com.leesuchan.account.service.TransferMoneyUseCase;
 import com.leesuchan.account.service.WithdrawMoneyUseCase;
+import com.leesuchan.account.service.dispatch.AccountOperationDispatcher;
+import com.leesuchan.account.service.dto.TransferRequest;
 import com.leesuchan.common.response.ApiResponse;
+import com.leesuchan.service.application.IdempotencyService;
+import com.leesuchan.service.dto.request.BulkTransferDto;
 import com.leesuchan.service.dto.request.DepositDto;
 import com.leesuchan.service.dto.request.TransferDto;
 import com.leesuchan.service.dto.request.WithdrawDto;
 import com.leesuchan.service.dto.response.AccountResponse;
+import com.leesuchan.service.dto.response.BulkTransferResponse;
 import com.leesuchan.service.dto.response.TransferResponse;
 import com.leesuchan.account.service.TransferMoneyUseCase.TransferResult;
 import io.swagger.v3.oas.annotations.Operation;
@@ -20,26 +26,44 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 /**
  * 거래(입금/출금/이체) API Controller
+ *
+ * <p>유스케이스 호출은 AccountOperationDispatcher를 통해 실행되며, 응답은 CompletableFuture로 완료됩니다.
+ * 다건 이체는 청크 트랜잭션 안에서 계좌를 직접 잠그므로 디스패처를 거치지 않습니다.
+ * 입금/출금/이체에 Idempotency-Key 헤더를 보내면 같은 키의 재요청에는 최초 응답을 그대로 돌려줍니다.
  */
 @Tag(name = "거래 실행", description = "입금/출금/이체 API")
 @RestController
 @RequestMapping("/api/v1/transactions")
 public class TransactionController {
 
+    static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
     private final DepositMoneyUseCase depositMoneyUseCase;
     private final WithdrawMoneyUseCase withdrawMoneyUseCase;
     private final TransferMoneyUseCase transferMoneyUseCase;
+    private final BulkTransferUseCase bulkTransferUseCase;
+    private final AccountOperationDispatcher accountOperationDispatcher;
+    private final IdempotencyService idempotencyService;
 
     public TransactionController(
             DepositMoneyUseCase depositMoneyUseCase,
             WithdrawMoneyUseCase withdrawMoneyUseCase,
-            TransferMoneyUseCase transferMoneyUseCase
+            TransferMoneyUseCase transferMoneyUseCase,
+            BulkTransferUseCase bulkTransferUseCase,
+            AccountOperationDispatcher accountOperationDispatcher,
+            IdempotencyService idempotencyService
     ) {
         this.depositMoneyUseCase = depositMoneyUseCase;
         this.withdrawMoneyUseCase = withdrawMoneyUseCase;
         this.transferMoneyUseCase = transferMoneyUseCase;
+        this.bulkTransferUseCase = bulkTransferUseCase;
+        this.accountOperationDispatcher = accountOperationDispatcher;
+        this.idempotencyService = idempotencyService;
     }
 
     /**
@@ -65,12 +89,18 @@ public class TransactionController {
             )
     })
     @PostMapping("/deposit")
-    public ApiResponse<AccountResponse> deposit(
+    public CompletableFuture<ApiResponse<AccountResponse>> deposit(
+            @Parameter(description = "멱등성 키 (같은 키의 재요청은 최초 응답을 재응답)")
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
             @Parameter(description = "입금 요청", required = true)
             @Valid @RequestBody DepositDto request
     ) {
-        Account account = depositMoneyUseCase.execute(request.accountNumber(), request.amount());
-        return ApiResponse.success(AccountResponse.from(account));
+        return accountOperationDispatcher
+                .dispatch(request.accountNumber(), () -> idempotencyService.execute(
+                        idempotencyKey, "DEPOSIT", request, AccountResponse.class,
+                        () -> AccountResponse.from(deposit(idempotencyKey, request))
+                ))
+                .thenApply(ApiResponse::success);
     }
 
     /**
@@ -78,7 +108,7 @@ public class TransactionController {
      */
     @Operation(
             summary = "출금",
-            description = "계좌에서 금액을 출금합니다. 일일 출금 한도는 100만 원입니다."
+            description = "계좌에서 금액을 출금합니다. 일일 출금 한도는 계좌의 한도 등급을 따릅니다."
     )
     @ApiResponses(value = {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(
@@ -100,16 +130,22 @@ public class TransactionController {
             ),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(
                     responseCode = "ACCOUNT_005",
-                    description = "일일 출금 한도를 초과했습니다 (1,000,000원)"
+                    description = "일일 출금 한도를 초과했습니다"
             )
     })
     @PostMapping("/withdraw")
-    public ApiResponse<AccountResponse> withdraw(
+    public CompletableFuture<ApiResponse<AccountResponse>> withdraw(
+            @Parameter(description = "멱등성 키 (같은 키의 재요청은 최초 응답을 재응답)")
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
             @Parameter(description = "출금 요청", required = true)
             @Valid @RequestBody WithdrawDto request
     ) {
-        Account account = withdrawMoneyUseCase.execute(request.accountNumber(), request.amount());
-        return ApiResponse.success(AccountResponse.from(account));
+        return accountOperationDispatcher
+                .dispatch(request.accountNumber(), () -> idempotencyService.execute(
+                        idempotencyKey, "WITHDRAW", request, AccountResponse.class,
+                        () -> AccountResponse.from(withdrawMoneyUseCase.execute(request.accountNumber(), request.amount()))
+                ))
+                .thenApply(ApiResponse::success);
     }
 
     /**
@@ -117,7 +153,7 @@ public class TransactionController {
      */
     @Operation(
             summary = "이체",
-            description = "한 계좌에서 다른 계좌로 금액을 이체합니다. 일일 이체 한도는 300만 원이며, 수수료는 이체 금액의 1%입니다."
+            description = "한 계좌에서 다른 계좌로 금액을 이체합니다. 일일 이체 한도는 계좌의 한도 등급을, 수수료는 설정된 수수료 구간을 따릅니다."
     )
     @ApiResponses(value = {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(
@@ -139,7 +175,7 @@ public class TransactionController {
             ),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(
                     responseCode = "ACCOUNT_006",
-                    description = "일일 이체 한도를 초과했습니다 (3,000,000원)"
+                    description = "일일 이체 한도를 초과했습니다"
             ),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(
                     responseCode = "ACCOUNT_007",
@@ -147,19 +183,69 @@ public class TransactionController {
             )
     })
     @PostMapping("/transfer")
-    public ApiResponse<TransferResponse> transfer(
+    public CompletableFuture<ApiResponse<TransferResponse>> transfer(
+            @Parameter(description = "멱등성 키 (같은 키의 재요청은 최초 응답을 재응답)")
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
             @Parameter(description = "이체 요청", required = true)
             @Valid @RequestBody TransferDto request
     ) {
-        TransferResult result = transferMoneyUseCase.execute(
-                request.fromAccountNumber(),
-                request.toAccountNumber(),
-                request.amount()
-        );
-        return ApiResponse.success(new TransferResponse(
+        return accountOperationDispatcher
+                .dispatch(request.fromAccountNumber(), request.toAccountNumber(), () -> idempotencyService.execute(
+                        idempotencyKey, "TRANSFER", request, TransferResponse.class,
+                        () -> toTransferResponse(transferMoneyUseCase.execute(
+                                request.fromAccountNumber(),
+                                request.toAccountNumber(),
+                                request.amount()
+                        ))
+                ))
+                .thenApply(ApiResponse::success);
+    }
+
+    /**
+     * 다건 이체
+     */
+    @Operation(
+            summary = "다건 이체",
+            description = "여러 건의 이체를 요청 순서대로 처리하고 항목별 성공/실패를 반환합니다. "
+                    + "실패한 항목은 다른 항목의 처리에 영향을 주지 않습니다. (최대 10,000건)"
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "처리 완료 (항목별 결과는 results 참고)",
+                    content = @Content(schema = @Schema(implementation = BulkTransferResponse.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "400",
+                    description = "요청 파라미터 유효성 검증 실패"
+            )
+    })
+    @PostMapping("/transfers:batch")
+    public ApiResponse<BulkTransferResponse> transferBatch(
+            @Parameter(description = "다건 이체 요청", required = true)
+            @Valid @RequestBody BulkTransferDto request
+    ) {
+        List<TransferRequest> transfers = request.transfers().stream()
+                .map(transfer -> new TransferRequest(transfer.fromAccountNumber(), transfer.toAccountNumber(), transfer.amount()))
+                .toList();
+        return ApiResponse.success(BulkTransferResponse.from(bulkTransferUseCase.execute(transfers)));
+    }
+
+    /**
+     * 멱등성 키가 있으면 키 기록과 같은 트랜잭션에서만 입금합니다. (묶음 입금 제외)
+     */
+    private Account deposit(String idempotencyKey, DepositDto request) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return depositMoneyUseCase.execute(request.accountNumber(), request.amount());
+        }
+        return depositMoneyUseCase.executeInCallerTransaction(request.accountNumber(), request.amount());
+    }
+
+    private TransferResponse toTransferResponse(TransferResult result) {
+        return new TransferResponse(
                 AccountResponse.from(result.from()),
                 AccountResponse.from(result.to()),
                 result.fee()
-        ));
+        );
     }
 }
@@ -0,0 +1,21 @@
+package com.leesuchan.service.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * 계좌 일괄 등록 요청 DTO
+ *
+ * <p>항목별 검증은 요청 전체를 거부하지 않고 행 단위 실패로 응답하므로 항목에는 @Valid를 적용하지 않습니다.
+ */
+@Schema(description = "계좌 일괄 등록 요청")
+public record BulkRegisterAccountDto(
+        @Schema(description = "등록할 계좌 목록 (최대 100,000건)", required = true)
+        @NotEmpty(message = "계좌 목록은 비어있을 수 없습니다.")
+        @Size(max = 100_000, message = "한 번에 최대 100,000건까지 등록할 수 있습니다.")
+        List<RegisterAccountDto> accounts
+) {
+}
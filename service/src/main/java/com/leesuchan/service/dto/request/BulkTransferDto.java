@@ -0,0 +1,20 @@
+package com.leesuchan.service.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * 다건 이체 요청 DTO
+ */
+@Schema(description = "다건 이체 요청")
+public record BulkTransferDto(
+        @Schema(description = "이체 목록 (최대 10,000건, 요청 순서대로 처리)", required = true)
+        @NotEmpty(message = "이체 목록은 비어있을 수 없습니다.")
+        @Size(max = 10_000, message = "한 번에 최대 10,000건까지 이체할 수 있습니다.")
+        List<@Valid TransferDto> transfers
+) {
+}
@@ -1,6 +1,7 @@
 package com.leesuchan.service.dto.response;
 
 import com.leesuchan.account.domain.model.Account;
+import com.leesuchan.account.domain.model.AccountSummary;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 import java.time.LocalDateTime;
@@ -33,9 +34,20 @@ public record AccountResponse(
                 account.getId(),
                 account.getAccountNumber(),
                 account.getAccountName(),
-                account.getBalance(),
+                account.getTotalBalance(),
                 account.getCreatedAt(),
                 account.getUpdatedAt()
         );
     }
+
+    public static AccountResponse from(AccountSummary summary) {
+        return new AccountResponse(
+                summary.id(),
+                summary.accountNumber(),
+                summary.accountName(),
+                summary.balance(),
+                summary.createdAt(),
+                summary.updatedAt()
+        );
+    }
 }
@@ -0,0 +1,69 @@
+package com.leesuchan.service.dto.response;
+
+import com.leesuchan.activity.domain.model.Activity;
+import com.leesuchan.activity.domain.model.ActivityType;
+
+import java.time.LocalDateTime;
+
+/**
+ * 거래내역 내보내기 행 (NDJSON 한 줄 / CSV 한 행)
+ */
+public record ActivityExportRow(
+        Long id,
+        ActivityType activityType,
+        Long amount,
+        Long fee,
+        Long balanceAfter,
+        String referenceAccountNumber,
+        String description,
+        String transactionId,
+        LocalDateTime createdAt
+) {
+    /**
+     * CSV 헤더 (필드 순서와 동일)
+     */
+    public static final String CSV_HEADER =
+            "id,activityType,amount,fee,balanceAfter,referenceAccountNumber,description,transactionId,createdAt";
+
+    public static ActivityExportRow from(Activity activity) {
+        return new ActivityExportRow(
+                activity.getId(),
+                activity.getActivityType(),
+                activity.getAmount(),
+                activity.getFee(),
+                activity.getBalanceAfter(),
+                activity.getTransactionReference() != null ? activity.getTransactionReference().getAccountNumber() : null,
+                activity.getDescription(),
+                activity.getTransactionId() != null ? activity.getTransactionId().toString() : null,
+                activity.getCreatedAt()
+        );
+    }
+
+    /**
+     * CSV 한 행으로 변환합니다. (쉼표/따옴표/줄바꿈이 포함된 값은 따옴표로 감쌈)
+     */
+    public String toCsvLine() {
+        return String.join(",",
+                csv(id),
+                csv(activityType),
+                csv(amount),
+                csv(fee),
+                csv(balanceAfter),
+                csv(referenceAccountNumber),
+                csv(description),
+                csv(transactionId),
+                csv(createdAt)
+        );
+    }
+
+    private static String csv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.contains(",") || text.contains("\"") || text.contains("\n") || text.contains("\r")) {
+            return "\"" + text.replace("\"", "\"\"") + "\"";
+        }
+        return text;
+    }
+}
@@ -0,0 +1,27 @@
+package com.leesuchan.service.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+
+/**
+ * 특정 시점 잔액 응답 DTO
+ */
+@Schema(description = "특정 시점 잔액 응답")
+public record BalanceAtResponse(
+        @Schema(description = "계좌번호", example = "1234567890")
+        String accountNumber,
+
+        @Schema(description = "조회 시점", example = "2026-01-31T23:59:59")
+        LocalDateTime at,
+
+        @Schema(description = "조회 시점의 잔액 (원)", example = "150000")
+        Long balance,
+
+        @Schema(description = "잔액을 결정한 마지막 거래내역 ID (조회 시점 이전 거래가 없으면 null)", example = "42")
+        Long activityId,
+
+        @Schema(description = "마지막 거래 시각 (조회 시점 이전 거래가 없으면 null)", example = "2026-01-31T18:20:00")
+        LocalDateTime activityAt
+) {
+}
@@ -0,0 +1,51 @@
+package com.leesuchan.service.dto.response;
+
+import com.leesuchan.account.service.BulkRegisterAccountUseCase.BulkRegisterResult;
+import com.leesuchan.account.service.dto.BulkRegisterItemResult;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * 계좌 일괄 등록 응답 DTO
+ */
+@Schema(description = "계좌 일괄 등록 응답")
+public record BulkRegisterAccountResponse(
+        @Schema(description = "요청 건수", example = "3")
+        int total,
+
+        @Schema(description = "등록 건수", example = "2")
+        int registered,
+
+        @Schema(description = "실패 건수", example = "1")
+        int failed,
+
+        @Schema(description = "실패 항목 (요청 순서, 성공 항목은 포함하지 않음)")
+        List<Failure> failures
+) {
+
+    public static BulkRegisterAccountResponse from(BulkRegisterResult result) {
+        List<Failure> failures = result.failures().stream().map(Failure::from).toList();
+        return new BulkRegisterAccountResponse(result.requested(), result.registered(), failures.size(), failures);
+    }
+
+    @Schema(description = "계좌 일괄 등록 실패 항목")
+    public record Failure(
+            @Schema(description = "요청 목록에서의 순번 (0부터)", example = "2")
+            int index,
+
+            @Schema(description = "계좌번호", example = "1234567890")
+            String accountNumber,
+
+            @Schema(description = "실패 코드", example = "ACCOUNT_002")
+            String errorCode,
+
+            @Schema(description = "실패 메시지", example = "이미 존재하는 계좌번호입니다.")
+            String message
+    ) {
+
+        static Failure from(BulkRegisterItemResult result) {
+            return new Failure(result.index(), result.accountNumber(), result.errorCode(), result.message());
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.leesuchan.service.dto.response;
+
+import com.leesuchan.account.service.dto.BulkTransferItemResult;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * 다건 이체 응답 DTO
+ */
+@Schema(description = "다건 이체 응답")
+public record BulkTransferResponse(
+        @Schema(description = "요청 건수", example = "3")
+        int total,
+
+        @Schema(description = "성공 건수", example = "2")
+        int succeeded,
+
+        @Schema(description = "실패 건수", example = "1")
+        int failed,
+
+        @Schema(description = "항목별 결과 (요청 순서)")
+        List<Item> results
+) {
+
+    public static BulkTransferResponse from(List<BulkTransferItemResult> results) {
+        List<Item> items = results.stream().map(Item::from).toList();
+        int succeeded = (int) items.stream().filter(Item::success).count();
+        return new BulkTransferResponse(items.size(), succeeded, items.size() - succeeded, items);
+    }
+
+    @Schema(description = "다건 이체 항목별 결과")
+    public record Item(
+            @Schema(description = "요청 목록에서의 순번 (0부터)", example = "0")
+            int index,
+
+            @Schema(description = "성공 여부", example = "true")
+            boolean success,
+
+            @Schema(description = "이체 수수료 (성공 시)", example = "100")
+            Long fee,
+
+            @Schema(description = "실패 코드 (실패 시)", example = "ACCOUNT_004")
+            String errorCode,
+
+            @Schema(description = "실패 메시지 (실패 시)", example = "잔액이 부족합니다.")
+            String message
+    ) {
+
+        static Item from(BulkTransferItemResult result) {
+            return new Item(result.index(), result.success(), result.fee(), result.errorCode(), result.message());
+        }
+    }
+}
@@ -1,16 +1,27 @@
 package com.leesuchan.service.web;
 
+import com.leesuchan.account.domain.exception.AccountErrorCode;
 import com.leesuchan.account.domain.exception.AccountNotFoundException;
+import com.leesuchan.account.domain.exception.DepositBatchFailedException;
 import com.leesuchan.common.response.ApiResponse;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.annotation.Order;
 import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import java.sql.SQLTransientConnectionException;
+
 /**
- * 계좌 관련 예외 처리기 (404 응답)
+ * 계좌 관련 예외 처리기
+ *
+ * <p>계좌 미조회(404), 낙관적 락 충돌(409), 묶음 입금 롤백/커넥션 풀 대기 초과(503 + Retry-After),
+ * 묶음 입금 결과 미확인/트랜잭션 시작 실패(500)를 공통 처리기보다 먼저 처리합니다.
  */
+@Slf4j
 @RestControllerAdvice
 @Order(1)
 public class AccountExceptionHandler {
@@ -34,4 +45,46 @@ public class AccountExceptionHandler {
                 .status(org.springframework.http.HttpStatus.CONFLICT)
                 .body(ApiResponse.error("OPTIMISTIC_LOCK_CONFLICT", "다른 요청과 충돌이 발생했습니다. 다시 시도해주세요."));
     }
+
+    /**
+     * 묶음 입금 실패 처리
+     *
+     * <p>리더 트랜잭션이 롤백된 경우(ACCOUNT_009)는 반영되지 않았으므로 503 + Retry-After로 응답합니다.
+     * 팔로워 대기 시간 초과(ACCOUNT_010)는 리더가 아직 커밋할 수 있어 반영 여부를 알 수 없으므로,
+     * 다시 시도하면 두 번 입금될 수 있어 Retry-After 없이 500으로 응답합니다. (거래내역 확인 후 재요청)
+     */
+    @ExceptionHandler(DepositBatchFailedException.class)
+    public ResponseEntity<ApiResponse<Void>> handleDepositBatchFailedException(DepositBatchFailedException e) {
+        if (e.getErrorCode() == AccountErrorCode.DEPOSIT_BATCH_TIMED_OUT) {
+            log.warn("묶음 입금 결과 대기 시간 초과 (반영 여부 미확인)");
+            return ResponseEntity
+                    .status(org.springframework.http.HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error(e.getErrorCode()));
+        }
+        return ResponseEntity
+                .status(org.springframework.http.HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(ApiResponse.error(e.getErrorCode()));
+    }
+
+    /**
+     * 커넥션 풀 대기 시간 초과 처리 (503)
+     *
+     * <p>가상 스레드 모드에서는 요청 스레드 수 제한이 없으므로 커넥션 풀이 동시 처리량의 상한이 되고,
+     * connection-timeout 안에 커넥션을 받지 못한 요청(원인이 SQLTransientConnectionException)은 500 대신 503으로 응답합니다.
+     * 그 밖의 원인(인증 실패, 트랜잭션 설정 오류 등)은 다시 시도해도 해결되지 않으므로 500으로 응답합니다.
+     */
+    @ExceptionHandler(CannotCreateTransactionException.class)
+    public ResponseEntity<ApiResponse<Void>> handleCannotCreateTransactionException(CannotCreateTransactionException e) {
+        if (!e.contains(SQLTransientConnectionException.class)) {
+            log.error("트랜잭션을 시작할 수 없습니다.", e);
+            return ResponseEntity
+                    .status(org.springframework.http.HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("INTERNAL_ERROR", "서버 오류가 발생했습니다."));
+        }
+        return ResponseEntity
+                .status(org.springframework.http.HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(ApiResponse.error("SERVICE_BUSY", "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."));
+    }
 }
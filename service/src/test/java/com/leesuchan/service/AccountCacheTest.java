@@ -0,0 +1,124 @@
+package com.leesuchan.service;
+
+import com.leesuchan.account.domain.exception.AccountNotFoundException;
+import com.leesuchan.account.domain.model.Account;
+import com.leesuchan.account.domain.repository.AccountRepository;
+import com.leesuchan.account.service.DeleteAccountUseCase;
+import com.leesuchan.account.service.RegisterAccountUseCase;
+import com.leesuchan.infra.database.repository.CachingAccountRepository;
+import com.leesuchan.service.application.GetActivitiesQueryService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("계좌번호 → ID 캐시 테스트")
+class AccountCacheTest {
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private RegisterAccountUseCase registerAccountUseCase;
+
+    @Autowired
+    private DeleteAccountUseCase deleteAccountUseCase;
+
+    @Autowired
+    private GetActivitiesQueryService getActivitiesQueryService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("AccountRepository 주입 지점에는 캐시 데코레이터가 주입된다")
+    void caching_repository_is_primary() {
+        assertThat(accountRepository).isInstanceOf(CachingAccountRepository.class);
+    }
+
+    @Test
+    @DisplayName("같은 계좌번호의 두 번째 ID 조회는 캐시에서 처리되고 히트 메트릭이 증가한다")
+    void second_lookup_hits_cache() {
+        // given
+        String accountNumber = newAccountNumber();
+        registerAccountUseCase.execute(accountNumber, "캐시 테스트 계좌");
+        double hitsBefore = cacheGets("hit");
+
+        // when
+        Optional<Long> first = accountRepository.findIdByAccountNumber(accountNumber);
+        Optional<Long> second = accountRepository.findIdByAccountNumber(accountNumber);
+
+        // then
+        assertThat(second).isEqualTo(first).isPresent();
+        assertThat(cacheGets("hit") - hitsBefore).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("잔액 변경 저장은 캐시를 무효화하지 않는다")
+    void balance_save_keeps_cache() {
+        // given
+        String accountNumber = newAccountNumber();
+        Account account = registerAccountUseCase.execute(accountNumber, "캐시 테스트 계좌");
+        accountRepository.findIdByAccountNumber(accountNumber); // 캐시 적재
+        double hitsBefore = cacheGets("hit");
+
+        // when
+        account.deposit(1000L);
+        accountRepository.save(account);
+
+        // then
+        assertThat(accountRepository.findIdByAccountNumber(accountNumber)).contains(account.getId());
+        assertThat(cacheGets("hit") - hitsBefore).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("계좌를 삭제하면 캐시가 무효화되어 거래내역 조회가 404가 된다")
+    void delete_invalidates_cache() {
+        // given
+        String accountNumber = newAccountNumber();
+        registerAccountUseCase.execute(accountNumber, "캐시 테스트 계좌");
+        getActivitiesQueryService.execute(accountNumber); // 캐시 적재
+
+        // when
+        deleteAccountUseCase.execute(accountNumber);
+
+        // then
+        assertThatThrownBy(() -> getActivitiesQueryService.execute(accountNumber))
+                .isInstanceOf(AccountNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("없는 계좌는 캐시하지 않아 등록 직후 바로 조회된다")
+    void missing_account_is_not_cached() {
+        // given
+        String accountNumber = newAccountNumber();
+        assertThat(accountRepository.findIdByAccountNumber(accountNumber)).isEmpty();
+
+        // when
+        registerAccountUseCase.execute(accountNumber, "캐시 테스트 계좌");
+
+        // then
+        assertThat(accountRepository.findIdByAccountNumber(accountNumber)).isPresent();
+    }
+
+    private double cacheGets(String result) {
+        return meterRegistry.get("cache.gets")
+                .tag("cache", CachingAccountRepository.CACHE_NAME)
+                .tag("result", result)
+                .functionCounter()
+                .count();
+    }
+
+    private String newAccountNumber() {
+        return "K" + System.nanoTime() % 1_000_000_000L;
+    }
+}
@@ -1,5 +1,6 @@
 package com.leesuchan.service;
 
+import com.leesuchan.account.domain.exception.DepositBatchFailedException;
 import com.leesuchan.service.application.GetAccountQueryService;
 import com.leesuchan.service.dto.response.AccountResponse;
 import org.junit.jupiter.api.BeforeEach;
@@ -12,6 +13,10 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.sql.SQLNonTransientConnectionException;
+import java.sql.SQLTransientConnectionException;
 
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
@@ -77,4 +82,63 @@ class AccountExceptionHandlerE2ETest {
 
         verify(getAccountQueryService).execute(accountNumber);
     }
+
+    @Test
+    @DisplayName("커넥션 풀 대기 시간 초과로 트랜잭션을 시작하지 못하면 503과 Retry-After를 반환한다")
+    void connection_pool_timeout_returns_503() throws Exception {
+        // given
+        String accountNumber = "1234567890";
+        when(getAccountQueryService.execute(accountNumber)).thenThrow(new CannotCreateTransactionException(
+                "Could not open JPA EntityManager for transaction",
+                new SQLTransientConnectionException("HikariPool-1 - Connection is not available, request timed out after 3000ms.")));
+
+        // when & then
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/accounts/{accountNumber}", accountNumber))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "1"))
+                .andExpect(jsonPath("$.status.code").value("SERVICE_BUSY"));
+    }
+
+    @Test
+    @DisplayName("커넥션 풀 대기 시간 초과가 아닌 이유로 트랜잭션을 시작하지 못하면 500을 반환한다")
+    void other_transaction_start_failure_returns_500() throws Exception {
+        // given
+        String accountNumber = "1234567890";
+        when(getAccountQueryService.execute(accountNumber)).thenThrow(new CannotCreateTransactionException(
+                "Could not open JPA EntityManager for transaction",
+                new SQLNonTransientConnectionException("Access denied for user")));
+
+        // when & then
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/accounts/{accountNumber}", accountNumber))
+                .andExpect(status().isInternalServerError())
+                .andExpect(jsonPath("$.status.code").value("INTERNAL_ERROR"));
+    }
+
+    @Test
+    @DisplayName("묶음 입금 리더 트랜잭션이 롤백되면 503과 Retry-After를 반환한다")
+    void deposit_batch_rolled_back_returns_503() throws Exception {
+        // given
+        String accountNumber = "1234567890";
+        when(getAccountQueryService.execute(accountNumber)).thenThrow(DepositBatchFailedException.rolledBack());
+
+        // when & then
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/accounts/{accountNumber}", accountNumber))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "1"))
+                .andExpect(jsonPath("$.status.code").value("ACCOUNT_009"));
+    }
+
+    @Test
+    @DisplayName("묶음 입금 결과 대기 시간이 초과되면 반영 여부를 알 수 없으므로 Retry-After 없이 500을 반환한다")
+    void deposit_batch_timed_out_returns_500_without_retry_after() throws Exception {
+        // given
+        String accountNumber = "1234567890";
+        when(getAccountQueryService.execute(accountNumber)).thenThrow(DepositBatchFailedException.timedOut());
+
+        // when & then
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/accounts/{accountNumber}", accountNumber))
+                .andExpect(status().isInternalServerError())
+                .andExpect(header().doesNotExist("Retry-After"))
+                .andExpect(jsonPath("$.status.code").value("ACCOUNT_010"));
+    }
 }
@@ -0,0 +1,105 @@
+package com.leesuchan.service;
+
+import com.leesuchan.account.domain.model.Account;
+import com.leesuchan.account.domain.model.AccountLimitTier;
+import com.leesuchan.account.domain.repository.AccountLimitTierRepository;
+import com.leesuchan.account.domain.repository.AccountRepository;
+import com.leesuchan.service.config.AccountConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("계좌 한도 등급 E2E 테스트")
+class AccountLimitTierE2ETest {
+
+    private static final AtomicLong ACCOUNT_SEQUENCE = new AtomicLong(System.currentTimeMillis() % 1_000_000_000L);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private AccountLimitTierRepository accountLimitTierRepository;
+
+    @Autowired
+    private AccountConfig accountConfig;
+
+    @Test
+    @DisplayName("등급 테이블을 다시 읽으면 재시작 없이 등급 계좌의 출금 한도가 바뀐다")
+    void tier_limit_applied_after_reload() throws Exception {
+        // given
+        accountLimitTierRepository.save(AccountLimitTier.of("E2E_VIP", 2_000_000L, 5_000_000L));
+        Account vip = createAccount("E2E_VIP");
+        Account normal = createAccount(null);
+        accountConfig.reloadLimits();
+
+        // when & then
+        withdraw(vip, 1_500_000L)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.balance").value(1_500_000));
+        withdraw(normal, 1_500_000L)
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status.code").value("ACCOUNT_005"));
+    }
+
+    @Test
+    @DisplayName("조건부 출금 UPDATE는 등급 테이블의 한도를 같은 문장에서 적용한다")
+    void conditional_withdraw_uses_tier_limit() {
+        // given
+        accountLimitTierRepository.save(AccountLimitTier.of("E2E_GOLD", 1_800_000L, 5_000_000L));
+        Account gold = createAccount("E2E_GOLD");
+        Account normal = createAccount(null);
+
+        // when
+        int goldUpdated = accountRepository.decreaseBalanceWithinDailyWithdrawLimit(
+                gold.getAccountNumber(), 1_500_000L, 1_000_000L, LocalDate.now(), LocalDateTime.now());
+        int normalUpdated = accountRepository.decreaseBalanceWithinDailyWithdrawLimit(
+                normal.getAccountNumber(), 1_500_000L, 1_000_000L, LocalDate.now(), LocalDateTime.now());
+
+        // then
+        assertThat(goldUpdated).isEqualTo(1);
+        assertThat(normalUpdated).isZero();
+        assertThat(accountRepository.findByAccountNumber(gold.getAccountNumber())).get()
+                .extracting(Account::getBalance).isEqualTo(1_500_000L);
+    }
+
+    private ResultActions withdraw(Account account, long amount) throws Exception {
+        MvcResult started = mockMvc.perform(MockMvcRequestBuilders.post("/api/v1/transactions/withdraw")
+                        .contentType("application/json")
+                        .content("""
+                                {
+                                    "accountNumber": "%s",
+                                    "amount": %d
+                                }
+                                """.formatted(account.getAccountNumber(), amount)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(started));
+    }
+
+    private Account createAccount(String limitTier) {
+        Account account = Account.create("L" + ACCOUNT_SEQUENCE.incrementAndGet(), "한도 등급 테스트 계좌");
+        account.deposit(3_000_000L);
+        account.changeLimitTier(limitTier);
+        return accountRepository.save(account);
+    }
+}
@@ -0,0 +1,112 @@
+package com.leesuchan.service;
+
+import com.leesuchan.account.domain.model.AccountSummary;
+import com.leesuchan.account.domain.repository.AccountRepository;
+import com.leesuchan.account.service.DeleteAccountUseCase;
+import com.leesuchan.account.service.RegisterAccountUseCase;
+import com.leesuchan.service.application.GetAccountsQueryService;
+import com.leesuchan.service.dto.response.AccountResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("계좌 조회 프로젝션 읽기 모델 테스트")
+class AccountReadModelTest {
+
+    private static final AtomicLong ACCOUNT_SEQUENCE = new AtomicLong(System.currentTimeMillis() % 1_000_000_000L);
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private RegisterAccountUseCase registerAccountUseCase;
+
+    @Autowired
+    private DeleteAccountUseCase deleteAccountUseCase;
+
+    @Autowired
+    private GetAccountsQueryService getAccountsQueryService;
+
+    @Test
+    @DisplayName("계좌번호로 프로젝션을 조회하면 응답에 필요한 컬럼이 모두 채워진다")
+    void find_summary_by_account_number() {
+        // given
+        String accountNumber = newAccountNumber();
+        registerAccountUseCase.execute(accountNumber, "프로젝션 계좌");
+
+        // when
+        Optional<AccountSummary> summary = accountRepository.findSummaryByAccountNumber(accountNumber);
+
+        // then
+        assertThat(summary).isPresent();
+        assertThat(summary.get().id()).isNotNull();
+        assertThat(summary.get().accountName()).isEqualTo("프로젝션 계좌");
+        assertThat(summary.get().balance()).isZero();
+        assertThat(summary.get().createdAt()).isNotNull();
+        assertThat(summary.get().updatedAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("삭제된 계좌는 프로젝션 조회에서 제외된다")
+    void deleted_account_is_excluded_from_summary() {
+        // given
+        String accountNumber = newAccountNumber();
+        registerAccountUseCase.execute(accountNumber, "삭제 계좌");
+        deleteAccountUseCase.execute(accountNumber);
+
+        // when
+        Optional<AccountSummary> summary = accountRepository.findSummaryByAccountNumber(accountNumber);
+
+        // then
+        assertThat(summary).isEmpty();
+    }
+
+    @Test
+    @DisplayName("슬라이스 조회는 전체 건수 없이 다음 페이지 존재 여부만 반환한다")
+    void slice_reports_has_next_without_total() {
+        // given
+        registerAccountUseCase.execute(newAccountNumber(), "슬라이스 계좌 1");
+        registerAccountUseCase.execute(newAccountNumber(), "슬라이스 계좌 2");
+
+        // when
+        Slice<AccountResponse> slice = getAccountsQueryService.executeSlice(PageRequest.of(0, 1));
+
+        // then
+        assertThat(slice).isNotInstanceOf(Page.class);
+        assertThat(slice.getContent()).hasSize(1);
+        assertThat(slice.hasNext()).isTrue();
+    }
+
+    @Test
+    @DisplayName("페이지 조회는 프로젝션으로 목록과 전체 건수를 반환한다")
+    void page_returns_summaries_with_total() {
+        // given
+        registerAccountUseCase.execute(newAccountNumber(), "페이지 계좌");
+
+        // when
+        Page<AccountResponse> page = getAccountsQueryService.execute(PageRequest.of(0, 5));
+
+        // then
+        assertThat(page.getTotalElements()).isPositive();
+        assertThat(page.getContent()).isNotEmpty().allSatisfy(response -> {
+            assertThat(response.id()).isNotNull();
+            assertThat(response.accountNumber()).isNotBlank();
+        });
+    }
+
+    private String newAccountNumber() {
+        return "R" + ACCOUNT_SEQUENCE.incrementAndGet();
+    }
+}
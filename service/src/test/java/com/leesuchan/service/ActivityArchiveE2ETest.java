@@ -0,0 +1,229 @@
+package com.leesuchan.service;
+
+import com.leesuchan.account.domain.model.Account;
+import com.leesuchan.account.domain.repository.AccountRepository;
+import com.leesuchan.activity.service.ActivityRecordService;
+import com.leesuchan.infra.database.archive.ActivityArchive;
+import com.leesuchan.infra.database.archive.ActivityArchiver;
+import com.leesuchan.service.application.GetActivitiesQueryService;
+import com.leesuchan.service.dto.response.ActivityPageResponse;
+import com.leesuchan.service.dto.response.ActivityResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import javax.sql.DataSource;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * 보관 기간(기본 365일)이 지난 두 달치 거래내역을 직접 넣고 아카이브한 뒤,
+ * MySQL(H2)에는 최근 거래내역만 남아도 조회 API가 아카이브 거래내역까지 함께 반환하는지 확인합니다.
+ * (이 인스턴스가 작성 인스턴스이고, purge 대기 없이 바로 삭제)
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:archive_testdb;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "activity.archive.enabled=true",
+        "activity.archive.writer=true",
+        "activity.archive.purge=true",
+        "activity.archive.purge-delay=0s",
+        "activity.archive.delete-batch-size=2"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DirtiesContext
+@DisplayName("거래내역 아카이브 E2E 테스트")
+class ActivityArchiveE2ETest {
+
+    private static final String INSERT_ACTIVITY = "INSERT INTO activity "
+            + "(id, account_id, activity_type, amount, fee, balance_after, created_at) "
+            + "VALUES (?, ?, 'DEPOSIT', ?, 0, ?, ?)";
+
+    @TempDir
+    static Path archiveDirectory;
+
+    @DynamicPropertySource
+    static void archiveProperties(DynamicPropertyRegistry registry) {
+        registry.add("activity.archive.directory", () -> archiveDirectory.toString());
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private ActivityRecordService activityRecordService;
+
+    @Autowired
+    private GetActivitiesQueryService getActivitiesQueryService;
+
+    @Autowired
+    private ActivityArchiver activityArchiver;
+
+    @Autowired
+    private ActivityArchive activityArchive;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    @DisplayName("아카이브한 거래내역은 MySQL에서 삭제되고, 목록/커서/시점 잔액 조회는 아카이브까지 함께 읽는다")
+    void archive_and_read_through() throws Exception {
+        // given: 14개월 전 3건, 13개월 전 2건, 방금 1건
+        Account account = accountRepository.save(Account.create("R" + System.nanoTime() % 1_000_000_000L, "아카이브 테스트 계좌"));
+        YearMonth older = YearMonth.now().minusMonths(14);
+        YearMonth old = YearMonth.now().minusMonths(13);
+        insertActivity(910_000_001L, account, 1000L, older.atDay(1).atTime(9, 0));
+        insertActivity(910_000_002L, account, 2000L, older.atDay(15).atTime(9, 0));
+        insertActivity(910_000_003L, account, 3000L, older.atEndOfMonth().atTime(23, 59, 59));
+        insertActivity(910_000_004L, account, 4000L, old.atDay(1).atStartOfDay());
+        insertActivity(910_000_005L, account, 5000L, old.atDay(2).atTime(12, 0));
+        activityRecordService.recordDeposit(account.getId(), 1000L, 16000L);
+
+        // when
+        int archivedMonths = activityArchiver.archive(LocalDate.now());
+
+        // then: 두 달이 세그먼트로 옮겨지고 MySQL에는 최근 1건만 남음
+        assertThat(archivedMonths).isEqualTo(2);
+        assertThat(activityArchive.segment(older)).isPresent();
+        assertThat(activityArchive.segment(old)).isPresent();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM activity WHERE account_id = ?", Long.class, account.getId())).isEqualTo(1L);
+        assertThat(activityArchiver.archive(LocalDate.now())).isZero();
+
+        // then: 최신 페이지 (limit 없음)
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/activities/{accountNumber}", account.getAccountNumber()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.activities.length()").value(6))
+                .andExpect(jsonPath("$.data.activities[{i}].balanceAfter").value(16000))
+                .andExpect(jsonPath("$.data.activities[{i}].balanceAfter").value(1000));
+
+        // then: 커서 페이지 (MySQL → 아카이브로 이어짐)
+        List<Long> balances = new ArrayList<>();
+        String cursor = null;
+        do {
+            ActivityPageResponse page = getActivitiesQueryService.execute(account.getAccountNumber(), 2, cursor);
+            page.activities().stream().map(ActivityResponse::balanceAfter).forEach(balances::add);
+            cursor = page.nextCursor();
+        } while (cursor != null);
+        assertThat(balances).containsExactly(16000L, 5000L, 4000L, 3000L, 2000L, 1000L);
+
+        // then: 아카이브 구간 시점 잔액
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/accounts/{accountNumber}/balance", account.getAccountNumber())
+                        .param("at", older.atDay(20).atStartOfDay().toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.balance").value(2000));
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/accounts/{accountNumber}/balance", account.getAccountNumber())
+                        .param("at", old.atEndOfMonth().atStartOfDay().toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.balance").value(5000));
+    }
+
+    @Test
+    @DisplayName("아카이브한 달에 늦게 들어온 거래내역은 다음 아카이브 때 그 달 세그먼트에 병합되고, 아카이브는 멈추지 않는다")
+    void late_row_is_merged_into_archived_month() throws Exception {
+        // given: 16개월 전 1건을 아카이브한 뒤, 같은 달(더 이른 시각)에 1건이 늦게 들어오고 15개월 전 1건이 추가됨
+        Account account = accountRepository.save(Account.create("L" + System.nanoTime() % 1_000_000_000L, "늦은 거래 테스트 계좌"));
+        YearMonth month = YearMonth.now().minusMonths(16);
+        insertActivity(920_000_001L, account, 1000L, month.atDay(10).atStartOfDay());
+        activityArchiver.archive(LocalDate.now());
+        insertActivity(920_000_002L, account, 500L, month.atDay(5).atStartOfDay());
+        insertActivity(920_000_003L, account, 3000L, month.plusMonths(1).atDay(1).atStartOfDay());
+
+        // when
+        activityArchiver.archive(LocalDate.now());
+
+        // then: 늦은 행이 세그먼트에 병합되어 MySQL에서 삭제되고, 다음 달도 아카이브됨
+        assertThat(activityArchive.segment(month)).get()
+                .extracting(segment -> segment.getRowCount()).isEqualTo(2L);
+        assertThat(activityArchive.segment(month.plusMonths(1))).isPresent();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM activity WHERE account_id = ?", Long.class, account.getId())).isZero();
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/activities/{accountNumber}", account.getAccountNumber()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.activities.length()").value(3))
+                .andExpect(jsonPath("$.data.activities[{i}].balanceAfter").value(3000))
+                .andExpect(jsonPath("$.data.activities[{i}].balanceAfter").value(1000))
+                .andExpect(jsonPath("$.data.activities[{i}].balanceAfter").value(500));
+    }
+
+    @Test
+    @DisplayName("purge를 끄면 세그먼트만 만들고 MySQL 행은 남겨 두며, 늦게 들어온 행도 다시 seal해 반영한다")
+    void without_purge_rows_stay_in_mysql(@TempDir Path keepDirectory) {
+        // given: 별도 디렉터리에 purge 없이 아카이브하는 작성기, 20개월 전 1건
+        Account account = accountRepository.save(Account.create("K" + System.nanoTime() % 1_000_000_000L, "보존 테스트 계좌"));
+        YearMonth month = YearMonth.now().minusMonths(20);
+        ActivityArchive keepArchive = new ActivityArchive(keepDirectory);
+        ActivityArchiver keeper = new ActivityArchiver(dataSource, keepArchive, Duration.ofDays(365), 2, false, Duration.ZERO, Duration.ofDays(1));
+        insertActivity(930_000_001L, account, 1000L, month.atDay(10).atStartOfDay());
+
+        try {
+            // when
+            keeper.archive(LocalDate.now());
+            insertActivity(930_000_002L, account, 2000L, month.atDay(20).atStartOfDay());
+            keeper.archive(LocalDate.now());
+
+            // then
+            assertThat(keepArchive.segment(month)).get()
+                    .extracting(segment -> segment.getRowCount()).isEqualTo(2L);
+            assertThat(jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM activity WHERE account_id = ?", Long.class, account.getId())).isEqualTo(2L);
+        } finally {
+            // 다른 테스트의 아카이브 대상 달 수에 영향을 주지 않도록 정리
+            jdbcTemplate.update("DELETE FROM activity WHERE account_id = ?", account.getId());
+        }
+    }
+
+    @Test
+    @DisplayName("purge를 끈 달은 late-row-window가 지난 뒤 늦은 행이 없음을 확인하면 다시 세지 않는다")
+    void without_purge_settled_month_is_not_recounted(@TempDir Path keepDirectory) {
+        // given: 늦은 행 대기 기간이 0인 작성기, 21개월 전 1건
+        Account account = accountRepository.save(Account.create("S" + System.nanoTime() % 1_000_000_000L, "확정 테스트 계좌"));
+        YearMonth month = YearMonth.now().minusMonths(21);
+        ActivityArchive keepArchive = new ActivityArchive(keepDirectory);
+        ActivityArchiver keeper = new ActivityArchiver(dataSource, keepArchive, Duration.ofDays(365), 2, false, Duration.ZERO, Duration.ZERO);
+        insertActivity(940_000_001L, account, 1000L, month.atDay(10).atStartOfDay());
+
+        try {
+            // when: 아카이브 후 다음 실행에서 늦은 행이 없음을 확인(확정)한 뒤 늦은 행이 들어옴
+            keeper.archive(LocalDate.now());
+            keeper.archive(LocalDate.now());
+            insertActivity(940_000_002L, account, 2000L, month.atDay(20).atStartOfDay());
+            keeper.archive(LocalDate.now());
+
+            // then: 확정된 달은 다시 세지 않으므로 세그먼트는 그대로
+            assertThat(keepArchive.segment(month)).get()
+                    .extracting(segment -> segment.getRowCount()).isEqualTo(1L);
+        } finally {
+            jdbcTemplate.update("DELETE FROM activity WHERE account_id = ?", account.getId());
+        }
+    }
+
+    private void insertActivity(Long id, Account account, Long balanceAfter, LocalDateTime createdAt) {
+        jdbcTemplate.update(INSERT_ACTIVITY, id, account.getId(), 1000L, balanceAfter, createdAt);
+    }
+}
@@ -0,0 +1,184 @@
+package com.leesuchan.service;
+
+import com.leesuchan.activity.domain.model.Activity;
+import com.leesuchan.activity.domain.model.ActivityType;
+import com.leesuchan.infra.database.archive.ActivityArchive;
+import com.leesuchan.infra.database.archive.ActivitySegment;
+import com.leesuchan.infra.database.archive.ActivitySegmentWriter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("거래내역 아카이브 세그먼트 테스트")
+class ActivityArchiveTest {
+
+    private static final YearMonth JANUARY = YearMonth.of(2025, 1);
+    private static final YearMonth FEBRUARY = YearMonth.of(2025, 2);
+    private static final YearMonth MARCH = YearMonth.of(2025, 3);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("여러 블록에 걸친 계좌의 거래내역을 모든 필드 그대로 오래된 순으로 읽는다")
+    void write_and_read_segment() {
+        // given: 계좌 2의 거래내역 600건이 여러 블록에 걸쳐 저장됨
+        List<Activity> written = new ArrayList<>();
+        written.add(activity(1L, 1L, JANUARY.atDay(3).atTime(9, 0), 1000L));
+        for (long i = 0; i < 600; i++) {
+            written.add(activity(100L + i, 2L, JANUARY.atDay(1).atStartOfDay().plusMinutes(i), 100L * (i + 1)));
+        }
+        written.add(Activity.restore(900L, 3L, ActivityType.TRANSFER_OUT, 5000L, 50L, 0L,
+                2L, "1234567890", "월세", 77L, JANUARY.atEndOfMonth().atTime(23, 59, 59, 999_000_000)));
+        ActivitySegment segment = ActivitySegment.open(seal(JANUARY, written));
+
+        // when
+        List<Activity> account2 = new ArrayList<>();
+        segment.forEachByAccountId(2L, null, null, account2::add);
+        List<Activity> account3 = new ArrayList<>();
+        segment.forEachByAccountId(3L, null, null, account3::add);
+        List<Activity> missing = new ArrayList<>();
+        segment.forEachByAccountId(4L, null, null, missing::add);
+
+        // then
+        assertThat(segment.getRowCount()).isEqualTo(602L);
+        assertThat(account2).hasSize(600);
+        assertThat(account2).extracting(Activity::getId).isSorted();
+        assertThat(account2.get(599).getBalanceAfter()).isEqualTo(60000L);
+        assertThat(account2.get(0).getTransactionReference()).isNull();
+        assertThat(account2.get(0).getDescription()).isNull();
+        assertThat(missing).isEmpty();
+
+        Activity transfer = account3.get(0);
+        assertThat(transfer.getActivityType()).isEqualTo(ActivityType.TRANSFER_OUT);
+        assertThat(transfer.getFee()).isEqualTo(50L);
+        assertThat(transfer.getTransactionReference().getAccountId()).isEqualTo(2L);
+        assertThat(transfer.getTransactionReference().getAccountNumber()).isEqualTo("1234567890");
+        assertThat(transfer.getDescription()).isEqualTo("월세");
+        assertThat(transfer.getTransactionId()).isEqualTo(77L);
+        assertThat(transfer.getCreatedAt()).isEqualTo(JANUARY.atEndOfMonth().atTime(23, 59, 59, 999_000_000));
+    }
+
+    @Test
+    @DisplayName("정렬 순서가 어긋나거나 다른 달의 거래내역은 추가할 수 없다")
+    void reject_unordered_or_other_month() {
+        try (ActivitySegmentWriter writer = new ActivitySegmentWriter(directory, JANUARY)) {
+            writer.append(activity(2L, 2L, JANUARY.atDay(1).atStartOfDay(), 100L));
+
+            assertThatThrownBy(() -> writer.append(activity(1L, 1L, JANUARY.atDay(2).atStartOfDay(), 100L)))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> writer.append(activity(3L, 2L, FEBRUARY.atDay(1).atStartOfDay(), 100L)))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        // seal 전에 닫으면 임시 파일이 남지 않음
+        assertThat(directory.toFile().list()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("여러 달 세그먼트에 걸쳐 최신순 키셋 조회, 구간 내 마지막 거래, 거래 계좌 조회를 한다")
+    void query_across_months() {
+        // given
+        ActivityArchive archive = new ActivityArchive(directory);
+        archive.register(seal(JANUARY, List.of(
+                activity(1L, 1L, JANUARY.atDay(10).atStartOfDay(), 1000L),
+                activity(2L, 1L, JANUARY.atDay(20).atStartOfDay(), 2000L),
+                activity(3L, 5L, JANUARY.atDay(5).atStartOfDay(), 500L)
+        )));
+        archive.register(seal(FEBRUARY, List.of(
+                activity(4L, 1L, FEBRUARY.atDay(1).atStartOfDay(), 3000L),
+                activity(5L, 1L, FEBRUARY.atDay(1).atStartOfDay(), 4000L)
+        )));
+
+        // when
+        List<Activity> firstPage = archive.findByAccountIdBefore(1L, null, null, 3);
+        List<Activity> nextPage = archive.findByAccountIdBefore(1L, firstPage.get(2).getCreatedAt(), firstPage.get(2).getId(), 3);
+
+        // then
+        assertThat(archive.horizon()).isEqualTo(LocalDateTime.of(2025, 3, 1, 0, 0));
+        assertThat(firstPage).extracting(Activity::getId).containsExactly(5L, 4L, 2L);
+        assertThat(nextPage).extracting(Activity::getId).containsExactly(1L);
+        assertThat(archive.findLatestBetween(1L, null, JANUARY.atDay(31).atStartOfDay()))
+                .get().extracting(Activity::getBalanceAfter).isEqualTo(2000L);
+        assertThat(archive.findLatestBetween(1L, JANUARY.atDay(20).atStartOfDay(), JANUARY.atDay(31).atStartOfDay())).isEmpty();
+        assertThat(archive.findAccountIdsBetween(null, FEBRUARY.atDay(28).atStartOfDay(), null, 10)).containsExactly(1L, 5L);
+        assertThat(archive.findAccountIdsBetween(null, FEBRUARY.atDay(28).atStartOfDay(), 1L, 10)).containsExactly(5L);
+    }
+
+    @Test
+    @DisplayName("재시작 시 seal된 세그먼트만 다시 읽고, 작성 중이던 임시 파일은 지운다")
+    void reload_sealed_segments_only() throws Exception {
+        // given
+        seal(JANUARY, List.of(activity(1L, 1L, JANUARY.atDay(1).atStartOfDay(), 1000L)));
+        Path leftover = directory.resolve("activity-202502.seg.tmp");
+        Files.writeString(leftover, "partial");
+
+        // when
+        ActivityArchive archive = new ActivityArchive(directory);
+
+        // then
+        assertThat(archive.segment(JANUARY)).isPresent();
+        assertThat(archive.segment(FEBRUARY)).isEmpty();
+        assertThat(archive.horizon()).isEqualTo(LocalDateTime.of(2025, 2, 1, 0, 0));
+        assertThat(leftover).doesNotExist();
+        assertThatThrownBy(() -> archive.register(seal(JANUARY.minusMonths(1), List.of(
+                activity(9L, 1L, JANUARY.minusMonths(1).atDay(1).atStartOfDay(), 100L)))))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("읽기 전용 아카이브는 작성 중인 임시 파일을 건드리지 않고, refresh로 새로 seal되거나 다시 seal된 세그먼트를 반영한다")
+    void reader_refreshes_sealed_segments() throws Exception {
+        // given: 작성 인스턴스가 1월을 seal하고 2월을 작성하는 중
+        ActivityArchive writer = new ActivityArchive(directory);
+        writer.register(seal(JANUARY, List.of(activity(1L, 1L, JANUARY.atDay(10).atStartOfDay(), 1000L))));
+        Path inProgress = directory.resolve("activity-202502.seg.tmp");
+        Files.writeString(inProgress, "partial");
+        ActivityArchive reader = new ActivityArchive(directory, false);
+        assertThat(inProgress).exists();
+        assertThat(reader.horizon()).isEqualTo(LocalDateTime.of(2025, 2, 1, 0, 0));
+
+        // when: 2월을 seal하고, 1월에 늦게 들어온 거래내역을 병합해 다시 seal
+        writer.register(seal(FEBRUARY, List.of(activity(3L, 1L, FEBRUARY.atDay(1).atStartOfDay(), 3000L))));
+        Path january = writer.replace(seal(JANUARY, List.of(
+                activity(2L, 1L, JANUARY.atDay(5).atStartOfDay(), 500L),
+                activity(1L, 1L, JANUARY.atDay(10).atStartOfDay(), 1000L)
+        ))).getPath();
+        // 같은 밀리초 안에 다시 seal해도 수정 시각이 달라지도록 시간 경과를 흉내 냄
+        Files.setLastModifiedTime(january, FileTime.from(Instant.now().plusSeconds(1)));
+        int opened = reader.refresh();
+
+        // then
+        assertThat(opened).isEqualTo(2);
+        assertThat(reader.horizon()).isEqualTo(LocalDateTime.of(2025, 3, 1, 0, 0));
+        assertThat(reader.findByAccountIdBefore(1L, null, null, 10)).extracting(Activity::getId).containsExactly(3L, 1L, 2L);
+        assertThat(reader.refresh()).isZero();
+        assertThatThrownBy(() -> writer.replace(seal(MARCH, List.of(
+                activity(4L, 1L, MARCH.atDay(1).atStartOfDay(), 4000L)))))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private Path seal(YearMonth month, List<Activity> activities) {
+        try (ActivitySegmentWriter writer = new ActivitySegmentWriter(directory, month)) {
+            activities.forEach(writer::append);
+            return writer.seal();
+        }
+    }
+
+    private static Activity activity(Long id, Long accountId, LocalDateTime createdAt, Long balanceAfter) {
+        return Activity.restore(id, accountId, ActivityType.DEPOSIT, 100L, 0L, balanceAfter,
+                null, null, null, null, createdAt);
+    }
+}
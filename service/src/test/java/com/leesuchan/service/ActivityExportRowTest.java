@@ -0,0 +1,40 @@
+package com.leesuchan.service;
+
+import com.leesuchan.activity.domain.model.ActivityType;
+import com.leesuchan.service.dto.response.ActivityExportRow;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ActivityExportRow 테스트")
+class ActivityExportRowTest {
+
+    @Test
+    @DisplayName("CSV 행으로 변환하며 null은 빈 값으로 쓴다")
+    void to_csv_line() {
+        // given
+        ActivityExportRow row = new ActivityExportRow(
+                1L, ActivityType.DEPOSIT, 10000L, 0L, 10000L, null, null, null,
+                LocalDateTime.of(2026, 1, 1, 12, 0, 0)
+        );
+
+        // when & then
+        assertThat(row.toCsvLine()).isEqualTo("1,DEPOSIT,10000,0,10000,,,,2026-01-01T12:00");
+    }
+
+    @Test
+    @DisplayName("쉼표나 따옴표가 포함된 값은 따옴표로 감싸고 따옴표는 두 번 쓴다")
+    void to_csv_line_escapes_special_characters() {
+        // given
+        ActivityExportRow row = new ActivityExportRow(
+                1L, ActivityType.TRANSFER_OUT, 10000L, 100L, 39900L, "0987654321", "월세, \"3월\"", "1",
+                LocalDateTime.of(2026, 1, 1, 12, 0, 0)
+        );
+
+        // when & then
+        assertThat(row.toCsvLine()).contains(",\"월세, \"\"3월\"\"\",1,");
+    }
+}
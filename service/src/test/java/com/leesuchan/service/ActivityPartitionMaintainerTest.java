@@ -0,0 +1,126 @@
+package com.leesuchan.service;
+
+import com.leesuchan.infra.database.partition.ActivityPartitionMaintainer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@DisplayName("ActivityPartitionMaintainer 테스트")
+class ActivityPartitionMaintainerTest {
+
+    @Test
+    @DisplayName("pmax를 월 파티션들과 새 pmax로 나누는 DDL을 만든다 (연도 경계 포함)")
+    void reorganize_statement_splits_max_partition_by_month() {
+        // when
+        String ddl = ActivityPartitionMaintainer.reorganizeStatement(YearMonth.of(2026, 11), YearMonth.of(2027, 1));
+
+        // then
+        assertThat(ddl).isEqualTo("ALTER TABLE activity REORGANIZE PARTITION pmax INTO ("
+                + "PARTITION p202611 VALUES LESS THAN ('2026-12-01'), "
+                + "PARTITION p202612 VALUES LESS THAN ('2027-01-01'), "
+                + "PARTITION p202701 VALUES LESS THAN ('2027-02-01'), "
+                + "PARTITION pmax VALUES LESS THAN (MAXVALUE))");
+    }
+
+    @Test
+    @DisplayName("한 달만 만들 때는 월 파티션 하나와 pmax로 나눈다")
+    void reorganize_statement_single_month() {
+        // when
+        String ddl = ActivityPartitionMaintainer.reorganizeStatement(YearMonth.of(2026, 10), YearMonth.of(2026, 10));
+
+        // then
+        assertThat(ddl).isEqualTo("ALTER TABLE activity REORGANIZE PARTITION pmax INTO ("
+                + "PARTITION p202610 VALUES LESS THAN ('2026-11-01'), "
+                + "PARTITION pmax VALUES LESS THAN (MAXVALUE))");
+    }
+
+    @Test
+    @DisplayName("마지막 월 파티션 다음 달부터 months-ahead개월 뒤까지 없는 파티션을 만든다")
+    void ensure_partitions_creates_missing_future_months() throws Exception {
+        // given: p202610까지 있고, 오늘(2026-10-17) 기준 2개월 뒤까지 필요
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        givenPartitions(jdbcTemplate,
+                "p_history", "'2026-09-01 00:00:00'",
+                "p202609", "'2026-10-01 00:00:00'",
+                "p202610", "'2026-11-01 00:00:00'",
+                "pmax", "MAXVALUE");
+        ActivityPartitionMaintainer maintainer = new ActivityPartitionMaintainer(jdbcTemplate, 2);
+
+        // when
+        int created = maintainer.ensurePartitions(LocalDate.of(2026, 10, 17));
+
+        // then: 11월, 12월 두 개를 한 번의 REORGANIZE로 생성
+        assertThat(created).isEqualTo(2);
+        verify(jdbcTemplate).execute(ActivityPartitionMaintainer.reorganizeStatement(YearMonth.of(2026, 11), YearMonth.of(2026, 12)));
+    }
+
+    @Test
+    @DisplayName("필요한 월 파티션이 이미 있으면 DDL을 실행하지 않는다")
+    void ensure_partitions_noop_when_months_exist() throws Exception {
+        // given: p202612까지 이미 있음
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        givenPartitions(jdbcTemplate,
+                "p202610", "'2026-11-01 00:00:00'",
+                "p202611", "'2026-12-01 00:00:00'",
+                "p202612", "'2027-01-01 00:00:00'",
+                "pmax", "MAXVALUE");
+        ActivityPartitionMaintainer maintainer = new ActivityPartitionMaintainer(jdbcTemplate, 2);
+
+        // when
+        int created = maintainer.ensurePartitions(LocalDate.of(2026, 10, 17));
+
+        // then
+        assertThat(created).isZero();
+        verify(jdbcTemplate, never()).execute(anyString());
+    }
+
+    @Test
+    @DisplayName("월 파티션 구성이 아닌 테이블이면 DDL을 실행하지 않는다")
+    void ensure_partitions_skips_unpartitioned_table() throws Exception {
+        // given
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        givenPartitions(jdbcTemplate);
+        ActivityPartitionMaintainer maintainer = new ActivityPartitionMaintainer(jdbcTemplate, 2);
+
+        // when
+        int created = maintainer.ensurePartitions(LocalDate.of(2026, 10, 17));
+
+        // then
+        assertThat(created).isZero();
+        verify(jdbcTemplate, never()).execute(anyString());
+    }
+
+    /**
+     * information_schema.PARTITIONS 조회 결과를 (이름, 상한) 쌍으로 흉내 냅니다.
+     */
+    @SuppressWarnings("unchecked")
+    private static void givenPartitions(JdbcTemplate jdbcTemplate, String... nameAndDescription) throws Exception {
+        List<ResultSet> rows = new ArrayList<>();
+        for (int i = 0; i < nameAndDescription.length; i += 2) {
+            ResultSet row = mock(ResultSet.class);
+            when(row.getString("PARTITION_NAME")).thenReturn(nameAndDescription[i]);
+            when(row.getString("PARTITION_DESCRIPTION")).thenReturn(nameAndDescription[i + 1]);
+            rows.add(row);
+        }
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class))).thenAnswer(invocation -> {
+            RowMapper<Object> rowMapper = invocation.getArgument(1);
+            List<Object> partitions = new ArrayList<>();
+            for (int i = 0; i < rows.size(); i++) {
+                partitions.add(rowMapper.mapRow(rows.get(i), i));
+            }
+            return partitions;
+        });
+    }
+}
@@ -0,0 +1,91 @@
+package com.leesuchan.service;
+
+import com.leesuchan.account.domain.model.Account;
+import com.leesuchan.account.domain.repository.AccountRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("계좌 일괄 등록 E2E 테스트")
+class BulkRegisterAccountE2ETest {
+
+    private static final AtomicLong ACCOUNT_SEQUENCE = new AtomicLong(System.currentTimeMillis() % 1_000_000_000L);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Test
+    @DisplayName("일괄 등록 API는 신규 계좌를 등록하고, 이미 있는 계좌번호/요청 내 중복/검증 실패를 행 단위로 응답한다")
+    void register_batch_api_reports_duplicates_per_row() throws Exception {
+        // given
+        String existing = newAccountNumber();
+        accountRepository.save(Account.create(existing, "기존 계좌"));
+        String first = newAccountNumber();
+        String second = newAccountNumber();
+
+        String requestBody = """
+                {
+                    "accounts": [
+                        { "accountNumber": "%1$s", "accountName": "신규 계좌 1" },
+                        { "accountNumber": "%2$s", "accountName": "이미 있는 계좌" },
+                        { "accountNumber": "%1$s", "accountName": "요청 내 중복" },
+                        { "accountNumber": "%3$s", "accountName": "" },
+                        { "accountNumber": "%4$s", "accountName": "신규 계좌 2" }
+                    ]
+                }
+                """.formatted(first, existing, newAccountNumber(), second);
+
+        // when & then
+        mockMvc.perform(MockMvcRequestBuilders.post("/api/v1/accounts/batch")
+                        .contentType("application/json")
+                        .content(requestBody))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status.success").value(true))
+                .andExpect(jsonPath("$.data.total").value(5))
+                .andExpect(jsonPath("$.data.registered").value(2))
+                .andExpect(jsonPath("$.data.failed").value(3))
+                .andExpect(jsonPath("$.data.failures[0].index").value(1))
+                .andExpect(jsonPath("$.data.failures[0].errorCode").value("ACCOUNT_002"))
+                .andExpect(jsonPath("$.data.failures[1].index").value(2))
+                .andExpect(jsonPath("$.data.failures[1].errorCode").value("ACCOUNT_002"))
+                .andExpect(jsonPath("$.data.failures[2].index").value(3))
+                .andExpect(jsonPath("$.data.failures[2].errorCode").value("ACCOUNT_003"));
+
+        assertThat(accountRepository.findByAccountNumber(first)).get()
+                .extracting(Account::getAccountName).isEqualTo("신규 계좌 1");
+        assertThat(accountRepository.findByAccountNumber(second)).get()
+                .extracting(Account::getBalance).isEqualTo(0L);
+        assertThat(accountRepository.findByAccountNumber(existing)).get()
+                .extracting(Account::getAccountName).isEqualTo("기존 계좌");
+    }
+
+    @Test
+    @DisplayName("계좌 목록이 비어있으면 400 에러가 발생한다")
+    void register_batch_empty_400() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.post("/api/v1/accounts/batch")
+                        .contentType("application/json")
+                        .content("{ \"accounts\": [] }"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status.success").value(false));
+    }
+
+    private String newAccountNumber() {
+        return "R" + ACCOUNT_SEQUENCE.incrementAndGet();
+    }
+}
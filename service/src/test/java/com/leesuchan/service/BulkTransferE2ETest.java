@@ -0,0 +1,120 @@
+package com.leesuchan.service;
+
+import com.leesuchan.account.domain.model.Account;
+import com.leesuchan.account.domain.repository.AccountRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("다건 이체 E2E 테스트")
+class BulkTransferE2ETest {
+
+    private static final AtomicLong ACCOUNT_SEQUENCE = new AtomicLong(System.currentTimeMillis() % 1_000_000_000L);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Test
+    @DisplayName("다건 이체 API는 항목별 성공/실패를 반환하고 성공한 항목만 잔액에 반영한다")
+    void transfer_batch_api_returns_per_item_results() throws Exception {
+        // given
+        Account payroll = createAccount(25_000L);
+        Account alice = createAccount(0L);
+        Account bob = createAccount(0L);
+
+        String requestBody = """
+                {
+                    "transfers": [
+                        { "fromAccountNumber": "%1$s", "toAccountNumber": "%2$s", "amount": 10000 },
+                        { "fromAccountNumber": "%1$s", "toAccountNumber": "NOT_EXISTS", "amount": 10000 },
+                        { "fromAccountNumber": "%1$s", "toAccountNumber": "%3$s", "amount": 20000 },
+                        { "fromAccountNumber": "%1$s", "toAccountNumber": "%3$s", "amount": 10000 }
+                    ]
+                }
+                """.formatted(payroll.getAccountNumber(), alice.getAccountNumber(), bob.getAccountNumber());
+
+        // when & then
+        mockMvc.perform(MockMvcRequestBuilders.post("/api/v1/transactions/transfers:batch")
+                        .contentType("application/json")
+                        .content(requestBody))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status.success").value(true))
+                .andExpect(jsonPath("$.data.total").value(4))
+                .andExpect(jsonPath("$.data.succeeded").value(2))
+                .andExpect(jsonPath("$.data.failed").value(2))
+                .andExpect(jsonPath("$.data.results[0].success").value(true))
+                .andExpect(jsonPath("$.data.results[0].fee").value(100))
+                .andExpect(jsonPath("$.data.results[1].errorCode").value("ACCOUNT_001"))
+                .andExpect(jsonPath("$.data.results[2].errorCode").value("ACCOUNT_004"))
+                .andExpect(jsonPath("$.data.results[3].success").value(true));
+
+        assertThat(balanceOf(payroll)).isEqualTo(25_000L - 2 * 10_100L);
+        assertThat(balanceOf(alice)).isEqualTo(10_000L);
+        assertThat(balanceOf(bob)).isEqualTo(10_000L);
+    }
+
+    @Test
+    @DisplayName("청크 크기를 넘는 다건 이체도 모든 항목이 순서대로 처리된다")
+    void transfer_batch_api_spans_multiple_chunks() throws Exception {
+        // given
+        int count = 1_200;
+        Account payroll = createAccount(count * 1_010L);
+        Account employee = createAccount(0L);
+
+        String items = IntStream.range(0, count)
+                .mapToObj(i -> "{ \"fromAccountNumber\": \"%s\", \"toAccountNumber\": \"%s\", \"amount\": 1000 }"
+                        .formatted(payroll.getAccountNumber(), employee.getAccountNumber()))
+                .collect(Collectors.joining(","));
+
+        // when & then
+        mockMvc.perform(MockMvcRequestBuilders.post("/api/v1/transactions/transfers:batch")
+                        .contentType("application/json")
+                        .content("{ \"transfers\": [" + items + "] }"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.succeeded").value(count))
+                .andExpect(jsonPath("$.data.results[1199].index").value(1199));
+
+        assertThat(balanceOf(payroll)).isZero();
+        assertThat(balanceOf(employee)).isEqualTo(count * 1_000L);
+    }
+
+    @Test
+    @DisplayName("이체 목록이 비어있으면 400 에러가 발생한다")
+    void transfer_batch_empty_400() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.post("/api/v1/transactions/transfers:batch")
+                        .contentType("application/json")
+                        .content("{ \"transfers\": [] }"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status.success").value(false));
+    }
+
+    private Account createAccount(long initialBalance) {
+        Account account = Account.create("B" + ACCOUNT_SEQUENCE.incrementAndGet(), "다건 이체 테스트 계좌");
+        if (initialBalance > 0) {
+            account.deposit(initialBalance);
+        }
+        return accountRepository.save(account);
+    }
+
+    private long balanceOf(Account account) {
+        return accountRepository.findByAccountNumber(account.getAccountNumber()).orElseThrow().getBalance();
+    }
+}
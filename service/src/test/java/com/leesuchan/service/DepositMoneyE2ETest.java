@@ -13,6 +13,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 
 import static org.mockito.ArgumentMatchers.*;
@@ -58,10 +59,15 @@ class DepositMoneyE2ETest {
 
         when(depositMoneyUseCase.execute("1234567890", 10000L)).thenReturn(mockAccount);
 
-        // when & then
-        mockMvc.perform(MockMvcRequestBuilders.post("/api/v1/transactions/deposit")
+        // when
+        MvcResult started = mockMvc.perform(MockMvcRequestBuilders.post("/api/v1/transactions/deposit")
                         .contentType("application/json")
                         .content(requestBody))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(started))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.status.success").value(true))
                 .andExpect(jsonPath("$.data.accountNumber").value("1234567890"))
@@ -0,0 +1,114 @@
+package com.leesuchan.service;
+
+import com.leesuchan.account.domain.model.Account;
+import com.leesuchan.account.domain.repository.AccountRepository;
+import com.leesuchan.activity.service.ActivityRecordService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("거래내역 내보내기 E2E 테스트")
+class ExportActivitiesE2ETest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private ActivityRecordService activityRecordService;
+
+    private Account account;
+
+    @BeforeEach
+    void setUp() {
+        account = accountRepository.save(Account.create("E" + System.nanoTime() % 1_000_000_000L, "내보내기 테스트 계좌"));
+        activityRecordService.recordDeposit(account.getId(), 10000L, 10000L);
+        activityRecordService.recordWithdraw(account.getId(), 3000L, 7000L);
+        activityRecordService.recordDeposit(account.getId(), 500L, 7500L);
+    }
+
+    @Test
+    @DisplayName("거래내역을 NDJSON으로 오래된 순으로 내보낸다")
+    void export_ndjson() throws Exception {
+        // when
+        String body = export("/api/v1/activities/{accountNumber}/export", "application/x-ndjson");
+
+        // then
+        String[] lines = body.split("\n");
+        assertThat(lines).hasSize(3);
+        assertThat(lines[0]).contains("\"activityType\":\"DEPOSIT\"").contains("\"amount\":10000");
+        assertThat(lines[1]).contains("\"activityType\":\"WITHDRAW\"");
+        assertThat(lines[2]).contains("\"amount\":500");
+    }
+
+    @Test
+    @DisplayName("거래내역을 CSV로 내보낸다")
+    void export_csv() throws Exception {
+        // when
+        String body = export("/api/v1/activities/{accountNumber}/export?format=csv", "text/csv;charset=UTF-8");
+
+        // then
+        String[] lines = body.split("\n");
+        assertThat(lines).hasSize(4);
+        assertThat(lines[0]).isEqualTo("id,activityType,amount,fee,balanceAfter,referenceAccountNumber,description,transactionId,createdAt");
+        assertThat(lines[1]).contains(",DEPOSIT,10000,0,10000,");
+    }
+
+    @Test
+    @DisplayName("기간 필터에 포함되는 거래내역만 내보낸다")
+    void export_with_range() throws Exception {
+        // given
+        LocalDateTime future = LocalDateTime.now().plusDays(1);
+
+        // when
+        String body = export("/api/v1/activities/{accountNumber}/export?from=" + future, "application/x-ndjson");
+
+        // then
+        assertThat(body).isEmpty();
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 계좌는 404를 반환한다")
+    void export_not_exist_account() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/activities/{accountNumber}/export", "NOT_EXIST"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 형식은 400을 반환한다")
+    void export_unsupported_format() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/activities/{accountNumber}/export", account.getAccountNumber())
+                        .param("format", "xml"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status.code").value("INVALID_ARGUMENT"));
+    }
+
+    private String export(String url, String expectedContentType) throws Exception {
+        MvcResult started = mockMvc.perform(MockMvcRequestBuilders.get(url, account.getAccountNumber()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        MvcResult result = mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", expectedContentType))
+                .andReturn();
+        return result.getResponse().getContentAsString(java.nio.charset.StandardCharsets.UTF_8);
+    }
+}
@@ -1,7 +1,7 @@
 package com.leesuchan.service;
 
 import com.leesuchan.account.domain.exception.AccountNotFoundException;
-import com.leesuchan.account.domain.model.Account;
+import com.leesuchan.account.domain.model.AccountSummary;
 import com.leesuchan.account.domain.repository.AccountRepository;
 import com.leesuchan.service.application.GetAccountQueryService;
 import com.leesuchan.service.dto.response.AccountResponse;
@@ -12,6 +12,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
@@ -37,10 +38,10 @@ class GetAccountQueryServiceTest {
     void get_account() {
         // given
         String accountNumber = "1234567890";
-        Account account = Account.create(accountNumber, "테스트 계좌");
-        account.deposit(10000L);
+        LocalDateTime now = LocalDateTime.now();
+        AccountSummary summary = new AccountSummary(1L, accountNumber, "테스트 계좌", 10000L, now, now);
 
-        when(accountRepository.findByAccountNumber(accountNumber)).thenReturn(Optional.of(account));
+        when(accountRepository.findSummaryByAccountNumber(accountNumber)).thenReturn(Optional.of(summary));
 
         // when
         AccountResponse response = getAccountQueryService.execute(accountNumber);
@@ -50,7 +51,8 @@ class GetAccountQueryServiceTest {
         assertThat(response.accountName()).isEqualTo("테스트 계좌");
         assertThat(response.balance()).isEqualTo(10000L);
 
-        verify(accountRepository).findByAccountNumber(accountNumber);
+        verify(accountRepository).findSummaryByAccountNumber(accountNumber);
+        verify(accountRepository, never()).findByAccountNumber(any());
     }
 
     @Test
@@ -58,12 +60,12 @@ class GetAccountQueryServiceTest {
     void account_not_found_throws_exception() {
         // given
         String accountNumber = "1234567890";
-        when(accountRepository.findByAccountNumber(accountNumber)).thenReturn(Optional.empty());
+        when(accountRepository.findSummaryByAccountNumber(accountNumber)).thenReturn(Optional.empty());
 
         // when & then
         assertThatThrownBy(() -> getAccountQueryService.execute(accountNumber))
                 .isInstanceOf(AccountNotFoundException.class);
 
-        verify(accountRepository).findByAccountNumber(accountNumber);
+        verify(accountRepository).findSummaryByAccountNumber(accountNumber);
     }
 }
@@ -8,6 +8,7 @@ import com.leesuchan.account.service.WithdrawMoneyUseCase;
 import com.leesuchan.activity.domain.model.Activity;
 import com.leesuchan.activity.domain.model.ActivityType;
 import com.leesuchan.service.application.GetActivitiesQueryService;
+import com.leesuchan.service.dto.response.ActivityPageResponse;
 import com.leesuchan.service.dto.response.ActivityResponse;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -88,18 +89,21 @@ class GetActivitiesE2ETest {
                 )
         );
 
-        when(getActivitiesQueryService.execute(eq(accountNumber))).thenReturn(activities);
+        when(getActivitiesQueryService.execute(eq(accountNumber)))
+                .thenReturn(new ActivityPageResponse(activities, "next-cursor", true));
 
-        // when & then
+        // when & then: 첫 페이지와 다음 페이지 커서만 내려줌
         mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/activities/{accountNumber}", accountNumber))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.status.success").value(true))
-                .andExpect(jsonPath("$.data").isArray())
-                .andExpect(jsonPath("$.data.length()").value(2))
-                .andExpect(jsonPath("$.data[0].activityType").value("DEPOSIT"))
-                .andExpect(jsonPath("$.data[0].amount").value(10000))
-                .andExpect(jsonPath("$.data[1].activityType").value("WITHDRAW"))
-                .andExpect(jsonPath("$.data[1].amount").value(5000));
+                .andExpect(jsonPath("$.data.activities").isArray())
+                .andExpect(jsonPath("$.data.activities.length()").value(2))
+                .andExpect(jsonPath("$.data.activities[0].activityType").value("DEPOSIT"))
+                .andExpect(jsonPath("$.data.activities[0].amount").value(10000))
+                .andExpect(jsonPath("$.data.activities[1].activityType").value("WITHDRAW"))
+                .andExpect(jsonPath("$.data.activities[1].amount").value(5000))
+                .andExpect(jsonPath("$.data.nextCursor").value("next-cursor"))
+                .andExpect(jsonPath("$.data.hasNext").value(true));
 
         verify(getActivitiesQueryService).execute(eq(accountNumber));
     }
@@ -110,15 +114,54 @@ class GetActivitiesE2ETest {
         // given
         String accountNumber = "1234567890";
 
-        when(getActivitiesQueryService.execute(eq(accountNumber))).thenReturn(List.of());
+        when(getActivitiesQueryService.execute(eq(accountNumber)))
+                .thenReturn(new ActivityPageResponse(List.of(), null, false));
 
         // when & then
         mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/activities/{accountNumber}", accountNumber))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.status.success").value(true))
-                .andExpect(jsonPath("$.data").isArray())
-                .andExpect(jsonPath("$.data.length()").value(0));
+                .andExpect(jsonPath("$.data.activities").isArray())
+                .andExpect(jsonPath("$.data.activities.length()").value(0))
+                .andExpect(jsonPath("$.data.hasNext").value(false));
 
         verify(getActivitiesQueryService).execute(eq(accountNumber));
     }
+
+    @Test
+    @DisplayName("limit을 전달하면 커서 페이지로 거래내역을 조회한다")
+    void get_activity_page_api() throws Exception {
+        // given
+        String accountNumber = "1234567890";
+        ActivityPageResponse page = new ActivityPageResponse(
+                List.of(new ActivityResponse(
+                        3L,
+                        ActivityType.DEPOSIT,
+                        10000L,
+                        0L,
+                        10000L,
+                        null,
+                        null,
+                        LocalDateTime.now()
+                )),
+                "next-cursor",
+                true
+        );
+
+        when(getActivitiesQueryService.execute(eq(accountNumber), eq(1), eq("prev-cursor"))).thenReturn(page);
+
+        // when & then
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/activities/{accountNumber}", accountNumber)
+                        .param("limit", "1")
+                        .param("before", "prev-cursor"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status.success").value(true))
+                .andExpect(jsonPath("$.data.activities.length()").value(1))
+                .andExpect(jsonPath("$.data.activities[0].id").value(3))
+                .andExpect(jsonPath("$.data.nextCursor").value("next-cursor"))
+                .andExpect(jsonPath("$.data.hasNext").value(true));
+
+        verify(getActivitiesQueryService).execute(eq(accountNumber), eq(1), eq("prev-cursor"));
+        verify(getActivitiesQueryService, never()).execute(eq(accountNumber));
+    }
 }
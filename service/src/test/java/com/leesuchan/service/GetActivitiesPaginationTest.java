@@ -0,0 +1,58 @@
+package com.leesuchan.service;
+
+import com.leesuchan.account.domain.model.Account;
+import com.leesuchan.account.domain.repository.AccountRepository;
+import com.leesuchan.activity.service.ActivityRecordService;
+import com.leesuchan.service.application.GetActivitiesQueryService;
+import com.leesuchan.service.dto.response.ActivityPageResponse;
+import com.leesuchan.service.dto.response.ActivityResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("거래내역 커서 페이지네이션 테스트")
+class GetActivitiesPaginationTest {
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private ActivityRecordService activityRecordService;
+
+    @Autowired
+    private GetActivitiesQueryService getActivitiesQueryService;
+
+    @Test
+    @DisplayName("커서를 따라가면 전체 거래내역을 중복/누락 없이 최신순으로 조회한다")
+    void follow_cursor_until_last_page() {
+        // given
+        Account account = accountRepository.save(Account.create("P" + System.nanoTime() % 1_000_000_000L, "페이지 테스트 계좌"));
+        for (long i = 1; i <= 5; i++) {
+            activityRecordService.recordDeposit(account.getId(), i * 1000L, i * 1000L);
+        }
+
+        // when
+        List<Long> amounts = new ArrayList<>();
+        List<Integer> pageSizes = new ArrayList<>();
+        String cursor = null;
+        do {
+            ActivityPageResponse page = getActivitiesQueryService.execute(account.getAccountNumber(), 2, cursor);
+            page.activities().stream().map(ActivityResponse::amount).forEach(amounts::add);
+            pageSizes.add(page.activities().size());
+            cursor = page.nextCursor();
+        } while (cursor != null);
+
+        // then
+        assertThat(pageSizes).containsExactly(2, 2, 1);
+        assertThat(amounts).containsExactly(5000L, 4000L, 3000L, 2000L, 1000L);
+    }
+}
@@ -1,12 +1,14 @@
 package com.leesuchan.service;
 
 import com.leesuchan.account.domain.exception.AccountNotFoundException;
-import com.leesuchan.account.domain.model.Account;
 import com.leesuchan.account.domain.repository.AccountRepository;
 import com.leesuchan.activity.domain.model.Activity;
 import com.leesuchan.activity.domain.model.ActivityType;
+import com.leesuchan.activity.domain.model.vo.ActivityCursor;
 import com.leesuchan.activity.domain.repository.ActivityRepository;
+import com.leesuchan.activity.service.ActivityOutboxRelay;
 import com.leesuchan.service.application.GetActivitiesQueryService;
+import com.leesuchan.service.dto.response.ActivityPageResponse;
 import com.leesuchan.service.dto.response.ActivityResponse;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -14,6 +16,10 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.time.LocalDateTime;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -29,11 +35,17 @@ class GetActivitiesQueryServiceTest {
     @Mock
     private AccountRepository accountRepository;
 
+    @Mock
+    private ActivityOutboxRelay activityOutboxRelay;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     private GetActivitiesQueryService getActivitiesQueryService;
 
     @BeforeEach
     void setUp() {
-        getActivitiesQueryService = new GetActivitiesQueryService(activityRepository, accountRepository);
+        getActivitiesQueryService = new GetActivitiesQueryService(activityRepository, accountRepository, activityOutboxRelay, transactionManager);
     }
 
     @Test
@@ -41,27 +53,31 @@ class GetActivitiesQueryServiceTest {
     void get_activities() {
         // given
         String accountNumber = "1234567890";
-        Account account = Account.create(accountNumber, "테스트 계좌");
+        Long accountId = 1L;
 
         Activity activity1 = Activity.deposit(1L, 10000L, 10000L);
         Activity activity2 = Activity.withdraw(1L, 5000L, 5000L);
 
-        when(accountRepository.findByAccountNumber(accountNumber)).thenReturn(java.util.Optional.of(account));
-        when(activityRepository.findByAccountIdOrderByCreatedAtDesc(account.getId()))
+        when(accountRepository.findIdByAccountNumber(accountNumber)).thenReturn(java.util.Optional.of(accountId));
+        when(activityRepository.findByAccountIdBefore(accountId, null, null, GetActivitiesQueryService.MAX_LIMIT + 1))
                 .thenReturn(java.util.List.of(activity1, activity2));
 
         // when
-        java.util.List<ActivityResponse> responses = getActivitiesQueryService.execute(accountNumber);
+        ActivityPageResponse page = getActivitiesQueryService.execute(accountNumber);
 
         // then
+        java.util.List<ActivityResponse> responses = page.activities();
         assertThat(responses).hasSize(2);
+        assertThat(page.hasNext()).isFalse();
         assertThat(responses.get(0).activityType()).isEqualTo(ActivityType.DEPOSIT);
         assertThat(responses.get(0).amount()).isEqualTo(10000L);
         assertThat(responses.get(1).activityType()).isEqualTo(ActivityType.WITHDRAW);
         assertThat(responses.get(1).amount()).isEqualTo(5000L);
 
-        verify(accountRepository).findByAccountNumber(accountNumber);
-        verify(activityRepository).findByAccountIdOrderByCreatedAtDesc(account.getId());
+        verify(accountRepository).findIdByAccountNumber(accountNumber);
+        verify(activityOutboxRelay).drainAccount(accountId);
+        verify(activityRepository).findByAccountIdBefore(accountId, null, null, GetActivitiesQueryService.MAX_LIMIT + 1);
+        verify(transactionManager).getTransaction(argThat(TransactionDefinition::isReadOnly));
     }
 
     @Test
@@ -69,14 +85,15 @@ class GetActivitiesQueryServiceTest {
     void account_not_found_throws_exception() {
         // given
         String accountNumber = "1234567890";
-        when(accountRepository.findByAccountNumber(accountNumber)).thenReturn(java.util.Optional.empty());
+        when(accountRepository.findIdByAccountNumber(accountNumber)).thenReturn(java.util.Optional.empty());
 
         // when & then
         assertThatThrownBy(() -> getActivitiesQueryService.execute(accountNumber))
                 .isInstanceOf(AccountNotFoundException.class);
 
-        verify(accountRepository).findByAccountNumber(accountNumber);
-        verify(activityRepository, never()).findByAccountIdOrderByCreatedAtDesc(any());
+        verify(accountRepository).findIdByAccountNumber(accountNumber);
+        verify(activityOutboxRelay, never()).drainAccount(any());
+        verifyNoInteractions(activityRepository);
     }
 
     @Test
@@ -84,19 +101,115 @@ class GetActivitiesQueryServiceTest {
     void no_activities_returns_empty_list() {
         // given
         String accountNumber = "1234567890";
-        Account account = Account.create(accountNumber, "테스트 계좌");
+        Long accountId = 1L;
 
-        when(accountRepository.findByAccountNumber(accountNumber)).thenReturn(java.util.Optional.of(account));
-        when(activityRepository.findByAccountIdOrderByCreatedAtDesc(account.getId()))
+        when(accountRepository.findIdByAccountNumber(accountNumber)).thenReturn(java.util.Optional.of(accountId));
+        when(activityRepository.findByAccountIdBefore(accountId, null, null, GetActivitiesQueryService.MAX_LIMIT + 1))
                 .thenReturn(java.util.List.of());
 
         // when
-        java.util.List<ActivityResponse> responses = getActivitiesQueryService.execute(accountNumber);
+        ActivityPageResponse page = getActivitiesQueryService.execute(accountNumber);
+
+        // then
+        assertThat(page.activities()).isEmpty();
+        assertThat(page.nextCursor()).isNull();
+
+        verify(accountRepository).findIdByAccountNumber(accountNumber);
+        verify(activityRepository).findByAccountIdBefore(accountId, null, null, GetActivitiesQueryService.MAX_LIMIT + 1);
+    }
+
+    @Test
+    @DisplayName("limit 없는 조회는 이력 길이와 관계없이 최신 MAX_LIMIT건과 다음 페이지 커서만 반환한다")
+    void get_activities_returns_first_page_only() {
+        // given: MAX_LIMIT건보다 이력이 많음
+        String accountNumber = "1234567890";
+        Long accountId = 1L;
+        int limit = GetActivitiesQueryService.MAX_LIMIT;
+        LocalDateTime base = LocalDateTime.of(2026, 1, 1, 0, 0);
+        java.util.List<Activity> rows = new java.util.ArrayList<>();
+        for (int i = 0; i <= limit; i++) {
+            rows.add(Activity.restore((long) (limit + 1 - i), accountId, ActivityType.DEPOSIT, 1000L, 0L, 1000L,
+                    null, null, null, null, base.minusMinutes(i)));
+        }
+        Activity last = rows.get(limit - 1);
+
+        when(accountRepository.findIdByAccountNumber(accountNumber)).thenReturn(java.util.Optional.of(accountId));
+        when(activityRepository.findByAccountIdBefore(accountId, null, null, limit + 1)).thenReturn(rows);
+
+        // when
+        ActivityPageResponse page = getActivitiesQueryService.execute(accountNumber);
+
+        // then: 한 번만 조회하고, 나머지는 커서로 이어서 조회
+        assertThat(page.activities()).hasSize(limit);
+        assertThat(page.hasNext()).isTrue();
+        assertThat(ActivityCursor.decode(page.nextCursor()).id()).isEqualTo(last.getId());
+        verify(activityRepository, times(1)).findByAccountIdBefore(any(), any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("첫 페이지를 limit + 1건 조회하여 다음 페이지 커서를 만든다")
+    void get_first_page_with_next_cursor() {
+        // given
+        String accountNumber = "1234567890";
+        Long accountId = 1L;
+        Activity newest = Activity.deposit(1L, 3000L, 6000L);
+        Activity middle = Activity.deposit(1L, 2000L, 3000L);
+        Activity oldest = Activity.deposit(1L, 1000L, 1000L);
+
+        when(accountRepository.findIdByAccountNumber(accountNumber)).thenReturn(java.util.Optional.of(accountId));
+        when(activityRepository.findByAccountIdBefore(accountId, null, null, 3))
+                .thenReturn(java.util.List.of(newest, middle, oldest));
+
+        // when
+        ActivityPageResponse page = getActivitiesQueryService.execute(accountNumber, 2, null);
+
+        // then
+        assertThat(page.activities()).hasSize(2);
+        assertThat(page.activities()).extracting(ActivityResponse::amount).containsExactly(3000L, 2000L);
+        assertThat(page.hasNext()).isTrue();
+        assertThat(ActivityCursor.decode(page.nextCursor()).createdAt()).isEqualTo(middle.getCreatedAt());
+        verify(activityOutboxRelay).drainAccount(accountId);
+    }
+
+    @Test
+    @DisplayName("커서를 전달하면 커서 위치보다 오래된 거래내역을 조회하고, 마지막 페이지는 커서가 없다")
+    void get_next_page_with_cursor() {
+        // given
+        String accountNumber = "1234567890";
+        Long accountId = 1L;
+        LocalDateTime createdAt = LocalDateTime.of(2026, 1, 1, 12, 0, 0);
+        String cursor = new ActivityCursor(createdAt, 42L).encode();
+
+        when(accountRepository.findIdByAccountNumber(accountNumber)).thenReturn(java.util.Optional.of(accountId));
+        when(activityRepository.findByAccountIdBefore(accountId, createdAt, 42L, 51))
+                .thenReturn(java.util.List.of(Activity.deposit(1L, 1000L, 1000L)));
+
+        // when
+        ActivityPageResponse page = getActivitiesQueryService.execute(accountNumber, 50, cursor);
 
         // then
-        assertThat(responses).isEmpty();
+        assertThat(page.activities()).hasSize(1);
+        assertThat(page.hasNext()).isFalse();
+        assertThat(page.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("limit이 범위를 벗어나면 예외가 발생한다")
+    void invalid_limit_throws_exception() {
+        // when & then
+        assertThatThrownBy(() -> getActivitiesQueryService.execute("1234567890", 0, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> getActivitiesQueryService.execute("1234567890", GetActivitiesQueryService.MAX_LIMIT + 1, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(accountRepository, activityRepository);
+    }
 
-        verify(accountRepository).findByAccountNumber(accountNumber);
-        verify(activityRepository).findByAccountIdOrderByCreatedAtDesc(account.getId());
+    @Test
+    @DisplayName("형식이 잘못된 커서는 예외가 발생한다")
+    void invalid_cursor_throws_exception() {
+        // when & then
+        assertThatThrownBy(() -> getActivitiesQueryService.execute("1234567890", 50, "not-a-cursor"))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(accountRepository, activityRepository);
     }
 }
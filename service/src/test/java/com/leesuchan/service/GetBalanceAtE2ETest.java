@@ -0,0 +1,123 @@
+package com.leesuchan.service;
+
+import com.leesuchan.account.config.AccountStripingProvider;
+import com.leesuchan.account.domain.model.Account;
+import com.leesuchan.account.domain.repository.AccountRepository;
+import com.leesuchan.activity.service.ActivityRecordService;
+import com.leesuchan.activity.service.BalanceCheckpointService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("특정 시점 잔액 조회 E2E 테스트")
+class GetBalanceAtE2ETest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private ActivityRecordService activityRecordService;
+
+    @Autowired
+    private BalanceCheckpointService balanceCheckpointService;
+
+    @Test
+    @DisplayName("조회 시점 이전(포함) 마지막 거래의 거래 후 잔액을 반환하고, 이전 거래가 없으면 0원을 반환한다")
+    void get_balance_at() throws Exception {
+        // given
+        Account account = createAccount();
+        LocalDateTime beforeFirst = LocalDateTime.now();
+        activityRecordService.recordDeposit(account.getId(), 10000L, 10000L);
+        LocalDateTime afterFirst = LocalDateTime.now();
+        activityRecordService.recordWithdraw(account.getId(), 3000L, 7000L);
+        LocalDateTime afterSecond = LocalDateTime.now();
+
+        // when & then
+        getBalanceAt(account, beforeFirst)
+                .andExpect(jsonPath("$.data.balance").value(0))
+                .andExpect(jsonPath("$.data.activityId").doesNotExist());
+        getBalanceAt(account, afterFirst)
+                .andExpect(jsonPath("$.data.balance").value(10000));
+        getBalanceAt(account, afterSecond)
+                .andExpect(jsonPath("$.data.balance").value(7000))
+                .andExpect(jsonPath("$.data.activityId").exists());
+    }
+
+    @Test
+    @DisplayName("체크포인트 이후 거래가 없으면 체크포인트의 잔액을, 있으면 체크포인트 이후 마지막 거래의 잔액을 반환한다")
+    void get_balance_at_with_checkpoint() throws Exception {
+        // given
+        Account account = createAccount();
+        activityRecordService.recordDeposit(account.getId(), 10000L, 10000L);
+        LocalDateTime checkpointAt = LocalDateTime.now();
+        balanceCheckpointService.createCheckpoints(checkpointAt, 100);
+        LocalDateTime afterCheckpoint = LocalDateTime.now();
+        activityRecordService.recordDeposit(account.getId(), 500L, 10500L);
+        LocalDateTime afterDeposit = LocalDateTime.now();
+
+        // when & then
+        getBalanceAt(account, afterCheckpoint)
+                .andExpect(jsonPath("$.data.balance").value(10000))
+                .andExpect(jsonPath("$.data.activityId").exists());
+        getBalanceAt(account, afterDeposit)
+                .andExpect(jsonPath("$.data.balance").value(10500));
+    }
+
+    @Test
+    @DisplayName("조회 시점이 없으면 400, 계좌가 없으면 404 에러가 발생한다")
+    void get_balance_at_invalid_request() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/accounts/{accountNumber}/balance", createAccount().getAccountNumber()))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status.success").value(false));
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/accounts/{accountNumber}/balance", "9999999999")
+                        .param("at", "2026-01-31T23:59:59"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("스트라이프 계좌의 특정 시점 잔액 조회는 400 에러가 발생한다")
+    void get_balance_at_striped_account_400() throws Exception {
+        // given
+        Account account = createAccount();
+        AccountStripingProvider.initialize(8, Set.of(account.getAccountNumber()));
+
+        // when & then
+        try {
+            mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/accounts/{accountNumber}/balance", account.getAccountNumber())
+                            .param("at", LocalDateTime.now().toString()))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.status.code").value("ACCOUNT_011"));
+        } finally {
+            AccountStripingProvider.initialize(8, Set.of());
+        }
+    }
+
+    private ResultActions getBalanceAt(Account account, LocalDateTime at) throws Exception {
+        return mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/accounts/{accountNumber}/balance", account.getAccountNumber())
+                        .param("at", at.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.accountNumber").value(account.getAccountNumber()));
+    }
+
+    private Account createAccount() {
+        return accountRepository.save(Account.create("B" + System.nanoTime() % 1_000_000_000L, "시점 잔액 테스트 계좌"));
+    }
+}
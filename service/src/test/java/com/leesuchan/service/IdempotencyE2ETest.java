@@ -0,0 +1,232 @@
+package com.leesuchan.service;
+
+import com.leesuchan.account.config.AccountConcurrencyProvider;
+import com.leesuchan.account.config.DepositMode;
+import com.leesuchan.account.config.TransferLockMode;
+import com.leesuchan.account.config.WithdrawMode;
+import com.leesuchan.account.domain.model.Account;
+import com.leesuchan.account.domain.model.IdempotencyRecord;
+import com.leesuchan.account.domain.repository.AccountRepository;
+import com.leesuchan.account.domain.repository.IdempotencyRecordRepository;
+import com.leesuchan.service.config.IdempotencyConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("멱등성 키 E2E 테스트")
+class IdempotencyE2ETest {
+
+    private static final AtomicLong ACCOUNT_SEQUENCE = new AtomicLong(System.currentTimeMillis() % 1_000_000_000L);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private IdempotencyRecordRepository idempotencyRecordRepository;
+
+    @Autowired
+    private IdempotencyConfig idempotencyConfig;
+
+    @Test
+    @DisplayName("같은 멱등성 키로 입금을 다시 요청하면 최초 응답을 돌려주고 잔액은 한 번만 반영된다")
+    void deposit_replayed_with_same_key() throws Exception {
+        // given
+        Account account = createAccount(0L);
+        String key = UUID.randomUUID().toString();
+        String requestBody = depositBody(account, 10_000L);
+
+        // when
+        String first = post("/api/v1/transactions/deposit", key, requestBody)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.balance").value(10_000))
+                .andReturn().getResponse().getContentAsString();
+        String second = post("/api/v1/transactions/deposit", key, requestBody)
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        // then
+        assertThat(second).isEqualTo(first);
+        assertThat(balanceOf(account)).isEqualTo(10_000L);
+    }
+
+    @Test
+    @DisplayName("묶음 입금 모드에서 같은 키로 동시에 입금해도 잔액은 한 번만 반영되고, 키 없는 동시 입금은 모두 반영된다")
+    void concurrent_same_key_deposits_in_coalesced_mode() throws Exception {
+        // given
+        AccountConcurrencyProvider.initialize(TransferLockMode.OPTIMISTIC, DepositMode.COALESCED, WithdrawMode.ENTITY);
+        Account account = createAccount(0L);
+        String key = UUID.randomUUID().toString();
+        String requestBody = depositBody(account, 1_000L);
+        int requestCount = 8;
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(2 * requestCount)) {
+            // when: 같은 키 8건 + 같은 묶음에 섞일 키 없는 입금 8건
+            List<Future<Integer>> keyed = new ArrayList<>();
+            List<Future<Integer>> unkeyed = new ArrayList<>();
+            for (int i = 0; i < requestCount; i++) {
+                keyed.add(executor.submit(() -> post("/api/v1/transactions/deposit", key, requestBody)
+                        .andReturn().getResponse().getStatus()));
+                unkeyed.add(executor.submit(() -> post("/api/v1/transactions/deposit", null, requestBody)
+                        .andReturn().getResponse().getStatus()));
+            }
+
+            // then
+            for (Future<Integer> status : keyed) {
+                assertThat(status.get(30, TimeUnit.SECONDS)).isEqualTo(200);
+            }
+            for (Future<Integer> status : unkeyed) {
+                assertThat(status.get(30, TimeUnit.SECONDS)).isEqualTo(200);
+            }
+        } finally {
+            AccountConcurrencyProvider.initialize(TransferLockMode.OPTIMISTIC, DepositMode.ENTITY, WithdrawMode.ENTITY);
+        }
+        assertThat(balanceOf(account)).isEqualTo((1 + requestCount) * 1_000L);
+        assertThat(idempotencyRecordRepository.findByKey(key)).isPresent();
+    }
+
+    @Test
+    @DisplayName("같은 멱등성 키로 이체를 다시 요청하면 수수료와 잔액이 한 번만 반영된다")
+    void transfer_replayed_with_same_key() throws Exception {
+        // given
+        Account from = createAccount(100_000L);
+        Account to = createAccount(0L);
+        String key = UUID.randomUUID().toString();
+        String requestBody = """
+                {
+                    "fromAccountNumber": "%s",
+                    "toAccountNumber": "%s",
+                    "amount": 10000
+                }
+                """.formatted(from.getAccountNumber(), to.getAccountNumber());
+
+        // when & then
+        for (int i = 0; i < 3; i++) {
+            post("/api/v1/transactions/transfer", key, requestBody)
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.fromAccount.balance").value(89_900))
+                    .andExpect(jsonPath("$.data.fee").value(100));
+        }
+        assertThat(balanceOf(from)).isEqualTo(89_900L);
+        assertThat(balanceOf(to)).isEqualTo(10_000L);
+    }
+
+    @Test
+    @DisplayName("이미 사용한 멱등성 키로 다른 요청을 보내면 400 에러가 발생한다")
+    void key_reused_with_different_request_400() throws Exception {
+        // given
+        Account account = createAccount(0L);
+        String key = UUID.randomUUID().toString();
+        post("/api/v1/transactions/deposit", key, depositBody(account, 10_000L))
+                .andExpect(status().isOk());
+
+        // when & then
+        post("/api/v1/transactions/deposit", key, depositBody(account, 20_000L))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status.code").value("ACCOUNT_008"));
+        assertThat(balanceOf(account)).isEqualTo(10_000L);
+    }
+
+    @Test
+    @DisplayName("실패한 요청은 기록하지 않으므로 같은 키로 다시 시도할 수 있다")
+    void failed_request_not_recorded() throws Exception {
+        // given
+        Account account = createAccount(5_000L);
+        String key = UUID.randomUUID().toString();
+        String requestBody = """
+                {
+                    "accountNumber": "%s",
+                    "amount": 10000
+                }
+                """.formatted(account.getAccountNumber());
+
+        // when & then
+        post("/api/v1/transactions/withdraw", key, requestBody)
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status.code").value("ACCOUNT_004"));
+        assertThat(idempotencyRecordRepository.findByKey(key)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("만료된 멱등성 키는 정리 작업이 삭제하고, 같은 키로 새 요청을 실행한다")
+    void expired_key_purged_and_reusable() throws Exception {
+        // given
+        Account account = createAccount(0L);
+        String key = UUID.randomUUID().toString();
+        idempotencyRecordRepository.save(IdempotencyRecord.create(key, "DEPOSIT", "0".repeat(64), "{}", Duration.ofSeconds(-1)));
+
+        // when
+        post("/api/v1/transactions/deposit", key, depositBody(account, 10_000L))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.balance").value(10_000));
+
+        String expiredKey = UUID.randomUUID().toString();
+        idempotencyRecordRepository.save(IdempotencyRecord.create(expiredKey, "DEPOSIT", "0".repeat(64), "{}", Duration.ofSeconds(-1)));
+        idempotencyConfig.purgeExpired();
+
+        // then
+        assertThat(balanceOf(account)).isEqualTo(10_000L);
+        assertThat(idempotencyRecordRepository.findByKey(key)).isPresent();
+        assertThat(idempotencyRecordRepository.findByKey(expiredKey)).isEmpty();
+    }
+
+    private ResultActions post(String path, String key, String requestBody) throws Exception {
+        MockHttpServletRequestBuilder builder = MockMvcRequestBuilders.post(path)
+                .contentType("application/json")
+                .content(requestBody);
+        if (key != null) {
+            builder.header("Idempotency-Key", key);
+        }
+        MvcResult started = mockMvc.perform(builder)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(started));
+    }
+
+    private String depositBody(Account account, long amount) {
+        return """
+                {
+                    "accountNumber": "%s",
+                    "amount": %d
+                }
+                """.formatted(account.getAccountNumber(), amount);
+    }
+
+    private Account createAccount(long initialBalance) {
+        Account account = Account.create("I" + ACCOUNT_SEQUENCE.incrementAndGet(), "멱등성 테스트 계좌");
+        if (initialBalance > 0) {
+            account.deposit(initialBalance);
+        }
+        return accountRepository.save(account);
+    }
+
+    private long balanceOf(Account account) {
+        return accountRepository.findByAccountNumber(account.getAccountNumber()).orElseThrow().getBalance();
+    }
+}
@@ -0,0 +1,175 @@
+package com.leesuchan.service;
+
+import com.leesuchan.account.domain.model.Account;
+import com.leesuchan.account.domain.repository.AccountRepository;
+import com.leesuchan.infra.database.datasource.ReplicaLagMonitor;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * 두 개의 H2 인메모리 DB를 primary/복제본으로 사용합니다.
+ * 복제는 primary 전체를 SCRIPT로 떠서 복제본에 다시 실행하는 것으로 흉내 내며, 그 뒤의 변경은 복제되지 않습니다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:routing_primary;MODE=MySQL;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000",
+        "datasource.replica.enabled=true",
+        "datasource.replica.url=" + ReadReplicaRoutingE2ETest.REPLICA_URL,
+        "datasource.replica.username=sa",
+        "datasource.replica.password=",
+        "datasource.replica.driver-class-name=org.h2.Driver",
+        "datasource.replica.max-lag=1s",
+        "datasource.replica.check-interval-ms=3600000"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DirtiesContext
+@DisplayName("읽기/쓰기 DataSource 라우팅 E2E 테스트")
+class ReadReplicaRoutingE2ETest {
+
+    static final String REPLICA_URL = "jdbc:h2:mem:routing_replica;MODE=MySQL;DB_CLOSE_DELAY=-1";
+
+    private static final AtomicLong ACCOUNT_SEQUENCE = new AtomicLong(System.currentTimeMillis() % 1_000_000_000L);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private ReplicaLagMonitor replicaLagMonitor;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private HikariDataSource primaryDataSource;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private HikariDataSource replicaDataSource;
+
+    private JdbcTemplate primaryJdbc;
+    private JdbcTemplate replicaJdbc;
+
+    @BeforeEach
+    void setUp() {
+        primaryJdbc = new JdbcTemplate(primaryDataSource);
+        replicaJdbc = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+        primaryJdbc.execute("CREATE TABLE IF NOT EXISTS replica_heartbeat (id INT PRIMARY KEY, beat_at_millis BIGINT NOT NULL)");
+    }
+
+    @Test
+    @DisplayName("읽기 전용 조회는 복제본에서 읽고, 복제되지 않은 primary의 변경은 보이지 않는다")
+    void read_only_query_is_served_by_replica() throws Exception {
+        // given
+        Account account = createAccount();
+        replicate(System.currentTimeMillis());
+        depositOnPrimary(account, 10_000L);
+
+        // when
+        replicaLagMonitor.check();
+
+        // then
+        assertThat(replicaLagMonitor.isReplicaUsable()).isTrue();
+        getAccount(account, 0L);
+        assertThat(accountRepository.findByAccountNumber(account.getAccountNumber())).get()
+                .extracting(Account::getBalance).isEqualTo(10_000L);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖의 계좌 ID 조회는 복제본이 사용 가능해도 primary에서 읽어, 복제되지 않은 새 계좌도 찾는다")
+    void account_id_lookup_reads_primary() {
+        // given: 복제 이후 primary에만 개설된 계좌
+        replicate(System.currentTimeMillis());
+        Account account = createAccount();
+
+        // when
+        replicaLagMonitor.check();
+
+        // then
+        assertThat(replicaLagMonitor.isReplicaUsable()).isTrue();
+        assertThat(replicaJdbc.queryForObject("SELECT COUNT(*) FROM account WHERE account_number = ?",
+                Long.class, account.getAccountNumber())).isZero();
+        assertThat(accountRepository.findIdByAccountNumber(account.getAccountNumber())).contains(account.getId());
+    }
+
+    @Test
+    @DisplayName("복제 지연이 허용치를 넘으면 읽기 전용 조회도 primary에서 읽는다")
+    void lagging_replica_falls_back_to_primary() throws Exception {
+        // given
+        Account account = createAccount();
+        replicate(System.currentTimeMillis() - 60_000L);
+        depositOnPrimary(account, 10_000L);
+
+        // when
+        replicaLagMonitor.check();
+
+        // then
+        assertThat(replicaLagMonitor.isReplicaUsable()).isFalse();
+        assertThat(replicaLagMonitor.getLagMillis()).isGreaterThanOrEqualTo(60_000L);
+        getAccount(account, 10_000L);
+    }
+
+    @Test
+    @DirtiesContext(methodMode = DirtiesContext.MethodMode.AFTER_METHOD)
+    @DisplayName("복제본 커넥션을 얻지 못하면 primary로 대신 연결하고 다음 점검까지 복제본을 쓰지 않는다")
+    void unavailable_replica_falls_back_to_primary() throws Exception {
+        // given
+        Account account = createAccount();
+        replicate(System.currentTimeMillis());
+        depositOnPrimary(account, 10_000L);
+        replicaLagMonitor.check();
+        assertThat(replicaLagMonitor.isReplicaUsable()).isTrue();
+
+        // when
+        replicaDataSource.close();
+
+        // then
+        getAccount(account, 10_000L);
+        assertThat(replicaLagMonitor.isReplicaUsable()).isFalse();
+    }
+
+    /**
+     * primary의 현재 스키마/데이터를 복제본에 그대로 옮기고 복제본 heartbeat를 지정한 시각으로 맞춥니다.
+     */
+    private void replicate(long beatAtMillis) {
+        replicaJdbc.execute("DROP ALL OBJECTS");
+        for (String statement : primaryJdbc.queryForList("SCRIPT", String.class)) {
+            if (!statement.startsWith("--") && !statement.startsWith("CREATE USER")) {
+                replicaJdbc.execute(statement);
+            }
+        }
+        replicaJdbc.update("MERGE INTO replica_heartbeat (id, beat_at_millis) KEY (id) VALUES (1, ?)", beatAtMillis);
+    }
+
+    private void depositOnPrimary(Account account, long amount) {
+        primaryJdbc.update("UPDATE account SET balance = balance + ? WHERE account_number = ?",
+                amount, account.getAccountNumber());
+    }
+
+    private void getAccount(Account account, long expectedBalance) throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/accounts/" + account.getAccountNumber()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.balance").value(expectedBalance));
+    }
+
+    private Account createAccount() {
+        return accountRepository.save(Account.create("RR" + ACCOUNT_SEQUENCE.incrementAndGet(), "라우팅 테스트 계좌"));
+    }
+}
@@ -11,6 +11,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 
 import static org.mockito.ArgumentMatchers.*;
@@ -68,10 +69,15 @@ class TransferMoneyE2ETest {
                 new TransferMoneyUseCase.TransferResult(from, to, 100L)
         );
 
-        // when & then
-        mockMvc.perform(MockMvcRequestBuilders.post("/api/v1/transactions/transfer")
+        // when
+        MvcResult started = mockMvc.perform(MockMvcRequestBuilders.post("/api/v1/transactions/transfer")
                         .contentType("application/json")
                         .content(requestBody))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(started))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.status.success").value(true))
                 .andExpect(jsonPath("$.data.fromAccount.accountNumber").value("1234567890"))
@@ -14,6 +14,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 
 import static org.mockito.ArgumentMatchers.*;
@@ -63,10 +64,15 @@ class WithdrawMoneyE2ETest {
 
         when(withdrawMoneyUseCase.execute("1234567890", 5000L)).thenReturn(mockAccount);
 
-        // when & then
-        mockMvc.perform(MockMvcRequestBuilders.post("/api/v1/transactions/withdraw")
+        // when
+        MvcResult started = mockMvc.perform(MockMvcRequestBuilders.post("/api/v1/transactions/withdraw")
                         .contentType("application/json")
                         .content(requestBody))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(started))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.status.success").value(true))
                 .andExpect(jsonPath("$.data.accountNumber").value("1234567890"))
@@ -0,0 +1,115 @@
+package com.leesuchan.service.benchmark;
+
+import com.leesuchan.account.domain.model.Account;
+import com.leesuchan.account.domain.repository.AccountRepository;
+import com.leesuchan.activity.domain.model.Activity;
+import com.leesuchan.activity.service.ActivityRecordService;
+import com.leesuchan.service.application.ActivityExportFormat;
+import com.leesuchan.service.application.ExportActivitiesQueryService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 거래내역 스트리밍 내보내기 힙 사용량 측정 테스트
+ *
+ * <p>합성 거래내역을 대량으로 넣고 내보내는 동안 GC 후 힙 사용량을 주기적으로 측정하여,
+ * 전체 목록을 메모리에 올리지 않고 일정한 힙으로 처리되는지 확인합니다.
+ * 기본 test 태스크에서는 제외되며 ./gradlew :service:benchmarkTest로 실행합니다.
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("거래내역 내보내기 벤치마크")
+class ActivityExportBenchmarkTest {
+
+    private static final int ROW_COUNT = 200_000;
+    private static final int INSERT_CHUNK = 1_000;
+    private static final int SAMPLE_EVERY_LINES = 20_000;
+
+    /**
+     * 내보내기 중 허용하는 GC 후 힙 증가량 (전체 행을 엔티티로 올리면 이보다 큼)
+     */
+    private static final long MAX_HEAP_GROWTH_BYTES = 64L * 1024 * 1024;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private ActivityRecordService activityRecordService;
+
+    @Autowired
+    private ExportActivitiesQueryService exportActivitiesQueryService;
+
+    @Test
+    @DisplayName("대량 거래내역을 NDJSON으로 내보내는 동안 힙 증가량이 상한 이하로 유지된다")
+    void export_large_history_with_bounded_heap() throws Exception {
+        // given
+        Account account = accountRepository.save(Account.create("X" + System.nanoTime() % 1_000_000_000L, "내보내기 벤치마크 계좌"));
+        for (int offset = 0; offset < ROW_COUNT; offset += INSERT_CHUNK) {
+            List<Activity> chunk = new ArrayList<>(INSERT_CHUNK);
+            for (int i = 0; i < INSERT_CHUNK; i++) {
+                long balance = offset + i + 1L;
+                chunk.add(Activity.deposit(account.getId(), 1L, balance));
+            }
+            activityRecordService.recordAll(chunk);
+        }
+
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        System.gc();
+        long baselineHeap = memory.getHeapMemoryUsage().getUsed();
+        LineCountingOutputStream out = new LineCountingOutputStream(memory);
+
+        // when
+        exportActivitiesQueryService
+                .execute(account.getAccountNumber(), null, null, ActivityExportFormat.NDJSON)
+                .writeTo(out);
+
+        // then
+        assertThat(out.lines).isEqualTo(ROW_COUNT);
+        assertThat(out.peakHeap - baselineHeap).isLessThan(MAX_HEAP_GROWTH_BYTES);
+    }
+
+    /**
+     * 줄 수를 세고, 일정 줄마다 GC 후 힙 사용량(살아 있는 객체)을 샘플링하는 출력 스트림 (내용은 버림)
+     */
+    private static class LineCountingOutputStream extends OutputStream {
+
+        private final MemoryMXBean memory;
+        private long lines;
+        private long peakHeap;
+
+        LineCountingOutputStream(MemoryMXBean memory) {
+            this.memory = memory;
+        }
+
+        @Override
+        public void write(int b) {
+            if (b == '\n') {
+                lines++;
+                if (lines % SAMPLE_EVERY_LINES == 0) {
+                    System.gc();
+                    peakHeap = Math.max(peakHeap, memory.getHeapMemoryUsage().getUsed());
+                }
+            }
+        }
+
+        @Override
+        public void write(byte[] buffer, int offset, int length) {
+            for (int i = offset; i < offset + length; i++) {
+                write(buffer[i]);
+            }
+        }
+    }
+}
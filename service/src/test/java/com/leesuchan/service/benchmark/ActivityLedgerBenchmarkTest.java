@@ -0,0 +1,102 @@
+package com.leesuchan.service.benchmark;
+
+import com.leesuchan.activity.domain.model.Activity;
+import com.leesuchan.activity.service.ActivityRecordService;
+import com.leesuchan.infra.database.repository.ActivityJpaRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 거래내역 기록 처리량 비교 테스트
+ *
+ * <p>이체 1건당 거래내역 2건을 INSERT 할 때,
+ * 건별 즉시 INSERT(IDENTITY 방식과 동일한 왕복)와 배치 INSERT의 초당 INSERT 건수를 로그로 남깁니다.
+ * 실행 환경에 따라 시간이 흔들리므로 속도는 단언하지 않고 기록된 행 수만 확인합니다.
+ * 기본 test 태스크에서는 제외되며 ./gradlew :service:benchmarkTest로 실행합니다.
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("거래내역 기록 벤치마크")
+class ActivityLedgerBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ActivityLedgerBenchmarkTest.class);
+
+    private static final int WARMUP_PAIRS = 100;
+    private static final int TRANSFER_PAIRS = 500;
+
+    @Autowired
+    private ActivityRecordService activityRecordService;
+
+    @Autowired
+    private ActivityJpaRepository activityJpaRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    @DisplayName("이체 거래내역 쌍을 건별 INSERT와 배치 INSERT로 기록해 처리량을 비교한다")
+    void compare_row_by_row_and_batched_inserts() {
+        // given
+        insertRowByRow(WARMUP_PAIRS);
+        insertBatched(WARMUP_PAIRS);
+        long before = activityJpaRepository.count();
+
+        // when
+        long rowByRowNanos = insertRowByRow(TRANSFER_PAIRS);
+        long afterRowByRow = activityJpaRepository.count();
+        long batchedNanos = insertBatched(TRANSFER_PAIRS);
+
+        // then
+        report("row-by-row", rowByRowNanos);
+        report("batched", batchedNanos);
+        assertThat(afterRowByRow - before).isEqualTo(TRANSFER_PAIRS * 2L);
+        assertThat(activityJpaRepository.count() - afterRowByRow).isEqualTo(TRANSFER_PAIRS * 2L);
+    }
+
+    private static void report(String mode, long elapsedNanos) {
+        double seconds = elapsedNanos / 1_000_000_000.0;
+        log.info("[{}] rows={}, elapsed={}ms, throughput={} inserts/s",
+                mode, TRANSFER_PAIRS * 2, String.format("%.1f", seconds * 1000),
+                String.format("%.1f", TRANSFER_PAIRS * 2 / seconds));
+    }
+
+    /**
+     * 변경 전 동작: 거래내역마다 INSERT를 즉시 실행 (IDENTITY 전략과 같은 건별 왕복)
+     */
+    private long insertRowByRow(int pairs) {
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < pairs; i++) {
+            long transactionId = i;
+            transactionTemplate.executeWithoutResult(status -> {
+                activityJpaRepository.saveAndFlush(Activity.transferOut(1L, 2L, "0000000002", 1000L, 10L, 0L, transactionId));
+                activityJpaRepository.saveAndFlush(Activity.transferIn(2L, 1L, "0000000001", 1000L, 0L, transactionId));
+            });
+        }
+        return System.nanoTime() - startedAt;
+    }
+
+    /**
+     * 변경 후 동작: 출금/입금 쌍을 하나의 JDBC 배치로 INSERT
+     */
+    private long insertBatched(int pairs) {
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < pairs; i++) {
+            activityRecordService.recordTransfer(
+                    1L, 2L, "0000000001", "0000000002",
+                    1000L, 10L, 0L, 0L,
+                    (long) i
+            );
+        }
+        return System.nanoTime() - startedAt;
+    }
+}
@@ -1,91 +1,350 @@
 package com.leesuchan.service.concurrency;
 
+import com.leesuchan.account.config.AccountConcurrencyProvider;
+import com.leesuchan.account.config.DepositMode;
+import com.leesuchan.account.config.TransferLockMode;
+import com.leesuchan.account.config.WithdrawMode;
 import com.leesuchan.account.domain.model.Account;
-import com.leesuchan.account.service.DepositMoneyUseCase;
 import com.leesuchan.account.domain.repository.AccountRepository;
+import com.leesuchan.account.service.DepositMoneyUseCase;
+import com.leesuchan.account.service.TransferMoneyUseCase;
+import com.leesuchan.account.service.WithdrawMoneyUseCase;
+import com.leesuchan.account.service.dispatch.LaneAccountOperationDispatcher;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
-import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.retry.RetryCallback;
+import org.springframework.retry.RetryContext;
+import org.springframework.retry.RetryListener;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
 /**
- * 낙관적 락 동작 검증을 위한 동시성 테스트
+ * 핫 계좌 동시 이체/입금 테스트
  *
- * 참고: @Retryable과 @Transactional을 함께 사용할 때 트랜잭션 경계 문제로 인해
- * 동시성 테스트가 복잡해집니다. 이 테스트는 기본 구조를 제공하며,
- * 실제 환경에서의 동시성 테스트는 추가 설정이 필요할 수 있습니다.
- *
- * TODO: @Retryable의 트랜잭션 경계 문제 해결 후 테스트 활성화
+ * <p>한 계좌(급여 계좌)에서 100건 이상의 이체를 동시에 실행하여
+ * 락 모드별 재시도(낙관적 락 충돌) 횟수와 처리량을 측정합니다.
+ * 한 계좌로 몰리는 동시 입금은 원자적 UPDATE 모드와 묶음 입금 모드로 충돌 없이 처리되는지 확인합니다.
+ * 동시 출금은 조건부 UPDATE 모드로 잔액 이상 출금되지 않는지 확인합니다.
+ * 레인 디스패처를 거치면 같은 계좌의 작업이 직렬화되어 재시도 없이 처리되는지 확인합니다.
  */
 @SpringBootTest
 @ActiveProfiles("test")
+@Import(ConcurrencyTest.RetryCountingConfig.class)
 @DisplayName("동시성 테스트")
 class ConcurrencyTest {
 
+    private static final Logger log = LoggerFactory.getLogger(ConcurrencyTest.class);
+
+    private static final int TRANSFER_COUNT = 120;
+    private static final int THREAD_COUNT = 32;
+    private static final int RECEIVER_COUNT = 10;
+    private static final long INITIAL_BALANCE = 1_000_000L;
+    private static final long TRANSFER_AMOUNT = 1_000L;
+    private static final long TRANSFER_FEE = 10L; // 1%
+
+    private static final AtomicLong ACCOUNT_SEQUENCE = new AtomicLong(System.currentTimeMillis() % 1_000_000_000L);
+
     @Autowired
     private AccountRepository accountRepository;
 
+    @Autowired
+    private TransferMoneyUseCase transferMoneyUseCase;
+
     @Autowired
     private DepositMoneyUseCase depositMoneyUseCase;
 
-    private Account testAccount;
+    @Autowired
+    private WithdrawMoneyUseCase withdrawMoneyUseCase;
+
+    @Autowired
+    private RetryCounter retryCounter;
 
     @BeforeEach
     void setUp() {
-        // 테스트마다 고유한 계좌번호 사용으로 데이터 충돌 방지
-        String uniqueId = String.valueOf(System.nanoTime()).substring(8);
-        testAccount = Account.create("C-" + uniqueId, "동시성 테스트 계좌");
-        accountRepository.save(testAccount);
+        retryCounter.reset();
+    }
+
+    @AfterEach
+    void tearDown() {
+        AccountConcurrencyProvider.initialize(TransferLockMode.OPTIMISTIC, DepositMode.ENTITY, WithdrawMode.ENTITY);
+    }
+
+    @Test
+    @DisplayName("비관적 락 모드: 한 계좌에서 나가는 동시 이체가 재시도 없이 모두 처리된다")
+    void pessimistic_hot_account_transfers_without_retry() throws InterruptedException {
+        // given
+        AccountConcurrencyProvider.initialize(TransferLockMode.PESSIMISTIC, DepositMode.ENTITY, WithdrawMode.ENTITY);
+        Account payroll = createAccount(INITIAL_BALANCE);
+        List<Account> receivers = createAccounts(RECEIVER_COUNT);
+
+        // when
+        RunResult result = run(i -> transferMoneyUseCase.execute(
+                payroll.getAccountNumber(),
+                receivers.get(i % RECEIVER_COUNT).getAccountNumber(),
+                TRANSFER_AMOUNT
+        ));
+        result.report("PESSIMISTIC");
+
+        // then
+        assertThat(result.successCount()).isEqualTo(TRANSFER_COUNT);
+        assertThat(result.errorCount()).isZero();
+        assertThat(result.conflictCount()).isZero();
+        assertThat(balanceOf(payroll)).isEqualTo(INITIAL_BALANCE - TRANSFER_COUNT * (TRANSFER_AMOUNT + TRANSFER_FEE));
+        assertThat(receivers.stream().mapToLong(this::balanceOf).sum()).isEqualTo(TRANSFER_COUNT * TRANSFER_AMOUNT);
+    }
+
+    @Test
+    @DisplayName("비관적 락 모드: 양방향 동시 이체도 ID 오름차순 락 획득으로 데드락 없이 처리된다")
+    void pessimistic_bidirectional_transfers_without_deadlock() throws InterruptedException {
+        // given
+        AccountConcurrencyProvider.initialize(TransferLockMode.PESSIMISTIC, DepositMode.ENTITY, WithdrawMode.ENTITY);
+        Account a = createAccount(INITIAL_BALANCE);
+        Account b = createAccount(INITIAL_BALANCE);
+
+        // when
+        RunResult result = run(i -> {
+            if (i % 2 == 0) {
+                transferMoneyUseCase.execute(a.getAccountNumber(), b.getAccountNumber(), TRANSFER_AMOUNT);
+            } else {
+                transferMoneyUseCase.execute(b.getAccountNumber(), a.getAccountNumber(), TRANSFER_AMOUNT);
+            }
+        });
+        result.report("PESSIMISTIC (A<->B)");
+
+        // then
+        assertThat(result.successCount()).isEqualTo(TRANSFER_COUNT);
+        assertThat(result.conflictCount()).isZero();
+        assertThat(balanceOf(a) + balanceOf(b))
+                .isEqualTo(2 * INITIAL_BALANCE - TRANSFER_COUNT * TRANSFER_FEE);
+    }
+
+    @Test
+    @DisplayName("낙관적 락 모드: 재시도 횟수와 처리량을 측정하고, 성공한 이체만 잔액에 반영된다")
+    void optimistic_hot_account_transfers_report_retries() throws InterruptedException {
+        // given
+        AccountConcurrencyProvider.initialize(TransferLockMode.OPTIMISTIC, DepositMode.ENTITY, WithdrawMode.ENTITY);
+        Account payroll = createAccount(INITIAL_BALANCE);
+        List<Account> receivers = createAccounts(RECEIVER_COUNT);
+
+        // when
+        RunResult result = run(i -> transferMoneyUseCase.execute(
+                payroll.getAccountNumber(),
+                receivers.get(i % RECEIVER_COUNT).getAccountNumber(),
+                TRANSFER_AMOUNT
+        ));
+        result.report("OPTIMISTIC");
+
+        // then
+        assertThat(result.successCount() + result.errorCount()).isEqualTo(TRANSFER_COUNT);
+        assertThat(balanceOf(payroll))
+                .isEqualTo(INITIAL_BALANCE - result.successCount() * (TRANSFER_AMOUNT + TRANSFER_FEE));
+        assertThat(receivers.stream().mapToLong(this::balanceOf).sum())
+                .isEqualTo(result.successCount() * TRANSFER_AMOUNT);
+    }
+
+    @Test
+    @DisplayName("원자적 입금 모드: 한 계좌로 몰리는 동시 입금이 충돌 없이 모두 반영된다")
+    void atomic_hot_account_deposits_without_conflict() throws InterruptedException {
+        // given
+        AccountConcurrencyProvider.initialize(TransferLockMode.OPTIMISTIC, DepositMode.ATOMIC, WithdrawMode.ENTITY);
+        Account merchant = createAccount(0L);
+
+        // when
+        RunResult result = run(i -> depositMoneyUseCase.execute(merchant.getAccountNumber(), TRANSFER_AMOUNT));
+        result.report("ATOMIC DEPOSIT");
+
+        // then
+        assertThat(result.successCount()).isEqualTo(TRANSFER_COUNT);
+        assertThat(result.conflictCount()).isZero();
+        assertThat(balanceOf(merchant)).isEqualTo(TRANSFER_COUNT * TRANSFER_AMOUNT);
+    }
+
+    @Test
+    @DisplayName("묶음 입금 모드: 한 계좌로 몰리는 동시 입금이 묶여 반영되고 금액 누락 없이 모두 반영된다")
+    void coalesced_hot_account_deposits_without_conflict() throws InterruptedException {
+        // given
+        AccountConcurrencyProvider.initialize(TransferLockMode.OPTIMISTIC, DepositMode.COALESCED, WithdrawMode.ENTITY);
+        Account merchant = createAccount(0L);
+
+        // when
+        RunResult result = run(i -> depositMoneyUseCase.execute(merchant.getAccountNumber(), TRANSFER_AMOUNT));
+        result.report("COALESCED DEPOSIT");
+
+        // then
+        assertThat(result.successCount()).isEqualTo(TRANSFER_COUNT);
+        assertThat(result.conflictCount()).isZero();
+        assertThat(balanceOf(merchant)).isEqualTo(TRANSFER_COUNT * TRANSFER_AMOUNT);
     }
 
     @Test
-    @Disabled("@Retryable과 @Transactional의 트랜잭션 경계 문제로 인해 일시적으로 비활성화")
-    @DisplayName("동시 입금 요청 시 예외 없이 처리된다")
-    void concurrent_deposit_without_exception() throws InterruptedException {
+    @DisplayName("조건부 출금 모드: 동시 출금이 충돌 없이 처리되고 잔액 이상 출금되지 않는다")
+    void conditional_hot_account_withdrawals_never_overdraw() throws InterruptedException {
         // given
-        int threadCount = 10;
-        long depositAmount = 1000L;
-        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
-        CountDownLatch latch = new CountDownLatch(threadCount);
+        AccountConcurrencyProvider.initialize(TransferLockMode.OPTIMISTIC, DepositMode.ENTITY, WithdrawMode.CONDITIONAL);
+        int affordableCount = TRANSFER_COUNT / 2;
+        Account wallet = createAccount(affordableCount * TRANSFER_AMOUNT);
+
+        // when
+        RunResult result = run(i -> withdrawMoneyUseCase.execute(wallet.getAccountNumber(), TRANSFER_AMOUNT));
+        result.report("CONDITIONAL WITHDRAW");
+
+        // then
+        assertThat(result.successCount()).isEqualTo(affordableCount);
+        assertThat(result.errorCount()).isEqualTo(TRANSFER_COUNT - affordableCount);
+        assertThat(result.conflictCount()).isZero();
+        assertThat(balanceOf(wallet)).isZero();
+    }
+
+    @Test
+    @DisplayName("레인 디스패처: 낙관적 락 모드에서도 한 계좌의 동시 이체/입금이 충돌과 재시도 없이 처리된다")
+    void lane_dispatcher_serializes_hot_account_without_retry() throws InterruptedException {
+        // given
+        AccountConcurrencyProvider.initialize(TransferLockMode.OPTIMISTIC, DepositMode.ENTITY, WithdrawMode.ENTITY);
+        LaneAccountOperationDispatcher dispatcher = new LaneAccountOperationDispatcher(accountRepository, 4, 1_000);
+        Account payroll = createAccount(INITIAL_BALANCE);
+        List<Account> receivers = createAccounts(RECEIVER_COUNT);
+
+        // when
+        RunResult result;
+        try {
+            result = run(i -> {
+                Account receiver = receivers.get(i % RECEIVER_COUNT);
+                if (i % 3 == 0) {
+                    dispatcher.dispatch(payroll.getAccountNumber(),
+                            () -> depositMoneyUseCase.execute(payroll.getAccountNumber(), TRANSFER_AMOUNT)).join();
+                } else {
+                    dispatcher.dispatch(payroll.getAccountNumber(), receiver.getAccountNumber(),
+                            () -> transferMoneyUseCase.execute(payroll.getAccountNumber(), receiver.getAccountNumber(), TRANSFER_AMOUNT)).join();
+                }
+            });
+        } finally {
+            dispatcher.shutdown();
+        }
+        result.report("LANE DISPATCHER (4 lanes)");
+
+        // then
+        int depositCount = (TRANSFER_COUNT + 2) / 3;
+        int transferCount = TRANSFER_COUNT - depositCount;
+        assertThat(result.successCount()).isEqualTo(TRANSFER_COUNT);
+        assertThat(result.conflictCount()).isZero();
+        assertThat(balanceOf(payroll)).isEqualTo(
+                INITIAL_BALANCE + depositCount * TRANSFER_AMOUNT - transferCount * (TRANSFER_AMOUNT + TRANSFER_FEE));
+        assertThat(receivers.stream().mapToLong(this::balanceOf).sum()).isEqualTo(transferCount * TRANSFER_AMOUNT);
+    }
+
+    private RunResult run(Operation operation) throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch ready = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(TRANSFER_COUNT);
 
         AtomicInteger successCount = new AtomicInteger(0);
         AtomicInteger errorCount = new AtomicInteger(0);
 
-        // when
-        for (int i = 0; i < threadCount; i++) {
+        for (int i = 0; i < TRANSFER_COUNT; i++) {
+            int index = i;
             executorService.submit(() -> {
                 try {
-                    depositMoneyUseCase.execute(testAccount.getAccountNumber(), depositAmount);
+                    ready.await();
+                    operation.execute(index);
                     successCount.incrementAndGet();
                 } catch (Exception e) {
                     errorCount.incrementAndGet();
-                    e.printStackTrace();
                 } finally {
-                    latch.countDown();
+                    done.countDown();
                 }
             });
         }
 
-        latch.await();
+        long startedAt = System.nanoTime();
+        ready.countDown();
+        done.await(60, TimeUnit.SECONDS);
+        long elapsedNanos = System.nanoTime() - startedAt;
         executorService.shutdown();
 
-        // then
-        // 모든 요청이 성공적으로 처리되어야 함 (@Retryable로 인해)
-        assertThat(successCount.get()).isEqualTo(threadCount);
-        assertThat(errorCount.get()).isEqualTo(0);
+        return new RunResult(successCount.get(), errorCount.get(), retryCounter.count(), elapsedNanos);
+    }
 
-        // 최종 잔액 확인 (모든 입금이 반영되어야 함)
-        Account result = accountRepository.findByAccountNumber(testAccount.getAccountNumber()).orElseThrow();
-        assertThat(result.getBalance()).isEqualTo(threadCount * depositAmount);
+    private Account createAccount(long initialBalance) {
+        Account account = Account.create("C" + ACCOUNT_SEQUENCE.incrementAndGet(), "동시성 테스트 계좌");
+        if (initialBalance > 0) {
+            account.deposit(initialBalance);
+        }
+        return accountRepository.save(account);
+    }
+
+    private List<Account> createAccounts(int count) {
+        List<Account> accounts = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            accounts.add(createAccount(0L));
+        }
+        return accounts;
+    }
+
+    private long balanceOf(Account account) {
+        return accountRepository.findByAccountNumber(account.getAccountNumber()).orElseThrow().getBalance();
+    }
+
+    @FunctionalInterface
+    private interface Operation {
+        void execute(int index);
+    }
+
+    private record RunResult(int successCount, int errorCount, int conflictCount, long elapsedNanos) {
+
+        void report(String mode) {
+            double seconds = elapsedNanos / 1_000_000_000.0;
+            log.info("[{}] operations={}, success={}, error={}, optimistic-lock conflicts(retries)={}, elapsed={}ms, throughput={} tx/s",
+                    mode, TRANSFER_COUNT, successCount, errorCount, conflictCount,
+                    String.format("%.1f", seconds * 1000), String.format("%.1f", successCount / seconds));
+        }
+    }
+
+    /**
+     * @Retryable 재시도 횟수 집계용 글로벌 RetryListener
+     */
+    static class RetryCounter implements RetryListener {
+
+        private final AtomicInteger errors = new AtomicInteger(0);
+
+        @Override
+        public <T, E extends Throwable> void onError(RetryContext context, RetryCallback<T, E> callback, Throwable throwable) {
+            errors.incrementAndGet();
+        }
+
+        int count() {
+            return errors.get();
+        }
+
+        void reset() {
+            errors.set(0);
+        }
+    }
+
+    @TestConfiguration
+    static class RetryCountingConfig {
+
+        @Bean
+        RetryCounter retryCounter() {
+            return new RetryCounter();
+        }
     }
 }
@@ -0,0 +1,205 @@
+package com.leesuchan.service.concurrency;
+
+import com.leesuchan.account.config.AccountStripingProvider;
+import com.leesuchan.account.domain.model.Account;
+import com.leesuchan.account.domain.repository.AccountRepository;
+import com.leesuchan.account.service.DepositMoneyUseCase;
+import com.leesuchan.account.service.StripedBalanceService;
+import com.leesuchan.account.service.TransferMoneyUseCase;
+import com.leesuchan.account.service.WithdrawMoneyUseCase;
+import com.leesuchan.service.application.GetAccountQueryService;
+import com.leesuchan.service.config.AccountConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 스트라이프 계좌(잔액 슬롯) 테스트
+ *
+ * <p>한 계좌로 몰리는 동시 입금이 account 행 대신 잔액 슬롯에 적립되어 충돌 없이 처리되고,
+ * 조회/출금/압축 시 슬롯 합계가 반영되고, 스트라이프 목록에서 빠진 계좌의 적립액이 남지 않는지 확인합니다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("스트라이프 계좌 테스트")
+class StripedAccountTest {
+
+    private static final int SLOT_COUNT = 8;
+    private static final int DEPOSIT_COUNT = 120;
+    private static final int THREAD_COUNT = 32;
+    private static final long AMOUNT = 1_000L;
+
+    private static final AtomicLong ACCOUNT_SEQUENCE = new AtomicLong(System.currentTimeMillis() % 1_000_000_000L);
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private DepositMoneyUseCase depositMoneyUseCase;
+
+    @Autowired
+    private WithdrawMoneyUseCase withdrawMoneyUseCase;
+
+    @Autowired
+    private TransferMoneyUseCase transferMoneyUseCase;
+
+    @Autowired
+    private StripedBalanceService stripedBalanceService;
+
+    @Autowired
+    private GetAccountQueryService getAccountQueryService;
+
+    @Autowired
+    private AccountConfig accountConfig;
+
+    private Account merchant;
+
+    @BeforeEach
+    void setUp() {
+        merchant = accountRepository.save(Account.create("S" + ACCOUNT_SEQUENCE.incrementAndGet(), "가맹점 수금 계좌"));
+        AccountStripingProvider.initialize(SLOT_COUNT, Set.of(merchant.getAccountNumber()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        AccountStripingProvider.initialize(SLOT_COUNT, Set.of());
+    }
+
+    @Test
+    @DisplayName("동시 입금이 모두 슬롯에 적립되고, 조회 잔액에는 슬롯 합계가 포함된다")
+    void concurrent_deposits_land_on_slots() throws InterruptedException {
+        // given
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch ready = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(DEPOSIT_COUNT);
+        AtomicInteger successCount = new AtomicInteger();
+
+        for (int i = 0; i < DEPOSIT_COUNT; i++) {
+            executorService.submit(() -> {
+                try {
+                    ready.await();
+                    depositMoneyUseCase.execute(merchant.getAccountNumber(), AMOUNT);
+                    successCount.incrementAndGet();
+                } catch (Exception e) {
+                    // 실패 건수는 successCount로 확인
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        // when
+        ready.countDown();
+        boolean completed = done.await(60, TimeUnit.SECONDS);
+        executorService.shutdown();
+
+        // then
+        assertThat(completed).isTrue();
+        assertThat(successCount.get()).isEqualTo(DEPOSIT_COUNT);
+        assertThat(rowBalanceOf(merchant)).isZero();
+        assertThat(stripedBalanceService.pendingCredits(merchant.getId())).isEqualTo(DEPOSIT_COUNT * AMOUNT);
+        assertThat(getAccountQueryService.execute(merchant.getAccountNumber()).balance()).isEqualTo(DEPOSIT_COUNT * AMOUNT);
+    }
+
+    @Test
+    @DisplayName("압축하면 슬롯 적립액이 account.balance로 합쳐지고 슬롯은 비워진다")
+    void fold_moves_slot_credits_into_balance() {
+        // given
+        depositMoneyUseCase.execute(merchant.getAccountNumber(), AMOUNT);
+        depositMoneyUseCase.execute(merchant.getAccountNumber(), AMOUNT);
+
+        // when
+        long folded = stripedBalanceService.fold(merchant.getAccountNumber());
+
+        // then
+        assertThat(folded).isEqualTo(2 * AMOUNT);
+        assertThat(rowBalanceOf(merchant)).isEqualTo(2 * AMOUNT);
+        assertThat(stripedBalanceService.pendingCredits(merchant.getId())).isZero();
+        assertThat(getAccountQueryService.execute(merchant.getAccountNumber()).balance()).isEqualTo(2 * AMOUNT);
+    }
+
+    @Test
+    @DisplayName("출금은 슬롯 적립액을 포함한 잔액으로 처리되고, 슬롯은 압축 전까지 그대로 남는다")
+    void withdraw_uses_total_balance() {
+        // given
+        depositMoneyUseCase.execute(merchant.getAccountNumber(), 3 * AMOUNT);
+
+        // when
+        Account result = withdrawMoneyUseCase.execute(merchant.getAccountNumber(), 2 * AMOUNT);
+
+        // then
+        assertThat(result.getTotalBalance()).isEqualTo(AMOUNT);
+        assertThat(rowBalanceOf(merchant)).isEqualTo(-2 * AMOUNT);
+        assertThat(stripedBalanceService.pendingCredits(merchant.getId())).isEqualTo(3 * AMOUNT);
+        assertThat(getAccountQueryService.execute(merchant.getAccountNumber()).balance()).isEqualTo(AMOUNT);
+    }
+
+    @Test
+    @DisplayName("스트라이프 계좌로의 이체는 입금 계좌 행을 갱신하지 않고 슬롯에 적립된다")
+    void incoming_transfer_credits_slot() {
+        // given
+        Account payer = Account.create("P" + ACCOUNT_SEQUENCE.incrementAndGet(), "구매자 계좌");
+        payer.deposit(100_000L);
+        payer = accountRepository.save(payer);
+
+        // when
+        TransferMoneyUseCase.TransferResult result =
+                transferMoneyUseCase.execute(payer.getAccountNumber(), merchant.getAccountNumber(), 10 * AMOUNT);
+
+        // then
+        assertThat(result.to().getTotalBalance()).isEqualTo(10 * AMOUNT);
+        assertThat(rowBalanceOf(merchant)).isZero();
+        assertThat(rowBalanceOf(payer)).isEqualTo(100_000L - 10 * AMOUNT - result.fee());
+        assertThat(getAccountQueryService.execute(merchant.getAccountNumber()).balance()).isEqualTo(10 * AMOUNT);
+    }
+
+    @Test
+    @DisplayName("스트라이프 목록에서 빠진 계좌의 남은 슬롯 적립액은 기동 시 account.balance로 합쳐진다")
+    void destriped_account_credits_folded_at_startup() {
+        // given: 스트라이프 상태에서 적립한 뒤 목록에서 빠짐
+        depositMoneyUseCase.execute(merchant.getAccountNumber(), 3 * AMOUNT);
+        AccountStripingProvider.initialize(SLOT_COUNT, Set.of());
+
+        // when
+        accountConfig.afterSingletonsInstantiated();
+
+        // then
+        assertThat(rowBalanceOf(merchant)).isEqualTo(3 * AMOUNT);
+        assertThat(stripedBalanceService.pendingCredits(merchant.getId())).isZero();
+        Account result = withdrawMoneyUseCase.execute(merchant.getAccountNumber(), 3 * AMOUNT);
+        assertThat(result.getBalance()).isZero();
+    }
+
+    @Test
+    @DisplayName("스트라이프 계좌의 슬롯 적립액은 스트라이프 대상이 아닌 계좌 압축에서 건너뛴다")
+    void striped_account_skipped_by_destriped_fold() {
+        // given
+        depositMoneyUseCase.execute(merchant.getAccountNumber(), AMOUNT);
+
+        // when
+        long folded = stripedBalanceService.foldIfNotStriped(merchant.getId());
+
+        // then
+        assertThat(folded).isZero();
+        assertThat(rowBalanceOf(merchant)).isZero();
+        assertThat(stripedBalanceService.pendingCredits(merchant.getId())).isEqualTo(AMOUNT);
+    }
+
+    private long rowBalanceOf(Account account) {
+        return accountRepository.findByAccountNumber(account.getAccountNumber()).orElseThrow().getBalance();
+    }
+}
@@ -0,0 +1,143 @@
+package com.leesuchan.service.outbox;
+
+import com.leesuchan.account.domain.model.Account;
+import com.leesuchan.account.domain.repository.AccountRepository;
+import com.leesuchan.account.service.DepositMoneyUseCase;
+import com.leesuchan.account.service.TransferMoneyUseCase;
+import com.leesuchan.activity.config.ActivityRecordMode;
+import com.leesuchan.activity.config.ActivityRecordProvider;
+import com.leesuchan.activity.domain.model.Activity;
+import com.leesuchan.activity.domain.model.ActivityType;
+import com.leesuchan.activity.domain.repository.ActivityRepository;
+import com.leesuchan.activity.service.ActivityOutboxRelay;
+import com.leesuchan.infra.database.repository.ActivityOutboxJpaRepository;
+import com.leesuchan.service.application.GetActivitiesQueryService;
+import com.leesuchan.service.dto.response.ActivityResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 거래내역 Outbox 모드 통합 테스트
+ *
+ * <p>잔액 트랜잭션에서는 outbox에만 기록되고,
+ * 조회 시 해당 계좌의 미이관 거래내역이 먼저 이관되는지(read-your-writes) 확인합니다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("거래내역 Outbox 통합 테스트")
+class ActivityOutboxRelayIntegrationTest {
+
+    private static final int DRAIN_ALL = 500;
+    private static final AtomicLong ACCOUNT_SEQUENCE = new AtomicLong(System.currentTimeMillis() % 1_000_000_000L);
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private ActivityRepository activityRepository;
+
+    @Autowired
+    private ActivityOutboxJpaRepository activityOutboxJpaRepository;
+
+    @Autowired
+    private DepositMoneyUseCase depositMoneyUseCase;
+
+    @Autowired
+    private TransferMoneyUseCase transferMoneyUseCase;
+
+    @Autowired
+    private GetActivitiesQueryService getActivitiesQueryService;
+
+    @Autowired
+    private ActivityOutboxRelay activityOutboxRelay;
+
+    @BeforeEach
+    void setUp() {
+        ActivityRecordProvider.initialize(ActivityRecordMode.OUTBOX);
+        while (activityOutboxRelay.drain(DRAIN_ALL) > 0) {
+            // 이전 테스트가 남긴 행 정리
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        ActivityRecordProvider.initialize(ActivityRecordMode.SYNC);
+    }
+
+    @Test
+    @DisplayName("입금 직후 거래내역을 조회하면 outbox의 거래내역이 이관되어 보인다")
+    void deposit_then_get_activities_reads_own_write() {
+        // given
+        Account account = createAccount();
+        depositMoneyUseCase.execute(account.getAccountNumber(), 10_000L);
+        assertThat(activities(account.getId())).isEmpty();
+        assertThat(activityOutboxJpaRepository.count()).isEqualTo(1);
+
+        // when
+        List<ActivityResponse> activities = getActivitiesQueryService.execute(account.getAccountNumber()).activities();
+
+        // then
+        assertThat(activities).hasSize(1);
+        assertThat(activities.get(0).activityType()).isEqualTo(ActivityType.DEPOSIT);
+        assertThat(activities.get(0).balanceAfter()).isEqualTo(10_000L);
+        assertThat(activityOutboxJpaRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("계좌별 이관은 조회한 계좌의 거래내역만 이관한다")
+    void drain_account_moves_only_that_account() {
+        // given
+        Account from = createAccount();
+        Account to = createAccount();
+        depositMoneyUseCase.execute(from.getAccountNumber(), 50_000L);
+        transferMoneyUseCase.execute(from.getAccountNumber(), to.getAccountNumber(), 10_000L);
+
+        // when
+        int drained = activityOutboxRelay.drainAccount(from.getId());
+
+        // then
+        assertThat(drained).isEqualTo(2); // 입금 + 이체 출금
+        assertThat(activities(from.getId())).hasSize(2);
+        assertThat(activities(to.getId())).isEmpty();
+        assertThat(activityOutboxJpaRepository.count()).isEqualTo(1); // 이체 입금
+    }
+
+    @Test
+    @DisplayName("백그라운드 이관은 오래된 순으로 배치 크기만큼 이관한다")
+    void drain_moves_pending_rows_in_batches() {
+        // given
+        Account account = createAccount();
+        for (int i = 0; i < 3; i++) {
+            depositMoneyUseCase.execute(account.getAccountNumber(), 1_000L);
+        }
+
+        // when
+        int first = activityOutboxRelay.drain(2);
+        int second = activityOutboxRelay.drain(2);
+
+        // then
+        assertThat(first).isEqualTo(2);
+        assertThat(second).isEqualTo(1);
+        assertThat(activities(account.getId()))
+                .extracting(activity -> activity.getBalanceAfter())
+                .containsExactlyInAnyOrder(1_000L, 2_000L, 3_000L);
+    }
+
+    private List<Activity> activities(Long accountId) {
+        return activityRepository.findByAccountIdBefore(accountId, null, null, DRAIN_ALL);
+    }
+
+    private Account createAccount() {
+        return accountRepository.save(Account.create("O" + ACCOUNT_SEQUENCE.incrementAndGet(), "Outbox 테스트 계좌"));
+    }
+}
@@ -4,6 +4,8 @@ include(":account")
 include(":activity")
 include(":common")
 include(":service")
+include(":reactive")
+include(":benchmarks")
 include(":infra:database")
 include(":infra:external")
 include(":infra:flyway")